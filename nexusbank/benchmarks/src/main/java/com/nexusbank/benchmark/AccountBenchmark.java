@@ -0,0 +1,56 @@
+package com.nexusbank.benchmark;
+
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Account#deposit} and {@link Account#withdraw}. The aggregate is not
+ * thread-safe, so every benchmark thread works on its own account.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccountBenchmark {
+
+  // Saldo suficiente para que ninguna iteración agote la cuenta
+  private static final long OPENING_BALANCE_MINOR = 100_000_000_000_000L;
+
+  private Account account;
+  private Money amount;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    account = Account.createNew("acc-bench", "user-bench", Currency.USD);
+    account.deposit(Money.ofMinor(OPENING_BALANCE_MINOR, Currency.USD));
+    amount = Money.ofMinor(1234, Currency.USD);
+  }
+
+  @Benchmark
+  public Account deposit() {
+    account.deposit(amount);
+    return account;
+  }
+
+  @Benchmark
+  public Account withdraw() {
+    account.withdraw(amount);
+    return account;
+  }
+}
@@ -0,0 +1,74 @@
+package com.nexusbank.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Runs the suite once single-threaded
+ * and once with one thread per core (the contended mode), always with the GC
+ * profiler so allocation rates ({@code gc.alloc.rate.norm}, bytes/op) are
+ * reported, and writes one JSON result file per mode that can be compared
+ * across builds.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar                      # both modes, whole suite
+ * java -jar target/benchmarks.jar single Money         # one mode, filtered by regex
+ * java -jar target/benchmarks.jar -t 4 -prof gc ...    # plain JMH command line
+ * </pre>
+ *
+ * Results go to {@code target/jmh} unless {@code -Dnexusbank.benchmark.results}
+ * points elsewhere.
+ */
+public final class BenchmarkRunner {
+
+  private static final String DEFAULT_INCLUDE = "com\\.nexusbank\\.benchmark\\..*";
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    // Cualquier opción de JMH se pasa tal cual a su propia línea de comandos
+    if (args.length > 0 && args[0].startsWith("-")) {
+      org.openjdk.jmh.Main.main(args);
+      return;
+    }
+
+    String mode = args.length > 0 ? args[0] : "all";
+    String include = args.length > 1 ? args[1] : DEFAULT_INCLUDE;
+    Path resultDir = Path.of(System.getProperty("nexusbank.benchmark.results", "target/jmh"));
+    Files.createDirectories(resultDir);
+
+    switch (mode) {
+      case "single" -> run(include, 1, resultDir.resolve("single.json"));
+      case "contended" -> run(include, contendedThreads(), resultDir.resolve("contended.json"));
+      case "all" -> {
+        run(include, 1, resultDir.resolve("single.json"));
+        run(include, contendedThreads(), resultDir.resolve("contended.json"));
+      }
+      default -> throw new IllegalArgumentException("Unknown mode " + mode + " (expected single, contended or all)");
+    }
+  }
+
+  private static int contendedThreads() {
+    return Math.max(2, Runtime.getRuntime().availableProcessors());
+  }
+
+  private static void run(String include, int threads, Path resultFile) throws RunnerException, IOException {
+    Options options = new OptionsBuilder()
+        .include(include)
+        .threads(threads)
+        .addProfiler(GCProfiler.class)
+        .resultFormat(ResultFormatType.JSON)
+        .result(resultFile.toString())
+        .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,85 @@
+package com.nexusbank.benchmark;
+
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The balance check and credit of a deposit with the previous BigDecimal-backed
+ * Money (reproduced below as {@link LegacyMoney}) and with the current
+ * minor-unit {@link Money}. The bytes allocated per deposit are the
+ * {@code gc.alloc.rate.norm} reported by {@link BenchmarkRunner}; the whole
+ * {@code Account.deposit} is in {@link AccountBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DepositAllocationBenchmark {
+
+  private LegacyMoney legacyBalance;
+  private LegacyMoney legacyAmount;
+  private Money balance;
+  private Money amount;
+
+  @Setup
+  public void setUp() {
+    legacyBalance = new LegacyMoney(new BigDecimal("1000.00"), "USD");
+    legacyAmount = new LegacyMoney(new BigDecimal("12.34"), "USD");
+    balance = new Money(new BigDecimal("1000.00"), Currency.USD);
+    amount = new Money(new BigDecimal("12.34"), Currency.USD);
+  }
+
+  @Benchmark
+  public LegacyMoney legacyBigDecimal() {
+    return legacyBalance.isLessThan(legacyAmount) ? legacyBalance : legacyBalance.add(legacyAmount);
+  }
+
+  @Benchmark
+  public Money minorUnits() {
+    return balance.isLessThan(amount) ? balance : balance.add(amount);
+  }
+
+  /**
+   * Copy of the arithmetic of the previous Money implementation, kept only as
+   * the "before" baseline.
+   */
+  public static final class LegacyMoney {
+    private final BigDecimal amount;
+    private final String currency;
+
+    LegacyMoney(BigDecimal amount, String currency) {
+      this.amount = amount.setScale(2, RoundingMode.HALF_EVEN);
+      this.currency = currency;
+    }
+
+    LegacyMoney add(LegacyMoney money) {
+      if (!this.currency.equals(money.currency)) {
+        throw new IllegalArgumentException("Cannot add money with different currencies");
+      }
+      return new LegacyMoney(this.amount.add(money.amount), this.currency);
+    }
+
+    boolean isLessThan(LegacyMoney other) {
+      if (!this.currency.equals(other.currency)) {
+        throw new IllegalArgumentException("Cannot compare money with different currencies");
+      }
+      return this.amount.compareTo(other.amount) < 0;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.nexusbank.benchmark;
+
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import com.nexusbank.infrastructure.id.RandomUuidIdGenerator;
+import com.nexusbank.infrastructure.id.SnowflakeIdGenerator;
+import com.nexusbank.infrastructure.id.UuidV7IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of generating one identifier with each {@link IdGeneratorPort}. The
+ * generators are shared by all benchmark threads, as in the application, so
+ * the contended mode also shows the cost of the shared atomic counter of the
+ * time-ordered generators against the locking inside {@code SecureRandom}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+  private IdGeneratorPort randomUuid;
+  private IdGeneratorPort uuidV7;
+  private IdGeneratorPort snowflake;
+
+  @Setup
+  public void setUp() {
+    randomUuid = new RandomUuidIdGenerator();
+    uuidV7 = new UuidV7IdGenerator();
+    snowflake = new SnowflakeIdGenerator(1, "", "");
+  }
+
+  @Benchmark
+  public String randomUuid() {
+    return randomUuid.nextId();
+  }
+
+  @Benchmark
+  public String uuidV7() {
+    return uuidV7.nextId();
+  }
+
+  @Benchmark
+  public String snowflake() {
+    return snowflake.nextId();
+  }
+}
@@ -0,0 +1,75 @@
+package com.nexusbank.benchmark;
+
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.persistence.entity.AccountEntity;
+import com.nexusbank.infrastructure.persistence.entity.TransactionEntity;
+import com.nexusbank.infrastructure.persistence.mapper.AccountMapper;
+import com.nexusbank.infrastructure.persistence.mapper.TransactionMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain/entity round-trips of {@link AccountMapper} and
+ * {@link TransactionMapper}, as done on every load and save.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapperBenchmark {
+
+  private final AccountMapper accountMapper = new AccountMapper();
+  private final TransactionMapper transactionMapper = new TransactionMapper();
+
+  private Account account;
+  private AccountEntity accountEntity;
+  private Transaction transaction;
+  private TransactionEntity transactionEntity;
+
+  @Setup
+  public void setUp() {
+    account = Account.createNew("acc-bench", "user-bench", Currency.USD);
+    account.deposit(new Money(new BigDecimal("1500.25"), Currency.USD));
+    accountEntity = accountMapper.toJpaEntity(account);
+
+    transaction = Transaction.createTransfer("tx-bench", "acc-bench", "acc-other",
+        new Money(new BigDecimal("42.10"), Currency.USD));
+    transactionEntity = transactionMapper.toJpaEntity(transaction);
+  }
+
+  @Benchmark
+  public Account accountToDomain() {
+    return accountMapper.toDomainEntity(accountEntity);
+  }
+
+  @Benchmark
+  public Account accountRoundTrip() {
+    return accountMapper.toDomainEntity(accountMapper.toJpaEntity(account));
+  }
+
+  @Benchmark
+  public Transaction transactionToDomain() {
+    return transactionMapper.toDomainEntity(transactionEntity);
+  }
+
+  @Benchmark
+  public Transaction transactionRoundTrip() {
+    return transactionMapper.toDomainEntity(transactionMapper.toJpaEntity(transaction));
+  }
+}
@@ -0,0 +1,65 @@
+package com.nexusbank.benchmark;
+
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arithmetic and conversions of the {@link Money} value object.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+  private Money balance;
+  private Money amount;
+  private BigDecimal rawAmount;
+
+  @Setup
+  public void setUp() {
+    balance = new Money(new BigDecimal("1000.00"), Currency.USD);
+    amount = new Money(new BigDecimal("12.34"), Currency.USD);
+    rawAmount = new BigDecimal("12.34");
+  }
+
+  @Benchmark
+  public Money add() {
+    return balance.add(amount);
+  }
+
+  @Benchmark
+  public Money subtract() {
+    return balance.subtract(amount);
+  }
+
+  @Benchmark
+  public boolean isLessThan() {
+    return balance.isLessThan(amount);
+  }
+
+  @Benchmark
+  public Money fromBigDecimal() {
+    return new Money(rawAmount, Currency.USD);
+  }
+
+  @Benchmark
+  public BigDecimal toBigDecimal() {
+    return balance.getAmount();
+  }
+}
@@ -0,0 +1,150 @@
+package com.nexusbank.benchmark;
+
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+import com.nexusbank.infrastructure.persistence.entity.AccountEntity;
+import com.nexusbank.infrastructure.persistence.entity.TransactionEntity;
+import com.nexusbank.infrastructure.persistence.mapper.AccountMapper;
+import com.nexusbank.infrastructure.persistence.mapper.TransactionMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping 100k loaded rows to domain objects, as a large history page or a
+ * batch job does. Compares the mappers, which reconstitute the persisted
+ * state, with the previous mapping (reproduced below) that replayed the
+ * factory methods: a new account plus a synthetic deposit, or a new
+ * transaction plus status and description updates. Times and allocations
+ * are per row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RehydrationBenchmark {
+
+  private static final int ROWS = 100_000;
+
+  private final AccountMapper accountMapper = new AccountMapper();
+  private final TransactionMapper transactionMapper = new TransactionMapper();
+
+  private List<AccountEntity> accountRows;
+  private List<TransactionEntity> transactionRows;
+
+  @Setup
+  public void setUp() {
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    accountRows = new ArrayList<>(ROWS);
+    transactionRows = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      AccountEntity account = new AccountEntity();
+      account.setId("acc-" + i);
+      account.setUserId("user-" + i);
+      account.setBalance(new BigDecimal(i).movePointLeft(2));
+      account.setCurrency(Currency.USD);
+      account.setActive(i % 10 != 0);
+      account.setCreatedAt(createdAt);
+      account.setUpdatedAt(createdAt.plusSeconds(i));
+      accountRows.add(account);
+
+      TransactionEntity transaction = new TransactionEntity();
+      transaction.setId("tx-" + i);
+      transaction.setAccountId("acc-" + i);
+      transaction.setTargetAccountId("acc-" + (i + 1));
+      transaction.setAmount(new BigDecimal("42.10"));
+      transaction.setCurrency(Currency.USD);
+      transaction.setType(TransactionType.TRANSFER);
+      transaction.setStatus(i % 20 == 0 ? TransactionStatus.FAILED : TransactionStatus.COMPLETED);
+      transaction.setDescription(i % 20 == 0 ? "Transfer failed: Insufficient balance" : "Transfer between accounts");
+      transaction.setCreatedAt(createdAt.plusSeconds(i));
+      transaction.setUpdatedAt(createdAt.plusSeconds(i));
+      transactionRows.add(transaction);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void accountsReconstituted(Blackhole blackhole) {
+    for (AccountEntity row : accountRows) {
+      blackhole.consume(accountMapper.toDomainEntity(row));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void accountsReplayed(Blackhole blackhole) {
+    for (AccountEntity row : accountRows) {
+      blackhole.consume(replayAccount(row));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void transactionsReconstituted(Blackhole blackhole) {
+    for (TransactionEntity row : transactionRows) {
+      blackhole.consume(transactionMapper.toDomainEntity(row));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void transactionsReplayed(Blackhole blackhole) {
+    for (TransactionEntity row : transactionRows) {
+      blackhole.consume(replayTransaction(row));
+    }
+  }
+
+  /**
+   * Previous {@code AccountMapper.toDomainEntity}, kept only as the "before"
+   * baseline.
+   */
+  private static Account replayAccount(AccountEntity entity) {
+    Account account = Account.createNew(entity.getId(), entity.getUserId(), entity.getCurrency());
+    if (entity.getBalance().compareTo(BigDecimal.ZERO) > 0) {
+      account.deposit(new Money(entity.getBalance(), entity.getCurrency()));
+    }
+    if (!entity.isActive()) {
+      account.deactivate();
+    }
+    return account;
+  }
+
+  /**
+   * Previous {@code TransactionMapper.toDomainEntity} for transfers, kept only
+   * as the "before" baseline.
+   */
+  private static Transaction replayTransaction(TransactionEntity entity) {
+    Money amount = new Money(entity.getAmount(), entity.getCurrency());
+    Transaction transaction = Transaction.createTransfer(
+        entity.getId(), entity.getAccountId(), entity.getTargetAccountId(), amount);
+    if (entity.getStatus() == TransactionStatus.FAILED) {
+      transaction.markAsFailed();
+    }
+    if (entity.getDescription() != null && !entity.getDescription().equals(transaction.getDescription())) {
+      transaction.updateDescription(entity.getDescription());
+    }
+    return transaction;
+  }
+}
@@ -0,0 +1,66 @@
+package com.nexusbank.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.rest.dto.response.TransactionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing {@link TransactionResponse}, the body of every
+ * deposit and transfer response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionResponseBenchmark {
+
+  private ObjectMapper objectMapper;
+  private Transaction transaction;
+  private TransactionResponse response;
+
+  @Setup
+  public void setUp() {
+    // Misma configuración de fechas que el ObjectMapper de Spring Boot
+    objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    transaction = Transaction.createTransfer("tx-bench", "acc-bench", "acc-other",
+        new Money(new BigDecimal("42.10"), Currency.USD));
+    response = TransactionResponse.fromDomain(transaction);
+  }
+
+  @Benchmark
+  public TransactionResponse fromDomain() {
+    return TransactionResponse.fromDomain(transaction);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public byte[] fromDomainAndSerialize() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(TransactionResponse.fromDomain(transaction));
+  }
+}
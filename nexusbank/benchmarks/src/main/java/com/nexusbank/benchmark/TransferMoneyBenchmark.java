@@ -0,0 +1,73 @@
+package com.nexusbank.benchmark;
+
+import com.nexusbank.application.port.out.BalanceShardPort;
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import com.nexusbank.application.port.out.IdempotencyPort;
+import com.nexusbank.application.service.TransactionService;
+import com.nexusbank.benchmark.support.InMemoryAccountStore;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.concurrency.StripedAccountLockManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TransactionService#transferMoney} against in-memory ports and the
+ * real striped lock manager, so the numbers cover the service, the domain and
+ * the locking but no database. The service and the accounts are shared by all
+ * benchmark threads: with {@code accounts=2} every transfer contends for the
+ * same pair of locks, with {@code accounts=1024} contention is rare.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransferMoneyBenchmark {
+
+  private static final long OPENING_BALANCE_MINOR = 100_000_000_000L;
+  private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+  @Param({ "2", "1024" })
+  public int accounts;
+
+  private TransactionService transactionService;
+  private String[] accountIds;
+
+  @Setup
+  public void setUp() {
+    InMemoryAccountStore store = new InMemoryAccountStore();
+    accountIds = new String[accounts];
+    for (int i = 0; i < accounts; i++) {
+      accountIds[i] = "acc-" + i;
+      store.addAccount(accountIds[i], "user-bench", Money.ofMinor(OPENING_BALANCE_MINOR, Currency.USD));
+    }
+    transactionService = new TransactionService(store, store, new StripedAccountLockManager(1024, 5000), store,
+        IdempotencyPort.unsupported(), IdGeneratorPort.randomUuids(), BalanceShardPort.none());
+  }
+
+  @Benchmark
+  public Transaction transferMoney() {
+    // Origen y destino aleatorios y distintos; las transferencias se compensan
+    // de media, así que ninguna cuenta se queda sin saldo
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int source = random.nextInt(accounts);
+    int target = (source + 1 + random.nextInt(accounts - 1)) % accounts;
+    return transactionService.transferMoney(accountIds[source], accountIds[target], AMOUNT);
+  }
+}
@@ -0,0 +1,117 @@
+package com.nexusbank.benchmark.support;
+
+import com.nexusbank.application.port.out.AdjustBalancePort;
+import com.nexusbank.application.port.out.LoadAccountPort;
+import com.nexusbank.application.port.out.UnitOfWorkPort;
+import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe in-memory stand-in for the persistence ports used by
+ * {@code TransactionService}. Like the database adapters, every load builds a
+ * fresh {@link Account} and balance adjustments are validated and applied
+ * without reading the aggregates; callers are expected to hold the account
+ * locks, as the service does. Transactions are counted, not kept, so long runs
+ * do not fill the heap.
+ */
+public class InMemoryAccountStore implements LoadAccountPort, AdjustBalancePort, UnitOfWorkPort {
+
+  private final Map<String, StoredAccount> accounts = new ConcurrentHashMap<>();
+  private final LongAdder transactionsRecorded = new LongAdder();
+
+  public void addAccount(String accountId, String userId, Money openingBalance) {
+    accounts.put(accountId, new StoredAccount(accountId, userId, openingBalance.getCurrencyUnit(),
+        new AtomicLong(openingBalance.getMinorUnits())));
+  }
+
+  public long getTransactionsRecorded() {
+    return transactionsRecorded.sum();
+  }
+
+  @Override
+  public Optional<Account> loadAccount(String accountId) {
+    StoredAccount stored = accounts.get(accountId);
+    return stored == null ? Optional.empty() : Optional.of(stored.toAccount());
+  }
+
+  @Override
+  public Optional<Account> loadAccountForUpdate(String accountId) {
+    return loadAccount(accountId);
+  }
+
+  @Override
+  public List<Account> loadAccountsForUpdate(Collection<String> accountIds) {
+    List<Account> result = new ArrayList<>(accountIds.size());
+    for (String accountId : accountIds) {
+      loadAccount(accountId).ifPresent(result::add);
+    }
+    return result;
+  }
+
+  @Override
+  public List<Account> loadAccountsByUserId(String userId) {
+    List<Account> result = new ArrayList<>();
+    for (StoredAccount stored : accounts.values()) {
+      if (stored.userId().equals(userId)) {
+        result.add(stored.toAccount());
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public List<Transaction> adjustBalances(List<BalanceAdjustment> adjustments, List<Transaction> transactions) {
+    // Se valida todo antes de aplicar nada, como el UPDATE condicional
+    for (BalanceAdjustment adjustment : adjustments) {
+      StoredAccount stored = accounts.get(adjustment.accountId());
+      if (stored == null) {
+        throw new AccountNotFoundException(adjustment.accountId());
+      }
+      if (stored.currency() != adjustment.delta().getCurrencyUnit()) {
+        throw new IllegalArgumentException("Currency mismatch for account " + adjustment.accountId());
+      }
+      long current = stored.minorUnits().get();
+      if (current + adjustment.delta().getMinorUnits() < 0) {
+        throw new InsufficientBalanceException(adjustment.accountId(),
+            Money.ofMinor(current, stored.currency()).getAmount(),
+            adjustment.delta().negate().getAmount());
+      }
+    }
+    for (BalanceAdjustment adjustment : adjustments) {
+      accounts.get(adjustment.accountId()).minorUnits().addAndGet(adjustment.delta().getMinorUnits());
+    }
+    transactionsRecorded.add(transactions.size());
+    return transactions;
+  }
+
+  @Override
+  public <T> T execute(Supplier<T> work) {
+    return work.get();
+  }
+
+  private record StoredAccount(String id, String userId, Currency currency, AtomicLong minorUnits) {
+
+    Account toAccount() {
+      Account account = Account.createNew(id, userId, currency);
+      long balance = minorUnits.get();
+      if (balance > 0) {
+        account.deposit(Money.ofMinor(balance, currency));
+      }
+      return account;
+    }
+  }
+}
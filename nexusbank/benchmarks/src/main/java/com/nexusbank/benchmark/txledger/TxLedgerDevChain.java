@@ -0,0 +1,103 @@
+package com.nexusbank.benchmark.txledger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexusbank.infrastructure.anchoring.JsonRpcClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * {@code TxLedger} on a local dev chain (Ganache, as in {@code truffle test},
+ * or Hardhat) reached over JSON-RPC with the client of
+ * {@code JsonRpcLedgerAnchor}. Deploys the bytecode of the truffle build
+ * artifact and sends each call with {@code eth_sendTransaction} from an
+ * account the node unlocks, waiting for its receipt.
+ */
+final class TxLedgerDevChain {
+
+  private static final HexFormat HEX = HexFormat.of();
+
+  private final JsonRpcClient client;
+  private final String from;
+  private final String bytecode;
+  private final long deployGas;
+  private final long callGas;
+
+  private TxLedgerDevChain(JsonRpcClient client, String from, String bytecode, long deployGas, long callGas) {
+    this.client = client;
+    this.from = from;
+    this.bytecode = bytecode;
+    this.deployGas = deployGas;
+    this.callGas = callGas;
+  }
+
+  /**
+   * @param from     sender account, or {@code null} for the first account of
+   *                 {@code eth_accounts}
+   * @param artifact {@code build/contracts/TxLedger.json} written by
+   *                 {@code truffle compile}
+   */
+  static TxLedgerDevChain connect(String url, String from, Path artifact, long deployGas, long callGas,
+      Duration pollInterval) {
+    ObjectMapper objectMapper = new ObjectMapper();
+    String bytecode;
+    try {
+      bytecode = objectMapper.readTree(artifact.toFile()).path("bytecode").asText();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read " + artifact + "; run `npx truffle compile` first", e);
+    }
+    if (!bytecode.startsWith("0x") || bytecode.length() <= 2) {
+      throw new IllegalStateException(artifact + " has no bytecode");
+    }
+    JsonRpcClient client = new JsonRpcClient(objectMapper, url, Duration.ofMinutes(2), pollInterval);
+    if (from == null) {
+      JsonNode accounts = client.call("eth_accounts");
+      if (accounts.isEmpty()) {
+        throw new IllegalStateException(url + " manages no accounts; pass -Dtxledger.json-rpc.from");
+      }
+      from = accounts.get(0).asText();
+    }
+    return new TxLedgerDevChain(client, from, bytecode, deployGas, callGas);
+  }
+
+  /**
+   * Deploys a fresh contract, so that the first calls pay for the first
+   * writes of its storage as in {@link TxLedgerGasModel}.
+   *
+   * @return the contract address
+   */
+  String deploy() {
+    JsonNode receipt = mined(client.sendTransaction(client.transaction(from, null, deployGas, bytecode)));
+    return receipt.path("contractAddress").asText();
+  }
+
+  /**
+   * Sends one call and waits for it to be mined.
+   */
+  Receipt send(String contract, byte[] calldata) {
+    long start = System.nanoTime();
+    JsonNode receipt = mined(client.sendTransaction(
+        client.transaction(from, contract, callGas, "0x" + HEX.formatHex(calldata))));
+    long latency = System.nanoTime() - start;
+    return new Receipt(JsonRpcClient.quantity(receipt.path("gasUsed").asText()), latency);
+  }
+
+  private JsonNode mined(String hash) {
+    JsonNode receipt = client.awaitReceipt(hash);
+    if (!"0x1".equals(receipt.path("status").asText())) {
+      throw new IllegalStateException("Transaction " + hash + " reverted");
+    }
+    return receipt;
+  }
+
+  /**
+   * Gas used by a mined call and the time from sending it to seeing its
+   * receipt.
+   */
+  record Receipt(long gasUsed, long latencyNanos) {
+  }
+}
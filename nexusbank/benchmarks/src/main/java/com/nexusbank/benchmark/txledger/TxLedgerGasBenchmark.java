@@ -0,0 +1,317 @@
+package com.nexusbank.benchmark.txledger;
+
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.anchoring.MerkleTree;
+import com.nexusbank.infrastructure.anchoring.TransactionLeaves;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+/**
+ * Gas, throughput and confirmation latency of anchoring the transaction
+ * stream in {@code TxLedger}, for three designs:
+ *
+ * <ul>
+ * <li>{@code per-tx}: one {@code recordTransaction} per bank transaction,
+ * storing it in the contract</li>
+ * <li>{@code event-only}: one call per bank transaction that only emits
+ * {@code TransactionRecorded}</li>
+ * <li>{@code batch-N}: the anchoring job ({@code TransactionAnchoringJob}),
+ * one {@code anchorBatch} with the Merkle root of up to N transactions</li>
+ * </ul>
+ *
+ * A Poisson stream of deposits, withdrawals and transfers between UUID
+ * accounts is generated and then, depending on {@code txledger.chain}:
+ *
+ * <ul>
+ * <li>{@code json-rpc}: sent to {@code TxLedger} on a local dev chain
+ * ({@link TxLedgerDevChain}). Every design gets a freshly deployed contract
+ * and up to {@code chain-calls} calls, each sent and awaited in turn; the
+ * report gives the {@code gasUsed} of the receipts and the confirmation
+ * latency of each call, next to the {@link TxLedgerGasModel} price of the
+ * same calls as a cross-check. {@code event-only} has no function in the
+ * contract and is not measured.</li>
+ * <li>{@code model} (default): priced with {@link TxLedgerGasModel} and
+ * replayed on a simulated chain that seals a block every
+ * {@code block-time-ms} with the share of the block gas limit the bank can
+ * get; every chain transaction waits in FIFO order for room in a block. Runs
+ * offline and in seconds, and gives the queueing under load that one call
+ * at a time on a dev chain does not.</li>
+ * </ul>
+ *
+ * Not a JMH benchmark: {@code BenchmarkRunner} does not run it. Run it from
+ * the IDE or from {@code benchmarks.jar}; for the dev chain, compile the
+ * contract and start Ganache first ({@code --miner.blockTime} gives blocks
+ * of real length instead of one block per transaction):
+ *
+ * <pre>
+ * java -Dtxledger.rate=200 -Dtxledger.block-share=0.1 -cp target/benchmarks.jar \
+ *     com.nexusbank.benchmark.txledger.TxLedgerGasBenchmark
+ *
+ * (cd ../blockchain/contracts &amp;&amp; npx truffle compile) &amp;&amp; npx ganache --miner.blockTime 2 &amp;
+ * java -Dtxledger.chain=json-rpc -cp target/benchmarks.jar \
+ *     com.nexusbank.benchmark.txledger.TxLedgerGasBenchmark
+ * </pre>
+ *
+ * The {@code txledger.*} system properties below override the defaults; the
+ * anchoring ones default to {@code application.properties}.
+ */
+public class TxLedgerGasBenchmark {
+
+  private static final double RATE = doubleProperty("txledger.rate", 100);
+  private static final double DURATION_S = doubleProperty("txledger.duration-s", 600);
+  private static final double BLOCK_TIME_S = doubleProperty("txledger.block-time-ms", 12_000) / 1000;
+  private static final long BLOCK_GAS_LIMIT = Long.getLong("txledger.block-gas-limit", 30_000_000L);
+  private static final double BLOCK_SHARE = doubleProperty("txledger.block-share", 1.0);
+  private static final int CONFIRMATIONS = Integer.getInteger("txledger.confirmations", 1);
+  private static final double GAS_PRICE_GWEI = doubleProperty("txledger.gas-price-gwei", 20);
+  private static final double ANCHOR_INTERVAL_S = doubleProperty("txledger.anchor-interval-ms", 5_000) / 1000;
+  private static final double SETTLE_S = doubleProperty("txledger.settle-ms", 60_000) / 1000;
+  private static final double MAX_WAIT_S = doubleProperty("txledger.max-wait-ms", 60_000) / 1000;
+  private static final String BATCH_SIZES = System.getProperty("txledger.batch-sizes", "64,1024");
+
+  private static final String CHAIN = System.getProperty("txledger.chain", "model");
+  private static final String RPC_URL = System.getProperty("txledger.json-rpc.url", "http://127.0.0.1:8545");
+  private static final String RPC_FROM = System.getProperty("txledger.json-rpc.from");
+  private static final String ARTIFACT = System.getProperty("txledger.artifact",
+      "../blockchain/contracts/build/contracts/TxLedger.json");
+  private static final int CHAIN_CALLS = Integer.getInteger("txledger.chain-calls", 200);
+  private static final long DEPLOY_GAS = Long.getLong("txledger.deploy-gas", 3_000_000L);
+  private static final long CALL_GAS = Long.getLong("txledger.call-gas", 1_000_000L);
+  private static final long POLL_INTERVAL_MS = Long.getLong("txledger.poll-interval-ms", 10L);
+
+  // Tras la ventana de llegadas se siguen sellando bloques hasta vaciar la
+  // cola, como mucho este múltiplo de la ventana
+  private static final int DRAIN_WINDOWS = 10;
+
+  public static void main(String[] args) {
+    List<Arrival> stream = stream(new Random(42));
+    if ("json-rpc".equals(CHAIN)) {
+      measure(stream);
+      return;
+    }
+    System.out.printf("%d transactions in %.0f s (%.1f tx/s), blocks of %,d gas every %.1f s (%.0f%% for the bank),"
+        + " %d confirmation(s), %.1f gwei%n%n", stream.size(), DURATION_S, RATE, BLOCK_GAS_LIMIT, BLOCK_TIME_S,
+        BLOCK_SHARE * 100, CONFIRMATIONS, GAS_PRICE_GWEI);
+    System.out.printf("%-12s %9s %12s %14s %12s %12s %12s %10s %10s %10s %9s%n", "design", "chain txs",
+        "gas/bank tx", "total gas", "ETH/1k tx", "capacity/s", "confirmed/s", "p50 (s)", "p99 (s)", "max (s)",
+        "backlog");
+
+    TxLedgerGasModel perTx = new TxLedgerGasModel();
+    report("per-tx", stream, perTransaction(stream, perTx::recordTransaction));
+    TxLedgerGasModel eventOnly = new TxLedgerGasModel();
+    report("event-only", stream, perTransaction(stream, eventOnly::emitTransaction));
+    for (String size : BATCH_SIZES.split(",")) {
+      int batchSize = Integer.parseInt(size.trim());
+      report("batch-" + batchSize, stream, batched(stream, batchSize, new TxLedgerGasModel()));
+    }
+  }
+
+  private static void measure(List<Arrival> stream) {
+    TxLedgerDevChain chain = TxLedgerDevChain.connect(RPC_URL, RPC_FROM, Path.of(ARTIFACT), DEPLOY_GAS, CALL_GAS,
+        Duration.ofMillis(POLL_INTERVAL_MS));
+    System.out.printf("Up to %d calls per design on %s, one at a time%n%n", CHAIN_CALLS, RPC_URL);
+    System.out.printf("%-12s %7s %12s %12s %9s %12s %10s %10s %10s%n", "design", "calls", "gas/call",
+        "model/call", "model err", "gas/bank tx", "p50 (ms)", "p99 (ms)", "max (ms)");
+
+    TxLedgerGasModel perTx = new TxLedgerGasModel();
+    List<Call> calls = new ArrayList<>();
+    for (Arrival arrival : stream.subList(0, Math.min(CHAIN_CALLS, stream.size()))) {
+      calls.add(new Call(TxLedgerGasModel.recordTransactionCalldata(arrival.transaction()),
+          perTx.recordTransaction(arrival.transaction()), 1));
+    }
+    measure("per-tx", chain, calls);
+    for (String size : BATCH_SIZES.split(",")) {
+      int batchSize = Integer.parseInt(size.trim());
+      // Lotes llenos, como los que el job ancla en régimen estacionario
+      TxLedgerGasModel model = new TxLedgerGasModel();
+      List<Call> batches = new ArrayList<>();
+      for (int from = 0; batches.size() < CHAIN_CALLS && from + batchSize <= stream.size(); from += batchSize) {
+        List<byte[]> leaves = new ArrayList<>(batchSize);
+        for (Arrival arrival : stream.subList(from, from + batchSize)) {
+          leaves.add(TransactionLeaves.hash(arrival.transaction()));
+        }
+        MerkleTree tree = new MerkleTree(leaves);
+        batches.add(new Call(TxLedgerGasModel.anchorBatchCalldata(tree.root(), tree.size()),
+            model.anchorBatch(tree.root(), tree.size()), tree.size()));
+      }
+      measure("batch-" + batchSize, chain, batches);
+    }
+    System.out.printf("%nevent-only is not measured: TxLedger has no call that only emits the event%n");
+  }
+
+  private static void measure(String design, TxLedgerDevChain chain, List<Call> calls) {
+    if (calls.isEmpty()) {
+      System.out.printf("%-12s %7d%n", design, 0);
+      return;
+    }
+    String contract = chain.deploy();
+    double[] latencies = new double[calls.size()];
+    long gasUsed = 0;
+    long modelGas = 0;
+    long covered = 0;
+    for (int i = 0; i < calls.size(); i++) {
+      Call call = calls.get(i);
+      TxLedgerDevChain.Receipt receipt = chain.send(contract, call.calldata());
+      gasUsed += receipt.gasUsed();
+      modelGas += call.modelGas();
+      covered += call.covered();
+      latencies[i] = receipt.latencyNanos() / 1e6;
+    }
+    Arrays.sort(latencies);
+    System.out.printf("%-12s %7d %12.0f %12.0f %8.1f%% %12.1f %10.1f %10.1f %10.1f%n", design, calls.size(),
+        (double) gasUsed / calls.size(), (double) modelGas / calls.size(),
+        100.0 * (modelGas - gasUsed) / gasUsed, (double) gasUsed / covered, percentile(latencies, 0.50),
+        percentile(latencies, 0.99), latencies[latencies.length - 1]);
+  }
+
+  private static List<Arrival> stream(Random random) {
+    // Cuentas con UUID como las de AccountService; unas pocas concentran el
+    // tráfico, como en producción
+    String[] accounts = new String[1_000];
+    for (int i = 0; i < accounts.length; i++) {
+      accounts[i] = UUID.randomUUID().toString();
+    }
+    List<Arrival> stream = new ArrayList<>();
+    double at = 0;
+    while (true) {
+      at += -Math.log(1 - random.nextDouble()) / RATE;
+      if (at >= DURATION_S) {
+        return stream;
+      }
+      String account = accounts[(int) (accounts.length * Math.pow(random.nextDouble(), 3))];
+      // Importes log-normales en torno a 50 USD
+      Money amount = Money.ofMinor(Math.max(1, Math.round(Math.exp(8.5 + 1.2 * random.nextGaussian()))), "USD");
+      String id = UUID.randomUUID().toString();
+      double kind = random.nextDouble();
+      Transaction transaction;
+      if (kind < 0.6) {
+        String target = accounts[random.nextInt(accounts.length)];
+        transaction = Transaction.createTransfer(id, account, target.equals(account) ? accounts[0] : target, amount);
+      } else if (kind < 0.9) {
+        transaction = Transaction.createDeposit(id, account, amount);
+      } else {
+        transaction = Transaction.createWithdrawal(id, account, amount);
+      }
+      stream.add(new Arrival(at, transaction));
+    }
+  }
+
+  private static List<ChainTransaction> perTransaction(List<Arrival> stream, ToLongFunction<Transaction> price) {
+    List<ChainTransaction> chain = new ArrayList<>(stream.size());
+    for (Arrival arrival : stream) {
+      chain.add(new ChainTransaction(arrival.at(), price.applyAsLong(arrival.transaction()),
+          new double[] { arrival.at() }));
+    }
+    return chain;
+  }
+
+  /**
+   * Replays the batching rules of the anchoring job: on every run, full
+   * batches of the transactions older than the settle period, and a partial
+   * one once its oldest transaction has waited {@code max-wait}.
+   */
+  private static List<ChainTransaction> batched(List<Arrival> stream, int batchSize, TxLedgerGasModel model) {
+    List<ChainTransaction> chain = new ArrayList<>();
+    int next = 0;
+    Deque<Arrival> settled = new ArrayDeque<>();
+    for (double run = ANCHOR_INTERVAL_S; next < stream.size() || !settled.isEmpty(); run += ANCHOR_INTERVAL_S) {
+      while (next < stream.size() && stream.get(next).at() < run - SETTLE_S) {
+        settled.add(stream.get(next++));
+      }
+      while (settled.size() >= batchSize
+          || (!settled.isEmpty() && run - settled.peekFirst().at() >= MAX_WAIT_S)) {
+        List<byte[]> leaves = new ArrayList<>();
+        double[] covered = new double[Math.min(batchSize, settled.size())];
+        for (int i = 0; i < covered.length; i++) {
+          Arrival arrival = settled.removeFirst();
+          leaves.add(TransactionLeaves.hash(arrival.transaction()));
+          covered[i] = arrival.at();
+        }
+        MerkleTree tree = new MerkleTree(leaves);
+        chain.add(new ChainTransaction(run, model.anchorBatch(tree.root(), tree.size()), covered));
+      }
+    }
+    return chain;
+  }
+
+  private static void report(String design, List<Arrival> stream, List<ChainTransaction> chain) {
+    chain.sort(Comparator.comparingDouble(ChainTransaction::submittedAt));
+    long capacity = (long) (BLOCK_GAS_LIMIT * BLOCK_SHARE);
+    double horizon = DURATION_S * DRAIN_WINDOWS;
+    double[] latencies = new double[stream.size()];
+    int confirmed = 0;
+    int confirmedInWindow = 0;
+    long totalGas = 0;
+
+    int next = 0;
+    Deque<ChainTransaction> mempool = new ArrayDeque<>();
+    for (double block = BLOCK_TIME_S; block <= horizon && (next < chain.size() || !mempool.isEmpty());
+        block += BLOCK_TIME_S) {
+      while (next < chain.size() && chain.get(next).submittedAt() < block) {
+        mempool.add(chain.get(next++));
+      }
+      double confirmedAt = block + (CONFIRMATIONS - 1) * BLOCK_TIME_S;
+      long used = 0;
+      while (!mempool.isEmpty() && used + mempool.peekFirst().gas() <= capacity) {
+        ChainTransaction included = mempool.removeFirst();
+        used += included.gas();
+        totalGas += included.gas();
+        for (double arrivedAt : included.covered()) {
+          latencies[confirmed++] = confirmedAt - arrivedAt;
+          if (confirmedAt <= DURATION_S) {
+            confirmedInWindow++;
+          }
+        }
+      }
+    }
+
+    double[] sorted = Arrays.copyOf(latencies, confirmed);
+    Arrays.sort(sorted);
+    double gasPerTransaction = confirmed == 0 ? 0 : (double) totalGas / confirmed;
+    System.out.printf("%-12s %9d %12.0f %14d %12.6f %12.1f %12.1f %10.1f %10.1f %10.1f %9d%n", design, chain.size(),
+        gasPerTransaction, totalGas, gasPerTransaction * 1_000 * GAS_PRICE_GWEI / 1e9,
+        gasPerTransaction == 0 ? 0 : capacity / gasPerTransaction / BLOCK_TIME_S,
+        confirmedInWindow / DURATION_S, percentile(sorted, 0.50), percentile(sorted, 0.99),
+        sorted.length == 0 ? Double.NaN : sorted[sorted.length - 1], stream.size() - confirmed);
+  }
+
+  private static double percentile(double[] sorted, double p) {
+    if (sorted.length == 0) {
+      return Double.NaN;
+    }
+    return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+  }
+
+  private static double doubleProperty(String name, double defaultValue) {
+    String value = System.getProperty(name);
+    return value == null ? defaultValue : Double.parseDouble(value);
+  }
+
+  private record Arrival(double at, Transaction transaction) {
+  }
+
+  /**
+   * A call sent to the dev chain, its price in the model and the number of
+   * bank transactions it anchors.
+   */
+  private record Call(byte[] calldata, long modelGas, int covered) {
+  }
+
+  /**
+   * A chain transaction and the arrival times of the bank transactions it
+   * confirms.
+   */
+  private record ChainTransaction(double submittedAt, long gas, double[] covered) {
+  }
+}
@@ -0,0 +1,200 @@
+package com.nexusbank.benchmark.txledger;
+
+import com.nexusbank.domain.model.Transaction;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+/**
+ * In-process stand-in for the EVM running {@code TxLedger.sol}: it keeps the
+ * contract state that changes the price of a call (how many transactions and
+ * batches are stored) and prices each call with the Shanghai gas schedule
+ * over the real ABI calldata, the storage slots the contract writes and the
+ * events it emits. Execution that is not storage, calldata or logs (selector
+ * dispatch, ABI decoding, solc's copy loops) is an estimate, so the model is
+ * a cross-check and an offline stand-in, not the measurement: the gas of
+ * record is the {@code gasUsed} of the receipts that
+ * {@link TxLedgerGasBenchmark} reads from a dev chain with
+ * {@code -Dtxledger.chain=json-rpc}, which prints both side by side.
+ *
+ * Besides the two functions of the contract it prices an event-only design:
+ * the call of {@code recordTransaction} emitting {@code TransactionRecorded}
+ * without storing anything.
+ */
+final class TxLedgerGasModel {
+
+  // Calendario de gas de Shanghai (EIP-2028, EIP-2929 y EIP-3529)
+  static final long TX_BASE = 21_000;
+  static final long CALLDATA_ZERO_BYTE = 4;
+  static final long CALLDATA_NONZERO_BYTE = 16;
+  static final long COLD_SLOAD = 2_100;
+  static final long WARM_ACCESS = 100;
+  static final long SSTORE_SET = 20_000;
+  static final long SSTORE_RESET = 2_900;
+  static final long LOG = 375;
+  static final long LOG_TOPIC = 375;
+  static final long LOG_DATA_BYTE = 8;
+  static final long KECCAK = 30;
+  static final long KECCAK_WORD = 6;
+  static final long MEMORY_WORD = 3;
+
+  // Estimaciones para solc 0.8.21 sin optimizador: despacho y decodificación
+  // ABI por llamada, y bucle de copia por palabra de string guardada. La
+  // columna "model err" del modo json-rpc dice cuánto se desvían
+  static final long CALL_OVERHEAD = 1_500;
+  static final long STRING_WORD_COPY = 150;
+
+  static final byte[] RECORD_TRANSACTION_SELECTOR = HexFormat.of().parseHex("c425091f");
+  static final byte[] ANCHOR_BATCH_SELECTOR = HexFormat.of().parseHex("97077da9");
+
+  private static final int WORD = 32;
+
+  private long transactionCount;
+  private long batchCount;
+
+  /**
+   * {@code recordTransaction}: stores the transaction as a new element of
+   * {@code transactions} and emits {@code TransactionRecorded}.
+   */
+  long recordTransaction(Transaction transaction) {
+    long gas = intrinsic(recordTransactionCalldata(transaction)) + CALL_OVERHEAD;
+    // nextTransactionId++ y la longitud de transactions
+    gas += 2 * (COLD_SLOAD + (transactionCount == 0 ? SSTORE_SET : SSTORE_RESET));
+    gas += keccak(1);
+    gas += storeWord(transactionCount != 0);
+    gas += storeString(transaction.getAccountId());
+    gas += storeString(targetOf(transaction));
+    gas += storeWord(true);
+    gas += storeString(transaction.getAmount().getCurrency());
+    gas += storeWord(true);
+    gas += transactionRecordedLog(transaction);
+    transactionCount++;
+    return gas;
+  }
+
+  /**
+   * Event-only design: same calldata as {@code recordTransaction}, but the
+   * transaction only lives in the log.
+   */
+  long emitTransaction(Transaction transaction) {
+    return intrinsic(recordTransactionCalldata(transaction)) + CALL_OVERHEAD + transactionRecordedLog(transaction);
+  }
+
+  /**
+   * {@code anchorBatch}: stores the root, size and time of a batch and emits
+   * {@code BatchAnchored}.
+   */
+  long anchorBatch(byte[] root, int size) {
+    long gas = intrinsic(anchorBatchCalldata(root, size)) + CALL_OVERHEAD;
+    // Longitud de batches; anchorer es immutable y no se lee de storage
+    gas += COLD_SLOAD + (batchCount == 0 ? SSTORE_SET : SSTORE_RESET);
+    gas += keccak(1);
+    // root, y size y timestamp empaquetados en un slot
+    gas += 2 * storeWord(true);
+    gas += log(2, 3 * WORD);
+    batchCount++;
+    return gas;
+  }
+
+  static byte[] recordTransactionCalldata(Transaction transaction) {
+    byte[] accountId = utf8(transaction.getAccountId());
+    byte[] target = utf8(targetOf(transaction));
+    byte[] currency = utf8(transaction.getAmount().getCurrency());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.writeBytes(RECORD_TRANSACTION_SELECTOR);
+    // Cabecera: desplazamientos de los strings y el importe en unidades menores
+    long offset = 4 * WORD;
+    out.writeBytes(word(BigInteger.valueOf(offset)));
+    offset += tailLength(accountId);
+    out.writeBytes(word(BigInteger.valueOf(offset)));
+    out.writeBytes(word(BigInteger.valueOf(transaction.getAmount().getMinorUnits())));
+    offset += tailLength(target);
+    out.writeBytes(word(BigInteger.valueOf(offset)));
+    writeTail(out, accountId);
+    writeTail(out, target);
+    writeTail(out, currency);
+    return out.toByteArray();
+  }
+
+  static byte[] anchorBatchCalldata(byte[] root, int size) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.writeBytes(ANCHOR_BATCH_SELECTOR);
+    out.writeBytes(root);
+    out.writeBytes(word(BigInteger.valueOf(size)));
+    return out.toByteArray();
+  }
+
+  static long intrinsic(byte[] calldata) {
+    long gas = TX_BASE;
+    for (byte b : calldata) {
+      gas += b == 0 ? CALLDATA_ZERO_BYTE : CALLDATA_NONZERO_BYTE;
+    }
+    return gas;
+  }
+
+  private long transactionRecordedLog(Transaction transaction) {
+    // El id va indexado; el resto son cinco palabras de cabecera y tres strings
+    int data = 5 * WORD + tailLength(utf8(transaction.getAccountId())) + tailLength(utf8(targetOf(transaction)))
+        + tailLength(utf8(transaction.getAmount().getCurrency()));
+    return log(2, data);
+  }
+
+  private static long log(int topics, int dataBytes) {
+    return LOG + topics * LOG_TOPIC + dataBytes * LOG_DATA_BYTE + MEMORY_WORD * words(dataBytes);
+  }
+
+  // Primera escritura de un slot nuevo (frío): 0 -> valor o 0 -> 0
+  private static long storeWord(boolean nonZero) {
+    return COLD_SLOAD + (nonZero ? SSTORE_SET : WARM_ACCESS);
+  }
+
+  // Strings cortos (< 32 bytes) van en un slot con su longitud; los largos
+  // guardan la longitud en el slot y los datos a partir de keccak(slot)
+  private static long storeString(String value) {
+    int length = utf8(value).length;
+    if (length == 0) {
+      return storeWord(false);
+    }
+    if (length < WORD) {
+      return storeWord(true) + STRING_WORD_COPY;
+    }
+    int words = words(length);
+    return storeWord(true) + keccak(1) + words * (storeWord(true) + STRING_WORD_COPY);
+  }
+
+  private static long keccak(int words) {
+    return KECCAK + KECCAK_WORD * words;
+  }
+
+  private static String targetOf(Transaction transaction) {
+    return transaction.getTargetAccountId() == null ? "" : transaction.getTargetAccountId();
+  }
+
+  private static int tailLength(byte[] value) {
+    return WORD + words(value.length) * WORD;
+  }
+
+  private static void writeTail(ByteArrayOutputStream out, byte[] value) {
+    out.writeBytes(word(BigInteger.valueOf(value.length)));
+    out.writeBytes(value);
+    out.writeBytes(new byte[words(value.length) * WORD - value.length]);
+  }
+
+  private static byte[] word(BigInteger value) {
+    byte[] bytes = value.toByteArray();
+    byte[] word = new byte[WORD];
+    int length = Math.min(bytes.length, WORD);
+    System.arraycopy(bytes, bytes.length - length, word, WORD - length, length);
+    return word;
+  }
+
+  private static int words(int bytes) {
+    return (bytes + WORD - 1) / WORD;
+  }
+
+  private static byte[] utf8(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -11,9 +11,18 @@ contract TxLedger {
         uint256 timestamp;
     }
 
+    struct Batch {
+        bytes32 root;
+        uint32 size;
+        uint64 timestamp;
+    }
+
     Transaction[] public transactions;
     uint256 public nextTransactionId;
 
+    Batch[] public batches;
+    address public immutable anchorer;
+
     event TransactionRecorded(
         uint256 indexed id,
         string accountId,
@@ -23,6 +32,17 @@ contract TxLedger {
         uint256 timestamp
     );
 
+    event BatchAnchored(
+        uint256 indexed batchId,
+        bytes32 root,
+        uint32 size,
+        uint256 timestamp
+    );
+
+    constructor() {
+        anchorer = msg.sender;
+    }
+
     /**
      * @notice Registra una nueva transacción bancaria.
      * @param accountId Identificador de la cuenta origen.
@@ -77,4 +97,56 @@ contract TxLedger {
     function getTransactionCount() external view returns (uint256) {
         return transactions.length;
     }
+
+    /**
+     * @notice Ancla la raíz Merkle de un lote de transacciones. Solo se guarda
+     *         la raíz: cada transacción se verifica con su prueba de inclusión.
+     * @param root Raíz del árbol (SHA-256, hojas con prefijo 0x00 y nodos con 0x01).
+     * @param size Número de transacciones del lote.
+     * @return batchId Identificador del lote anclado.
+     */
+    function anchorBatch(
+        bytes32 root,
+        uint32 size
+    ) external returns (uint256 batchId) {
+        require(msg.sender == anchorer, "Only the anchorer can anchor batches");
+        require(size > 0, "Batch is empty");
+        batchId = batches.length;
+        batches.push(Batch(root, size, uint64(block.timestamp)));
+        emit BatchAnchored(batchId, root, size, block.timestamp);
+    }
+
+    /**
+     * @notice Comprueba que una hoja pertenece a un lote anclado.
+     * @param batchId Identificador del lote.
+     * @param leaf Hash de la hoja.
+     * @param proof Hermanos desde la hoja hasta la raíz.
+     * @param directions Bit i a 1 si el hermano i está a la izquierda.
+     * @return Si la prueba lleva a la raíz anclada.
+     */
+    function verifyInclusion(
+        uint256 batchId,
+        bytes32 leaf,
+        bytes32[] calldata proof,
+        uint256 directions
+    ) external view returns (bool) {
+        require(batchId < batches.length, "Batch does not exist");
+        bytes32 node = leaf;
+        for (uint256 i = 0; i < proof.length; i++) {
+            if ((directions >> i) & 1 == 1) {
+                node = sha256(abi.encodePacked(bytes1(0x01), proof[i], node));
+            } else {
+                node = sha256(abi.encodePacked(bytes1(0x01), node, proof[i]));
+            }
+        }
+        return node == batches[batchId].root;
+    }
+
+    /**
+     * @notice Retorna el número de lotes anclados.
+     * @return Cantidad de lotes.
+     */
+    function getBatchCount() external view returns (uint256) {
+        return batches.length;
+    }
 }
@@ -0,0 +1,74 @@
+// Gas real de TxLedger en la cadena Ganache de `truffle test`, llamada a llamada.
+// TxLedgerGasBenchmark (módulo benchmarks, com.nexusbank.benchmark.txledger)
+// mide lo mismo sobre el flujo completo con -Dtxledger.chain=json-rpc contra un
+// Ganache local, y compara con TxLedgerGasModel, que lo estima sin EVM.
+//
+//   cd blockchain/contracts && npx truffle test test/txledger_gas.js
+const crypto = require("crypto");
+
+const TxLedger = artifacts.require("TxLedger");
+
+// Hojas con prefijo 0x00 y nodos con 0x01, como MerkleTree
+const sha256 = (...parts) => crypto.createHash("sha256").update(Buffer.concat(parts)).digest();
+const leafHash = (data) => sha256(Buffer.from([0x00]), data);
+const nodeHash = (left, right) => sha256(Buffer.from([0x01]), left, right);
+const hex = (bytes) => "0x" + bytes.toString("hex");
+
+// Árbol de cuatro hojas y la prueba de la hoja 2: hermano derecho y luego izquierdo
+const buildTree = () => {
+  const leaves = [0, 1, 2, 3].map((i) => leafHash(Buffer.from(`leaf-${i}`)));
+  const left = nodeHash(leaves[0], leaves[1]);
+  const right = nodeHash(leaves[2], leaves[3]);
+  return { root: nodeHash(left, right), leaf: leaves[2], proof: [leaves[3], left], directions: 0b10 };
+};
+
+contract("TxLedger gas", (accounts) => {
+  const [anchorer, stranger] = accounts;
+  const gas = [];
+  let ledger;
+
+  before(async () => {
+    ledger = await TxLedger.new({ from: anchorer });
+  });
+
+  after(() => {
+    console.log();
+    console.table(gas);
+  });
+
+  it("records transactions between UUID accounts", async () => {
+    const source = crypto.randomUUID();
+    const target = crypto.randomUUID();
+    const first = await ledger.recordTransaction(source, target, 12345, "USD", { from: anchorer });
+    const steady = await ledger.recordTransaction(source, target, 12345, "USD", { from: anchorer });
+    const deposit = await ledger.recordTransaction(source, "", 12345, "USD", { from: anchorer });
+    gas.push({ call: "recordTransaction (first transfer)", gasUsed: first.receipt.gasUsed });
+    gas.push({ call: "recordTransaction (transfer)", gasUsed: steady.receipt.gasUsed });
+    gas.push({ call: "recordTransaction (deposit)", gasUsed: deposit.receipt.gasUsed });
+
+    assert.equal((await ledger.getTransactionCount()).toNumber(), 3);
+    const stored = await ledger.getTransaction(1);
+    assert.equal(stored.accountId, source);
+    assert.equal(stored.targetAccountId, target);
+  });
+
+  it("anchors batch roots that verify inclusion proofs", async () => {
+    const tree = buildTree();
+    const first = await ledger.anchorBatch(hex(tree.root), 1024, { from: anchorer });
+    const steady = await ledger.anchorBatch(hex(tree.root), 4, { from: anchorer });
+    gas.push({ call: "anchorBatch (first)", gasUsed: first.receipt.gasUsed });
+    gas.push({ call: "anchorBatch", gasUsed: steady.receipt.gasUsed });
+
+    assert.isTrue(await ledger.verifyInclusion(1, hex(tree.leaf), tree.proof.map(hex), tree.directions));
+    assert.isFalse(await ledger.verifyInclusion(1, hex(tree.leaf), tree.proof.map(hex), 0));
+  });
+
+  it("rejects batches from anyone but the anchorer", async () => {
+    try {
+      await ledger.anchorBatch(hex(buildTree().root), 4, { from: stranger });
+      assert.fail("anchorBatch should have reverted");
+    } catch (error) {
+      assert.include(error.message, "Only the anchorer can anchor batches");
+    }
+  });
+});
@@ -0,0 +1,42 @@
+package com.nexusbank.application.port.in;
+
+import com.nexusbank.domain.model.Transaction;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface BatchTransferUseCase {
+  /**
+   * Ejecuta un lote de transferencias. Cada instrucción se valida y aplica por
+   * separado: las que fallan no impiden que se completen las demás.
+   * 
+   * @param instructions Transferencias a realizar, en orden
+   * @return El resultado de cada instrucción, en el mismo orden
+   */
+  List<TransferResult> transferBatch(List<TransferInstruction> instructions);
+
+  /**
+   * Una transferencia dentro del lote.
+   */
+  record TransferInstruction(String sourceAccountId, String targetAccountId, BigDecimal amount) {
+  }
+
+  /**
+   * Resultado de una instrucción: la transacción generada o el motivo del
+   * fallo.
+   */
+  record TransferResult(int index, Transaction transaction, String error) {
+
+    public static TransferResult completed(int index, Transaction transaction) {
+      return new TransferResult(index, transaction, null);
+    }
+
+    public static TransferResult failed(int index, String error) {
+      return new TransferResult(index, null, error);
+    }
+
+    public boolean isSuccessful() {
+      return transaction != null;
+    }
+  }
+}
@@ -1,14 +1,37 @@
 package com.nexusbank.application.port.in;
 
 import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Currency;
+
+import java.math.BigDecimal;
 
 public interface CreateAccountUseCase {
+
+  /**
+   * Moneda utilizada cuando el cliente no especifica ninguna.
+   */
+  Currency DEFAULT_CURRENCY = Currency.USD;
+
   /**
    * Crea una nueva cuenta bancaria para un usuario existente.
    * 
    * @param userId         El ID del usuario propietario de la cuenta
+   * @param initialDeposit El monto inicial a depositar (opcional), con como mucho
+   *                       los decimales de la moneda
+   * @param currency       La moneda de la cuenta
+   * @return La cuenta creada
+   * @throws com.nexusbank.domain.exception.InvalidAmountException si el monto tiene más decimales que la moneda
+   */
+  Account createAccount(String userId, BigDecimal initialDeposit, Currency currency);
+
+  /**
+   * Crea una nueva cuenta bancaria en la moneda predeterminada.
+   * 
+   * @param userId         El ID del usuario propietario de la cuenta
    * @param initialDeposit El monto inicial a depositar (opcional)
    * @return La cuenta creada
    */
-  Account createAccount(String userId, Double initialDeposit);
-}
\ No newline at end of file
+  default Account createAccount(String userId, BigDecimal initialDeposit) {
+    return createAccount(userId, initialDeposit, DEFAULT_CURRENCY);
+  }
+}
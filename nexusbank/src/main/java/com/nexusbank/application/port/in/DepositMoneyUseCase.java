@@ -2,6 +2,9 @@ package com.nexusbank.application.port.in;
 
 import com.nexusbank.domain.model.Transaction;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 public interface DepositMoneyUseCase {
   /**
    * Realiza un depósito de dinero en una cuenta.
@@ -10,5 +13,28 @@ public interface DepositMoneyUseCase {
    * @param amount    El monto a depositar
    * @return La transacción generada por el depósito
    */
-  Transaction depositMoney(String accountId, Double amount);
-}
\ No newline at end of file
+  Transaction depositMoney(String accountId, BigDecimal amount);
+
+  /**
+   * Realiza un depósito de forma idempotente: si la clave ya se usó para el
+   * mismo depósito se devuelve la transacción original sin repetirlo.
+   * 
+   * @param accountId      El ID de la cuenta donde depositar
+   * @param amount         El monto a depositar
+   * @param idempotencyKey Clave de idempotencia enviada por el cliente
+   * @return La transacción generada por el depósito (o la original)
+   * @throws com.nexusbank.domain.exception.IdempotencyKeyReusedException si la clave se usó para otra operación
+   */
+  Transaction depositMoney(String accountId, BigDecimal amount, String idempotencyKey);
+
+  /**
+   * Realiza varios depósitos en la misma cuenta con un único ajuste de saldo y
+   * una sola inserción en lote de sus transacciones. Cada monto genera su
+   * propia transacción; si uno no se puede aplicar no se aplica ninguno.
+   * 
+   * @param accountId El ID de la cuenta donde depositar
+   * @param amounts   Los montos a depositar, en orden
+   * @return Las transacciones generadas, en el mismo orden que los montos
+   */
+  List<Transaction> depositBatch(String accountId, List<BigDecimal> amounts);
+}
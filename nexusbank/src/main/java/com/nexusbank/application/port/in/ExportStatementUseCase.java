@@ -0,0 +1,41 @@
+package com.nexusbank.application.port.in;
+
+import com.nexusbank.domain.exception.InvalidStatementPeriodException;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface ExportStatementUseCase {
+  /**
+   * Recorre el extracto de una cuenta: sus transacciones (como origen o
+   * destino) del periodo, de la más antigua a la más reciente, con el saldo
+   * tras cada una. Las líneas se entregan a {@code sink} a medida que se leen
+   * de la base de datos, sin acumularlas en memoria.
+   * 
+   * @param query Cuenta y periodo
+   * @param sink  Receptor de cada línea del extracto
+   * @throws com.nexusbank.domain.exception.AccountNotFoundException if the account does not exist
+   */
+  void exportStatement(StatementQuery query, Consumer<StatementLine> sink);
+
+  /**
+   * Statement period: {@code from} inclusive, {@code to} exclusive. A
+   * {@code null} bound leaves that side of the period open.
+   */
+  record StatementQuery(String accountId, LocalDateTime from, LocalDateTime to) {
+    public StatementQuery {
+      if (from != null && to != null && !from.isBefore(to)) {
+        throw new InvalidStatementPeriodException(from, to);
+      }
+    }
+  }
+
+  /**
+   * One row of the statement: the transaction, what it changed in the
+   * balance of the account (zero unless completed) and the balance after it.
+   */
+  record StatementLine(Transaction transaction, Money change, Money balance) {
+  }
+}
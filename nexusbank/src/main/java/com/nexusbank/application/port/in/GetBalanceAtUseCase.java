@@ -0,0 +1,19 @@
+package com.nexusbank.application.port.in;
+
+import com.nexusbank.domain.model.Money;
+
+import java.time.LocalDateTime;
+
+public interface GetBalanceAtUseCase {
+
+  /**
+   * Obtiene el saldo que tenía una cuenta en un instante dado, con todas las
+   * transacciones completadas creadas antes de ese instante.
+   * 
+   * @param accountId ID de la cuenta
+   * @param at        Instante consultado; {@code null} para el saldo actual
+   * @return Saldo de la cuenta en ese instante
+   * @throws com.nexusbank.domain.exception.AccountNotFoundException if the account does not exist
+   */
+  Money getBalanceAt(String accountId, LocalDateTime at);
+}
@@ -0,0 +1,40 @@
+package com.nexusbank.application.port.in;
+
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface GetTransactionHistoryUseCase {
+
+  int DEFAULT_PAGE_SIZE = 50;
+  int MAX_PAGE_SIZE = 500;
+
+  /**
+   * Obtiene una página del historial de transacciones de una cuenta (como
+   * origen o destino), de la más reciente a la más antigua.
+   * 
+   * @param query Cuenta, filtros, cursor y tamaño de página
+   * @return Las transacciones de la página y el cursor de la siguiente
+   * @throws com.nexusbank.domain.exception.AccountNotFoundException if the account does not exist
+   * @throws com.nexusbank.domain.exception.InvalidCursorException  if the cursor is malformed
+   */
+  TransactionHistoryPage getTransactionHistory(TransactionHistoryQuery query);
+
+  /**
+   * Page request. Filters left {@code null} are not applied; {@code from} is
+   * inclusive and {@code to} exclusive. {@code cursor} is the
+   * {@code nextCursor} of the previous page, or {@code null} for the first.
+   */
+  record TransactionHistoryQuery(String accountId, TransactionType type, TransactionStatus status,
+      LocalDateTime from, LocalDateTime to, String cursor, Integer limit) {
+  }
+
+  /**
+   * One page of history. {@code nextCursor} is {@code null} on the last page.
+   */
+  record TransactionHistoryPage(List<Transaction> transactions, String nextCursor) {
+  }
+}
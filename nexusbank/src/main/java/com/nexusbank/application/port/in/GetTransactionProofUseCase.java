@@ -0,0 +1,17 @@
+package com.nexusbank.application.port.in;
+
+import com.nexusbank.domain.model.TransactionProof;
+
+public interface GetTransactionProofUseCase {
+  /**
+   * Obtiene la prueba de inclusión de una transacción en el lote anclado en
+   * la cadena: la hoja, el camino de hermanos y la raíz con su referencia en
+   * el contrato.
+   * 
+   * @param transactionId ID de la transacción
+   * @return La prueba de inclusión
+   * @throws com.nexusbank.domain.exception.TransactionNotFoundException si no existe
+   * @throws com.nexusbank.domain.exception.TransactionNotAnchoredException si su lote aún no está anclado
+   */
+  TransactionProof getTransactionProof(String transactionId);
+}
@@ -0,0 +1,15 @@
+package com.nexusbank.application.port.in;
+
+import com.nexusbank.domain.model.Transaction;
+
+public interface GetTransactionUseCase {
+  /**
+   * Obtiene una transacción por su ID, incluidas las transferencias que aún
+   * están pendientes de liquidar.
+   * 
+   * @param transactionId ID de la transacción
+   * @return La transacción con su estado actual
+   * @throws com.nexusbank.domain.exception.TransactionNotFoundException si no existe
+   */
+  Transaction getTransactionById(String transactionId);
+}
@@ -0,0 +1,31 @@
+package com.nexusbank.application.port.in;
+
+public interface SettleTransfersUseCase {
+  /**
+   * Liquida las transferencias pendientes más antiguas en una sola unidad de
+   * trabajo. Las transferencias de una misma cuenta se liquidan en el orden en
+   * que se aceptaron.
+   * 
+   * @param maxTransfers Número máximo de transferencias a liquidar
+   * @return Resultado de la liquidación
+   */
+  SettlementResult settlePendingTransfers(int maxTransfers);
+
+  /**
+   * Transferencias tomadas de la cola y cuántas de ellas se completaron o
+   * fallaron. Las que no se liquidaron siguen pendientes porque otra
+   * liquidación en curso tiene una transferencia anterior de la misma cuenta.
+   */
+  record SettlementResult(int claimed, int completed, int failed) {
+
+    public static final SettlementResult EMPTY = new SettlementResult(0, 0, 0);
+
+    public int settled() {
+      return completed + failed;
+    }
+
+    public SettlementResult plus(SettlementResult other) {
+      return new SettlementResult(claimed + other.claimed, completed + other.completed, failed + other.failed);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.nexusbank.application.port.in;
+
+import com.nexusbank.domain.model.Transaction;
+
+import java.math.BigDecimal;
+
+public interface SubmitTransferUseCase {
+  /**
+   * Acepta una transferencia para liquidarla más tarde. Solo se comprueba que
+   * las cuentas existan y usen la misma moneda; el saldo se comprueba al
+   * liquidarla, y si no alcanza la transferencia queda en estado FAILED.
+   * 
+   * @param sourceAccountId ID de la cuenta origen
+   * @param targetAccountId ID de la cuenta destino
+   * @param amount          Monto a transferir
+   * @return La transferencia aceptada, en estado PENDING
+   */
+  Transaction submitTransfer(String sourceAccountId, String targetAccountId, BigDecimal amount);
+
+  /**
+   * Acepta una transferencia de forma idempotente: si la clave ya se usó para
+   * la misma transferencia se devuelve la transferencia original sin
+   * encolarla de nuevo.
+   * 
+   * @param sourceAccountId ID de la cuenta origen
+   * @param targetAccountId ID de la cuenta destino
+   * @param amount          Monto a transferir
+   * @param idempotencyKey  Clave de idempotencia enviada por el cliente
+   * @return La transferencia aceptada (o la original)
+   * @throws com.nexusbank.domain.exception.IdempotencyKeyReusedException si la clave se usó para otra operación
+   */
+  Transaction submitTransfer(String sourceAccountId, String targetAccountId, BigDecimal amount,
+      String idempotencyKey);
+}
@@ -2,6 +2,8 @@ package com.nexusbank.application.port.in;
 
 import com.nexusbank.domain.model.Transaction;
 
+import java.math.BigDecimal;
+
 public interface TransferMoneyUseCase {
   /**
    * Transfiere dinero de una cuenta a otra.
@@ -11,5 +13,19 @@ public interface TransferMoneyUseCase {
    * @param amount          Monto a transferir
    * @return La transacción generada por la transferencia
    */
-  Transaction transferMoney(String sourceAccountId, String targetAccountId, Double amount);
-}
\ No newline at end of file
+  Transaction transferMoney(String sourceAccountId, String targetAccountId, BigDecimal amount);
+
+  /**
+   * Transfiere dinero de forma idempotente: si la clave ya se usó para la
+   * misma transferencia se devuelve la transacción original sin repetirla.
+   * 
+   * @param sourceAccountId ID de la cuenta origen
+   * @param targetAccountId ID de la cuenta destino
+   * @param amount          Monto a transferir
+   * @param idempotencyKey  Clave de idempotencia enviada por el cliente
+   * @return La transacción generada por la transferencia (o la original)
+   * @throws com.nexusbank.domain.exception.IdempotencyKeyReusedException si la clave se usó para otra operación
+   */
+  Transaction transferMoney(String sourceAccountId, String targetAccountId, BigDecimal amount,
+      String idempotencyKey);
+}
@@ -0,0 +1,40 @@
+package com.nexusbank.application.port.out;
+
+import java.util.Collection;
+
+public interface AccountLockPort {
+  /**
+   * Acquires exclusive access to an account for the current thread.
+   * 
+   * @param accountId Account identifier
+   * @return Handle that releases the lock when closed
+   */
+  AccountLock lock(String accountId);
+
+  /**
+   * Acquires exclusive access to two accounts (e.g. both sides of a transfer).
+   * Locks are always taken in a canonical order, so concurrent transfers in
+   * opposite directions cannot deadlock.
+   * 
+   * @param firstAccountId  First account identifier
+   * @param secondAccountId Second account identifier
+   * @return Handle that releases both locks when closed
+   */
+  AccountLock lock(String firstAccountId, String secondAccountId);
+
+  /**
+   * Acquires exclusive access to any number of accounts in canonical order.
+   * 
+   * @param accountIds Account identifiers (duplicates are allowed)
+   * @return Handle that releases every lock when closed
+   */
+  AccountLock lockAll(Collection<String> accountIds);
+
+  /**
+   * Handle on a set of held account locks.
+   */
+  interface AccountLock extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
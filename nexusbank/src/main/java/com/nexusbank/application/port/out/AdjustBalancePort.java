@@ -0,0 +1,60 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+
+import java.util.List;
+
+public interface AdjustBalancePort {
+  /**
+   * Applies every balance adjustment of a transaction and records the
+   * transaction within the current unit of work, without reading the accounts
+   * first. Each adjustment only succeeds if the account exists, is active,
+   * uses the same currency and its balance does not become negative; otherwise
+   * the whole operation is rejected.
+   * 
+   * @param adjustments Signed balance changes (debits are negative)
+   * @param transaction Transaction to record
+   * @return The recorded transaction
+   * @throws com.nexusbank.domain.exception.AccountNotFoundException     if an account does not exist
+   * @throws com.nexusbank.domain.exception.InsufficientBalanceException if a debit exceeds the balance
+   */
+  default Transaction adjustBalances(List<BalanceAdjustment> adjustments, Transaction transaction) {
+    adjustBalances(adjustments, List.of(transaction));
+    return transaction;
+  }
+
+  /**
+   * Same as {@link #adjustBalances(List, Transaction)} for a group of
+   * transactions whose adjustments have already been netted per account.
+   * 
+   * @param adjustments  Signed balance changes (debits are negative)
+   * @param transactions Transactions to record
+   * @return The recorded transactions
+   */
+  List<Transaction> adjustBalances(List<BalanceAdjustment> adjustments, List<Transaction> transactions);
+
+  /**
+   * Whether a credit has to hold the account lock and read the account for
+   * update. Ledgers that apply credits without row contention, and check the
+   * account again when writing, return {@code false} so that concurrent
+   * credits to the same account do not queue.
+   */
+  default boolean creditsNeedAccountLock() {
+    return true;
+  }
+
+  /**
+   * Signed change to the balance of one account.
+   */
+  record BalanceAdjustment(String accountId, Money delta) {
+
+    public static BalanceAdjustment credit(String accountId, Money amount) {
+      return new BalanceAdjustment(accountId, amount);
+    }
+
+    public static BalanceAdjustment debit(String accountId, Money amount) {
+      return new BalanceAdjustment(accountId, amount.negate());
+    }
+  }
+}
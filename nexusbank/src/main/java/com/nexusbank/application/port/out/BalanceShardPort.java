@@ -0,0 +1,21 @@
+package com.nexusbank.application.port.out;
+
+public interface BalanceShardPort {
+  /**
+   * Whether the balance of an account is spread across several sub-balance
+   * rows. Credits to such an account land on any of the rows and do not
+   * contend with each other, so they need no exclusive access to the account;
+   * debits and reads still see the whole balance.
+   *
+   * @param accountId Account identifier
+   * @return {@code true} if credits to the account can run concurrently
+   */
+  boolean isSharded(String accountId);
+
+  /**
+   * No account is sharded: balance shards are disabled.
+   */
+  static BalanceShardPort none() {
+    return accountId -> false;
+  }
+}
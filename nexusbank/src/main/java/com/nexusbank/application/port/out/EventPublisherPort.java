@@ -0,0 +1,18 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.TransactionEvent;
+
+import java.util.List;
+
+public interface EventPublisherPort {
+  /**
+   * Publishes a batch of events relayed from the outbox, in outbox order. It
+   * runs outside every request, so it may be slow, but the events are only
+   * removed from the outbox once it returns.
+   * 
+   * @param events Events to publish, oldest first
+   * @throws RuntimeException if the batch could not be published; the same
+   *                          events are published again later
+   */
+  void publish(List<TransactionEvent> events);
+}
@@ -0,0 +1,23 @@
+package com.nexusbank.application.port.out;
+
+import java.util.UUID;
+
+public interface IdGeneratorPort {
+  /**
+   * Generates a new identifier, unique across every node. Identifiers
+   * generated later sort after earlier ones (as strings), so new rows are
+   * appended at the right edge of the primary key index instead of at random
+   * positions.
+   * 
+   * @return New identifier
+   */
+  String nextId();
+
+  /**
+   * Random (version 4) UUIDs: unique but not time-ordered. For tests and
+   * benchmarks; the application uses the configured generator.
+   */
+  static IdGeneratorPort randomUuids() {
+    return () -> UUID.randomUUID().toString();
+  }
+}
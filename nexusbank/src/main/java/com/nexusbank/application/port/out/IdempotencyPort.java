@@ -0,0 +1,51 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.Transaction;
+
+import java.util.Optional;
+
+public interface IdempotencyPort {
+  /**
+   * Loads the outcome recorded for an idempotency key.
+   * 
+   * @param idempotencyKey Key sent by the client
+   * @return The recorded operation, or empty if the key has not been used
+   */
+  Optional<IdempotentOperation> loadOperation(String idempotencyKey);
+
+  /**
+   * Records the outcome of a keyed operation within the current unit of work,
+   * so it is committed or rolled back together with the money movement.
+   * 
+   * @param operation Operation to record
+   * @throws com.nexusbank.domain.exception.DuplicateIdempotencyKeyException if a concurrent request recorded
+   *         the same key
+   */
+  void saveOperation(IdempotentOperation operation);
+
+  /**
+   * Rejects every keyed operation. Only for callers that never send
+   * idempotency keys.
+   */
+  static IdempotencyPort unsupported() {
+    return new IdempotencyPort() {
+      @Override
+      public Optional<IdempotentOperation> loadOperation(String idempotencyKey) {
+        throw new IllegalStateException("Idempotency keys are not supported");
+      }
+
+      @Override
+      public void saveOperation(IdempotentOperation operation) {
+        throw new IllegalStateException("Idempotency keys are not supported");
+      }
+    };
+  }
+
+  /**
+   * Outcome of an operation executed under an idempotency key. The
+   * fingerprint identifies the request (operation, accounts and amount), so a
+   * key reused for a different request can be told apart from a retry.
+   */
+  record IdempotentOperation(String idempotencyKey, String fingerprint, Transaction transaction) {
+  }
+}
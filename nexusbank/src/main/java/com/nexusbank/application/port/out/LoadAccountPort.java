@@ -0,0 +1,44 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.Account;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface LoadAccountPort {
+  /**
+   * Loads an account by its identifier.
+   * 
+   * @param accountId Account identifier
+   * @return The account, or empty if it does not exist
+   */
+  Optional<Account> loadAccount(String accountId);
+
+  /**
+   * Loads an account that is about to be modified within the current unit of
+   * work. Depending on the configured concurrency strategy the row is either
+   * locked until commit or its version is checked when the changes are saved.
+   * 
+   * @param accountId Account identifier
+   * @return The account, or empty if it does not exist
+   */
+  Optional<Account> loadAccountForUpdate(String accountId);
+
+  /**
+   * Loads several accounts that are about to be modified, in a single query.
+   * Ids that do not exist are simply missing from the result.
+   * 
+   * @param accountIds Account identifiers
+   * @return The accounts found
+   */
+  List<Account> loadAccountsForUpdate(Collection<String> accountIds);
+
+  /**
+   * Loads all the accounts owned by a user.
+   * 
+   * @param userId Owner's identifier
+   * @return Accounts of the user
+   */
+  List<Account> loadAccountsByUserId(String userId);
+}
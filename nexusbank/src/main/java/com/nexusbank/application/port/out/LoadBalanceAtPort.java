@@ -0,0 +1,18 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.Money;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface LoadBalanceAtPort {
+  /**
+   * Balance of an account at a point in time: every completed transaction in
+   * which it takes part, as source or target, created before {@code at}.
+   * 
+   * @param accountId Account identifier
+   * @param at        Point in time (exclusive)
+   * @return The balance, or empty if the account does not exist
+   */
+  Optional<Money> loadBalanceAt(String accountId, LocalDateTime at);
+}
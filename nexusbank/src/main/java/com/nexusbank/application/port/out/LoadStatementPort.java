@@ -0,0 +1,30 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface LoadStatementPort {
+  /**
+   * Reads the statement of an account from a single consistent snapshot: its
+   * balance at {@code from} and the transactions in which it takes part, as
+   * source or target, created in {@code [from, to)} and ordered by
+   * {@code (createdAt, id)} ascending. The transactions are fetched in chunks
+   * as the reader consumes the stream, so they are never all in memory; the
+   * stream is only valid while the reader runs.
+   * 
+   * @param accountId Account identifier
+   * @param from      Start of the period (inclusive), or {@code null}
+   * @param to        End of the period (exclusive), or {@code null}
+   * @param reader    Consumer of the opening balance and the transactions
+   * @return {@code false} if the account does not exist
+   */
+  boolean readStatement(String accountId, LocalDateTime from, LocalDateTime to, StatementReader reader);
+
+  @FunctionalInterface
+  interface StatementReader {
+    void read(Money openingBalance, Stream<Transaction> transactions);
+  }
+}
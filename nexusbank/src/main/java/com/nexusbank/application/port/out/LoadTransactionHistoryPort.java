@@ -0,0 +1,37 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface LoadTransactionHistoryPort {
+  /**
+   * Loads the transactions in which an account takes part, as source or
+   * target, ordered by {@code (createdAt, id)} descending. Uses keyset
+   * pagination: the cost does not depend on how deep the page is.
+   * 
+   * @param accountId Account identifier
+   * @param filter    Optional filters
+   * @param after     Position of the last row of the previous page, or
+   *                  {@code null} for the first page
+   * @param limit     Maximum number of transactions to return
+   * @return Transactions strictly after {@code after}
+   */
+  List<Transaction> loadTransactionHistory(String accountId, HistoryFilter filter, HistoryPosition after, int limit);
+
+  /**
+   * Filters by type, status and creation date ({@code from} inclusive,
+   * {@code to} exclusive). {@code null} fields are not applied.
+   */
+  record HistoryFilter(TransactionType type, TransactionStatus status, LocalDateTime from, LocalDateTime to) {
+  }
+
+  /**
+   * Sort key of a history row.
+   */
+  record HistoryPosition(LocalDateTime createdAt, String transactionId) {
+  }
+}
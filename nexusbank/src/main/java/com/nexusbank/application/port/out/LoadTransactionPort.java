@@ -0,0 +1,15 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.Transaction;
+
+import java.util.Optional;
+
+public interface LoadTransactionPort {
+  /**
+   * Loads a recorded transaction by its identifier.
+   * 
+   * @param transactionId Transaction identifier
+   * @return The transaction, or empty if it does not exist
+   */
+  Optional<Transaction> loadTransaction(String transactionId);
+}
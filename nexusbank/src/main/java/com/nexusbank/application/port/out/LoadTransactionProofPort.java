@@ -0,0 +1,17 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.TransactionProof;
+
+import java.util.Optional;
+
+public interface LoadTransactionProofPort {
+  /**
+   * Loads the inclusion proof of a transaction whose batch root has been
+   * anchored on chain.
+   * 
+   * @param transactionId Transaction identifier
+   * @return The proof, or empty if the transaction does not exist or its
+   *         batch is not anchored yet
+   */
+  Optional<TransactionProof> loadTransactionProof(String transactionId);
+}
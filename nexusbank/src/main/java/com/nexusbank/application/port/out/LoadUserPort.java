@@ -0,0 +1,23 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.User;
+
+import java.util.Optional;
+
+public interface LoadUserPort {
+  /**
+   * Loads a user by its identifier.
+   * 
+   * @param userId User identifier
+   * @return The user, or empty if it does not exist
+   */
+  Optional<User> loadUser(String userId);
+
+  /**
+   * Finds a user by email.
+   * 
+   * @param email Email address
+   * @return The user, or empty if no user has that email
+   */
+  Optional<User> findUserByEmail(String email);
+}
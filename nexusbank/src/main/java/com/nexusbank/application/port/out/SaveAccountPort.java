@@ -0,0 +1,13 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.Account;
+
+public interface SaveAccountPort {
+  /**
+   * Persists the current state of an account.
+   * 
+   * @param account Account to persist
+   * @return The persisted account
+   */
+  Account saveAccount(Account account);
+}
@@ -0,0 +1,23 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.Transaction;
+
+import java.util.List;
+
+public interface SaveTransactionPort {
+  /**
+   * Persists a transaction.
+   * 
+   * @param transaction Transaction to persist
+   * @return The persisted transaction
+   */
+  Transaction saveTransaction(Transaction transaction);
+
+  /**
+   * Loads the transactions originated by an account.
+   * 
+   * @param accountId Account identifier
+   * @return Transactions of the account
+   */
+  List<Transaction> loadTransactionsByAccountId(String accountId);
+}
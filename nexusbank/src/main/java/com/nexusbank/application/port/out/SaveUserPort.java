@@ -0,0 +1,12 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.User;
+
+public interface SaveUserPort {
+  /**
+   * Persists a user.
+   * 
+   * @param user User to persist
+   */
+  void saveUser(User user);
+}
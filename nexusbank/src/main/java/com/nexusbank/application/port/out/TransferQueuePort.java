@@ -0,0 +1,54 @@
+package com.nexusbank.application.port.out;
+
+import com.nexusbank.domain.model.Transaction;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TransferQueuePort {
+  /**
+   * Adds a pending transfer to the durable settlement queue within the
+   * current unit of work.
+   * 
+   * @param transfer Transfer in PENDING status
+   */
+  void enqueue(Transaction transfer);
+
+  /**
+   * Claims the oldest pending transfers for the current unit of work. The
+   * claimed transfers stay locked until it ends, and transfers claimed by
+   * other units of work are skipped instead of waited for. A transfer is only
+   * returned if every older pending transfer of its two accounts is returned
+   * as well, so each account's transfers are settled in queue order.
+   * 
+   * @param limit Maximum number of transfers to claim
+   * @return Claimed transfers, oldest first
+   */
+  List<Transaction> claimBatch(int limit);
+
+  /**
+   * Claims a single pending transfer, regardless of its position in the
+   * queue.
+   * 
+   * @param transferId Transfer identifier
+   * @return The transfer, or empty if it is no longer queued or another unit
+   *         of work holds it
+   */
+  Optional<Transaction> claim(String transferId);
+
+  /**
+   * Removes settled transfers from the queue within the current unit of work.
+   * 
+   * @param transferIds Transfer identifiers
+   */
+  void remove(Collection<String> transferIds);
+
+  /**
+   * Loads a transfer that is still waiting to be settled.
+   * 
+   * @param transferId Transfer identifier
+   * @return The pending transfer, or empty if it is not queued
+   */
+  Optional<Transaction> loadPending(String transferId);
+}
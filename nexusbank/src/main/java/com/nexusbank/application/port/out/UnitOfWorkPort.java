@@ -0,0 +1,16 @@
+package com.nexusbank.application.port.out;
+
+import java.util.function.Supplier;
+
+public interface UnitOfWorkPort {
+  /**
+   * Runs the given work inside a single database transaction. If the
+   * transaction is aborted by a concurrent update the work is executed again,
+   * up to a bounded number of attempts, so it must not have side effects
+   * outside the transaction.
+   * 
+   * @param work Work to execute
+   * @return Result of the work
+   */
+  <T> T execute(Supplier<T> work);
+}
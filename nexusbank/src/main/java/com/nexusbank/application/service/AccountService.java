@@ -2,43 +2,47 @@ package com.nexusbank.application.service;
 
 import com.nexusbank.application.port.in.CreateAccountUseCase;
 import com.nexusbank.application.port.in.GetAccountUseCase;
+import com.nexusbank.application.port.out.IdGeneratorPort;
 import com.nexusbank.application.port.out.LoadAccountPort;
 import com.nexusbank.application.port.out.LoadUserPort;
 import com.nexusbank.application.port.out.SaveAccountPort;
 import com.nexusbank.domain.exception.AccountNotFoundException;
 import com.nexusbank.domain.exception.UserNotFoundException;
 import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Currency;
 import com.nexusbank.domain.model.Money;
 
+import java.math.BigDecimal;
 import java.util.List;
-import java.util.UUID;
 
 public class AccountService implements CreateAccountUseCase, GetAccountUseCase {
 
   private final SaveAccountPort saveAccountPort;
   private final LoadAccountPort loadAccountPort;
   private final LoadUserPort loadUserPort;
+  private final IdGeneratorPort idGeneratorPort;
 
-  public AccountService(SaveAccountPort saveAccountPort, LoadAccountPort loadAccountPort, LoadUserPort loadUserPort) {
+  public AccountService(SaveAccountPort saveAccountPort, LoadAccountPort loadAccountPort, LoadUserPort loadUserPort,
+      IdGeneratorPort idGeneratorPort) {
     this.saveAccountPort = saveAccountPort;
     this.loadAccountPort = loadAccountPort;
     this.loadUserPort = loadUserPort;
+    this.idGeneratorPort = idGeneratorPort;
   }
 
   @Override
-  public Account createAccount(String userId, Double initialDeposit) {
+  public Account createAccount(String userId, BigDecimal initialDeposit, Currency currency) {
     // Verificar que el usuario existe sin asignar a una variable
     loadUserPort.loadUser(userId)
         .orElseThrow(() -> new UserNotFoundException("User with id " + userId + " not found"));
 
-    // Crear una cuenta usando el factory method - asumimos USD como moneda
-    // predeterminada
-    String newAccountId = UUID.randomUUID().toString();
-    Account newAccount = Account.createNew(newAccountId, userId, "USD");
+    // Crear una cuenta usando el factory method en la moneda solicitada
+    String newAccountId = idGeneratorPort.nextId();
+    Account newAccount = Account.createNew(newAccountId, userId, currency);
 
     // Si hay un depósito inicial, realizarlo
-    if (initialDeposit != null && initialDeposit > 0) {
-      newAccount.deposit(new Money(initialDeposit, "USD"));
+    if (initialDeposit != null && initialDeposit.signum() > 0) {
+      newAccount.deposit(new Money(initialDeposit, currency));
     }
 
     return saveAccountPort.saveAccount(newAccount);
@@ -0,0 +1,65 @@
+package com.nexusbank.application.service;
+
+import com.nexusbank.application.port.in.ExportStatementUseCase;
+import com.nexusbank.application.port.in.GetBalanceAtUseCase;
+import com.nexusbank.application.port.out.LoadBalanceAtPort;
+import com.nexusbank.application.port.out.LoadStatementPort;
+import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Posting;
+import com.nexusbank.domain.model.Transaction;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public class AccountStatementService implements ExportStatementUseCase, GetBalanceAtUseCase {
+
+  private final LoadStatementPort loadStatementPort;
+  private final LoadBalanceAtPort loadBalanceAtPort;
+
+  public AccountStatementService(LoadStatementPort loadStatementPort, LoadBalanceAtPort loadBalanceAtPort) {
+    this.loadStatementPort = loadStatementPort;
+    this.loadBalanceAtPort = loadBalanceAtPort;
+  }
+
+  @Override
+  public void exportStatement(StatementQuery query, Consumer<StatementLine> sink) {
+    String accountId = query.accountId();
+    boolean found = loadStatementPort.readStatement(accountId, query.from(), query.to(),
+        (openingBalance, transactions) -> {
+          Money balance = openingBalance;
+          Iterator<Transaction> rows = transactions.iterator();
+          while (rows.hasNext()) {
+            Transaction transaction = rows.next();
+            Money change = changeOf(transaction, accountId);
+            balance = balance.add(change);
+            sink.accept(new StatementLine(transaction, change, balance));
+          }
+        });
+
+    if (!found) {
+      throw new AccountNotFoundException("Account with id " + accountId + " not found");
+    }
+  }
+
+  @Override
+  public Money getBalanceAt(String accountId, LocalDateTime at) {
+    return loadBalanceAtPort.loadBalanceAt(accountId, at == null ? LocalDateTime.now() : at)
+        .orElseThrow(() -> new AccountNotFoundException("Account with id " + accountId + " not found"));
+  }
+
+  /**
+   * Effect of the transaction on the account: its posting on that account,
+   * which only completed transactions have.
+   */
+  static Money changeOf(Transaction transaction, String accountId) {
+    Money change = Money.zero(transaction.getAmount().getCurrencyUnit());
+    for (Posting posting : transaction.getPostings()) {
+      if (posting.accountId().equals(accountId)) {
+        change = change.add(posting.amount());
+      }
+    }
+    return change;
+  }
+}
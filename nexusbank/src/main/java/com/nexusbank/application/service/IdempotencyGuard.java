@@ -0,0 +1,128 @@
+package com.nexusbank.application.service;
+
+import com.nexusbank.application.port.out.IdempotencyPort;
+import com.nexusbank.application.port.out.IdempotencyPort.IdempotentOperation;
+import com.nexusbank.domain.exception.DuplicateIdempotencyKeyException;
+import com.nexusbank.domain.exception.IdempotencyKeyReusedException;
+import com.nexusbank.domain.exception.InvalidIdempotencyKeyException;
+import com.nexusbank.domain.model.Transaction;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Executes the work behind an idempotency key at most once. A key with a
+ * recorded outcome is answered from the record without running the work, and
+ * duplicates that arrive while the first execution is still running wait for
+ * its result instead of racing it. The work records its outcome through
+ * {@link #record} inside its own unit of work, so the record is durable
+ * exactly when the money movement is.
+ *
+ * The in-flight table only covers this JVM. Across instances the durable
+ * record is unique per key: one execution commits, the others are rolled back
+ * and answer with the committed outcome.
+ */
+class IdempotencyGuard {
+
+  static final int MAX_KEY_LENGTH = 255;
+
+  private final IdempotencyPort idempotencyPort;
+  private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+  IdempotencyGuard(IdempotencyPort idempotencyPort) {
+    this.idempotencyPort = idempotencyPort;
+  }
+
+  Transaction execute(String idempotencyKey, String fingerprint, Supplier<Transaction> work) {
+    if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+      throw new InvalidIdempotencyKeyException(MAX_KEY_LENGTH);
+    }
+
+    Optional<IdempotentOperation> recorded = idempotencyPort.loadOperation(idempotencyKey);
+    if (recorded.isPresent()) {
+      return replay(recorded.get(), fingerprint);
+    }
+
+    InFlight execution = new InFlight(fingerprint);
+    InFlight running = inFlight.putIfAbsent(idempotencyKey, execution);
+    if (running != null) {
+      return await(idempotencyKey, running, fingerprint);
+    }
+
+    try {
+      Transaction transaction = run(idempotencyKey, fingerprint, work);
+      execution.result.complete(transaction);
+      return transaction;
+    } catch (RuntimeException e) {
+      execution.result.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(idempotencyKey, execution);
+    }
+  }
+
+  /**
+   * Records the outcome of the work. Must be called inside the unit of work
+   * that moves the money.
+   */
+  Transaction record(String idempotencyKey, String fingerprint, Transaction transaction) {
+    idempotencyPort.saveOperation(new IdempotentOperation(idempotencyKey, fingerprint, transaction));
+    return transaction;
+  }
+
+  int inFlightCount() {
+    return inFlight.size();
+  }
+
+  private Transaction run(String idempotencyKey, String fingerprint, Supplier<Transaction> work) {
+    // Otra ejecución pudo terminar entre la primera consulta y el alta en la
+    // tabla de ejecuciones en curso
+    Optional<IdempotentOperation> recorded = idempotencyPort.loadOperation(idempotencyKey);
+    if (recorded.isPresent()) {
+      return replay(recorded.get(), fingerprint);
+    }
+    try {
+      return work.get();
+    } catch (DuplicateIdempotencyKeyException e) {
+      // Otra instancia confirmó la misma clave y esta unidad de trabajo se
+      // deshizo: se responde con el resultado confirmado
+      return idempotencyPort.loadOperation(idempotencyKey)
+          .map(operation -> replay(operation, fingerprint))
+          .orElseThrow(() -> e);
+    }
+  }
+
+  private Transaction await(String idempotencyKey, InFlight running, String fingerprint) {
+    if (!running.fingerprint.equals(fingerprint)) {
+      throw new IdempotencyKeyReusedException(idempotencyKey);
+    }
+    try {
+      return running.result.join();
+    } catch (CompletionException e) {
+      // Los duplicados reciben el mismo error que la primera ejecución
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private Transaction replay(IdempotentOperation operation, String fingerprint) {
+    if (!operation.fingerprint().equals(fingerprint)) {
+      throw new IdempotencyKeyReusedException(operation.idempotencyKey());
+    }
+    return operation.transaction();
+  }
+
+  private static final class InFlight {
+    private final String fingerprint;
+    private final CompletableFuture<Transaction> result = new CompletableFuture<>();
+
+    private InFlight(String fingerprint) {
+      this.fingerprint = fingerprint;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.nexusbank.application.service;
+
+import com.nexusbank.application.port.in.GetTransactionHistoryUseCase;
+import com.nexusbank.application.port.out.LoadAccountPort;
+import com.nexusbank.application.port.out.LoadTransactionHistoryPort;
+import com.nexusbank.application.port.out.LoadTransactionHistoryPort.HistoryFilter;
+import com.nexusbank.application.port.out.LoadTransactionHistoryPort.HistoryPosition;
+import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.InvalidCursorException;
+import com.nexusbank.domain.model.Transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+public class TransactionHistoryService implements GetTransactionHistoryUseCase {
+
+  private final LoadAccountPort loadAccountPort;
+  private final LoadTransactionHistoryPort loadTransactionHistoryPort;
+
+  public TransactionHistoryService(LoadAccountPort loadAccountPort,
+      LoadTransactionHistoryPort loadTransactionHistoryPort) {
+    this.loadAccountPort = loadAccountPort;
+    this.loadTransactionHistoryPort = loadTransactionHistoryPort;
+  }
+
+  @Override
+  public TransactionHistoryPage getTransactionHistory(TransactionHistoryQuery query) {
+    loadAccountPort.loadAccount(query.accountId())
+        .orElseThrow(() -> new AccountNotFoundException("Account with id " + query.accountId() + " not found"));
+
+    int limit = query.limit() == null || query.limit() <= 0
+        ? DEFAULT_PAGE_SIZE
+        : Math.min(query.limit(), MAX_PAGE_SIZE);
+    HistoryPosition after = query.cursor() == null || query.cursor().isBlank() ? null : decode(query.cursor());
+
+    // Se pide una fila de más para saber si hay otra página sin un COUNT
+    List<Transaction> rows = loadTransactionHistoryPort.loadTransactionHistory(
+        query.accountId(),
+        new HistoryFilter(query.type(), query.status(), query.from(), query.to()),
+        after,
+        limit + 1);
+
+    if (rows.size() <= limit) {
+      return new TransactionHistoryPage(rows, null);
+    }
+    List<Transaction> page = rows.subList(0, limit);
+    Transaction last = page.get(limit - 1);
+    return new TransactionHistoryPage(page, encode(new HistoryPosition(last.getCreatedAt(), last.getId())));
+  }
+
+  /**
+   * Opaque cursor: the sort key of the last row, Base64url-encoded so clients
+   * don't depend on its format.
+   */
+  static String encode(HistoryPosition position) {
+    String raw = position.createdAt() + "|" + position.transactionId();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static HistoryPosition decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf('|');
+      if (separator <= 0 || separator == raw.length() - 1) {
+        throw new InvalidCursorException(cursor);
+      }
+      return new HistoryPosition(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidCursorException(cursor);
+    }
+  }
+}
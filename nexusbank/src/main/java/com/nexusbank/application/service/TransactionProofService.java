@@ -0,0 +1,36 @@
+package com.nexusbank.application.service;
+
+import com.nexusbank.application.port.in.GetTransactionProofUseCase;
+import com.nexusbank.application.port.out.LoadTransactionPort;
+import com.nexusbank.application.port.out.LoadTransactionProofPort;
+import com.nexusbank.application.port.out.TransferQueuePort;
+import com.nexusbank.domain.exception.TransactionNotAnchoredException;
+import com.nexusbank.domain.exception.TransactionNotFoundException;
+import com.nexusbank.domain.model.TransactionProof;
+
+public class TransactionProofService implements GetTransactionProofUseCase {
+
+  private final LoadTransactionProofPort loadTransactionProofPort;
+  private final TransferQueuePort transferQueuePort;
+  private final LoadTransactionPort loadTransactionPort;
+
+  public TransactionProofService(LoadTransactionProofPort loadTransactionProofPort,
+      TransferQueuePort transferQueuePort, LoadTransactionPort loadTransactionPort) {
+    this.loadTransactionProofPort = loadTransactionProofPort;
+    this.transferQueuePort = transferQueuePort;
+    this.loadTransactionPort = loadTransactionPort;
+  }
+
+  @Override
+  public TransactionProof getTransactionProof(String transactionId) {
+    return loadTransactionProofPort.loadTransactionProof(transactionId)
+        .orElseThrow(() -> {
+          // Sin prueba solo se consulta la transacción para elegir el error
+          boolean exists = transferQueuePort.loadPending(transactionId).isPresent()
+              || loadTransactionPort.loadTransaction(transactionId).isPresent();
+          return exists
+              ? new TransactionNotAnchoredException(transactionId)
+              : new TransactionNotFoundException(transactionId);
+        });
+  }
+}
@@ -1,66 +1,206 @@
 package com.nexusbank.application.service;
 
+import com.nexusbank.application.port.in.BatchTransferUseCase;
 import com.nexusbank.application.port.in.DepositMoneyUseCase;
 import com.nexusbank.application.port.in.TransferMoneyUseCase;
+import com.nexusbank.application.port.out.AccountLockPort;
+import com.nexusbank.application.port.out.AccountLockPort.AccountLock;
+import com.nexusbank.application.port.out.AdjustBalancePort;
+import com.nexusbank.application.port.out.AdjustBalancePort.BalanceAdjustment;
+import com.nexusbank.application.port.out.BalanceShardPort;
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import com.nexusbank.application.port.out.IdempotencyPort;
 import com.nexusbank.application.port.out.LoadAccountPort;
-import com.nexusbank.application.port.out.SaveAccountPort;
-import com.nexusbank.application.port.out.SaveTransactionPort;
+import com.nexusbank.application.port.out.UnitOfWorkPort;
 import com.nexusbank.domain.exception.AccountNotFoundException;
 import com.nexusbank.domain.exception.InsufficientBalanceException;
 import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Currency;
 import com.nexusbank.domain.model.Money;
 import com.nexusbank.domain.model.Transaction;
 
-import java.util.UUID;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
-public class TransactionService implements DepositMoneyUseCase, TransferMoneyUseCase {
+public class TransactionService implements DepositMoneyUseCase, TransferMoneyUseCase, BatchTransferUseCase {
 
   private final LoadAccountPort loadAccountPort;
-  private final SaveAccountPort saveAccountPort;
-  private final SaveTransactionPort saveTransactionPort;
+  private final AdjustBalancePort adjustBalancePort;
+  private final AccountLockPort accountLockPort;
+  private final UnitOfWorkPort unitOfWorkPort;
+  private final IdempotencyGuard idempotencyGuard;
+  private final IdGeneratorPort idGeneratorPort;
+  private final BalanceShardPort balanceShardPort;
 
-  public TransactionService(LoadAccountPort loadAccountPort, SaveAccountPort saveAccountPort,
-      SaveTransactionPort saveTransactionPort) {
+  public TransactionService(LoadAccountPort loadAccountPort, AdjustBalancePort adjustBalancePort,
+      AccountLockPort accountLockPort, UnitOfWorkPort unitOfWorkPort, IdempotencyPort idempotencyPort,
+      IdGeneratorPort idGeneratorPort, BalanceShardPort balanceShardPort) {
     this.loadAccountPort = loadAccountPort;
-    this.saveAccountPort = saveAccountPort;
-    this.saveTransactionPort = saveTransactionPort;
+    this.adjustBalancePort = adjustBalancePort;
+    this.accountLockPort = accountLockPort;
+    this.unitOfWorkPort = unitOfWorkPort;
+    this.idempotencyGuard = new IdempotencyGuard(idempotencyPort);
+    this.idGeneratorPort = idGeneratorPort;
+    this.balanceShardPort = balanceShardPort;
   }
 
   @Override
-  public Transaction depositMoney(String accountId, Double amount) {
-    Account account = loadAccountPort.loadAccount(accountId)
-        .orElseThrow(() -> new AccountNotFoundException("Account with id " + accountId + " not found"));
+  public Transaction depositMoney(String accountId, BigDecimal amount) {
+    // Serializa las operaciones concurrentes sobre la misma cuenta (salvo los
+    // abonos que el libro mayor aplica sin contención); la transacción se
+    // confirma antes de liberar el lock
+    boolean lockFree = isLockFreeCredit(accountId);
+    try (AccountLock ignored = lockForDeposit(accountId, lockFree)) {
+      return unitOfWorkPort.execute(() -> deposit(accountId, amount, lockFree));
+    }
+  }
+
+  @Override
+  public List<Transaction> depositBatch(String accountId, List<BigDecimal> amounts) {
+    if (amounts.isEmpty()) {
+      return List.of();
+    }
+    boolean lockFree = isLockFreeCredit(accountId);
+    try (AccountLock ignored = lockForDeposit(accountId, lockFree)) {
+      return unitOfWorkPort.execute(() -> depositAll(accountId, amounts, lockFree));
+    }
+  }
+
+  @Override
+  public Transaction transferMoney(String sourceAccountId, String targetAccountId, BigDecimal amount) {
+    // Bloquea ambas cuentas en orden canónico para evitar interbloqueos
+    try (AccountLock ignored = accountLockPort.lock(sourceAccountId, targetAccountId)) {
+      return unitOfWorkPort.execute(() -> transfer(sourceAccountId, targetAccountId, amount));
+    }
+  }
+
+  @Override
+  public Transaction depositMoney(String accountId, BigDecimal amount, String idempotencyKey) {
+    String fingerprint = "deposit|" + accountId + "|" + canonical(amount);
+
+    // Un reintento con la misma clave se responde sin cargar la cuenta
+    return idempotencyGuard.execute(idempotencyKey, fingerprint, () -> {
+      boolean lockFree = isLockFreeCredit(accountId);
+      try (AccountLock ignored = lockForDeposit(accountId, lockFree)) {
+        return unitOfWorkPort.execute(
+            () -> idempotencyGuard.record(idempotencyKey, fingerprint, deposit(accountId, amount, lockFree)));
+      }
+    });
+  }
+
+  @Override
+  public Transaction transferMoney(String sourceAccountId, String targetAccountId, BigDecimal amount,
+      String idempotencyKey) {
+    String fingerprint = "transfer|" + sourceAccountId + "|" + targetAccountId + "|" + canonical(amount);
+
+    return idempotencyGuard.execute(idempotencyKey, fingerprint, () -> {
+      try (AccountLock ignored = accountLockPort.lock(sourceAccountId, targetAccountId)) {
+        return unitOfWorkPort.execute(() -> idempotencyGuard.record(idempotencyKey, fingerprint,
+            transfer(sourceAccountId, targetAccountId, amount)));
+      }
+    });
+  }
+
+  @Override
+  public List<TransferResult> transferBatch(List<TransferInstruction> instructions) {
+    Set<String> accountIds = new HashSet<>();
+    for (TransferInstruction instruction : instructions) {
+      accountIds.add(instruction.sourceAccountId());
+      accountIds.add(instruction.targetAccountId());
+    }
+
+    // Todas las cuentas del lote se bloquean de una vez en orden canónico
+    try (AccountLock ignored = accountLockPort.lockAll(accountIds)) {
+      return unitOfWorkPort.execute(() -> applyBatch(instructions, accountIds));
+    }
+  }
+
+  /**
+   * Credits that the ledger applies without row contention (journal inserts,
+   * or any of the sub-balance rows of a sharded account) do not wait on each
+   * other, so they skip the account lock.
+   */
+  private boolean isLockFreeCredit(String accountId) {
+    return !adjustBalancePort.creditsNeedAccountLock() || balanceShardPort.isSharded(accountId);
+  }
+
+  private AccountLock lockForDeposit(String accountId, boolean lockFree) {
+    return lockFree ? () -> {
+    } : accountLockPort.lock(accountId);
+  }
+
+  private Transaction deposit(String accountId, BigDecimal amount, boolean lockFree) {
+    Account account = loadForDeposit(accountId, lockFree);
 
     // Usar la moneda de la cuenta para el depósito
-    Money depositAmount = new Money(amount, account.getBalance().getCurrency());
+    Money depositAmount = new Money(amount, account.getBalance().getCurrencyUnit());
     account.deposit(depositAmount);
 
-    saveAccountPort.saveAccount(account);
-
     // Usar el factory method en lugar del constructor directo
     Transaction transaction = Transaction.createDeposit(
-        UUID.randomUUID().toString(),
+        idGeneratorPort.nextId(),
         accountId,
         depositAmount);
 
-    return saveTransactionPort.saveTransaction(transaction);
+    // El saldo se actualiza en la base de datos con un UPDATE condicional, sin
+    // volver a guardar la entidad completa
+    return adjustBalancePort.adjustBalances(
+        List.of(BalanceAdjustment.credit(accountId, depositAmount)),
+        transaction);
   }
 
-  @Override
-  public Transaction transferMoney(String sourceAccountId, String targetAccountId, Double amount) {
-    Account sourceAccount = loadAccountPort.loadAccount(sourceAccountId)
+  private List<Transaction> depositAll(String accountId, List<BigDecimal> amounts, boolean lockFree) {
+    Account account = loadForDeposit(accountId, lockFree);
+    Currency currency = account.getBalance().getCurrencyUnit();
+
+    List<Transaction> transactions = new ArrayList<>(amounts.size());
+    Money total = Money.zero(currency);
+    for (BigDecimal amount : amounts) {
+      Money depositAmount = new Money(amount, currency);
+      account.deposit(depositAmount);
+      transactions.add(Transaction.createDeposit(idGeneratorPort.nextId(), accountId, depositAmount));
+      total = total.add(depositAmount);
+    }
+
+    // Un solo abono por la suma, enviado junto con los inserts de las
+    // transacciones en lotes JDBC
+    adjustBalancePort.adjustBalances(List.of(BalanceAdjustment.credit(accountId, total)), transactions);
+    return transactions;
+  }
+
+  private Account loadForDeposit(String accountId, boolean lockFree) {
+    // Un abono sin bloqueo no lee la cuenta con FOR UPDATE: solo necesita su
+    // moneda, y el libro mayor vuelve a comprobar que sigue activa al aplicarlo
+    Optional<Account> loaded = lockFree
+        ? loadAccountPort.loadAccount(accountId)
+        : loadAccountPort.loadAccountForUpdate(accountId);
+    return loaded
+        .orElseThrow(() -> new AccountNotFoundException("Account with id " + accountId + " not found"));
+  }
+
+  private Transaction transfer(String sourceAccountId, String targetAccountId, BigDecimal amount) {
+    Account sourceAccount = loadAccountPort.loadAccountForUpdate(sourceAccountId)
         .orElseThrow(() -> new AccountNotFoundException("Source account with id " + sourceAccountId + " not found"));
 
-    Account targetAccount = loadAccountPort.loadAccount(targetAccountId)
+    Account targetAccount = loadAccountPort.loadAccountForUpdate(targetAccountId)
         .orElseThrow(() -> new AccountNotFoundException("Target account with id " + targetAccountId + " not found"));
 
     // Verificar que ambas cuentas usen la misma moneda
-    if (!sourceAccount.getBalance().getCurrency().equals(targetAccount.getBalance().getCurrency())) {
+    if (sourceAccount.getBalance().getCurrencyUnit() != targetAccount.getBalance().getCurrencyUnit()) {
       throw new IllegalArgumentException("Cannot transfer between accounts with different currencies");
     }
 
-    Money transferAmount = new Money(amount, sourceAccount.getBalance().getCurrency());
+    Money transferAmount = new Money(amount, sourceAccount.getBalance().getCurrencyUnit());
 
+    // Comprobación temprana; la definitiva la hace la base de datos de forma
+    // atómica al aplicar el cargo
     if (sourceAccount.getBalance().isLessThan(transferAmount)) {
       throw new InsufficientBalanceException("Insufficient balance in account " + sourceAccountId);
     }
@@ -68,16 +208,104 @@ public class TransactionService implements DepositMoneyUseCase, TransferMoneyUse
     sourceAccount.withdraw(transferAmount);
     targetAccount.deposit(transferAmount);
 
-    saveAccountPort.saveAccount(sourceAccount);
-    saveAccountPort.saveAccount(targetAccount);
-
     // Usar el factory method en lugar del constructor directo
     Transaction transaction = Transaction.createTransfer(
-        UUID.randomUUID().toString(),
+        idGeneratorPort.nextId(),
         sourceAccountId,
         targetAccountId,
         transferAmount);
 
-    return saveTransactionPort.saveTransaction(transaction);
+    return adjustBalancePort.adjustBalances(
+        List.of(
+            BalanceAdjustment.debit(sourceAccountId, transferAmount),
+            BalanceAdjustment.credit(targetAccountId, transferAmount)),
+        transaction);
+  }
+
+  private List<TransferResult> applyBatch(List<TransferInstruction> instructions, Set<String> accountIds) {
+    // Una sola consulta para todas las cuentas del lote
+    Map<String, Account> accounts = new HashMap<>();
+    for (Account account : loadAccountPort.loadAccountsForUpdate(accountIds)) {
+      accounts.put(account.getId(), account);
+    }
+
+    List<TransferResult> results = new ArrayList<>(instructions.size());
+    List<Transaction> transactions = new ArrayList<>();
+    Map<String, Money> netDeltas = new LinkedHashMap<>();
+
+    for (int i = 0; i < instructions.size(); i++) {
+      TransferInstruction instruction = instructions.get(i);
+      try {
+        Transaction transaction = applyInMemory(instruction, accounts);
+        transactions.add(transaction);
+        netDeltas.merge(instruction.sourceAccountId(), transaction.getAmount().negate(), Money::add);
+        netDeltas.merge(instruction.targetAccountId(), transaction.getAmount(), Money::add);
+        results.add(TransferResult.completed(i, transaction));
+      } catch (AccountNotFoundException | InsufficientBalanceException | IllegalArgumentException
+          | IllegalStateException e) {
+        results.add(TransferResult.failed(i, e.getMessage()));
+      }
+    }
+
+    if (!transactions.isEmpty()) {
+      // Un único ajuste neto por cuenta, enviado junto con los inserts de las
+      // transacciones en lotes JDBC
+      List<BalanceAdjustment> adjustments = new ArrayList<>();
+      netDeltas.forEach((accountId, delta) -> {
+        if (delta.getMinorUnits() != 0) {
+          adjustments.add(new BalanceAdjustment(accountId, delta));
+        }
+      });
+      adjustBalancePort.adjustBalances(adjustments, transactions);
+    }
+    return results;
+  }
+
+  private Transaction applyInMemory(TransferInstruction instruction, Map<String, Account> accounts) {
+    if (instruction.amount() == null || instruction.amount().signum() <= 0) {
+      throw new IllegalArgumentException("Amount must be greater than zero");
+    }
+    if (instruction.sourceAccountId().equals(instruction.targetAccountId())) {
+      throw new IllegalArgumentException("Source and target accounts must be different");
+    }
+
+    Account sourceAccount = accounts.get(instruction.sourceAccountId());
+    if (sourceAccount == null) {
+      throw new AccountNotFoundException("Source account with id " + instruction.sourceAccountId() + " not found");
+    }
+    Account targetAccount = accounts.get(instruction.targetAccountId());
+    if (targetAccount == null) {
+      throw new AccountNotFoundException("Target account with id " + instruction.targetAccountId() + " not found");
+    }
+
+    if (sourceAccount.getBalance().getCurrencyUnit() != targetAccount.getBalance().getCurrencyUnit()) {
+      throw new IllegalArgumentException("Cannot transfer between accounts with different currencies");
+    }
+    if (!targetAccount.isActive()) {
+      throw new IllegalStateException("Account is not active");
+    }
+
+    Money transferAmount = new Money(instruction.amount(), sourceAccount.getBalance().getCurrencyUnit());
+    if (sourceAccount.getBalance().isLessThan(transferAmount)) {
+      throw new InsufficientBalanceException("Insufficient balance in account " + instruction.sourceAccountId());
+    }
+
+    // Las validaciones previas garantizan que ninguna de las dos operaciones
+    // falla a medias
+    sourceAccount.withdraw(transferAmount);
+    targetAccount.deposit(transferAmount);
+
+    return Transaction.createTransfer(
+        idGeneratorPort.nextId(),
+        instruction.sourceAccountId(),
+        instruction.targetAccountId(),
+        transferAmount);
+  }
+
+  /**
+   * Same amount, same text: 10, 10.0 and 10.00 are the same request.
+   */
+  private static String canonical(BigDecimal amount) {
+    return amount == null ? "null" : amount.stripTrailingZeros().toPlainString();
   }
-}
\ No newline at end of file
+}
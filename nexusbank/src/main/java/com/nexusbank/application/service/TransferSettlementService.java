@@ -0,0 +1,245 @@
+package com.nexusbank.application.service;
+
+import com.nexusbank.application.port.in.GetTransactionUseCase;
+import com.nexusbank.application.port.in.SettleTransfersUseCase;
+import com.nexusbank.application.port.in.SubmitTransferUseCase;
+import com.nexusbank.application.port.out.AccountLockPort;
+import com.nexusbank.application.port.out.AccountLockPort.AccountLock;
+import com.nexusbank.application.port.out.AdjustBalancePort;
+import com.nexusbank.application.port.out.AdjustBalancePort.BalanceAdjustment;
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import com.nexusbank.application.port.out.IdempotencyPort;
+import com.nexusbank.application.port.out.LoadAccountPort;
+import com.nexusbank.application.port.out.LoadTransactionPort;
+import com.nexusbank.application.port.out.TransferQueuePort;
+import com.nexusbank.application.port.out.UnitOfWorkPort;
+import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.exception.TransactionNotFoundException;
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Transfers accepted as PENDING and settled later in batches. Accepting a
+ * transfer is a single insert into the settlement queue; settling takes the
+ * oldest queued transfers, applies them with one netted balance adjustment
+ * per account and records each one as COMPLETED or FAILED in the same unit of
+ * work that removes it from the queue.
+ */
+public class TransferSettlementService implements SubmitTransferUseCase, SettleTransfersUseCase,
+    GetTransactionUseCase {
+
+  static final String COMPLETED_DESCRIPTION = "Transfer between accounts";
+  static final int MAX_DESCRIPTION_LENGTH = 255;
+
+  private final LoadAccountPort loadAccountPort;
+  private final AdjustBalancePort adjustBalancePort;
+  private final AccountLockPort accountLockPort;
+  private final UnitOfWorkPort unitOfWorkPort;
+  private final TransferQueuePort transferQueuePort;
+  private final LoadTransactionPort loadTransactionPort;
+  private final IdempotencyGuard idempotencyGuard;
+  private final IdGeneratorPort idGeneratorPort;
+
+  public TransferSettlementService(LoadAccountPort loadAccountPort, AdjustBalancePort adjustBalancePort,
+      AccountLockPort accountLockPort, UnitOfWorkPort unitOfWorkPort, TransferQueuePort transferQueuePort,
+      LoadTransactionPort loadTransactionPort, IdempotencyPort idempotencyPort, IdGeneratorPort idGeneratorPort) {
+    this.loadAccountPort = loadAccountPort;
+    this.adjustBalancePort = adjustBalancePort;
+    this.accountLockPort = accountLockPort;
+    this.unitOfWorkPort = unitOfWorkPort;
+    this.transferQueuePort = transferQueuePort;
+    this.loadTransactionPort = loadTransactionPort;
+    this.idempotencyGuard = new IdempotencyGuard(idempotencyPort);
+    this.idGeneratorPort = idGeneratorPort;
+  }
+
+  @Override
+  public Transaction submitTransfer(String sourceAccountId, String targetAccountId, BigDecimal amount) {
+    return unitOfWorkPort.execute(() -> enqueue(sourceAccountId, targetAccountId, amount));
+  }
+
+  @Override
+  public Transaction submitTransfer(String sourceAccountId, String targetAccountId, BigDecimal amount,
+      String idempotencyKey) {
+    // Distinta de la huella de la transferencia síncrona: una clave no sirve
+    // para las dos
+    String fingerprint = "transfer-async|" + sourceAccountId + "|" + targetAccountId + "|"
+        + (amount == null ? "null" : amount.stripTrailingZeros().toPlainString());
+
+    return idempotencyGuard.execute(idempotencyKey, fingerprint, () -> unitOfWorkPort.execute(
+        () -> idempotencyGuard.record(idempotencyKey, fingerprint,
+            enqueue(sourceAccountId, targetAccountId, amount))));
+  }
+
+  @Override
+  public SettlementResult settlePendingTransfers(int maxTransfers) {
+    List<String> attempted = new ArrayList<>();
+    try {
+      return unitOfWorkPort.execute(() -> {
+        attempted.clear();
+        List<Transaction> batch = transferQueuePort.claimBatch(maxTransfers);
+        batch.forEach(transfer -> attempted.add(transfer.getId()));
+        return settle(batch);
+      });
+    } catch (AccountNotFoundException | InsufficientBalanceException | IllegalArgumentException
+        | IllegalStateException e) {
+      // La base de datos rechazó el lote aunque la validación en memoria lo
+      // diera por bueno (p. ej. un saldo que cambió en otro nodo): se liquida
+      // una a una para que solo falle la transferencia afectada
+      SettlementResult result = SettlementResult.EMPTY;
+      for (String transferId : attempted) {
+        result = result.plus(settleAlone(transferId));
+      }
+      return result;
+    }
+  }
+
+  @Override
+  public Transaction getTransactionById(String transactionId) {
+    // La cola se consulta primero: la liquidación borra la transferencia de la
+    // cola y la registra en el mismo commit, así que si ya no está en la cola
+    // está entre las transacciones
+    return transferQueuePort.loadPending(transactionId)
+        .or(() -> loadTransactionPort.loadTransaction(transactionId))
+        .orElseThrow(() -> new TransactionNotFoundException(transactionId));
+  }
+
+  private Transaction enqueue(String sourceAccountId, String targetAccountId, BigDecimal amount) {
+    if (amount == null || amount.signum() <= 0) {
+      throw new IllegalArgumentException("Amount must be greater than zero");
+    }
+    if (sourceAccountId.equals(targetAccountId)) {
+      throw new IllegalArgumentException("Source and target accounts must be different");
+    }
+
+    Account sourceAccount = loadAccountPort.loadAccount(sourceAccountId)
+        .orElseThrow(() -> new AccountNotFoundException("Source account with id " + sourceAccountId + " not found"));
+    Account targetAccount = loadAccountPort.loadAccount(targetAccountId)
+        .orElseThrow(() -> new AccountNotFoundException("Target account with id " + targetAccountId + " not found"));
+
+    if (sourceAccount.getBalance().getCurrencyUnit() != targetAccount.getBalance().getCurrencyUnit()) {
+      throw new IllegalArgumentException("Cannot transfer between accounts with different currencies");
+    }
+
+    Transaction transfer = Transaction.createPendingTransfer(
+        idGeneratorPort.nextId(),
+        sourceAccountId,
+        targetAccountId,
+        new Money(amount, sourceAccount.getBalance().getCurrencyUnit()));
+    transferQueuePort.enqueue(transfer);
+    return transfer;
+  }
+
+  private SettlementResult settle(List<Transaction> batch) {
+    if (batch.isEmpty()) {
+      return SettlementResult.EMPTY;
+    }
+
+    Set<String> accountIds = new HashSet<>();
+    for (Transaction transfer : batch) {
+      accountIds.add(transfer.getAccountId());
+      accountIds.add(transfer.getTargetAccountId());
+    }
+
+    // Excluye las operaciones síncronas sobre las mismas cuentas en este nodo
+    try (AccountLock ignored = accountLockPort.lockAll(accountIds)) {
+      Map<String, Account> accounts = new HashMap<>();
+      for (Account account : loadAccountPort.loadAccountsForUpdate(accountIds)) {
+        accounts.put(account.getId(), account);
+      }
+
+      int completed = 0;
+      Map<String, Money> netDeltas = new LinkedHashMap<>();
+      for (Transaction transfer : batch) {
+        try {
+          applyInMemory(transfer, accounts);
+          transfer.markAsCompleted();
+          transfer.updateDescription(COMPLETED_DESCRIPTION);
+          netDeltas.merge(transfer.getAccountId(), transfer.getAmount().negate(), Money::add);
+          netDeltas.merge(transfer.getTargetAccountId(), transfer.getAmount(), Money::add);
+          completed++;
+        } catch (AccountNotFoundException | InsufficientBalanceException | IllegalArgumentException
+            | IllegalStateException e) {
+          fail(transfer, e);
+        }
+      }
+
+      // Las fallidas no tienen asientos: solo se registra su estado
+      List<BalanceAdjustment> adjustments = new ArrayList<>();
+      netDeltas.forEach((accountId, delta) -> {
+        if (delta.getMinorUnits() != 0) {
+          adjustments.add(new BalanceAdjustment(accountId, delta));
+        }
+      });
+      adjustBalancePort.adjustBalances(adjustments, batch);
+      transferQueuePort.remove(batch.stream().map(Transaction::getId).toList());
+
+      return new SettlementResult(batch.size(), completed, batch.size() - completed);
+    }
+  }
+
+  private SettlementResult settleAlone(String transferId) {
+    try {
+      return unitOfWorkPort.execute(() -> settle(transferQueuePort.claim(transferId).stream().toList()));
+    } catch (AccountNotFoundException | InsufficientBalanceException | IllegalArgumentException
+        | IllegalStateException e) {
+      // Se registra el fallo en una unidad de trabajo nueva; la anterior se
+      // deshizo entera
+      return unitOfWorkPort.execute(() -> transferQueuePort.claim(transferId)
+          .map(transfer -> {
+            fail(transfer, e);
+            adjustBalancePort.adjustBalances(List.of(), List.of(transfer));
+            transferQueuePort.remove(List.of(transferId));
+            return new SettlementResult(1, 0, 1);
+          })
+          .orElse(SettlementResult.EMPTY));
+    }
+  }
+
+  private void applyInMemory(Transaction transfer, Map<String, Account> accounts) {
+    Account sourceAccount = accounts.get(transfer.getAccountId());
+    if (sourceAccount == null) {
+      throw new AccountNotFoundException("Source account with id " + transfer.getAccountId() + " not found");
+    }
+    Account targetAccount = accounts.get(transfer.getTargetAccountId());
+    if (targetAccount == null) {
+      throw new AccountNotFoundException("Target account with id " + transfer.getTargetAccountId() + " not found");
+    }
+
+    if (sourceAccount.getBalance().getCurrencyUnit() != transfer.getAmount().getCurrencyUnit()
+        || targetAccount.getBalance().getCurrencyUnit() != transfer.getAmount().getCurrencyUnit()) {
+      throw new IllegalArgumentException("Cannot transfer between accounts with different currencies");
+    }
+    if (!targetAccount.isActive()) {
+      throw new IllegalStateException("Account is not active");
+    }
+    if (sourceAccount.getBalance().isLessThan(transfer.getAmount())) {
+      throw new InsufficientBalanceException("Insufficient balance in account " + transfer.getAccountId());
+    }
+
+    // Las validaciones previas garantizan que ninguna de las dos operaciones
+    // falla a medias; los saldos en memoria sirven para validar las siguientes
+    // transferencias del lote
+    sourceAccount.withdraw(transfer.getAmount());
+    targetAccount.deposit(transfer.getAmount());
+  }
+
+  private static void fail(Transaction transfer, RuntimeException cause) {
+    String reason = "Transfer failed: " + cause.getMessage();
+    transfer.markAsFailed();
+    transfer.updateDescription(reason.length() > MAX_DESCRIPTION_LENGTH
+        ? reason.substring(0, MAX_DESCRIPTION_LENGTH)
+        : reason);
+  }
+}
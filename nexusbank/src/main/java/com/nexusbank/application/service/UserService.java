@@ -1,20 +1,21 @@
 package com.nexusbank.application.service;
 
 import com.nexusbank.application.port.in.CreateUserUseCase;
+import com.nexusbank.application.port.out.IdGeneratorPort;
 import com.nexusbank.application.port.out.LoadUserPort;
 import com.nexusbank.application.port.out.SaveUserPort;
 import com.nexusbank.domain.model.User;
 
-import java.util.UUID;
-
 public class UserService implements CreateUserUseCase {
 
   private final SaveUserPort saveUserPort;
   private final LoadUserPort loadUserPort;
+  private final IdGeneratorPort idGeneratorPort;
 
-  public UserService(SaveUserPort saveUserPort, LoadUserPort loadUserPort) {
+  public UserService(SaveUserPort saveUserPort, LoadUserPort loadUserPort, IdGeneratorPort idGeneratorPort) {
     this.saveUserPort = saveUserPort;
     this.loadUserPort = loadUserPort;
+    this.idGeneratorPort = idGeneratorPort;
   }
 
   @Override
@@ -26,7 +27,7 @@ public class UserService implements CreateUserUseCase {
         });
 
     // Generate unique ID
-    String userId = UUID.randomUUID().toString();
+    String userId = idGeneratorPort.nextId();
 
     // Hash password (for development purposes)
     String passwordHash = hashPassword(command.password());
@@ -0,0 +1,8 @@
+package com.nexusbank.domain.exception;
+
+public class AccountLockTimeoutException extends RuntimeException {
+
+  public AccountLockTimeoutException(String accountId) {
+    super("Timed out waiting for concurrent operations on account " + accountId);
+  }
+}
@@ -0,0 +1,8 @@
+package com.nexusbank.domain.exception;
+
+public class ConcurrentUpdateException extends RuntimeException {
+
+  public ConcurrentUpdateException(int attempts, Throwable cause) {
+    super("Operation aborted by concurrent updates after " + attempts + " attempts", cause);
+  }
+}
@@ -0,0 +1,8 @@
+package com.nexusbank.domain.exception;
+
+public class DuplicateIdempotencyKeyException extends RuntimeException {
+
+  public DuplicateIdempotencyKeyException(String idempotencyKey, Throwable cause) {
+    super("Idempotency key " + idempotencyKey + " was recorded by a concurrent request", cause);
+  }
+}
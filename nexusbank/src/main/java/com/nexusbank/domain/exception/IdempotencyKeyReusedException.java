@@ -0,0 +1,8 @@
+package com.nexusbank.domain.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+  public IdempotencyKeyReusedException(String idempotencyKey) {
+    super("Idempotency key " + idempotencyKey + " was already used for a different request");
+  }
+}
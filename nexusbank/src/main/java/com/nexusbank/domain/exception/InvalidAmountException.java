@@ -0,0 +1,8 @@
+package com.nexusbank.domain.exception;
+
+public class InvalidAmountException extends IllegalArgumentException {
+
+  public InvalidAmountException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,8 @@
+package com.nexusbank.domain.exception;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+
+  public InvalidIdempotencyKeyException(int maxLength) {
+    super("Idempotency key must be between 1 and " + maxLength + " characters");
+  }
+}
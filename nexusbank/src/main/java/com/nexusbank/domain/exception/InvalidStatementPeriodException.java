@@ -0,0 +1,10 @@
+package com.nexusbank.domain.exception;
+
+import java.time.LocalDateTime;
+
+public class InvalidStatementPeriodException extends RuntimeException {
+
+  public InvalidStatementPeriodException(LocalDateTime from, LocalDateTime to) {
+    super("Invalid statement period: from " + from + " must be before to " + to);
+  }
+}
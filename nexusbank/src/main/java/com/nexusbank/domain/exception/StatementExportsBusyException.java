@@ -0,0 +1,8 @@
+package com.nexusbank.domain.exception;
+
+public class StatementExportsBusyException extends RuntimeException {
+
+  public StatementExportsBusyException(int maxConcurrentExports) {
+    super("Too many statement exports in progress (at most " + maxConcurrentExports + " at a time)");
+  }
+}
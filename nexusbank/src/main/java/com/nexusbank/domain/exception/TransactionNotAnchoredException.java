@@ -0,0 +1,8 @@
+package com.nexusbank.domain.exception;
+
+public class TransactionNotAnchoredException extends RuntimeException {
+
+  public TransactionNotAnchoredException(String id) {
+    super("Transaction with id " + id + " has not been anchored yet");
+  }
+}
@@ -0,0 +1,8 @@
+package com.nexusbank.domain.exception;
+
+public class TransactionNotFoundException extends RuntimeException {
+
+  public TransactionNotFoundException(String id) {
+    super("Transaction with id " + id + " not found");
+  }
+}
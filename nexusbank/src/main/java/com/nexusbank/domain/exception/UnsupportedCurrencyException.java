@@ -0,0 +1,8 @@
+package com.nexusbank.domain.exception;
+
+public class UnsupportedCurrencyException extends IllegalArgumentException {
+
+  public UnsupportedCurrencyException(String code) {
+    super("Unsupported currency: " + code);
+  }
+}
@@ -1,5 +1,6 @@
 package com.nexusbank.domain.model;
 
+import com.nexusbank.domain.exception.InvalidAmountException;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -49,19 +50,50 @@ public class Account {
    * @return new Account instance
    */
   public static Account createNew(String id, String userId, String currency) {
+    return createNew(id, userId, Currency.of(currency));
+  }
+
+  /**
+   * Factory method to create a new account with zero balance
+   * 
+   * @param id       Account identifier
+   * @param userId   Owner's identifier
+   * @param currency Currency for the account
+   * @return new Account instance
+   */
+  public static Account createNew(String id, String userId, Currency currency) {
     return new Account(id, userId, Money.zero(currency));
   }
 
+  /**
+   * Rebuilds an account from persisted state, keeping its stored balance,
+   * status and timestamps. No validation is performed: the state was validated
+   * when the account was created and on every later change.
+   */
+  public static Account reconstitute(String id, String userId, Money balance, boolean active,
+      LocalDateTime createdAt, LocalDateTime updatedAt) {
+    Account account = new Account();
+    account.id = id;
+    account.userId = userId;
+    account.balance = balance;
+    account.active = active;
+    account.createdAt = createdAt;
+    account.updatedAt = updatedAt;
+    return account;
+  }
+
   /**
    * Deposits money into the account
    * 
    * @param amount Money to deposit
    * @throws IllegalStateException    if account is inactive
-   * @throws IllegalArgumentException if currencies don't match
+   * @throws IllegalArgumentException if currencies don't match or the amount
+   *                                  is not positive
    */
   public void deposit(Money amount) {
     validateAccountIsActive();
     validateSameCurrency(amount);
+    validatePositive(amount);
     this.balance = this.balance.add(amount);
     this.updatedAt = LocalDateTime.now();
   }
@@ -71,11 +103,13 @@ public class Account {
    * 
    * @param amount Money to withdraw
    * @throws IllegalStateException    if account is inactive
-   * @throws IllegalArgumentException if insufficient balance or currency mismatch
+   * @throws IllegalArgumentException if insufficient balance, currency mismatch
+   *                                  or the amount is not positive
    */
   public void withdraw(Money amount) {
     validateAccountIsActive();
     validateSameCurrency(amount);
+    validatePositive(amount);
 
     if (balance.isLessThan(amount)) {
       throw new IllegalArgumentException("Insufficient balance for withdrawal");
@@ -101,6 +135,12 @@ public class Account {
     this.updatedAt = LocalDateTime.now();
   }
 
+  private void validatePositive(Money money) {
+    if (money.getMinorUnits() <= 0) {
+      throw new InvalidAmountException("Amount must be greater than zero");
+    }
+  }
+
   private void validateAccountIsActive() {
     if (!this.active) {
       throw new IllegalStateException("Account is not active");
@@ -108,7 +148,7 @@ public class Account {
   }
 
   private void validateSameCurrency(Money money) {
-    if (!this.balance.getCurrency().equals(money.getCurrency())) {
+    if (this.balance.getCurrencyUnit() != money.getCurrencyUnit()) {
       throw new IllegalArgumentException(
           "Currency mismatch: account is in " + this.balance.getCurrency() +
               " but operation attempted with " + money.getCurrency());
@@ -0,0 +1,119 @@
+package com.nexusbank.domain.model;
+
+import com.nexusbank.domain.exception.UnsupportedCurrencyException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of the ISO-4217 currencies supported by the bank.
+ * Each value is a singleton, so currency checks are reference comparisons,
+ * and carries the number of minor-unit digits used to scale amounts.
+ */
+public enum Currency {
+  AED(784, 2),
+  ARS(32, 2),
+  AUD(36, 2),
+  BHD(48, 3),
+  BRL(986, 2),
+  CAD(124, 2),
+  CHF(756, 2),
+  CLP(152, 0),
+  CNY(156, 2),
+  COP(170, 2),
+  CZK(203, 2),
+  DKK(208, 2),
+  EUR(978, 2),
+  GBP(826, 2),
+  HKD(344, 2),
+  HUF(348, 2),
+  ILS(376, 2),
+  INR(356, 2),
+  ISK(352, 0),
+  JOD(400, 3),
+  JPY(392, 0),
+  KRW(410, 0),
+  KWD(414, 3),
+  MXN(484, 2),
+  NOK(578, 2),
+  NZD(554, 2),
+  OMR(512, 3),
+  PEN(604, 2),
+  PLN(985, 2),
+  SAR(682, 2),
+  SEK(752, 2),
+  SGD(702, 2),
+  TND(788, 3),
+  TRY(949, 2),
+  USD(840, 2),
+  VND(704, 0),
+  ZAR(710, 2);
+
+  private static final Map<String, Currency> BY_CODE = new HashMap<>();
+  private static final Currency[] BY_NUMERIC_CODE = new Currency[1000];
+
+  static {
+    for (Currency currency : values()) {
+      BY_CODE.put(currency.name(), currency);
+      BY_NUMERIC_CODE[currency.numericCode] = currency;
+    }
+  }
+
+  private final short numericCode;
+  private final int minorUnitDigits;
+  private final long minorUnitsPerUnit;
+
+  Currency(int numericCode, int minorUnitDigits) {
+    this.numericCode = (short) numericCode;
+    this.minorUnitDigits = minorUnitDigits;
+    long factor = 1;
+    for (int i = 0; i < minorUnitDigits; i++) {
+      factor *= 10;
+    }
+    this.minorUnitsPerUnit = factor;
+  }
+
+  /**
+   * Looks up a currency by its alphabetic ISO code (e.g. "USD").
+   *
+   * @throws UnsupportedCurrencyException if the code is not in the registry
+   */
+  public static Currency of(String code) {
+    Currency currency = code == null ? null : BY_CODE.get(code);
+    if (currency == null) {
+      throw new UnsupportedCurrencyException(code);
+    }
+    return currency;
+  }
+
+  /**
+   * Looks up a currency by its numeric ISO code (e.g. 840 for USD).
+   *
+   * @throws UnsupportedCurrencyException if the code is not in the registry
+   */
+  public static Currency fromNumericCode(int numericCode) {
+    Currency currency = numericCode >= 0 && numericCode < BY_NUMERIC_CODE.length
+        ? BY_NUMERIC_CODE[numericCode]
+        : null;
+    if (currency == null) {
+      throw new UnsupportedCurrencyException(String.valueOf(numericCode));
+    }
+    return currency;
+  }
+
+  public String getCode() {
+    return name();
+  }
+
+  public short getNumericCode() {
+    return numericCode;
+  }
+
+  public int getMinorUnitDigits() {
+    return minorUnitDigits;
+  }
+
+  public long getMinorUnitsPerUnit() {
+    return minorUnitsPerUnit;
+  }
+}
@@ -1,66 +1,146 @@
 package com.nexusbank.domain.model;
 
+import com.nexusbank.domain.exception.InvalidAmountException;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Objects;
 
+/**
+ * Monetary value object backed by a {@code long} count of minor units (e.g.
+ * cents for USD, yen for JPY, fils for KWD). The number of minor-unit digits
+ * comes from the {@link Currency} registry.
+ * Arithmetic never allocates intermediate BigDecimals and fails fast with an
+ * {@link ArithmeticException} on overflow. BigDecimal is only used at the
+ * boundaries (wire format and NUMERIC columns), and is converted exactly: an
+ * amount with more decimals than the currency allows is rejected with an
+ * {@link InvalidAmountException} instead of being rounded.
+ */
 public class Money {
-  private final BigDecimal amount;
-  private final String currency;
+  private final long minorUnits;
+  private final Currency currency;
 
-  public Money(Double amount) {
-    this(amount, "USD"); // Moneda predeterminada
+  public Money(BigDecimal amount) {
+    this(amount, Currency.USD); // Moneda predeterminada
   }
 
-  public Money(Double amount, String currency) {
-    this.amount = BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_EVEN);
-    this.currency = currency;
+  public Money(BigDecimal amount, String currency) {
+    this(amount, Currency.of(currency));
   }
 
-  public Money(BigDecimal amount) {
-    this(amount, "USD"); // Moneda predeterminada
+  public Money(BigDecimal amount, Currency currency) {
+    this(toMinorUnits(amount, currency), currency);
   }
 
-  public Money(BigDecimal amount, String currency) {
-    this.amount = amount.setScale(2, RoundingMode.HALF_EVEN);
+  private Money(long minorUnits, Currency currency) {
+    if (currency == null) {
+      throw new IllegalArgumentException("Currency cannot be null");
+    }
+    this.minorUnits = minorUnits;
     this.currency = currency;
   }
 
+  /**
+   * Factory method for values already expressed in minor units (e.g. cents).
+   */
+  public static Money ofMinor(long minorUnits, Currency currency) {
+    return new Money(minorUnits, currency);
+  }
+
+  public static Money ofMinor(long minorUnits, String currency) {
+    return new Money(minorUnits, Currency.of(currency));
+  }
+
+  public static Money zero(Currency currency) {
+    return new Money(0L, currency);
+  }
+
   public static Money zero(String currency) {
-    return new Money(0.0, currency);
+    return new Money(0L, Currency.of(currency));
+  }
+
+  public long getMinorUnits() {
+    return minorUnits;
   }
 
+  /**
+   * Decimal view of the amount, scaled to the currency's minor-unit digits.
+   */
   public BigDecimal getAmount() {
-    return amount;
+    return BigDecimal.valueOf(minorUnits, currency.getMinorUnitDigits());
   }
 
+  /**
+   * ISO-4217 alphabetic code of the currency (e.g. "USD").
+   */
   public String getCurrency() {
+    return currency.getCode();
+  }
+
+  public Currency getCurrencyUnit() {
     return currency;
   }
 
   public Money add(Money money) {
-    if (!this.currency.equals(money.currency)) {
+    if (this.currency != money.currency) {
       throw new IllegalArgumentException("Cannot add money with different currencies");
     }
-    return new Money(this.amount.add(money.amount), this.currency);
+    try {
+      return new Money(Math.addExact(this.minorUnits, money.minorUnits), this.currency);
+    } catch (ArithmeticException e) {
+      throw new ArithmeticException("Money overflow adding " + money + " to " + this);
+    }
   }
 
   public Money subtract(Money money) {
-    if (!this.currency.equals(money.currency)) {
+    if (this.currency != money.currency) {
       throw new IllegalArgumentException("Cannot subtract money with different currencies");
     }
-    return new Money(this.amount.subtract(money.amount), this.currency);
+    try {
+      return new Money(Math.subtractExact(this.minorUnits, money.minorUnits), this.currency);
+    } catch (ArithmeticException e) {
+      throw new ArithmeticException("Money overflow subtracting " + money + " from " + this);
+    }
+  }
+
+  public Money negate() {
+    try {
+      return new Money(Math.negateExact(this.minorUnits), this.currency);
+    } catch (ArithmeticException e) {
+      throw new ArithmeticException("Money overflow negating " + this);
+    }
   }
 
   public boolean isLessThan(Money other) {
-    if (!this.currency.equals(other.currency)) {
+    if (this.currency != other.currency) {
       throw new IllegalArgumentException("Cannot compare money with different currencies");
     }
-    return this.amount.compareTo(other.amount) < 0;
+    return this.minorUnits < other.minorUnits;
   }
 
   public double toDouble() {
-    return amount.doubleValue();
+    return (double) minorUnits / currency.getMinorUnitsPerUnit();
+  }
+
+  private static long toMinorUnits(BigDecimal amount, Currency currency) {
+    if (amount == null) {
+      throw new IllegalArgumentException("Amount cannot be null");
+    }
+    if (currency == null) {
+      throw new IllegalArgumentException("Currency cannot be null");
+    }
+    BigDecimal scaled;
+    try {
+      // Nunca se redondea: un importe con más decimales que la moneda se rechaza
+      scaled = amount.setScale(currency.getMinorUnitDigits(), RoundingMode.UNNECESSARY);
+    } catch (ArithmeticException e) {
+      throw new InvalidAmountException("Amount " + amount + " has more than " + currency.getMinorUnitDigits()
+          + " decimal places, the minor unit of " + currency.getCode());
+    }
+    try {
+      return scaled.unscaledValue().longValueExact();
+    } catch (ArithmeticException e) {
+      throw new ArithmeticException("Amount " + amount + " exceeds the supported monetary range");
+    }
   }
 
   @Override
@@ -70,17 +150,16 @@ public class Money {
     if (o == null || getClass() != o.getClass())
       return false;
     Money money = (Money) o;
-    return amount.compareTo(money.amount) == 0 &&
-        Objects.equals(currency, money.currency);
+    return minorUnits == money.minorUnits && currency == money.currency;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(amount, currency);
+    return 31 * Long.hashCode(minorUnits) + currency.ordinal();
   }
 
   @Override
   public String toString() {
-    return amount + " " + currency;
+    return getAmount() + " " + currency.getCode();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.nexusbank.domain.model;
+
+/**
+ * One leg of a double-entry movement: a signed amount booked against an
+ * account. Credits are positive and debits negative, so the postings of a
+ * transaction always add up to zero.
+ *
+ * Money entering or leaving the bank (deposits and withdrawals) is balanced
+ * against an external account per currency, which is not a customer account.
+ */
+public record Posting(String accountId, Money amount) {
+
+  public static final String EXTERNAL_ACCOUNT_PREFIX = "external:";
+
+  public Posting {
+    if (accountId == null || accountId.trim().isEmpty()) {
+      throw new IllegalArgumentException("Account id cannot be null or empty");
+    }
+    if (amount == null) {
+      throw new IllegalArgumentException("Amount cannot be null");
+    }
+  }
+
+  /**
+   * Id of the external account that balances deposits and withdrawals in the
+   * given currency.
+   */
+  public static String externalAccountId(Currency currency) {
+    return EXTERNAL_ACCOUNT_PREFIX + currency.getCode();
+  }
+
+  public boolean isExternal() {
+    return accountId.startsWith(EXTERNAL_ACCOUNT_PREFIX);
+  }
+
+  public boolean isDebit() {
+    return amount.getMinorUnits() < 0;
+  }
+}
@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Transaction entity that represents a movement of money in the system.
@@ -92,6 +93,51 @@ public class Transaction {
         TransactionStatus.PENDING, "Pending transfer between accounts");
   }
 
+  /**
+   * Rebuilds a transaction from persisted state, keeping its stored
+   * timestamps. No validation is performed: the state was validated when the
+   * transaction was created.
+   */
+  public static Transaction reconstitute(String id, String accountId, String targetAccountId, Money amount,
+      TransactionType type, TransactionStatus status, String description, LocalDateTime createdAt,
+      LocalDateTime updatedAt) {
+    Transaction transaction = new Transaction();
+    transaction.id = id;
+    transaction.accountId = accountId;
+    transaction.targetAccountId = targetAccountId;
+    transaction.amount = amount;
+    transaction.type = type;
+    transaction.status = status;
+    transaction.description = description;
+    transaction.createdAt = createdAt;
+    transaction.updatedAt = updatedAt;
+    return transaction;
+  }
+
+  /**
+   * Double-entry postings of the transaction, one per leg. Deposits and
+   * withdrawals are balanced against the external account of the currency.
+   * Only completed transactions move money, so the others have no postings.
+   */
+  public List<Posting> getPostings() {
+    if (status != TransactionStatus.COMPLETED) {
+      return List.of();
+    }
+
+    String external = Posting.externalAccountId(amount.getCurrencyUnit());
+    return switch (type) {
+      case DEPOSIT -> List.of(
+          new Posting(accountId, amount),
+          new Posting(external, amount.negate()));
+      case WITHDRAWAL -> List.of(
+          new Posting(accountId, amount.negate()),
+          new Posting(external, amount));
+      case TRANSFER -> List.of(
+          new Posting(accountId, amount.negate()),
+          new Posting(targetAccountId, amount));
+    };
+  }
+
   /**
    * Marks the transaction as completed.
    */
@@ -0,0 +1,15 @@
+package com.nexusbank.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A transaction was recorded. Events are relayed from the transactional
+ * outbox after the commit that recorded the transaction, at least once, so a
+ * subscriber can see the same event again and should use {@code sequence} to
+ * discard repeats.
+ *
+ * @param sequence   Position of the event in the outbox, increasing
+ * @param recordedAt When the transaction was recorded
+ */
+public record TransactionEvent(long sequence, Transaction transaction, LocalDateTime recordedAt) {
+}
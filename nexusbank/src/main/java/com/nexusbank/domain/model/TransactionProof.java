@@ -0,0 +1,36 @@
+package com.nexusbank.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Evidence that a completed transaction belongs to a batch whose Merkle root
+ * was anchored on chain. Hashing the canonical encoding of the transaction
+ * and folding in the siblings yields {@code root}, which anyone can compare
+ * with the root stored in the ledger contract, without trusting our database.
+ *
+ * @param leafHash   Hash of the transaction leaf
+ * @param leafIndex  Position of the leaf in its batch
+ * @param batchSize  Number of transactions in the batch
+ * @param siblings   Sibling hashes, from the leaf level up
+ * @param directions Bit {@code i} set when sibling {@code i} is the left node
+ * @param root       Merkle root of the batch
+ * @param anchor     Where the root was anchored
+ */
+public record TransactionProof(Transaction transaction, byte[] leafHash, int leafIndex, int batchSize,
+    List<byte[]> siblings, long directions, byte[] root, Anchor anchor) {
+
+  public TransactionProof {
+    siblings = List.copyOf(siblings);
+  }
+
+  /**
+   * Reference to the anchored root in the ledger contract.
+   *
+   * @param ledgerBatchId   Batch id assigned by the contract
+   * @param transactionHash Hash of the chain transaction that anchored it
+   * @param blockNumber     Block that includes that chain transaction
+   */
+  public record Anchor(long ledgerBatchId, String transactionHash, long blockNumber, LocalDateTime anchoredAt) {
+  }
+}
@@ -51,6 +51,25 @@ public class User {
     return new User(id, name, email, passwordHash);
   }
 
+  /**
+   * Rebuilds a user from persisted state, keeping its stored timestamps. No
+   * validation is performed: the state was validated when the user was
+   * created and on every later change.
+   */
+  public static User reconstitute(String id, String name, String email, String passwordHash, boolean active,
+      Set<String> accounts, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    User user = new User();
+    user.id = id;
+    user.name = name;
+    user.email = email;
+    user.passwordHash = passwordHash;
+    user.active = active;
+    user.accounts = new HashSet<>(accounts);
+    user.createdAt = createdAt;
+    user.updatedAt = updatedAt;
+    return user;
+  }
+
   /**
    * Adds an account to the user.
    */
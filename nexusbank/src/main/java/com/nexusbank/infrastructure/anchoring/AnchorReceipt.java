@@ -0,0 +1,11 @@
+package com.nexusbank.infrastructure.anchoring;
+
+/**
+ * Where a batch root was anchored.
+ *
+ * @param batchId         Batch id assigned by the {@code TxLedger} contract
+ * @param transactionHash Hash of the chain transaction that anchored it
+ * @param blockNumber     Block that includes that transaction
+ */
+public record AnchorReceipt(long batchId, String transactionHash, long blockNumber) {
+}
@@ -0,0 +1,72 @@
+package com.nexusbank.infrastructure.anchoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process stand-in for the {@code TxLedger} contract, for development and
+ * tests: batch roots are kept in memory, one block per anchored batch, and
+ * lost on restart.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.anchoring.chain", havingValue = "in-process", matchIfMissing = true)
+public class InProcessLedgerAnchor implements LedgerAnchor {
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final List<byte[]> roots = new ArrayList<>();
+
+  @Override
+  public AnchorReceipt anchor(byte[] root, int size) {
+    if (root.length != MerkleTree.HASH_LENGTH || size < 1) {
+      throw new LedgerAnchorException("Invalid batch of " + size + " transactions");
+    }
+    long batchId;
+    lock.lock();
+    try {
+      batchId = roots.size();
+      roots.add(root.clone());
+    } finally {
+      lock.unlock();
+    }
+    // Hash determinista en lugar del de una transacción firmada
+    byte[] transactionHash = MerkleTree.nodeHash(root, ByteBuffer.allocate(Long.BYTES).putLong(batchId).array());
+    return new AnchorReceipt(batchId, "0x" + HexFormat.of().formatHex(transactionHash), batchId + 1);
+  }
+
+  /**
+   * Root anchored under the given batch id, as {@code TxLedger.batches} would
+   * return it.
+   */
+  public Optional<byte[]> root(long batchId) {
+    lock.lock();
+    try {
+      return batchId >= 0 && batchId < roots.size() ? Optional.of(roots.get((int) batchId).clone()) : Optional.empty();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Same check as {@code TxLedger.verifyInclusion}.
+   */
+  public boolean verifyInclusion(long batchId, byte[] leafHash, MerkleProof proof) {
+    return root(batchId).map(root -> Arrays.equals(root, proof.rootFrom(leafHash))).orElse(false);
+  }
+
+  public int getBatchCount() {
+    lock.lock();
+    try {
+      return roots.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
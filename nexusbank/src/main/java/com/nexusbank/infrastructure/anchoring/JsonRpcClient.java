@@ -0,0 +1,130 @@
+package com.nexusbank.infrastructure.anchoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal client for the JSON-RPC API of an Ethereum node: sends
+ * transactions from an account the node manages and polls their receipts.
+ * Shared by {@link JsonRpcLedgerAnchor} and the {@code TxLedger} gas
+ * benchmark, which measures the contract on a local dev chain.
+ */
+public final class JsonRpcClient {
+
+  private final ObjectMapper objectMapper;
+  private final HttpClient httpClient;
+  private final URI url;
+  private final Duration confirmationTimeout;
+  private final Duration pollInterval;
+  private final AtomicLong requestIds = new AtomicLong();
+
+  public JsonRpcClient(ObjectMapper objectMapper, String url, Duration confirmationTimeout, Duration pollInterval) {
+    this.objectMapper = objectMapper;
+    this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    this.url = URI.create(url);
+    this.confirmationTimeout = confirmationTimeout;
+    this.pollInterval = pollInterval;
+  }
+
+  public ObjectNode transaction(String from, String to, long gas, String data) {
+    ObjectNode transaction = objectMapper.createObjectNode().put("from", from);
+    if (to != null) {
+      transaction.put("to", to);
+    }
+    return transaction.put("gas", quantity(gas)).put("data", data);
+  }
+
+  /**
+   * {@code eth_sendTransaction}: the node signs with {@code from} and returns
+   * the transaction hash.
+   */
+  public String sendTransaction(ObjectNode transaction) {
+    return call("eth_sendTransaction", transaction).asText();
+  }
+
+  /**
+   * Polls {@code eth_getTransactionReceipt} until the transaction is mined.
+   *
+   * @throws LedgerAnchorException if it is not mined within the confirmation
+   *                               timeout
+   */
+  public JsonNode awaitReceipt(String hash) {
+    long deadline = System.nanoTime() + confirmationTimeout.toNanos();
+    while (true) {
+      JsonNode receipt = call("eth_getTransactionReceipt", TextNode.valueOf(hash));
+      if (!receipt.isNull()) {
+        return receipt;
+      }
+      if (System.nanoTime() - deadline >= 0) {
+        throw new LedgerAnchorException("Transaction " + hash + " not mined after "
+            + confirmationTimeout.toMillis() + " ms");
+      }
+      try {
+        Thread.sleep(pollInterval.toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new LedgerAnchorException("Interrupted while waiting for transaction " + hash, e);
+      }
+    }
+  }
+
+  public JsonNode call(String method, JsonNode... params) {
+    ObjectNode request = objectMapper.createObjectNode()
+        .put("jsonrpc", "2.0")
+        .put("id", requestIds.incrementAndGet())
+        .put("method", method);
+    ArrayNode paramArray = request.putArray("params");
+    for (JsonNode param : params) {
+      paramArray.add(param);
+    }
+    try {
+      HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(url)
+          .timeout(confirmationTimeout)
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(request)))
+          .build(), HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new LedgerAnchorException(method + " failed with HTTP status " + response.statusCode());
+      }
+      JsonNode body = objectMapper.readTree(response.body());
+      if (body.hasNonNull("error")) {
+        throw new LedgerAnchorException(method + " failed: " + body.path("error").path("message").asText());
+      }
+      JsonNode result = body.get("result");
+      return result == null ? NullNode.getInstance() : result;
+    } catch (IOException e) {
+      throw new LedgerAnchorException(method + " failed", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new LedgerAnchorException(method + " interrupted", e);
+    }
+  }
+
+  public static String quantity(long value) {
+    return "0x" + Long.toHexString(value);
+  }
+
+  public static long quantity(String hex) {
+    try {
+      if (!hex.startsWith("0x")) {
+        throw new NumberFormatException();
+      }
+      return new BigInteger(hex.substring(2), 16).longValueExact();
+    } catch (NumberFormatException | ArithmeticException e) {
+      throw new LedgerAnchorException("Invalid quantity: " + hex, e);
+    }
+  }
+}
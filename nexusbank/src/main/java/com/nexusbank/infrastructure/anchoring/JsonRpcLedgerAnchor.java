@@ -0,0 +1,79 @@
+package com.nexusbank.infrastructure.anchoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Anchors through the JSON-RPC API of an Ethereum node. The transaction is
+ * sent with {@code eth_sendTransaction} from an account the node manages (a
+ * local dev chain such as Ganache or Hardhat, or a node with an attached
+ * signer); nothing is signed here. The receipt is then polled until the
+ * transaction is mined, and the batch id read from its {@code BatchAnchored}
+ * event.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.anchoring.chain", havingValue = "json-rpc")
+public class JsonRpcLedgerAnchor implements LedgerAnchor {
+
+  // Primeros 4 bytes de keccak256("anchorBatch(bytes32,uint32)")
+  static final String ANCHOR_BATCH_SELECTOR = "97077da9";
+
+  // keccak256("BatchAnchored(uint256,bytes32,uint32,uint256)")
+  static final String BATCH_ANCHORED_TOPIC = "0xdbe2c3470cede00f724d2dd9621b906ec7310239b4706fd9200dd82c9578060c";
+
+  private static final HexFormat HEX = HexFormat.of();
+
+  private final JsonRpcClient client;
+  private final String contract;
+  private final String from;
+  private final long gas;
+
+  public JsonRpcLedgerAnchor(ObjectMapper objectMapper,
+      @Value("${nexusbank.anchoring.json-rpc.url:http://127.0.0.1:8545}") String url,
+      @Value("${nexusbank.anchoring.json-rpc.contract}") String contract,
+      @Value("${nexusbank.anchoring.json-rpc.from}") String from,
+      @Value("${nexusbank.anchoring.json-rpc.gas:100000}") long gas,
+      @Value("${nexusbank.anchoring.json-rpc.confirmation-timeout-ms:60000}") long confirmationTimeoutMillis,
+      @Value("${nexusbank.anchoring.json-rpc.poll-interval-ms:500}") long pollIntervalMillis) {
+    this.client = new JsonRpcClient(objectMapper, url, Duration.ofMillis(confirmationTimeoutMillis),
+        Duration.ofMillis(pollIntervalMillis));
+    this.contract = contract;
+    this.from = from;
+    this.gas = gas;
+  }
+
+  @Override
+  public AnchorReceipt anchor(byte[] root, int size) {
+    if (root.length != MerkleTree.HASH_LENGTH || size < 1) {
+      throw new LedgerAnchorException("Invalid batch of " + size + " transactions");
+    }
+    String hash = client.sendTransaction(client.transaction(from, contract, gas,
+        "0x" + ANCHOR_BATCH_SELECTOR + HEX.formatHex(root) + word(size)));
+
+    JsonNode receipt = client.awaitReceipt(hash);
+    if (!"0x1".equals(receipt.path("status").asText())) {
+      throw new LedgerAnchorException("Anchoring transaction " + hash + " reverted");
+    }
+    for (JsonNode log : receipt.path("logs")) {
+      JsonNode topics = log.path("topics");
+      if (contract.equalsIgnoreCase(log.path("address").asText())
+          && BATCH_ANCHORED_TOPIC.equalsIgnoreCase(topics.path(0).asText())) {
+        return new AnchorReceipt(JsonRpcClient.quantity(topics.path(1).asText()), hash,
+            JsonRpcClient.quantity(receipt.path("blockNumber").asText()));
+      }
+    }
+    throw new LedgerAnchorException("Anchoring transaction " + hash + " emitted no BatchAnchored event");
+  }
+
+  // Argumento ABI de 32 bytes con el entero alineado a la derecha
+  static String word(long value) {
+    String hex = Long.toHexString(value);
+    return "0".repeat(64 - hex.length()) + hex;
+  }
+}
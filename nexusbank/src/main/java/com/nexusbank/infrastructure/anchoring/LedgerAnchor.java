@@ -0,0 +1,18 @@
+package com.nexusbank.infrastructure.anchoring;
+
+/**
+ * Writes batch roots to the {@code TxLedger} contract through its
+ * {@code anchorBatch(bytes32 root, uint32 size)} function.
+ */
+public interface LedgerAnchor {
+
+  /**
+   * Anchors a batch root and waits until the chain has included it.
+   *
+   * @param root Root of the batch's {@link MerkleTree}
+   * @param size Number of transactions in the batch
+   * @return Where the root was anchored
+   * @throws LedgerAnchorException if the root could not be anchored
+   */
+  AnchorReceipt anchor(byte[] root, int size);
+}
@@ -0,0 +1,16 @@
+package com.nexusbank.infrastructure.anchoring;
+
+/**
+ * A batch root could not be anchored. The batch stays saved and is anchored
+ * again on the next run.
+ */
+public class LedgerAnchorException extends RuntimeException {
+
+  public LedgerAnchorException(String message) {
+    super(message);
+  }
+
+  public LedgerAnchorException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
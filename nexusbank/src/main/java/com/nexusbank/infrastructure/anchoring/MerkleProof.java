@@ -0,0 +1,63 @@
+package com.nexusbank.infrastructure.anchoring;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Path from a leaf to the root of a {@link MerkleTree}.
+ *
+ * @param siblings   Sibling hashes, from the leaf level up
+ * @param directions Bit {@code i} set when sibling {@code i} is the left node
+ */
+public record MerkleProof(List<byte[]> siblings, long directions) {
+
+  public MerkleProof {
+    siblings = List.copyOf(siblings);
+    if (siblings.size() > Long.SIZE - 1) {
+      throw new IllegalArgumentException("Merkle proof is too deep: " + siblings.size());
+    }
+  }
+
+  /**
+   * Root reached from the given leaf hash.
+   */
+  public byte[] rootFrom(byte[] leafHash) {
+    byte[] node = leafHash;
+    for (int i = 0; i < siblings.size(); i++) {
+      node = (directions >>> i & 1) == 1
+          ? MerkleTree.nodeHash(siblings.get(i), node)
+          : MerkleTree.nodeHash(node, siblings.get(i));
+    }
+    return node;
+  }
+
+  /**
+   * Compact form: the directions as an 8-byte big-endian integer followed by
+   * the 32-byte siblings.
+   */
+  public byte[] pack() {
+    ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + siblings.size() * MerkleTree.HASH_LENGTH);
+    buffer.putLong(directions);
+    siblings.forEach(buffer::put);
+    return buffer.array();
+  }
+
+  /**
+   * @throws IllegalArgumentException if the bytes are not a packed proof
+   */
+  public static MerkleProof unpack(byte[] packed) {
+    if (packed.length < Long.BYTES || (packed.length - Long.BYTES) % MerkleTree.HASH_LENGTH != 0) {
+      throw new IllegalArgumentException("Invalid packed Merkle proof of " + packed.length + " bytes");
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(packed);
+    long directions = buffer.getLong();
+    List<byte[]> siblings = new ArrayList<>();
+    while (buffer.hasRemaining()) {
+      byte[] sibling = new byte[MerkleTree.HASH_LENGTH];
+      buffer.get(sibling);
+      siblings.add(sibling);
+    }
+    return new MerkleProof(siblings, directions);
+  }
+}
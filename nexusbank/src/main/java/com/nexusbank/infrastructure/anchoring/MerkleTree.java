@@ -0,0 +1,109 @@
+package com.nexusbank.infrastructure.anchoring;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Binary SHA-256 Merkle tree over the leaf hashes of an anchoring batch.
+ *
+ * Leaves and inner nodes are hashed with different prefixes ({@code 0x00} and
+ * {@code 0x01}), so an inner node can never be passed off as a leaf. A node
+ * without a sibling is carried up to the next level unchanged instead of being
+ * paired with itself, so two different batches never share a root. SHA-256 is
+ * also a precompile of the EVM, which lets {@code TxLedger.verifyInclusion}
+ * check the same proofs on chain.
+ */
+public final class MerkleTree {
+
+  public static final int HASH_LENGTH = 32;
+
+  private static final byte LEAF_PREFIX = 0x00;
+  private static final byte NODE_PREFIX = 0x01;
+
+  // Nivel 0: las hojas; el último nivel solo tiene la raíz
+  private final List<byte[][]> levels = new ArrayList<>();
+
+  /**
+   * @param leafHashes Leaf hashes (see {@link #leafHash}) in batch order
+   */
+  public MerkleTree(List<byte[]> leafHashes) {
+    if (leafHashes.isEmpty()) {
+      throw new IllegalArgumentException("A Merkle tree needs at least one leaf");
+    }
+    byte[][] level = leafHashes.toArray(new byte[0][]);
+    levels.add(level);
+    while (level.length > 1) {
+      byte[][] parent = new byte[(level.length + 1) / 2][];
+      for (int i = 0; i < parent.length; i++) {
+        int left = 2 * i;
+        parent[i] = left + 1 < level.length ? nodeHash(level[left], level[left + 1]) : level[left];
+      }
+      levels.add(parent);
+      level = parent;
+    }
+  }
+
+  public byte[] root() {
+    return levels.get(levels.size() - 1)[0].clone();
+  }
+
+  public int size() {
+    return levels.get(0).length;
+  }
+
+  /**
+   * Inclusion proof of the leaf at the given position: its siblings from the
+   * leaf level up to the root.
+   */
+  public MerkleProof proof(int index) {
+    Objects.checkIndex(index, size());
+    List<byte[]> siblings = new ArrayList<>();
+    long directions = 0;
+    int position = index;
+    for (int depth = 0; depth < levels.size() - 1; depth++) {
+      byte[][] level = levels.get(depth);
+      int sibling = position ^ 1;
+      // El último nodo de un nivel impar sube sin hermano: no ocupa paso
+      if (sibling < level.length) {
+        if (sibling < position) {
+          directions |= 1L << siblings.size();
+        }
+        siblings.add(level[sibling]);
+      }
+      position >>= 1;
+    }
+    return new MerkleProof(siblings, directions);
+  }
+
+  /**
+   * Hash of a leaf: {@code SHA-256(0x00 || data)}.
+   */
+  public static byte[] leafHash(byte[] data) {
+    return sha256(LEAF_PREFIX, data);
+  }
+
+  /**
+   * Hash of an inner node: {@code SHA-256(0x01 || left || right)}.
+   */
+  public static byte[] nodeHash(byte[] left, byte[] right) {
+    return sha256(NODE_PREFIX, left, right);
+  }
+
+  private static byte[] sha256(byte prefix, byte[]... parts) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // Todo JRE debe incluir SHA-256
+      throw new IllegalStateException(e);
+    }
+    digest.update(prefix);
+    for (byte[] part : parts) {
+      digest.update(part);
+    }
+    return digest.digest();
+  }
+}
@@ -0,0 +1,157 @@
+package com.nexusbank.infrastructure.anchoring;
+
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.persistence.adapter.AnchorPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.AnchorPersistenceAdapter.UnanchoredBatch;
+import com.nexusbank.infrastructure.persistence.adapter.TransferQueuePersistenceAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Anchors completed transactions in the {@code TxLedger} contract in batches:
+ * one chain transaction per batch carrying only its Merkle root, instead of
+ * one per bank transaction carrying all its fields. A batch is closed when it
+ * reaches {@code batch-size} transactions, or when its oldest transaction has
+ * waited {@code max-wait-ms}.
+ *
+ * Batches follow each other in (created_at, id) order, so a transaction
+ * created before the last anchored one would be skipped. As with balance
+ * checkpoints, only transactions older than the settle period are batched,
+ * and never past the oldest queued transfer, which keeps the time it was
+ * accepted when it is settled.
+ *
+ * Each batch and its proofs are saved before the root is sent. A batch whose
+ * root could not be anchored is sent again on the next run, before any new
+ * batch is made.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.anchoring.enabled", havingValue = "true")
+public class TransactionAnchoringJob {
+
+  // El lote entero se carga en memoria para construir su árbol
+  static final int MAX_BATCH_SIZE = 1 << 20;
+
+  private final AnchorPersistenceAdapter anchors;
+  private final TransferQueuePersistenceAdapter transferQueue;
+  private final LedgerAnchor ledger;
+  private final IdGeneratorPort idGenerator;
+  private final int batchSize;
+  private final Duration maxWait;
+  private final Duration settle;
+  private final int maxBatchesPerRun;
+
+  private final LongAdder transactionsAnchored = new LongAdder();
+  private final LongAdder batchesAnchored = new LongAdder();
+  private final LongAdder anchorFailures = new LongAdder();
+
+  public TransactionAnchoringJob(AnchorPersistenceAdapter anchors, TransferQueuePersistenceAdapter transferQueue,
+      LedgerAnchor ledger, IdGeneratorPort idGenerator,
+      @Value("${nexusbank.anchoring.batch-size:1024}") int batchSize,
+      @Value("${nexusbank.anchoring.max-wait-ms:60000}") long maxWaitMillis,
+      @Value("${nexusbank.anchoring.settle-ms:60000}") long settleMillis,
+      @Value("${nexusbank.anchoring.max-batches-per-run:20}") int maxBatchesPerRun) {
+    if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("Anchoring batch size must be between 1 and " + MAX_BATCH_SIZE);
+    }
+    this.anchors = anchors;
+    this.transferQueue = transferQueue;
+    this.ledger = ledger;
+    this.idGenerator = idGenerator;
+    this.batchSize = batchSize;
+    this.maxWait = Duration.ofMillis(maxWaitMillis);
+    this.settle = Duration.ofMillis(settleMillis);
+    this.maxBatchesPerRun = maxBatchesPerRun;
+  }
+
+  @Scheduled(fixedDelayString = "${nexusbank.anchoring.interval-ms:5000}")
+  public void anchorTransactions() {
+    anchorPending(LocalDateTime.now());
+  }
+
+  /**
+   * Anchors the saved batches still waiting for the chain, then closes and
+   * anchors new batches while there are enough settled transactions, up to
+   * {@code maxBatchesPerRun}.
+   *
+   * @param now Current time
+   * @return Number of transactions anchored
+   */
+  public int anchorPending(LocalDateTime now) {
+    int anchored = 0;
+    for (UnanchoredBatch batch : anchors.unanchoredBatches()) {
+      if (!anchor(batch, now)) {
+        return anchored;
+      }
+      anchored += batch.size();
+    }
+
+    LocalDateTime settled = now.minus(settle);
+    Optional<LocalDateTime> oldestPending = transferQueue.oldestPending();
+    if (oldestPending.isPresent() && oldestPending.get().isBefore(settled)) {
+      settled = oldestPending.get();
+    }
+    for (int run = 0; run < maxBatchesPerRun; run++) {
+      List<Transaction> transactions = anchors.transactionsToAnchor(settled, batchSize);
+      if (transactions.isEmpty()) {
+        break;
+      }
+      // Un lote incompleto sigue abierto hasta que su transacción más antigua
+      // haya esperado maxWait
+      boolean full = transactions.size() == batchSize;
+      if (!full && transactions.get(0).getCreatedAt().isAfter(now.minus(maxWait))) {
+        break;
+      }
+
+      List<byte[]> leafHashes = transactions.stream().map(TransactionLeaves::hash).toList();
+      MerkleTree tree = new MerkleTree(leafHashes);
+      String batchId = idGenerator.nextId();
+      // Si otro nodo guardó antes el mismo lote, él se encarga de anclarlo
+      if (!anchors.saveBatch(batchId, tree, transactions, leafHashes, now)
+          || !anchor(new UnanchoredBatch(batchId, tree.root(), tree.size()), now)) {
+        break;
+      }
+      anchored += transactions.size();
+      if (!full) {
+        break;
+      }
+    }
+    return anchored;
+  }
+
+  public long getTransactionsAnchored() {
+    return transactionsAnchored.sum();
+  }
+
+  public long getBatchesAnchored() {
+    return batchesAnchored.sum();
+  }
+
+  public long getAnchorFailures() {
+    return anchorFailures.sum();
+  }
+
+  private boolean anchor(UnanchoredBatch batch, LocalDateTime now) {
+    try {
+      if (!anchors.anchorBatch(batch, pending -> ledger.anchor(pending.root(), pending.size()), now)) {
+        return false;
+      }
+    } catch (LedgerAnchorException | DataAccessException e) {
+      // El lote sigue guardado: se reintenta en la próxima ejecución
+      anchorFailures.increment();
+      return false;
+    }
+    batchesAnchored.increment();
+    transactionsAnchored.add(batch.size());
+    return true;
+  }
+}
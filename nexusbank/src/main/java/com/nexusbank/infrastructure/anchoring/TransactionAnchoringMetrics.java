@@ -0,0 +1,44 @@
+package com.nexusbank.infrastructure.anchoring;
+
+import com.nexusbank.infrastructure.persistence.adapter.AnchorPersistenceAdapter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the outcomes of {@link TransactionAnchoringJob} and the batches
+ * saved but not yet anchored through Micrometer. The waiting batches are
+ * counted in the database on every scrape, so they include every node's.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.anchoring.enabled", havingValue = "true")
+public class TransactionAnchoringMetrics implements MeterBinder {
+
+  private final AnchorPersistenceAdapter anchors;
+  private final TransactionAnchoringJob anchoringJob;
+
+  public TransactionAnchoringMetrics(AnchorPersistenceAdapter anchors, TransactionAnchoringJob anchoringJob) {
+    this.anchors = anchors;
+    this.anchoringJob = anchoringJob;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("nexusbank.anchoring.batches.pending", anchors, AnchorPersistenceAdapter::countUnanchored)
+        .description("Batches saved whose root is not anchored yet")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.anchoring.batches", anchoringJob, TransactionAnchoringJob::getBatchesAnchored)
+        .description("Batch roots anchored by this node")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.anchoring.transactions", anchoringJob,
+        TransactionAnchoringJob::getTransactionsAnchored)
+        .description("Transactions anchored by this node")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.anchoring.failures", anchoringJob, TransactionAnchoringJob::getAnchorFailures)
+        .description("Attempts to anchor a batch root that failed")
+        .register(registry);
+  }
+}
@@ -0,0 +1,87 @@
+package com.nexusbank.infrastructure.anchoring;
+
+import com.nexusbank.domain.model.Transaction;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Canonical encoding of an anchored transaction, which is what an auditor
+ * hashes to check a transaction against an anchored root. The fields are
+ * written in this order, integers big-endian and strings as a 4-byte length
+ * followed by their UTF-8 bytes:
+ *
+ * <ol>
+ * <li>id</li>
+ * <li>source account id</li>
+ * <li>target account id, empty when there is none</li>
+ * <li>type ({@code DEPOSIT}, {@code WITHDRAWAL}, {@code TRANSFER})</li>
+ * <li>amount in minor units of the currency, 8 bytes</li>
+ * <li>ISO-4217 currency code</li>
+ * <li>creation time in microseconds since 1970-01-01T00:00, read as a local
+ * date-time without zone conversion, 8 bytes</li>
+ * </ol>
+ *
+ * Only completed transactions are anchored, so the status is not encoded; the
+ * description can be edited and is left out too.
+ */
+public final class TransactionLeaves {
+
+  private TransactionLeaves() {
+  }
+
+  public static byte[] encode(Transaction transaction) {
+    return encode(transaction.getId(), transaction.getAccountId(), transaction.getTargetAccountId(),
+        transaction.getType().name(), transaction.getAmount().getMinorUnits(), transaction.getAmount().getCurrency(),
+        epochMicros(transaction.getCreatedAt()));
+  }
+
+  /**
+   * Encodes the leaf from its fields, as an auditor does with the fields
+   * published next to a proof.
+   *
+   * @param targetAccountId Target account id, or {@code null} if there is none
+   */
+  public static byte[] encode(String id, String accountId, String targetAccountId, String type, long amountMinorUnits,
+      String currency, long createdAtMicros) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      writeString(out, id);
+      writeString(out, accountId);
+      writeString(out, targetAccountId == null ? "" : targetAccountId);
+      writeString(out, type);
+      out.writeLong(amountMinorUnits);
+      writeString(out, currency);
+      out.writeLong(createdAtMicros);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Leaf hash of the transaction in a {@link MerkleTree}.
+   */
+  public static byte[] hash(Transaction transaction) {
+    return MerkleTree.leafHash(encode(transaction));
+  }
+
+  /**
+   * Creation time as encoded in the leaf. The database keeps microseconds, so
+   * what is anchored is what is read back.
+   */
+  public static long epochMicros(LocalDateTime time) {
+    return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(utf8.length);
+    out.write(utf8);
+  }
+}
@@ -0,0 +1,142 @@
+package com.nexusbank.infrastructure.anchoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexusbank.domain.model.Transaction;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Offline check of an inclusion proof, for auditors who do not trust our
+ * database: the leaf is re-encoded from the published transaction fields and
+ * hashed up the sibling path, and the resulting root has to be the one
+ * anchored in the {@code TxLedger} contract. Nothing here talks to the bank.
+ *
+ * As a command, it checks the body of
+ * {@code GET /api/transactions/{id}/proof}, read from a file or from the
+ * standard input, against the root read from the contract
+ * ({@code TxLedger.batches(anchor.ledgerBatchId)}):
+ *
+ * <pre>
+ * java -cp nexusbank.jar -Dloader.main=com.nexusbank.infrastructure.anchoring.TransactionProofVerifier \
+ *     org.springframework.boot.loader.PropertiesLauncher proof.json --root 0x...
+ * </pre>
+ *
+ * Without {@code --root} the proof is only checked against the root it
+ * carries, which proves it consistent but not anchored. The exit status is 0
+ * if the proof is valid, 1 if it is not and 2 if it cannot be read.
+ */
+public final class TransactionProofVerifier {
+
+  private static final HexFormat HEX = HexFormat.of();
+
+  private TransactionProofVerifier() {
+  }
+
+  /**
+   * Whether the proof leads from the transaction to the anchored root.
+   */
+  public static boolean verify(Transaction transaction, MerkleProof proof, byte[] anchoredRoot) {
+    return MessageDigest.isEqual(proof.rootFrom(TransactionLeaves.hash(transaction)), anchoredRoot);
+  }
+
+  /**
+   * Checks a proof as returned by {@code GET /api/transactions/{id}/proof}.
+   *
+   * @param anchoredRoot Root read from the contract, or {@code null} to check
+   *                     only against the root in the proof
+   * @return Problems found, empty if the proof is valid
+   * @throws IllegalArgumentException if the proof is malformed
+   */
+  public static List<String> check(JsonNode proof, byte[] anchoredRoot) {
+    JsonNode leaf = proof.path("leaf");
+    JsonNode target = leaf.path("targetAccountId");
+    byte[] leafHash = MerkleTree.leafHash(TransactionLeaves.encode(
+        text(leaf, "id"),
+        text(leaf, "accountId"),
+        target.isNull() || target.isMissingNode() ? null : target.asText(),
+        text(leaf, "type"),
+        number(leaf, "amountMinorUnits"),
+        text(leaf, "currency"),
+        number(leaf, "createdAtMicros")));
+
+    List<byte[]> siblings = new ArrayList<>();
+    proof.path("siblings").forEach(sibling -> siblings.add(hash(sibling.asText())));
+    byte[] root = new MerkleProof(siblings, number(proof, "directions")).rootFrom(leafHash);
+
+    List<String> problems = new ArrayList<>();
+    if (!MessageDigest.isEqual(leafHash, hash(text(proof, "leafHash")))) {
+      problems.add("Leaf hash does not match the transaction fields");
+    }
+    if (!MessageDigest.isEqual(root, hash(text(proof, "root")))) {
+      problems.add("Sibling path does not lead to the root of the proof");
+    }
+    if (anchoredRoot != null && !MessageDigest.isEqual(root, anchoredRoot)) {
+      problems.add("Sibling path does not lead to the anchored root");
+    }
+    return problems;
+  }
+
+  public static void main(String[] args) {
+    String source = "-";
+    byte[] anchoredRoot = null;
+    try {
+      for (int i = 0; i < args.length; i++) {
+        if ("--root".equals(args[i]) && i + 1 < args.length) {
+          anchoredRoot = hash(args[++i]);
+        } else {
+          source = args[i];
+        }
+      }
+      JsonNode proof;
+      try (InputStream in = "-".equals(source) ? System.in : Files.newInputStream(Path.of(source))) {
+        proof = new ObjectMapper().readTree(in);
+      }
+
+      List<String> problems = check(proof, anchoredRoot);
+      String subject = "Transaction " + proof.path("leaf").path("id").asText() + " in ledger batch "
+          + proof.path("anchor").path("ledgerBatchId").asText();
+      if (!problems.isEmpty()) {
+        System.out.println("INVALID: " + subject);
+        problems.forEach(problem -> System.out.println("  " + problem));
+        System.exit(1);
+      }
+      System.out.println((anchoredRoot == null ? "CONSISTENT (root not checked against the chain): " : "VALID: ")
+          + subject + ", root " + text(proof, "root"));
+    } catch (IOException | IllegalArgumentException e) {
+      System.err.println("Cannot read proof: " + e.getMessage());
+      System.exit(2);
+    }
+  }
+
+  private static String text(JsonNode node, String field) {
+    JsonNode value = node.path(field);
+    if (!value.isTextual()) {
+      throw new IllegalArgumentException("Missing field " + field);
+    }
+    return value.asText();
+  }
+
+  private static long number(JsonNode node, String field) {
+    JsonNode value = node.path(field);
+    if (!value.isIntegralNumber()) {
+      throw new IllegalArgumentException("Missing field " + field);
+    }
+    return value.asLong();
+  }
+
+  private static byte[] hash(String hex) {
+    byte[] hash = HEX.parseHex(hex.startsWith("0x") ? hex.substring(2) : hex);
+    if (hash.length != MerkleTree.HASH_LENGTH) {
+      throw new IllegalArgumentException("Not a 32-byte hash: " + hex);
+    }
+    return hash;
+  }
+}
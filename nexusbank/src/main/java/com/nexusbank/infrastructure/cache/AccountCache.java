@@ -0,0 +1,178 @@
+package com.nexusbank.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-process cache of accounts, evicting by size and by time since
+ * the last write. Entries are immutable snapshots: every read rebuilds a new
+ * {@link Account}, so callers can mutate what they get without corrupting the
+ * cache.
+ *
+ * Writes follow a two-phase protocol keyed by a per-stripe generation:
+ * {@link #beginWrite} is called before the database write and
+ * {@link #completeWrite} once the transaction has finished. A value loaded
+ * from the database is only cached if no write on its stripe was in flight
+ * and the generation did not move while it was being read, so a slow reader
+ * can never put back a state older than a committed write.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.cache.accounts.enabled", havingValue = "true")
+public class AccountCache {
+
+  /**
+   * Stamp returned by {@link #stamp} when a write is in flight: values read
+   * under it are never cached.
+   */
+  static final long NO_STAMP = -1;
+
+  private static final int STRIPES = 4096;
+
+  private final Cache<String, CachedAccount> cache;
+  private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+  private final AtomicIntegerArray pendingWrites = new AtomicIntegerArray(STRIPES);
+  private final LongAdder stalePutsRejected = new LongAdder();
+
+  public AccountCache(
+      @Value("${nexusbank.cache.accounts.maximum-size:100000}") long maximumSize,
+      @Value("${nexusbank.cache.accounts.ttl-ms:60000}") long ttlMillis) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofMillis(ttlMillis))
+        .recordStats()
+        .build();
+  }
+
+  public Optional<Account> get(String accountId) {
+    CachedAccount cached = cache.getIfPresent(accountId);
+    return cached == null ? Optional.empty() : Optional.of(cached.toAccount());
+  }
+
+  /**
+   * Generation to pass to {@link #putIfUnchanged} for a value about to be read
+   * from the database. Must be taken before the read.
+   */
+  public long stamp(String accountId) {
+    int stripe = stripeOf(accountId);
+    return pendingWrites.get(stripe) > 0 ? NO_STAMP : generations.get(stripe);
+  }
+
+  /**
+   * Caches a value read from the database, unless a write started or finished
+   * on its stripe since {@code stamp} was taken.
+   */
+  public void putIfUnchanged(Account account, long stamp) {
+    if (stamp == NO_STAMP) {
+      stalePutsRejected.increment();
+      return;
+    }
+    int stripe = stripeOf(account.getId());
+    cache.asMap().compute(account.getId(), (id, current) -> {
+      if (pendingWrites.get(stripe) > 0 || generations.get(stripe) != stamp) {
+        stalePutsRejected.increment();
+        return current;
+      }
+      return CachedAccount.of(account);
+    });
+  }
+
+  /**
+   * Marks the accounts as being written. Until {@link #completeWrite} no value
+   * read from the database is cached for them.
+   */
+  public void beginWrite(Collection<String> accountIds) {
+    for (String accountId : accountIds) {
+      pendingWrites.incrementAndGet(stripeOf(accountId));
+    }
+  }
+
+  /**
+   * Ends a write started with {@link #beginWrite}. On commit, {@code onCommit}
+   * updates the entries (see {@link #applyDelta} and {@link #put}) before new
+   * reads can be cached; on rollback the cached pre-write state is still valid
+   * and is kept.
+   */
+  public void completeWrite(Collection<String> accountIds, boolean committed, Runnable onCommit) {
+    try {
+      if (committed) {
+        onCommit.run();
+      }
+    } finally {
+      for (String accountId : accountIds) {
+        int stripe = stripeOf(accountId);
+        generations.incrementAndGet(stripe);
+        pendingWrites.decrementAndGet(stripe);
+      }
+    }
+  }
+
+  /**
+   * Write-through of a committed state. Only for use inside
+   * {@link #completeWrite}.
+   */
+  public void put(Account account) {
+    cache.put(account.getId(), CachedAccount.of(account));
+  }
+
+  /**
+   * Applies a committed balance change to the cached entry, if any. Only for
+   * use inside {@link #completeWrite}.
+   */
+  public void applyDelta(String accountId, Money delta) {
+    cache.asMap().computeIfPresent(accountId, (id, current) -> current.currency() == delta.getCurrencyUnit()
+        ? current.withBalance(Math.addExact(current.balanceMinor(), delta.getMinorUnits()))
+        : null);
+  }
+
+  public void invalidate(String accountId) {
+    cache.invalidate(accountId);
+  }
+
+  public long getStalePutsRejected() {
+    return stalePutsRejected.sum();
+  }
+
+  Cache<String, CachedAccount> getNativeCache() {
+    return cache;
+  }
+
+  private static int stripeOf(String accountId) {
+    int h = accountId.hashCode();
+    h ^= (h >>> 16);
+    return h & (STRIPES - 1);
+  }
+
+  /**
+   * Immutable cached state of an account.
+   */
+  record CachedAccount(String id, String userId, Currency currency, long balanceMinor, boolean active,
+      LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    static CachedAccount of(Account account) {
+      return new CachedAccount(account.getId(), account.getUserId(), account.getBalance().getCurrencyUnit(),
+          account.getBalance().getMinorUnits(), account.isActive(), account.getCreatedAt(), account.getUpdatedAt());
+    }
+
+    CachedAccount withBalance(long newBalanceMinor) {
+      return new CachedAccount(id, userId, currency, newBalanceMinor, active, createdAt, updatedAt);
+    }
+
+    Account toAccount() {
+      return Account.reconstitute(id, userId, Money.ofMinor(balanceMinor, currency), active, createdAt, updatedAt);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.nexusbank.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/accountcache}) summarizing the
+ * effectiveness of {@link AccountCache}.
+ */
+@Component
+@Endpoint(id = "accountcache")
+@ConditionalOnProperty(name = "nexusbank.cache.accounts.enabled", havingValue = "true")
+public class AccountCacheEndpoint {
+
+  private final AccountCache accountCache;
+
+  public AccountCacheEndpoint(AccountCache accountCache) {
+    this.accountCache = accountCache;
+  }
+
+  @ReadOperation
+  public Map<String, Object> statistics() {
+    CacheStats stats = accountCache.getNativeCache().stats();
+    return Map.of(
+        "size", accountCache.getNativeCache().estimatedSize(),
+        "hits", stats.hitCount(),
+        "misses", stats.missCount(),
+        "hitRate", stats.hitRate(),
+        "evictions", stats.evictionCount(),
+        "stalePutsRejected", accountCache.getStalePutsRejected());
+  }
+}
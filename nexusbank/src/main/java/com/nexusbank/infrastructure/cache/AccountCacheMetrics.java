@@ -0,0 +1,33 @@
+package com.nexusbank.infrastructure.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the hit, miss, eviction and size statistics of
+ * {@link AccountCache} through Micrometer ({@code cache.*} with
+ * {@code cache=accounts}, visible under /actuator/metrics).
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.cache.accounts.enabled", havingValue = "true")
+public class AccountCacheMetrics implements MeterBinder {
+
+  private final AccountCache accountCache;
+
+  public AccountCacheMetrics(AccountCache accountCache) {
+    this.accountCache = accountCache;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, accountCache.getNativeCache(), "accounts");
+    FunctionCounter.builder("nexusbank.account.cache.stale.puts", accountCache,
+        AccountCache::getStalePutsRejected)
+        .description("Database reads not cached because a write on the account was in flight")
+        .register(registry);
+  }
+}
@@ -0,0 +1,153 @@
+package com.nexusbank.infrastructure.cache;
+
+import com.nexusbank.application.port.out.AdjustBalancePort;
+import com.nexusbank.application.port.out.LoadAccountPort;
+import com.nexusbank.application.port.out.SaveAccountPort;
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.persistence.adapter.AccountPersistenceAdapter;
+import com.nexusbank.infrastructure.replica.ReplicaRouting;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Decorates the account ports with {@link AccountCache}. Plain reads by id are
+ * served from the cache; saves and balance adjustments write through to it
+ * once their transaction has committed.
+ *
+ * Reads for update always go to the database, whatever the concurrency
+ * strategy: balance checks must not run against an entry that another node
+ * has already made stale. They refresh the cache on the way back.
+ *
+ * The cache is per JVM and nothing invalidates it across nodes, so plain
+ * reads may lag writes made elsewhere by up to the TTL. Only enable it with a
+ * single replica.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "nexusbank.cache.accounts.enabled", havingValue = "true")
+public class CachingAccountAdapter implements LoadAccountPort, SaveAccountPort, AdjustBalancePort {
+
+  private final AccountPersistenceAdapter accounts;
+  private final AdjustBalancePort ledger;
+  private final AccountCache cache;
+
+  public CachingAccountAdapter(AccountPersistenceAdapter accounts,
+      @Qualifier("ledger") AdjustBalancePort ledger, AccountCache cache) {
+    this.accounts = accounts;
+    this.ledger = ledger;
+    this.cache = cache;
+  }
+
+  @Override
+  public Optional<Account> loadAccount(String accountId) {
+    Optional<Account> cached = cache.get(accountId);
+    if (cached.isPresent()) {
+      return cached;
+    }
+    long stamp = cache.stamp(accountId);
+    Optional<Account> loaded = accounts.loadAccount(accountId);
+    // Una réplica puede no haber visto aún una escritura ya reflejada en la
+    // caché: lo leído de ella no se cachea
+    if (!ReplicaRouting.isReplicaRead()) {
+      loaded.ifPresent(account -> cache.putIfUnchanged(account, stamp));
+    }
+    return loaded;
+  }
+
+  @Override
+  public Optional<Account> loadAccountForUpdate(String accountId) {
+    long stamp = cache.stamp(accountId);
+    Optional<Account> loaded = accounts.loadAccountForUpdate(accountId);
+    loaded.ifPresent(account -> cache.putIfUnchanged(account, stamp));
+    return loaded;
+  }
+
+  @Override
+  public List<Account> loadAccountsForUpdate(Collection<String> accountIds) {
+    Map<String, Long> stamps = new HashMap<>();
+    for (String accountId : accountIds) {
+      stamps.put(accountId, cache.stamp(accountId));
+    }
+    List<Account> loaded = accounts.loadAccountsForUpdate(accountIds);
+    for (Account account : loaded) {
+      cache.putIfUnchanged(account, stamps.get(account.getId()));
+    }
+    return loaded;
+  }
+
+  @Override
+  public List<Account> loadAccountsByUserId(String userId) {
+    return accounts.loadAccountsByUserId(userId);
+  }
+
+  @Override
+  public Account saveAccount(Account account) {
+    Set<String> accountIds = Set.of(account.getId());
+    cache.beginWrite(accountIds);
+    Account saved;
+    try {
+      saved = accounts.saveAccount(account);
+    } catch (RuntimeException e) {
+      completeAfterTransaction(accountIds, () -> {
+      }, false);
+      throw e;
+    }
+    completeAfterTransaction(accountIds, () -> cache.put(saved), true);
+    return saved;
+  }
+
+  @Override
+  public List<Transaction> adjustBalances(List<BalanceAdjustment> adjustments, List<Transaction> transactions) {
+    Map<String, Money> deltas = new LinkedHashMap<>();
+    for (BalanceAdjustment adjustment : adjustments) {
+      deltas.merge(adjustment.accountId(), adjustment.delta(), Money::add);
+    }
+    cache.beginWrite(deltas.keySet());
+    List<Transaction> result;
+    try {
+      result = ledger.adjustBalances(adjustments, transactions);
+    } catch (RuntimeException e) {
+      completeAfterTransaction(deltas.keySet(), () -> {
+      }, false);
+      throw e;
+    }
+    completeAfterTransaction(deltas.keySet(), () -> deltas.forEach(cache::applyDelta), true);
+    return result;
+  }
+
+  @Override
+  public boolean creditsNeedAccountLock() {
+    return ledger.creditsNeedAccountLock();
+  }
+
+  /**
+   * Completes the cache write when the surrounding transaction finishes, or
+   * right away when there is none.
+   */
+  private void completeAfterTransaction(Collection<String> accountIds, Runnable onCommit, boolean succeeded) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      cache.completeWrite(accountIds, succeeded, onCommit);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        cache.completeWrite(accountIds, succeeded && status == STATUS_COMMITTED, onCommit);
+      }
+    });
+  }
+}
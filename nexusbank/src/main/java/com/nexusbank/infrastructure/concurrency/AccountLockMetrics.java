@@ -0,0 +1,47 @@
+package com.nexusbank.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the contention counters of {@link StripedAccountLockManager}
+ * through Micrometer (visible under /actuator/metrics).
+ */
+@Component
+public class AccountLockMetrics implements MeterBinder {
+
+  private final StripedAccountLockManager lockManager;
+
+  public AccountLockMetrics(StripedAccountLockManager lockManager) {
+    this.lockManager = lockManager;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("nexusbank.account.locks.acquisitions", lockManager,
+        StripedAccountLockManager::getAcquisitions)
+        .description("Account lock acquisitions")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.account.locks.contended", lockManager,
+        StripedAccountLockManager::getContendedAcquisitions)
+        .description("Account lock acquisitions that had to wait for another holder")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.account.locks.timeouts", lockManager,
+        StripedAccountLockManager::getTimeouts)
+        .description("Account lock acquisitions that gave up after the configured timeout")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.account.locks.wait", lockManager,
+        manager -> manager.getWaitNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+        .description("Total time spent waiting for contended account locks")
+        .baseUnit("seconds")
+        .register(registry);
+    Gauge.builder("nexusbank.account.locks.stripes", lockManager, StripedAccountLockManager::getStripeCount)
+        .description("Number of lock stripes")
+        .register(registry);
+  }
+}
@@ -0,0 +1,36 @@
+package com.nexusbank.infrastructure.concurrency;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/accountlocks}) listing the hottest lock
+ * stripes, so hot accounts can be identified.
+ */
+@Component
+@Endpoint(id = "accountlocks")
+public class AccountLocksEndpoint {
+
+  private static final int DEFAULT_LIMIT = 20;
+
+  private final StripedAccountLockManager lockManager;
+
+  public AccountLocksEndpoint(StripedAccountLockManager lockManager) {
+    this.lockManager = lockManager;
+  }
+
+  @ReadOperation
+  public Map<String, Object> contention() {
+    List<StripedAccountLockManager.StripeContention> hottest = lockManager.hottestStripes(DEFAULT_LIMIT);
+    return Map.of(
+        "stripes", lockManager.getStripeCount(),
+        "acquisitions", lockManager.getAcquisitions(),
+        "contendedAcquisitions", lockManager.getContendedAcquisitions(),
+        "timeouts", lockManager.getTimeouts(),
+        "hottestStripes", hottest);
+  }
+}
@@ -0,0 +1,137 @@
+package com.nexusbank.infrastructure.concurrency;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of connections borrowed at the same time with a fair
+ * semaphore in front of the pool. With one virtual thread per request there
+ * is no thread pool left to bound concurrency, so thousands of requests can
+ * reach the pool at once; here they queue in arrival order on the semaphore,
+ * which parks virtual threads without holding a carrier, and only as many as
+ * the pool can serve ever reach it. A permit is returned when the connection
+ * is closed.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+  private final int maxConnections;
+  private final Semaphore permits;
+  private final long waitNanos;
+
+  private final LongAdder timeouts = new LongAdder();
+
+  public ConcurrencyLimitedDataSource(DataSource target, int maxConnections, long waitMillis) {
+    super(target);
+    if (maxConnections <= 0) {
+      throw new IllegalArgumentException("Maximum number of connections must be positive");
+    }
+    this.maxConnections = maxConnections;
+    this.permits = new Semaphore(maxConnections, true);
+    this.waitNanos = TimeUnit.MILLISECONDS.toNanos(waitMillis);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return releasingOnClose(super.getConnection());
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return releasingOnClose(super.getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * The limiter in a chain of {@link DelegatingDataSource}s, which may have
+   * other decorators (such as replica routing) around it.
+   *
+   * @return the limiter, or {@code null} if the chain has none
+   */
+  public static ConcurrencyLimitedDataSource find(DataSource dataSource) {
+    DataSource current = dataSource;
+    while (current instanceof DelegatingDataSource delegating) {
+      if (current instanceof ConcurrencyLimitedDataSource limited) {
+        return limited;
+      }
+      current = delegating.getTargetDataSource();
+    }
+    return null;
+  }
+
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  /**
+   * Connections currently borrowed through this data source.
+   */
+  public int getActiveConnections() {
+    return maxConnections - permits.availablePermits();
+  }
+
+  /**
+   * Approximate number of threads waiting for a permit.
+   */
+  public int getWaitingThreads() {
+    return permits.getQueueLength();
+  }
+
+  /**
+   * Requests that gave up waiting for a connection.
+   */
+  public long getTimeouts() {
+    return timeouts.sum();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(waitNanos, TimeUnit.NANOSECONDS)) {
+        timeouts.increment();
+        throw new SQLTransientConnectionException("No database connection available after waiting "
+            + TimeUnit.NANOSECONDS.toMillis(waitNanos) + " ms (" + maxConnections + " in use)");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+    }
+  }
+
+  private Connection releasingOnClose(Connection connection) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+        (proxy, method, args) -> {
+          try {
+            return method.invoke(connection, args);
+          } catch (InvocationTargetException e) {
+            throw e.getCause();
+          } finally {
+            // Se libera una sola vez aunque close() se llame varias veces
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0
+                && released.compareAndSet(false, true)) {
+              permits.release();
+            }
+          }
+        });
+  }
+}
@@ -0,0 +1,176 @@
+package com.nexusbank.infrastructure.concurrency;
+
+import com.nexusbank.application.port.in.DepositMoneyUseCase;
+import com.nexusbank.application.service.TransactionService;
+import com.nexusbank.domain.model.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Merges concurrent deposits to the same account into a single
+ * {@link DepositMoneyUseCase#depositBatch} call: one account lock, one credit
+ * for the sum and one batched insert of the transactions, instead of one of
+ * each per deposit queuing on the account row.
+ *
+ * The first deposit to an account opens a group and waits up to
+ * {@code window-us} for others to join it, or until the group holds
+ * {@code max-batch-size} deposits; then it applies the whole group and hands
+ * every member its own transaction. A lone deposit goes through the usual
+ * path. If the group cannot be applied as a whole (an amount the account does
+ * not accept, an account that does not exist...) nothing was applied and every
+ * member retries on its own, so each caller gets its own outcome.
+ *
+ * Deposits with an idempotency key are not coalesced: their outcome has to be
+ * recorded in the same unit of work as their money movement.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "nexusbank.deposits.coalescing.enabled", havingValue = "true")
+public class DepositCoalescer implements DepositMoneyUseCase {
+
+  private final DepositMoneyUseCase deposits;
+  private final long windowNanos;
+  private final int maxBatchSize;
+  private final ConcurrentHashMap<String, Group> open = new ConcurrentHashMap<>();
+
+  private final LongAdder coalescedDeposits = new LongAdder();
+  private final LongAdder groups = new LongAdder();
+  private final LongAdder retriedDeposits = new LongAdder();
+
+  public DepositCoalescer(TransactionService transactionService,
+      @Value("${nexusbank.deposits.coalescing.window-us:1000}") long windowMicros,
+      @Value("${nexusbank.deposits.coalescing.max-batch-size:100}") int maxBatchSize) {
+    this((DepositMoneyUseCase) transactionService, windowMicros, maxBatchSize);
+  }
+
+  DepositCoalescer(DepositMoneyUseCase deposits, long windowMicros, int maxBatchSize) {
+    if (windowMicros < 0) {
+      throw new IllegalArgumentException("Deposit coalescing window cannot be negative");
+    }
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Deposit coalescing batch size must be positive");
+    }
+    this.deposits = deposits;
+    this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  @Override
+  public Transaction depositMoney(String accountId, BigDecimal amount) {
+    Member member = new Member(amount);
+    Group group = open.compute(accountId, (id, current) -> {
+      if (current == null || current.full) {
+        return new Group(Thread.currentThread(), member);
+      }
+      current.members.add(member);
+      if (current.members.size() >= maxBatchSize) {
+        // El grupo ya no admite más: el líder no espera al resto de la ventana
+        current.full = true;
+        LockSupport.unpark(current.leader);
+      }
+      return current;
+    });
+
+    // Un hilo solo puede estar en un depósito a la vez: si abrió el grupo, lo lidera
+    Transaction transaction = group.leader == Thread.currentThread()
+        ? lead(accountId, group)
+        : member.result.join();
+    // null: el grupo no se pudo aplicar entero y cada depósito va por su cuenta
+    if (transaction == null) {
+      retriedDeposits.increment();
+      return deposits.depositMoney(accountId, amount);
+    }
+    return transaction;
+  }
+
+  @Override
+  public Transaction depositMoney(String accountId, BigDecimal amount, String idempotencyKey) {
+    return deposits.depositMoney(accountId, amount, idempotencyKey);
+  }
+
+  @Override
+  public List<Transaction> depositBatch(String accountId, List<BigDecimal> amounts) {
+    return deposits.depositBatch(accountId, amounts);
+  }
+
+  private Transaction lead(String accountId, Group group) {
+    long deadline = System.nanoTime() + windowNanos;
+    long remaining;
+    while (!group.full && (remaining = deadline - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(this, remaining);
+    }
+    // A partir de aquí nadie más se une: los siguientes abren otro grupo
+    open.remove(accountId, group);
+
+    List<Member> members = group.members;
+    groups.increment();
+    coalescedDeposits.add(members.size());
+    if (members.size() == 1) {
+      return deposits.depositMoney(accountId, members.get(0).amount);
+    }
+
+    List<Transaction> transactions = null;
+    try {
+      List<BigDecimal> amounts = new ArrayList<>(members.size());
+      for (Member member : members) {
+        amounts.add(member.amount);
+      }
+      transactions = deposits.depositBatch(accountId, amounts);
+    } catch (RuntimeException e) {
+      // El lote se deshizo entero; cada miembro lo reintenta por separado
+    } finally {
+      for (int i = 1; i < members.size(); i++) {
+        members.get(i).result.complete(transactions == null ? null : transactions.get(i));
+      }
+    }
+    return transactions == null ? null : transactions.get(0);
+  }
+
+  public long getCoalescedDeposits() {
+    return coalescedDeposits.sum();
+  }
+
+  public long getGroups() {
+    return groups.sum();
+  }
+
+  public long getRetriedDeposits() {
+    return retriedDeposits.sum();
+  }
+
+  /**
+   * Deposits waiting for the same account. Members are only added inside
+   * {@link ConcurrentHashMap#compute} and the leader reads them once the group
+   * has left the map, so the list needs no further synchronization.
+   */
+  private static final class Group {
+    private final Thread leader;
+    private final List<Member> members = new ArrayList<>();
+    private volatile boolean full;
+
+    private Group(Thread leader, Member first) {
+      this.leader = leader;
+      this.members.add(first);
+    }
+  }
+
+  private static final class Member {
+    private final BigDecimal amount;
+    private final CompletableFuture<Transaction> result = new CompletableFuture<>();
+
+    private Member(BigDecimal amount) {
+      this.amount = amount;
+    }
+  }
+}
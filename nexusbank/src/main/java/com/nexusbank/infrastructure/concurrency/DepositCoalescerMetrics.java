@@ -0,0 +1,38 @@
+package com.nexusbank.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the counters of {@link DepositCoalescer} through Micrometer.
+ * Deposits divided by groups is the average group size: close to one means
+ * the window is not catching concurrent deposits.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.deposits.coalescing.enabled", havingValue = "true")
+public class DepositCoalescerMetrics implements MeterBinder {
+
+  private final DepositCoalescer coalescer;
+
+  public DepositCoalescerMetrics(DepositCoalescer coalescer) {
+    this.coalescer = coalescer;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("nexusbank.deposits.coalescing.deposits", coalescer,
+        DepositCoalescer::getCoalescedDeposits)
+        .description("Deposits that went through the coalescing window")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.deposits.coalescing.groups", coalescer, DepositCoalescer::getGroups)
+        .description("Groups of deposits applied together, lone deposits included")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.deposits.coalescing.retries", coalescer,
+        DepositCoalescer::getRetriedDeposits)
+        .description("Deposits applied on their own after their group could not be applied as a whole")
+        .register(registry);
+  }
+}
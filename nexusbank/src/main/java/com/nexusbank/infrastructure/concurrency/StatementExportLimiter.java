@@ -0,0 +1,86 @@
+package com.nexusbank.infrastructure.concurrency;
+
+import com.nexusbank.domain.exception.StatementExportsBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of statement exports running at the same time. An export
+ * holds a pooled connection inside one repeatable-read transaction for as long
+ * as the client takes to download it, so without a cap a handful of slow
+ * downloads can take the whole pool away from payments.
+ *
+ * A permit is taken before the response starts, so an export over the cap is
+ * rejected straight away with {@link StatementExportsBusyException} instead of
+ * queuing for a connection, and is returned when the body has been written.
+ */
+@Component
+public class StatementExportLimiter {
+
+  private final int maxConcurrentExports;
+  private final Semaphore permits;
+
+  private final LongAdder rejected = new LongAdder();
+
+  public StatementExportLimiter(
+      @Value("${nexusbank.statements.max-concurrent-exports:2}") int maxConcurrentExports) {
+    if (maxConcurrentExports <= 0) {
+      throw new IllegalArgumentException("Maximum number of concurrent statement exports must be positive");
+    }
+    this.maxConcurrentExports = maxConcurrentExports;
+    this.permits = new Semaphore(maxConcurrentExports);
+  }
+
+  /**
+   * Takes a permit without waiting for one.
+   *
+   * @throws StatementExportsBusyException if every permit is in use
+   */
+  public Permit acquire() {
+    if (!permits.tryAcquire()) {
+      rejected.increment();
+      throw new StatementExportsBusyException(maxConcurrentExports);
+    }
+    return new Permit();
+  }
+
+  public int getMaxConcurrentExports() {
+    return maxConcurrentExports;
+  }
+
+  /**
+   * Exports currently holding a permit.
+   */
+  public int getActiveExports() {
+    return maxConcurrentExports - permits.availablePermits();
+  }
+
+  /**
+   * Exports rejected because the cap was reached.
+   */
+  public long getRejected() {
+    return rejected.sum();
+  }
+
+  /**
+   * Permit of one export; closing it more than once releases it only once.
+   */
+  public final class Permit implements AutoCloseable {
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permit() {
+    }
+
+    @Override
+    public void close() {
+      if (released.compareAndSet(false, true)) {
+        permits.release();
+      }
+    }
+  }
+}
@@ -0,0 +1,197 @@
+package com.nexusbank.infrastructure.concurrency;
+
+import com.nexusbank.application.port.out.AccountLockPort;
+import com.nexusbank.domain.exception.AccountLockTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-JVM lock manager that maps account ids onto a fixed array of
+ * {@link ReentrantLock} stripes. Operations on unrelated accounts almost always
+ * land on different stripes and run in parallel; conflicting operations are
+ * serialized. Multi-account acquisitions sort the stripe indexes first, which
+ * gives every caller the same global order and rules out deadlocks.
+ */
+@Component
+public class StripedAccountLockManager implements AccountLockPort {
+
+  private final ReentrantLock[] stripes;
+  private final int mask;
+  private final long timeoutNanos;
+
+  private final LongAdder acquisitions = new LongAdder();
+  private final LongAdder contendedAcquisitions = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final AtomicLongArray contendedPerStripe;
+  private final AtomicLongArray waitNanosPerStripe;
+
+  public StripedAccountLockManager(
+      @Value("${nexusbank.locks.stripes:1024}") int stripes,
+      @Value("${nexusbank.locks.timeout-ms:5000}") long timeoutMillis) {
+    if (stripes <= 0) {
+      throw new IllegalArgumentException("Number of lock stripes must be positive");
+    }
+    int size = Integer.highestOneBit(stripes - 1) << 1;
+    size = Math.max(size, 1);
+    this.stripes = new ReentrantLock[size];
+    for (int i = 0; i < size; i++) {
+      this.stripes[i] = new ReentrantLock();
+    }
+    this.mask = size - 1;
+    this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    this.contendedPerStripe = new AtomicLongArray(size);
+    this.waitNanosPerStripe = new AtomicLongArray(size);
+  }
+
+  @Override
+  public AccountLock lock(String accountId) {
+    int stripe = stripeOf(accountId);
+    acquire(stripe, accountId);
+    return () -> stripes[stripe].unlock();
+  }
+
+  @Override
+  public AccountLock lock(String firstAccountId, String secondAccountId) {
+    int first = stripeOf(firstAccountId);
+    int second = stripeOf(secondAccountId);
+    if (first == second) {
+      return lock(firstAccountId);
+    }
+    int low = Math.min(first, second);
+    int high = Math.max(first, second);
+    acquire(low, low == first ? firstAccountId : secondAccountId);
+    try {
+      acquire(high, high == first ? firstAccountId : secondAccountId);
+    } catch (RuntimeException e) {
+      stripes[low].unlock();
+      throw e;
+    }
+    return () -> {
+      stripes[high].unlock();
+      stripes[low].unlock();
+    };
+  }
+
+  @Override
+  public AccountLock lockAll(Collection<String> accountIds) {
+    TreeMap<Integer, String> byStripe = new TreeMap<>();
+    for (String accountId : accountIds) {
+      byStripe.putIfAbsent(stripeOf(accountId), accountId);
+    }
+    int[] ordered = new int[byStripe.size()];
+    int held = 0;
+    try {
+      for (Map.Entry<Integer, String> entry : byStripe.entrySet()) {
+        acquire(entry.getKey(), entry.getValue());
+        ordered[held++] = entry.getKey();
+      }
+    } catch (RuntimeException e) {
+      releaseInReverse(ordered, held);
+      throw e;
+    }
+    return () -> releaseInReverse(ordered, ordered.length);
+  }
+
+  /**
+   * Number of stripes (always a power of two).
+   */
+  public int getStripeCount() {
+    return stripes.length;
+  }
+
+  public long getAcquisitions() {
+    return acquisitions.sum();
+  }
+
+  public long getContendedAcquisitions() {
+    return contendedAcquisitions.sum();
+  }
+
+  public long getWaitNanos() {
+    return waitNanos.sum();
+  }
+
+  public long getTimeouts() {
+    return timeouts.sum();
+  }
+
+  /**
+   * Stripes with the most contended acquisitions, highest first.
+   * 
+   * @param limit Maximum number of stripes to return
+   * @return Contention statistics of the hottest stripes
+   */
+  public List<StripeContention> hottestStripes(int limit) {
+    List<StripeContention> result = new ArrayList<>();
+    for (int i = 0; i < stripes.length; i++) {
+      long contended = contendedPerStripe.get(i);
+      if (contended > 0) {
+        result.add(new StripeContention(i, contended,
+            TimeUnit.NANOSECONDS.toMillis(waitNanosPerStripe.get(i)),
+            stripes[i].getQueueLength()));
+      }
+    }
+    result.sort(Comparator.comparingLong(StripeContention::contendedAcquisitions).reversed());
+    return result.size() > limit ? result.subList(0, limit) : result;
+  }
+
+  int stripeOf(String accountId) {
+    int h = accountId.hashCode();
+    // Mezcla los bits altos para que ids con prefijos comunes no colisionen
+    h ^= (h >>> 16);
+    h *= 0x85ebca6b;
+    h ^= (h >>> 13);
+    return h & mask;
+  }
+
+  private void acquire(int stripe, String accountId) {
+    ReentrantLock lock = stripes[stripe];
+    acquisitions.increment();
+    if (lock.tryLock()) {
+      return;
+    }
+
+    contendedAcquisitions.increment();
+    contendedPerStripe.incrementAndGet(stripe);
+    long start = System.nanoTime();
+    boolean acquired;
+    try {
+      acquired = lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AccountLockTimeoutException(accountId);
+    } finally {
+      long waited = System.nanoTime() - start;
+      waitNanos.add(waited);
+      waitNanosPerStripe.addAndGet(stripe, waited);
+    }
+    if (!acquired) {
+      timeouts.increment();
+      throw new AccountLockTimeoutException(accountId);
+    }
+  }
+
+  private void releaseInReverse(int[] ordered, int count) {
+    for (int i = count - 1; i >= 0; i--) {
+      stripes[ordered[i]].unlock();
+    }
+  }
+
+  /**
+   * Contention statistics of a single stripe.
+   */
+  public record StripeContention(int stripe, long contendedAcquisitions, long waitMillis, int queuedThreads) {
+  }
+}
@@ -0,0 +1,60 @@
+package com.nexusbank.infrastructure.concurrency;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to virtual threads, which need a Java 21 runtime, from code that is
+ * still compiled for Java 17. The Java 21 methods are looked up reflectively
+ * once; on an older runtime {@link #isSupported()} is false and
+ * {@link #newPerTaskExecutor()} fails fast.
+ */
+public final class VirtualThreads {
+
+  private static final Method NEW_PER_TASK_EXECUTOR = lookup(Executors.class, "newVirtualThreadPerTaskExecutor");
+  private static final Method IS_VIRTUAL = lookup(Thread.class, "isVirtual");
+
+  private VirtualThreads() {
+  }
+
+  public static boolean isSupported() {
+    return NEW_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * Executor that starts a new virtual thread for every task.
+   * 
+   * @throws IllegalStateException if the runtime has no virtual threads
+   */
+  public static ExecutorService newPerTaskExecutor() {
+    if (!isSupported()) {
+      throw new IllegalStateException("Virtual threads require Java 21 or later, running on Java "
+          + Runtime.version().feature());
+    }
+    try {
+      return (ExecutorService) NEW_PER_TASK_EXECUTOR.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Cannot create a virtual thread executor", e);
+    }
+  }
+
+  public static boolean isVirtual(Thread thread) {
+    if (IS_VIRTUAL == null) {
+      return false;
+    }
+    try {
+      return (Boolean) IS_VIRTUAL.invoke(thread);
+    } catch (ReflectiveOperationException e) {
+      return false;
+    }
+  }
+
+  private static Method lookup(Class<?> type, String name) {
+    try {
+      return type.getMethod(name);
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
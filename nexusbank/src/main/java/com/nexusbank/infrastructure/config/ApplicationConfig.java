@@ -0,0 +1,124 @@
+package com.nexusbank.infrastructure.config;
+
+import com.nexusbank.application.port.out.AccountLockPort;
+import com.nexusbank.application.port.out.AdjustBalancePort;
+import com.nexusbank.application.port.out.BalanceShardPort;
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import com.nexusbank.application.port.out.IdempotencyPort;
+import com.nexusbank.application.port.out.LoadAccountPort;
+import com.nexusbank.application.port.out.LoadBalanceAtPort;
+import com.nexusbank.application.port.out.LoadStatementPort;
+import com.nexusbank.application.port.out.LoadTransactionHistoryPort;
+import com.nexusbank.application.port.out.LoadTransactionPort;
+import com.nexusbank.application.port.out.LoadTransactionProofPort;
+import com.nexusbank.application.port.out.LoadUserPort;
+import com.nexusbank.application.port.out.SaveAccountPort;
+import com.nexusbank.application.port.out.SaveUserPort;
+import com.nexusbank.application.port.out.TransferQueuePort;
+import com.nexusbank.application.port.out.UnitOfWorkPort;
+import com.nexusbank.application.service.AccountService;
+import com.nexusbank.application.service.AccountStatementService;
+import com.nexusbank.application.service.TransactionHistoryService;
+import com.nexusbank.application.service.TransactionProofService;
+import com.nexusbank.application.service.TransactionService;
+import com.nexusbank.application.service.TransferSettlementService;
+import com.nexusbank.application.service.UserService;
+import com.nexusbank.infrastructure.persistence.adapter.AccountBalanceSource;
+import com.nexusbank.infrastructure.persistence.adapter.AccountPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.BalanceAdjustmentPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.BalanceShardPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.BalanceShards;
+import com.nexusbank.infrastructure.persistence.adapter.ConcurrencyStrategy;
+import com.nexusbank.infrastructure.persistence.adapter.JournalBalanceReader;
+import com.nexusbank.infrastructure.persistence.mapper.AccountMapper;
+import com.nexusbank.infrastructure.persistence.repository.AccountRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Registra los servicios de aplicación como beans. Los servicios no dependen de
+ * Spring, por lo que se cablean aquí contra los adaptadores de infraestructura.
+ * También registra los adaptadores de persistencia cuyos colaboradores dependen
+ * del modo del libro mayor, para pasárselos explícitamente.
+ */
+@Configuration
+public class ApplicationConfig {
+
+    @Bean
+    public AccountService accountService(SaveAccountPort saveAccountPort, LoadAccountPort loadAccountPort,
+            LoadUserPort loadUserPort, IdGeneratorPort idGeneratorPort) {
+        return new AccountService(saveAccountPort, loadAccountPort, loadUserPort, idGeneratorPort);
+    }
+
+    @Bean
+    public TransactionService transactionService(LoadAccountPort loadAccountPort, AdjustBalancePort adjustBalancePort,
+            AccountLockPort accountLockPort, UnitOfWorkPort unitOfWorkPort, IdempotencyPort idempotencyPort,
+            IdGeneratorPort idGeneratorPort, ObjectProvider<BalanceShardPort> balanceShardPort) {
+        // Solo hay cuentas repartidas con nexusbank.ledger.balance-shards.enabled=true
+        return new TransactionService(loadAccountPort, adjustBalancePort, accountLockPort, unitOfWorkPort,
+                idempotencyPort, idGeneratorPort, balanceShardPort.getIfAvailable(BalanceShardPort::none));
+    }
+
+    @Bean
+    public AccountPersistenceAdapter accountPersistenceAdapter(AccountRepository accountRepository,
+            AccountMapper accountMapper,
+            @Value("${nexusbank.persistence.concurrency-strategy:optimistic}") String concurrencyStrategy,
+            ObjectProvider<JournalBalanceReader> journalBalanceReader,
+            ObjectProvider<BalanceShardPersistenceAdapter> balanceShards) {
+        // En modo diario el saldo sale del diario; con saldos repartidos, de la
+        // columna más sus filas parciales; si no, solo de la columna
+        JournalBalanceReader journal = journalBalanceReader.getIfAvailable();
+        BalanceShardPersistenceAdapter shards = balanceShards.getIfAvailable();
+        AccountBalanceSource balances = journal != null ? journal
+                : shards != null ? shards : AccountBalanceSource.row();
+        return new AccountPersistenceAdapter(accountRepository, accountMapper,
+                ConcurrencyStrategy.from(concurrencyStrategy), balances);
+    }
+
+    @Bean
+    @Qualifier("ledger")
+    @ConditionalOnProperty(name = "nexusbank.ledger.mode", havingValue = "balance")
+    public BalanceAdjustmentPersistenceAdapter balanceAdjustmentPersistenceAdapter(JdbcTemplate jdbcTemplate,
+            ObjectProvider<BalanceShards> balanceShards) {
+        // Solo hay cuentas repartidas con nexusbank.ledger.balance-shards.enabled=true
+        return new BalanceAdjustmentPersistenceAdapter(jdbcTemplate, balanceShards.getIfAvailable(BalanceShards::none));
+    }
+
+    @Bean
+    public TransferSettlementService transferSettlementService(LoadAccountPort loadAccountPort,
+            AdjustBalancePort adjustBalancePort, AccountLockPort accountLockPort, UnitOfWorkPort unitOfWorkPort,
+            TransferQueuePort transferQueuePort, LoadTransactionPort loadTransactionPort,
+            IdempotencyPort idempotencyPort, IdGeneratorPort idGeneratorPort) {
+        return new TransferSettlementService(loadAccountPort, adjustBalancePort, accountLockPort, unitOfWorkPort,
+                transferQueuePort, loadTransactionPort, idempotencyPort, idGeneratorPort);
+    }
+
+    @Bean
+    public TransactionHistoryService transactionHistoryService(LoadAccountPort loadAccountPort,
+            LoadTransactionHistoryPort loadTransactionHistoryPort) {
+        return new TransactionHistoryService(loadAccountPort, loadTransactionHistoryPort);
+    }
+
+    @Bean
+    public TransactionProofService transactionProofService(LoadTransactionProofPort loadTransactionProofPort,
+            TransferQueuePort transferQueuePort, LoadTransactionPort loadTransactionPort) {
+        return new TransactionProofService(loadTransactionProofPort, transferQueuePort, loadTransactionPort);
+    }
+
+    @Bean
+    public AccountStatementService accountStatementService(LoadStatementPort loadStatementPort,
+            LoadBalanceAtPort loadBalanceAtPort) {
+        return new AccountStatementService(loadStatementPort, loadBalanceAtPort);
+    }
+
+    @Bean
+    public UserService userService(SaveUserPort saveUserPort, LoadUserPort loadUserPort,
+            IdGeneratorPort idGeneratorPort) {
+        return new UserService(saveUserPort, loadUserPort, idGeneratorPort);
+    }
+}
@@ -0,0 +1,51 @@
+package com.nexusbank.infrastructure.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.util.function.UnaryOperator;
+
+/**
+ * Wraps every {@link DataSource} bean once with a decorator. Several of these
+ * can be active at the same time, and their order fixes the chain: post
+ * processors run from lowest to highest order, so the one with the lowest
+ * order wraps the pool itself and the one with the highest ends up outermost.
+ *
+ * The chain is, from the outside in:
+ * {@link #REPLICA_ROUTING} → {@link #CONCURRENCY_LIMIT} → primary pool. Replica
+ * reads are routed before reaching the limiter, which therefore only counts
+ * connections of the primary pool it was sized for.
+ *
+ * {@code @Bean} methods must declare this type, not {@link BeanPostProcessor}:
+ * Spring reads the order from the declared type before creating the bean.
+ */
+public final class DataSourceWrappingPostProcessor implements BeanPostProcessor, Ordered {
+
+  static final int CONCURRENCY_LIMIT = Ordered.LOWEST_PRECEDENCE - 1;
+  static final int REPLICA_ROUTING = Ordered.LOWEST_PRECEDENCE;
+
+  private final int order;
+  private final Class<? extends DataSource> wrapperType;
+  private final UnaryOperator<DataSource> wrapper;
+
+  DataSourceWrappingPostProcessor(int order, Class<? extends DataSource> wrapperType,
+      UnaryOperator<DataSource> wrapper) {
+    this.order = order;
+    this.wrapperType = wrapperType;
+    this.wrapper = wrapper;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof DataSource dataSource && !wrapperType.isInstance(bean)) {
+      return wrapper.apply(dataSource);
+    }
+    return bean;
+  }
+
+  @Override
+  public int getOrder() {
+    return order;
+  }
+}
@@ -0,0 +1,23 @@
+package com.nexusbank.infrastructure.config;
+
+import com.nexusbank.infrastructure.metrics.PortMetricsPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Mide los casos de uso, los puertos de salida y los mappers
+ * ({@code nexusbank.usecase}, {@code nexusbank.port} y
+ * {@code nexusbank.mapper}), publicados en /actuator/prometheus.
+ */
+@Configuration
+@ConditionalOnProperty(name = "nexusbank.metrics.ports.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+    @Bean
+    public static PortMetricsPostProcessor portMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PortMetricsPostProcessor(meterRegistry);
+    }
+}
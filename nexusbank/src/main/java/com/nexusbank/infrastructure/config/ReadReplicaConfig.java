@@ -0,0 +1,105 @@
+package com.nexusbank.infrastructure.config;
+
+import com.nexusbank.infrastructure.replica.ReadReplicaRoutingDataSource;
+import com.nexusbank.infrastructure.replica.ReadYourWritesFilter;
+import com.nexusbank.infrastructure.replica.ReplicaLagMonitor;
+import com.nexusbank.infrastructure.replica.ReplicaReadPostProcessor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réplicas de lectura ({@code nexusbank.datasource.replica.enabled=true}): las
+ * consultas de {@code GetAccountUseCase} y {@code GetTransactionHistoryUseCase}
+ * se leen de una réplica con el retraso permitido, y todo lo demás (incluidas
+ * las escrituras de {@code AccountService} y {@code TransactionService}) del
+ * primario. Las respuestas de escritura llevan un token de consistencia que,
+ * devuelto en la cabecera {@code X-Consistency-Token} de una lectura, garantiza
+ * leer lo escrito.
+ */
+@Configuration
+@ConditionalOnProperty(name = "nexusbank.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    public static DataSourceWrappingPostProcessor readReplicaRoutingPostProcessor(
+            ObjectProvider<ReplicaLagMonitor> monitor) {
+        // El más externo de la cadena: las lecturas de réplica no pasan por el
+        // límite de conexiones del primario (VirtualThreadConfig)
+        return new DataSourceWrappingPostProcessor(DataSourceWrappingPostProcessor.REPLICA_ROUTING,
+                ReadReplicaRoutingDataSource.class,
+                dataSource -> new ReadReplicaRoutingDataSource(dataSource, monitor::getObject));
+    }
+
+    @Bean
+    public static ReplicaReadPostProcessor replicaReadPostProcessor() {
+        return new ReplicaReadPostProcessor();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSource dataSource,
+            @Value("${nexusbank.datasource.replica.urls}") List<String> urls,
+            @Value("${nexusbank.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${nexusbank.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${nexusbank.datasource.replica.pool-size:10}") int poolSize,
+            @Value("${nexusbank.datasource.replica.max-lag-ms:1000}") long maxLagMillis) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(urls.get(i).trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            // Una réplica caída no debe impedir el arranque: se sondea después
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        return new ReplicaLagMonitor(dataSource, replicas, Duration.ofMillis(maxLagMillis));
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaLagMonitor replicaLagMonitor) {
+        return new ReadYourWritesFilter(replicaLagMonitor);
+    }
+
+    @Bean
+    public MeterBinder replicaMetrics(ReplicaLagMonitor monitor) {
+        return registry -> {
+            for (int i = 0; i < monitor.getReplicaCount(); i++) {
+                int replica = i;
+                Gauge.builder("nexusbank.datasource.replica.lag", monitor, m -> m.getLagBytes(replica))
+                        .description("Write-ahead log bytes the replica is behind the primary (-1 if unreachable)")
+                        .baseUnit("bytes")
+                        .tag("replica", String.valueOf(replica))
+                        .register(registry);
+                Gauge.builder("nexusbank.datasource.replica.eligible", monitor, m -> m.isEligible(replica) ? 1 : 0)
+                        .description("Whether the replica is within the allowed lag")
+                        .tag("replica", String.valueOf(replica))
+                        .register(registry);
+            }
+            FunctionCounter.builder("nexusbank.datasource.replica.reads", monitor,
+                    ReplicaLagMonitor::getReplicaReads)
+                    .description("Replica-safe reads served by a replica")
+                    .tag("target", "replica")
+                    .register(registry);
+            FunctionCounter.builder("nexusbank.datasource.replica.reads", monitor,
+                    ReplicaLagMonitor::getPrimaryFallbacks)
+                    .description("Replica-safe reads served by the primary because no replica was eligible")
+                    .tag("target", "primary")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.nexusbank.infrastructure.config;
+
+import com.nexusbank.infrastructure.concurrency.ConcurrencyLimitedDataSource;
+import com.nexusbank.infrastructure.concurrency.VirtualThreads;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Modo de hilos virtuales ({@code nexusbank.threads.mode=virtual}, requiere
+ * Java 21): Tomcat atiende cada petición en un hilo virtual nuevo, de modo que
+ * las llamadas bloqueantes a los puertos (JDBC) no retienen un hilo del
+ * sistema. Como ya no hay un pool de hilos que limite la concurrencia, el
+ * DataSource se envuelve en un {@link ConcurrencyLimitedDataSource} con tantos
+ * permisos como conexiones tiene el pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "nexusbank.threads.mode", havingValue = "virtual")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        // Falla al arrancar si el runtime no tiene hilos virtuales
+        ExecutorService executor = VirtualThreads.newPerTaskExecutor();
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    @Bean
+    public static DataSourceWrappingPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            @Value("${nexusbank.threads.virtual.max-connections:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConnections,
+            @Value("${nexusbank.threads.virtual.connection-wait-ms:30000}") long waitMillis) {
+        // Pegado al pool del primario, por dentro del enrutado a réplicas
+        // (ReadReplicaConfig) si está activo
+        return new DataSourceWrappingPostProcessor(DataSourceWrappingPostProcessor.CONCURRENCY_LIMIT,
+                ConcurrencyLimitedDataSource.class,
+                dataSource -> new ConcurrencyLimitedDataSource(dataSource, maxConnections, waitMillis));
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitedDataSourceMetrics(DataSource dataSource) {
+        return registry -> {
+            ConcurrencyLimitedDataSource limited = ConcurrencyLimitedDataSource.find(dataSource);
+            if (limited == null) {
+                return;
+            }
+            Gauge.builder("nexusbank.datasource.connections.active", limited,
+                    ConcurrencyLimitedDataSource::getActiveConnections)
+                    .description("Connections borrowed through the concurrency limit")
+                    .register(registry);
+            Gauge.builder("nexusbank.datasource.connections.waiting", limited,
+                    ConcurrencyLimitedDataSource::getWaitingThreads)
+                    .description("Threads waiting for a connection permit")
+                    .register(registry);
+            FunctionCounter.builder("nexusbank.datasource.connections.timeouts", limited,
+                    ConcurrencyLimitedDataSource::getTimeouts)
+                    .description("Requests that gave up waiting for a connection permit")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.nexusbank.infrastructure.id;
+
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Random version 4 UUIDs, as generated before time-ordered ids were
+ * introduced. Kept to compare both in benchmarks.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.ids.generator", havingValue = "random")
+public class RandomUuidIdGenerator implements IdGeneratorPort {
+
+  @Override
+  public String nextId() {
+    return UUID.randomUUID().toString();
+  }
+}
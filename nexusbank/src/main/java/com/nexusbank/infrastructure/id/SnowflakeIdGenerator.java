@@ -0,0 +1,102 @@
+package com.nexusbank.infrastructure.id;
+
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * 64-bit Snowflake identifiers: 41 bits of milliseconds since 2024-01-01
+ * (about 69 years), a 10-bit node id and a 12-bit per-millisecond sequence.
+ * Written as 19 zero-padded decimal digits, so that their text order matches
+ * their numeric order and they fit a {@code bigint} column.
+ *
+ * Uniqueness relies on every node having a different node id, set with
+ * {@code nexusbank.ids.node-id}. Pods of a StatefulSet can instead name it in
+ * {@code nexusbank.ids.stateful-set}: the node id is then the ordinal of the
+ * host name ({@code nexusbank-3} in StatefulSet {@code nexusbank} is node 3).
+ * The host name alone is never trusted: the random suffix of a Deployment pod
+ * can be all digits and would be taken for an ordinal.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.ids.generator", havingValue = "snowflake")
+public class SnowflakeIdGenerator implements IdGeneratorPort {
+
+  static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+  static final int NODE_BITS = 10;
+  static final int SEQUENCE_BITS = 12;
+  static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+  private static final Pattern ORDINAL = Pattern.compile("0|[1-9]\\d{0,3}");
+  private static final int DIGITS = 19;
+
+  private final LongSupplier clock;
+  private final long nodeBits;
+  private final AtomicLong lastTick = new AtomicLong();
+
+  public SnowflakeIdGenerator(@Value("${nexusbank.ids.node-id:-1}") int nodeId,
+      @Value("${nexusbank.ids.stateful-set:}") String statefulSet,
+      @Value("${HOSTNAME:}") String hostname) {
+    this(nodeId >= 0 ? nodeId : podOrdinal(statefulSet, hostname), System::currentTimeMillis);
+  }
+
+  SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ", was " + nodeId);
+    }
+    this.clock = clock;
+    this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+  }
+
+  @Override
+  public String nextId() {
+    String digits = Long.toString(nextLong());
+    StringBuilder id = new StringBuilder(DIGITS);
+    for (int i = digits.length(); i < DIGITS; i++) {
+      id.append('0');
+    }
+    return id.append(digits).toString();
+  }
+
+  long nextLong() {
+    long tick = nextTick();
+    long millis = tick >>> SEQUENCE_BITS;
+    long sequence = tick & ((1L << SEQUENCE_BITS) - 1);
+    return millis << (NODE_BITS + SEQUENCE_BITS) | nodeBits | sequence;
+  }
+
+  /**
+   * Milliseconds since the epoch and sequence in one value; a sequence that
+   * overflows moves on to the next millisecond, and a clock that steps back
+   * keeps counting from the last value, so ids never repeat.
+   */
+  private long nextTick() {
+    long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+    while (true) {
+      long last = lastTick.get();
+      long next = now > last ? now : last + 1;
+      if (lastTick.compareAndSet(last, next)) {
+        return next;
+      }
+    }
+  }
+
+  static int podOrdinal(String statefulSet, String hostname) {
+    if (statefulSet == null || statefulSet.isBlank()) {
+      throw new IllegalStateException("No node id configured: set nexusbank.ids.node-id, or"
+          + " nexusbank.ids.stateful-set when running as a StatefulSet");
+    }
+    String prefix = statefulSet.trim() + "-";
+    String ordinal = hostname != null && hostname.startsWith(prefix) ? hostname.substring(prefix.length()) : "";
+    if (!ORDINAL.matcher(ordinal).matches()) {
+      throw new IllegalStateException("Host name '" + hostname + "' is not a pod of StatefulSet '" + statefulSet
+          + "': set nexusbank.ids.node-id");
+    }
+    return Integer.parseInt(ordinal);
+  }
+}
@@ -0,0 +1,66 @@
+package com.nexusbank.infrastructure.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexusbank.application.port.out.IdempotencyPort;
+import com.nexusbank.infrastructure.persistence.adapter.IdempotencyPersistenceAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded, time-expiring in-memory front of the idempotency table, so that
+ * retries of recent requests are answered without a database round trip.
+ * Records never change once committed, so any committed record can be cached;
+ * a new record is only cached after its transaction commits, never when it is
+ * rolled back.
+ */
+@Component
+@Primary
+public class CachingIdempotencyAdapter implements IdempotencyPort {
+
+  private final IdempotencyPersistenceAdapter delegate;
+  private final Cache<String, IdempotentOperation> cache;
+
+  public CachingIdempotencyAdapter(IdempotencyPersistenceAdapter delegate,
+      @Value("${nexusbank.idempotency.cache.maximum-size:100000}") long maximumSize,
+      @Value("${nexusbank.idempotency.cache.ttl-ms:600000}") long ttlMillis) {
+    this.delegate = delegate;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofMillis(ttlMillis))
+        .build();
+  }
+
+  @Override
+  public Optional<IdempotentOperation> loadOperation(String idempotencyKey) {
+    IdempotentOperation cached = cache.getIfPresent(idempotencyKey);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    Optional<IdempotentOperation> loaded = delegate.loadOperation(idempotencyKey);
+    loaded.ifPresent(operation -> cache.put(idempotencyKey, operation));
+    return loaded;
+  }
+
+  @Override
+  public void saveOperation(IdempotentOperation operation) {
+    delegate.saveOperation(operation);
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      cache.put(operation.idempotencyKey(), operation);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        cache.put(operation.idempotencyKey(), operation);
+      }
+    });
+  }
+}
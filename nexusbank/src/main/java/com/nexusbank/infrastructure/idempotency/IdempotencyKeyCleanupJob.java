@@ -0,0 +1,39 @@
+package com.nexusbank.infrastructure.idempotency;
+
+import com.nexusbank.infrastructure.persistence.adapter.IdempotencyPersistenceAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Periodically deletes idempotency records older than the retention period.
+ * Clients must not retry a request with the same key after that period; if
+ * they do, it is executed again.
+ */
+@Component
+public class IdempotencyKeyCleanupJob {
+
+  private final IdempotencyPersistenceAdapter persistenceAdapter;
+  private final Duration retention;
+
+  public IdempotencyKeyCleanupJob(IdempotencyPersistenceAdapter persistenceAdapter,
+      @Value("${nexusbank.idempotency.retention-ms:86400000}") long retentionMillis) {
+    this.persistenceAdapter = persistenceAdapter;
+    this.retention = Duration.ofMillis(retentionMillis);
+  }
+
+  @Scheduled(fixedDelayString = "${nexusbank.idempotency.cleanup.interval-ms:3600000}")
+  public void purgeExpired() {
+    purgeExpired(LocalDateTime.now());
+  }
+
+  /**
+   * @return Number of records deleted
+   */
+  public int purgeExpired(LocalDateTime now) {
+    return persistenceAdapter.deleteCreatedBefore(now.minus(retention));
+  }
+}
@@ -0,0 +1,108 @@
+package com.nexusbank.infrastructure.ledger;
+
+import com.nexusbank.infrastructure.persistence.adapter.BalanceCheckpointPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.TransferQueuePersistenceAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Periodically writes balance checkpoints at fixed boundaries (every hour by
+ * default), so that a historic balance only replays the transactions since
+ * the nearest boundary. Each run only visits the accounts with completed
+ * transactions since the previous boundary; quiet accounts keep their last
+ * checkpoint.
+ *
+ * A checkpoint must never miss a transaction created before it. Transactions
+ * commit some time after their creation time, and a queued transfer keeps the
+ * time it was accepted when it is settled, so the boundary stays behind both
+ * the settle period and the oldest queued transfer.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.ledger.checkpoint.enabled", havingValue = "true", matchIfMissing = true)
+public class BalanceCheckpointJob {
+
+  private final BalanceCheckpointPersistenceAdapter checkpoints;
+  private final TransferQueuePersistenceAdapter transferQueue;
+  private final Duration period;
+  private final Duration settle;
+  private final int batchSize;
+
+  private final LongAdder checkpointsWritten = new LongAdder();
+
+  public BalanceCheckpointJob(BalanceCheckpointPersistenceAdapter checkpoints,
+      TransferQueuePersistenceAdapter transferQueue,
+      @Value("${nexusbank.ledger.checkpoint.period-ms:3600000}") long periodMillis,
+      @Value("${nexusbank.ledger.checkpoint.settle-ms:300000}") long settleMillis,
+      @Value("${nexusbank.ledger.checkpoint.batch-size:500}") int batchSize) {
+    if (periodMillis < 1000) {
+      throw new IllegalArgumentException("Checkpoint period must be at least one second");
+    }
+    this.checkpoints = checkpoints;
+    this.transferQueue = transferQueue;
+    this.period = Duration.ofMillis(periodMillis);
+    this.settle = Duration.ofMillis(settleMillis);
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${nexusbank.ledger.checkpoint.interval-ms:60000}")
+  public void writeCheckpoints() {
+    takeCheckpoints(LocalDateTime.now());
+  }
+
+  /**
+   * Writes the checkpoints of the latest boundary that is safe at the given
+   * time, for every account active since the previous one.
+   * 
+   * @param now Current time
+   * @return Number of checkpoints written
+   */
+  public int takeCheckpoints(LocalDateTime now) {
+    LocalDateTime settled = now.minus(settle);
+    Optional<LocalDateTime> oldestPending = transferQueue.oldestPending();
+    if (oldestPending.isPresent() && oldestPending.get().isBefore(settled)) {
+      settled = oldestPending.get();
+    }
+    LocalDateTime boundary = boundaryAtOrBefore(settled, period);
+    LocalDateTime since = checkpoints.latestCheckpoint().orElse(null);
+
+    int written = 0;
+    while (true) {
+      List<String> accountIds = checkpoints.accountsToCheckpoint(since, boundary, batchSize);
+      int page = 0;
+      for (String accountId : accountIds) {
+        if (checkpoints.writeCheckpoint(accountId, boundary)) {
+          page++;
+        }
+      }
+      written += page;
+      // Si una página no escribe nada, otro nodo se está encargando de ella
+      if (accountIds.size() < batchSize || page == 0) {
+        break;
+      }
+    }
+    checkpointsWritten.add(written);
+    return written;
+  }
+
+  public long getCheckpointsWritten() {
+    return checkpointsWritten.sum();
+  }
+
+  /**
+   * Latest multiple of the period (counted from the epoch) at or before the
+   * given time.
+   */
+  static LocalDateTime boundaryAtOrBefore(LocalDateTime time, Duration period) {
+    long seconds = time.toEpochSecond(ZoneOffset.UTC);
+    return LocalDateTime.ofEpochSecond(seconds - Math.floorMod(seconds, period.getSeconds()), 0, ZoneOffset.UTC);
+  }
+}
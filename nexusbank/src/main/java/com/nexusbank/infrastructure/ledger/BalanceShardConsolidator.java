@@ -0,0 +1,105 @@
+package com.nexusbank.infrastructure.ledger;
+
+import com.nexusbank.infrastructure.persistence.adapter.BalanceShardPersistenceAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the sharded balances of {@link BalanceShardPersistenceAdapter} in
+ * shape. On every run it:
+ *
+ * <ol>
+ * <li>shards the configured accounts into {@code count} rows, and folds back
+ * into a single row the accounts that are no longer configured</li>
+ * <li>reloads which accounts are sharded, so that every node learns about
+ * the accounts sharded by the others</li>
+ * <li>folds the credits accumulated in the shards into the account rows, so
+ * that the next debit has little to fold and the account row stays close to
+ * the real balance</li>
+ * </ol>
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.ledger.balance-shards.enabled", havingValue = "true")
+public class BalanceShardConsolidator {
+
+  private final BalanceShardPersistenceAdapter balanceShards;
+  private final TransactionTemplate transactionTemplate;
+  private final Set<String> accounts;
+  private final int count;
+  private final int batchSize;
+
+  private final LongAdder consolidations = new LongAdder();
+
+  public BalanceShardConsolidator(BalanceShardPersistenceAdapter balanceShards,
+      PlatformTransactionManager transactionManager,
+      @Value("${nexusbank.ledger.balance-shards.accounts:}") List<String> accounts,
+      @Value("${nexusbank.ledger.balance-shards.count:16}") int count,
+      @Value("${nexusbank.ledger.balance-shards.batch-size:500}") int batchSize) {
+    if (count < 2) {
+      throw new IllegalArgumentException("Number of balance shards must be at least 2");
+    }
+    this.balanceShards = balanceShards;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.accounts = new LinkedHashSet<>();
+    for (String account : accounts) {
+      if (!account.isBlank()) {
+        this.accounts.add(account.trim());
+      }
+    }
+    this.count = count;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${nexusbank.ledger.balance-shards.interval-ms:1000}")
+  public void consolidateShards() {
+    consolidate();
+  }
+
+  /**
+   * Applies the configured sharding and folds the shards of up to
+   * {@code batchSize} accounts, each in its own short transaction.
+   *
+   * @return Number of accounts whose shards were folded
+   */
+  public int consolidate() {
+    Map<String, Integer> current = balanceShards.refresh();
+    boolean resharded = false;
+    for (String accountId : accounts) {
+      if (current.getOrDefault(accountId, 0) != count) {
+        transactionTemplate.executeWithoutResult(status -> balanceShards.reshard(accountId, count));
+        resharded = true;
+      }
+    }
+    for (String accountId : current.keySet()) {
+      if (!accounts.contains(accountId)) {
+        transactionTemplate.executeWithoutResult(status -> balanceShards.reshard(accountId, 0));
+        resharded = true;
+      }
+    }
+    if (resharded) {
+      balanceShards.refresh();
+    }
+
+    int consolidated = 0;
+    for (String accountId : balanceShards.accountsToConsolidate(batchSize)) {
+      transactionTemplate.executeWithoutResult(status -> balanceShards.consolidate(accountId));
+      consolidated++;
+    }
+    consolidations.add(consolidated);
+    return consolidated;
+  }
+
+  public long getConsolidations() {
+    return consolidations.sum();
+  }
+}
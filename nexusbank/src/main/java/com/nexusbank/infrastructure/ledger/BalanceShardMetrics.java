@@ -0,0 +1,51 @@
+package com.nexusbank.infrastructure.ledger;
+
+import com.nexusbank.infrastructure.persistence.adapter.BalanceShardPersistenceAdapter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the sharded balances of {@link BalanceShardPersistenceAdapter}
+ * through Micrometer. Credits that had to wait for a shard mean every shard
+ * of the account was busy: it needs more of them.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.ledger.balance-shards.enabled", havingValue = "true")
+public class BalanceShardMetrics implements MeterBinder {
+
+  private final BalanceShardPersistenceAdapter balanceShards;
+  private final BalanceShardConsolidator consolidator;
+
+  public BalanceShardMetrics(BalanceShardPersistenceAdapter balanceShards, BalanceShardConsolidator consolidator) {
+    this.balanceShards = balanceShards;
+    this.consolidator = consolidator;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("nexusbank.ledger.shards.accounts", balanceShards, BalanceShardPersistenceAdapter::getShardedAccounts)
+        .description("Accounts whose balance is spread across shards, as last seen by this node")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.ledger.shards.credits", balanceShards,
+        BalanceShardPersistenceAdapter::getFreeShardCredits)
+        .description("Credits applied to a shard no other credit was holding")
+        .tag("shard", "free")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.ledger.shards.credits", balanceShards,
+        BalanceShardPersistenceAdapter::getWaitingShardCredits)
+        .description("Credits that found every shard busy and waited for one")
+        .tag("shard", "waited")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.ledger.shards.folds", balanceShards, BalanceShardPersistenceAdapter::getFolds)
+        .description("Times the shards of an account were folded into its row, by debits or the consolidator")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.ledger.shards.consolidations", consolidator,
+        BalanceShardConsolidator::getConsolidations)
+        .description("Accounts whose shards were folded by the consolidator of this node")
+        .register(registry);
+  }
+}
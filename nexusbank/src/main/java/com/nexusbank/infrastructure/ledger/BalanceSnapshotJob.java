@@ -0,0 +1,144 @@
+package com.nexusbank.infrastructure.ledger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Periodically folds journal postings into per-account balance snapshots, so
+ * that deriving a balance only has to add the postings written since the last
+ * snapshot.
+ *
+ * The identity sequence is assigned at insert time but postings become
+ * visible at commit time, so a posting with a lower sequence may still be
+ * uncommitted when a higher one is already visible. A snapshot therefore only
+ * advances up to the newest posting older than the settle period, which must
+ * exceed the longest database transaction (plus clock skew between nodes):
+ * every posting below that mark has committed by then.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.ledger.mode", havingValue = "journal", matchIfMissing = true)
+public class BalanceSnapshotJob {
+
+  static final String CANDIDATES_SQL = "SELECT j.account_id FROM journal_entries j"
+      + " LEFT JOIN balance_snapshots s ON s.account_id = j.account_id"
+      + " WHERE j.sequence > COALESCE(s.last_sequence, 0) AND j.created_at < ?"
+      + " GROUP BY j.account_id HAVING COUNT(*) >= ?"
+      + " ORDER BY COUNT(*) DESC LIMIT ?";
+
+  static final String SNAPSHOT_SQL = "SELECT balance, last_sequence FROM balance_snapshots WHERE account_id = ?";
+
+  static final String OPENING_BALANCE_SQL = "SELECT balance FROM accounts WHERE id = ?";
+
+  static final String WATERMARK_SQL = "SELECT MAX(sequence) FROM journal_entries"
+      + " WHERE account_id = ? AND sequence > ? AND created_at < ?";
+
+  static final String DELTA_SQL = "SELECT COALESCE(SUM(amount), 0) FROM journal_entries"
+      + " WHERE account_id = ? AND sequence > ? AND sequence <= ?";
+
+  static final String UPDATE_SNAPSHOT_SQL = "UPDATE balance_snapshots"
+      + " SET balance = ?, last_sequence = ?, updated_at = ?"
+      + " WHERE account_id = ? AND last_sequence = ?";
+
+  static final String INSERT_SNAPSHOT_SQL = "INSERT INTO balance_snapshots"
+      + " (account_id, balance, last_sequence, updated_at) VALUES (?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final long minEntries;
+  private final long settleMillis;
+  private final int batchSize;
+
+  private final LongAdder snapshotsWritten = new LongAdder();
+
+  public BalanceSnapshotJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+      @Value("${nexusbank.ledger.snapshot.min-entries:100}") long minEntries,
+      @Value("${nexusbank.ledger.snapshot.settle-ms:300000}") long settleMillis,
+      @Value("${nexusbank.ledger.snapshot.batch-size:500}") int batchSize) {
+    if (minEntries < 1) {
+      throw new IllegalArgumentException("Minimum entries per snapshot must be at least 1");
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.minEntries = minEntries;
+    this.settleMillis = settleMillis;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${nexusbank.ledger.snapshot.interval-ms:60000}")
+  public void snapshotBalances() {
+    takeSnapshots(LocalDateTime.now());
+  }
+
+  /**
+   * Snapshots the accounts with at least {@code minEntries} settled postings
+   * since their last snapshot, busiest first.
+   * 
+   * @param now Current time; postings younger than the settle period are left
+   *            for a later run
+   * @return Number of snapshots written
+   */
+  public int takeSnapshots(LocalDateTime now) {
+    Timestamp cutoff = Timestamp.valueOf(now.minus(Duration.ofMillis(settleMillis)));
+    List<String> accountIds = jdbcTemplate.queryForList(CANDIDATES_SQL, String.class, cutoff, minEntries, batchSize);
+
+    int written = 0;
+    for (String accountId : accountIds) {
+      // Una transacción corta por cuenta: no retiene bloqueos sobre el diario
+      try {
+        if (Boolean.TRUE.equals(transactionTemplate.execute(status -> snapshot(accountId, cutoff)))) {
+          written++;
+        }
+      } catch (DuplicateKeyException e) {
+        // Otro nodo creó el primer snapshot de la cuenta a la vez
+      }
+    }
+    snapshotsWritten.add(written);
+    return written;
+  }
+
+  public long getSnapshotsWritten() {
+    return snapshotsWritten.sum();
+  }
+
+  private boolean snapshot(String accountId, Timestamp cutoff) {
+    Snapshot previous = jdbcTemplate.query(SNAPSHOT_SQL, rs -> rs.next()
+        ? new Snapshot(rs.getBigDecimal("balance"), rs.getLong("last_sequence"))
+        : null, accountId);
+    long fromSequence = previous == null ? 0 : previous.lastSequence();
+
+    Long watermark = jdbcTemplate.queryForObject(WATERMARK_SQL, Long.class, accountId, fromSequence, cutoff);
+    if (watermark == null) {
+      return false;
+    }
+    BigDecimal delta = jdbcTemplate.queryForObject(DELTA_SQL, BigDecimal.class, accountId, fromSequence, watermark);
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    if (previous != null) {
+      // Si otro nodo ya avanzó el snapshot la condición no se cumple y se deja
+      // el suyo
+      return jdbcTemplate.update(UPDATE_SNAPSHOT_SQL,
+          previous.balance().add(delta), watermark, now, accountId, fromSequence) == 1;
+    }
+
+    // Las cuentas externas no tienen fila en accounts: parten de cero
+    List<BigDecimal> opening = jdbcTemplate.queryForList(OPENING_BALANCE_SQL, BigDecimal.class, accountId);
+    BigDecimal base = opening.isEmpty() ? BigDecimal.ZERO : opening.get(0);
+    return jdbcTemplate.update(INSERT_SNAPSHOT_SQL, accountId, base.add(delta), watermark, now) == 1;
+  }
+
+  private record Snapshot(BigDecimal balance, long lastSequence) {
+  }
+}
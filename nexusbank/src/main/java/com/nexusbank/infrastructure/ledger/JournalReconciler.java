@@ -0,0 +1,93 @@
+package com.nexusbank.infrastructure.ledger;
+
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Posting;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.persistence.entity.JournalEntryEntity;
+import com.nexusbank.infrastructure.persistence.entity.TransactionEntity;
+import com.nexusbank.infrastructure.persistence.mapper.TransactionMapper;
+import com.nexusbank.infrastructure.persistence.repository.JournalEntryRepository;
+import com.nexusbank.infrastructure.persistence.repository.TransactionRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks the journal against the {@code transactions} table: the postings
+ * recorded for each transaction must be exactly the ones its
+ * {@link com.nexusbank.domain.model.TransactionType} implies (see
+ * {@link Transaction#getPostings()}), and therefore add up to zero.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.ledger.mode", havingValue = "journal", matchIfMissing = true)
+public class JournalReconciler {
+
+  private static final Comparator<Posting> POSTING_ORDER = Comparator.comparing(Posting::accountId)
+      .thenComparingLong(posting -> posting.amount().getMinorUnits());
+
+  private final TransactionRepository transactionRepository;
+  private final JournalEntryRepository journalEntryRepository;
+  private final TransactionMapper transactionMapper;
+
+  public JournalReconciler(TransactionRepository transactionRepository,
+      JournalEntryRepository journalEntryRepository, TransactionMapper transactionMapper) {
+    this.transactionRepository = transactionRepository;
+    this.journalEntryRepository = journalEntryRepository;
+    this.transactionMapper = transactionMapper;
+  }
+
+  /**
+   * Reconciles the transactions created in the given period.
+   * 
+   * @param from Start of the period, inclusive
+   * @param to   End of the period, inclusive
+   * @return Transactions checked and the ids of those that do not match
+   */
+  public ReconciliationReport reconcile(LocalDateTime from, LocalDateTime to) {
+    List<TransactionEntity> transactions = transactionRepository.findByCreatedAtBetween(from, to);
+    if (transactions.isEmpty()) {
+      return new ReconciliationReport(0, 0, List.of());
+    }
+
+    Map<String, List<Posting>> recorded = new HashMap<>();
+    List<JournalEntryEntity> entries = journalEntryRepository.findByTransactionIdIn(
+        transactions.stream().map(TransactionEntity::getId).toList());
+    for (JournalEntryEntity entry : entries) {
+      recorded.computeIfAbsent(entry.getTransactionId(), id -> new ArrayList<>())
+          .add(new Posting(entry.getAccountId(), new Money(entry.getAmount(), entry.getCurrency())));
+    }
+
+    List<String> mismatches = new ArrayList<>();
+    for (TransactionEntity entity : transactions) {
+      Transaction transaction = transactionMapper.toDomainEntity(entity);
+      List<Posting> expected = sorted(transaction.getPostings());
+      List<Posting> actual = sorted(recorded.getOrDefault(entity.getId(), List.of()));
+      if (!expected.equals(actual)) {
+        mismatches.add(entity.getId());
+      }
+    }
+    return new ReconciliationReport(transactions.size(), entries.size(), mismatches);
+  }
+
+  private static List<Posting> sorted(List<Posting> postings) {
+    List<Posting> copy = new ArrayList<>(postings);
+    copy.sort(POSTING_ORDER);
+    return copy;
+  }
+
+  /**
+   * Outcome of a reconciliation run.
+   */
+  public record ReconciliationReport(int transactionsChecked, int entriesChecked, List<String> mismatches) {
+
+    public boolean isBalanced() {
+      return mismatches.isEmpty();
+    }
+  }
+}
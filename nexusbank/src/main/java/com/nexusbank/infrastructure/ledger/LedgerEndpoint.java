@@ -0,0 +1,46 @@
+package com.nexusbank.infrastructure.ledger;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/ledger}) reconciling the journal against
+ * the transactions of the last hours (24 by default, {@code ?hours=} to
+ * change it).
+ */
+@Component
+@Endpoint(id = "ledger")
+@ConditionalOnProperty(name = "nexusbank.ledger.mode", havingValue = "journal", matchIfMissing = true)
+public class LedgerEndpoint {
+
+  private static final int DEFAULT_HOURS = 24;
+
+  private final JournalReconciler reconciler;
+  private final BalanceSnapshotJob snapshotJob;
+
+  public LedgerEndpoint(JournalReconciler reconciler, BalanceSnapshotJob snapshotJob) {
+    this.reconciler = reconciler;
+    this.snapshotJob = snapshotJob;
+  }
+
+  @ReadOperation
+  public Map<String, Object> reconciliation(@Nullable Integer hours) {
+    LocalDateTime to = LocalDateTime.now();
+    LocalDateTime from = to.minusHours(hours == null ? DEFAULT_HOURS : hours);
+    JournalReconciler.ReconciliationReport report = reconciler.reconcile(from, to);
+    return Map.of(
+        "from", from.toString(),
+        "to", to.toString(),
+        "balanced", report.isBalanced(),
+        "transactionsChecked", report.transactionsChecked(),
+        "entriesChecked", report.entriesChecked(),
+        "mismatches", report.mismatches(),
+        "snapshotsWritten", snapshotJob.getSnapshotsWritten());
+  }
+}
@@ -0,0 +1,157 @@
+package com.nexusbank.infrastructure.metrics;
+
+import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.exception.TransactionNotFoundException;
+import com.nexusbank.domain.exception.UserNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A use case, port or mapper method and the meters it is recorded with.
+ *
+ * <ul>
+ * <li>{@code nexusbank.usecase}: timer per use case method, with
+ * {@code nexusbank.usecase.active} (calls in flight) and
+ * {@code nexusbank.usecase.rejections} (insufficient balance and not found
+ * outcomes).</li>
+ * <li>{@code nexusbank.port}: timer per outbound port method, tagged with the
+ * adapter, so that a cache in front of the database shows up separately.</li>
+ * <li>{@code nexusbank.mapper}: timer per mapper method.</li>
+ * </ul>
+ *
+ * Timers publish percentile histograms and are tagged with the exception
+ * thrown ({@code none} on success).
+ */
+final class MeteredOperation {
+
+  static final String USE_CASE_PACKAGE = "com.nexusbank.application.port.in";
+  static final String PORT_PACKAGE = "com.nexusbank.application.port.out";
+  static final String MAPPER_PACKAGE = "com.nexusbank.infrastructure.persistence.mapper";
+
+  static final String USE_CASE_TIMER = "nexusbank.usecase";
+  static final String USE_CASE_ACTIVE = "nexusbank.usecase.active";
+  static final String USE_CASE_REJECTIONS = "nexusbank.usecase.rejections";
+  static final String PORT_TIMER = "nexusbank.port";
+  static final String MAPPER_TIMER = "nexusbank.mapper";
+
+  private static final String NO_EXCEPTION = "none";
+
+  private final String timerName;
+  private final Tags tags;
+  private final boolean useCase;
+
+  private volatile Timer successTimer;
+  private volatile LongTaskTimer activeTimer;
+
+  private MeteredOperation(String timerName, Tags tags, boolean useCase) {
+    this.timerName = timerName;
+    this.tags = tags;
+    this.useCase = useCase;
+  }
+
+  /**
+   * Resolves the operation implemented by {@code method} on a bean of
+   * {@code targetClass}, or {@code null} when the method is not metered.
+   */
+  static MeteredOperation of(Method method, Class<?> targetClass) {
+    if (Modifier.isStatic(method.getModifiers()) || method.getDeclaringClass() == Object.class) {
+      return null;
+    }
+    Class<?> beanClass = ClassUtils.getUserClass(targetClass);
+
+    for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(beanClass)) {
+      String packageName = type.getPackageName();
+      boolean isUseCase = USE_CASE_PACKAGE.equals(packageName);
+      if (!isUseCase && !PORT_PACKAGE.equals(packageName)) {
+        continue;
+      }
+      if (!ClassUtils.hasMethod(type, method.getName(), method.getParameterTypes())) {
+        continue;
+      }
+      return isUseCase
+          ? new MeteredOperation(USE_CASE_TIMER,
+              Tags.of("usecase", type.getSimpleName(), "method", method.getName()), true)
+          : new MeteredOperation(PORT_TIMER,
+              Tags.of("port", type.getSimpleName(), "method", method.getName(),
+                  "adapter", beanClass.getSimpleName()), false);
+    }
+
+    if (MAPPER_PACKAGE.equals(beanClass.getPackageName()) && Modifier.isPublic(method.getModifiers())
+        && method.getDeclaringClass() == beanClass) {
+      return new MeteredOperation(MAPPER_TIMER,
+          Tags.of("mapper", beanClass.getSimpleName(), "method", method.getName()), false);
+    }
+    return null;
+  }
+
+  boolean isUseCase() {
+    return useCase;
+  }
+
+  Tags getTags() {
+    return tags;
+  }
+
+  Timer timer(MeterRegistry registry, Throwable failure) {
+    if (failure != null) {
+      return timer(registry, failure.getClass().getSimpleName());
+    }
+    Timer timer = successTimer;
+    if (timer == null) {
+      timer = timer(registry, NO_EXCEPTION);
+      successTimer = timer;
+    }
+    return timer;
+  }
+
+  LongTaskTimer activeTimer(MeterRegistry registry) {
+    LongTaskTimer timer = activeTimer;
+    if (timer == null) {
+      timer = LongTaskTimer.builder(USE_CASE_ACTIVE)
+          .description("Use case calls in flight")
+          .tags(tags)
+          .register(registry);
+      activeTimer = timer;
+    }
+    return timer;
+  }
+
+  /**
+   * Counts calls rejected because of the state of the accounts rather than an
+   * error: insufficient balance, or an account, user or transaction that does
+   * not exist.
+   */
+  void countRejection(MeterRegistry registry, Throwable failure) {
+    String reason;
+    if (failure instanceof InsufficientBalanceException) {
+      reason = "insufficient_balance";
+    } else if (failure instanceof AccountNotFoundException || failure instanceof UserNotFoundException
+        || failure instanceof TransactionNotFoundException) {
+      reason = "not_found";
+    } else {
+      return;
+    }
+    Counter.builder(USE_CASE_REJECTIONS)
+        .description("Use case calls rejected by an insufficient balance or a missing entity")
+        .tags(tags)
+        .tag("reason", reason)
+        .register(registry)
+        .increment();
+  }
+
+  private Timer timer(MeterRegistry registry, String exception) {
+    return Timer.builder(timerName)
+        .tags(tags)
+        .tag("exception", exception)
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+}
@@ -0,0 +1,65 @@
+package com.nexusbank.infrastructure.metrics;
+
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodClassKey;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records every call to a metered use case, port or mapper method (see
+ * {@link MeteredOperation}).
+ */
+class PortMetricsInterceptor implements MethodInterceptor {
+
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+  private final Map<MethodClassKey, Optional<MeteredOperation>> operations = new ConcurrentHashMap<>();
+
+  PortMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    // El registro se resuelve en la primera llamada: los post-procesadores se
+    // crean antes que él
+    MeterRegistry registry = meterRegistry.getIfAvailable();
+    MeteredOperation operation = registry == null ? null : operation(invocation);
+    if (operation == null) {
+      return invocation.proceed();
+    }
+
+    LongTaskTimer.Sample active = operation.isUseCase() ? operation.activeTimer(registry).start() : null;
+    long start = registry.config().clock().monotonicTime();
+    Throwable failure = null;
+    try {
+      return invocation.proceed();
+    } catch (Throwable e) {
+      failure = e;
+      throw e;
+    } finally {
+      operation.timer(registry, failure).record(registry.config().clock().monotonicTime() - start,
+          TimeUnit.NANOSECONDS);
+      if (active != null) {
+        active.stop();
+        if (failure != null) {
+          operation.countRejection(registry, failure);
+        }
+      }
+    }
+  }
+
+  private MeteredOperation operation(MethodInvocation invocation) {
+    Class<?> targetClass = AopUtils.getTargetClass(invocation.getThis());
+    return operations.computeIfAbsent(new MethodClassKey(invocation.getMethod(), targetClass),
+        key -> Optional.ofNullable(MeteredOperation.of(invocation.getMethod(), targetClass)))
+        .orElse(null);
+  }
+}
@@ -0,0 +1,33 @@
+package com.nexusbank.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+
+/**
+ * Proxies the beans that implement a use case or an outbound port, and the
+ * persistence mappers, so that each of their calls is timed (see
+ * {@link MeteredOperation}). Together the timers split the latency of a
+ * request into lock waits ({@code AccountLockPort}), database access (the
+ * persistence adapters) and mapping, without instrumenting the application
+ * services themselves.
+ *
+ * Proxies are class-based, so beans can still be injected by their concrete
+ * type.
+ */
+public class PortMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+  public PortMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+    this.advisor = new StaticMethodMatcherPointcutAdvisor(new PortMetricsInterceptor(meterRegistry)) {
+      @Override
+      public boolean matches(Method method, Class<?> targetClass) {
+        return MeteredOperation.of(method, targetClass) != null;
+      }
+    };
+    setProxyTargetClass(true);
+    setBeforeExistingAdvisors(true);
+  }
+}
@@ -0,0 +1,32 @@
+package com.nexusbank.infrastructure.outbox;
+
+import com.nexusbank.application.port.out.EventPublisherPort;
+import com.nexusbank.domain.model.TransactionEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default publisher: hands every event to the {@code @EventListener} methods
+ * of this application that take a {@link TransactionEvent}. Listeners run on
+ * the relay thread inside the relay transaction, so a listener that throws
+ * makes the whole batch be published again, and database writes of a
+ * listener commit together with the removal of the events.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.outbox.publisher", havingValue = "in-process", matchIfMissing = true)
+public class InProcessEventPublisher implements EventPublisherPort {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  public InProcessEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+    this.applicationEventPublisher = applicationEventPublisher;
+  }
+
+  @Override
+  public void publish(List<TransactionEvent> events) {
+    events.forEach(applicationEventPublisher::publishEvent);
+  }
+}
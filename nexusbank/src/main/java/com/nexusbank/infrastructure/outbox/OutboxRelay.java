@@ -0,0 +1,90 @@
+package com.nexusbank.infrastructure.outbox;
+
+import com.nexusbank.application.port.out.EventPublisherPort;
+import com.nexusbank.infrastructure.persistence.adapter.OutboxPersistenceAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes the events of the transactional outbox through
+ * {@link EventPublisherPort}. Deposits and transfers only insert the outbox
+ * row; whatever the subscribers do happens here, after the commit and off the
+ * request path. Every node runs the relay; events claimed by one node are
+ * skipped by the others.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+  private final OutboxPersistenceAdapter outbox;
+  private final EventPublisherPort eventPublisher;
+  private final int batchSize;
+  private final int maxBatchesPerRun;
+
+  private final LongAdder published = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+
+  public OutboxRelay(OutboxPersistenceAdapter outbox, EventPublisherPort eventPublisher,
+      @Value("${nexusbank.outbox.relay.batch-size:500}") int batchSize,
+      @Value("${nexusbank.outbox.relay.max-batches-per-run:20}") int maxBatchesPerRun) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Outbox relay batch size must be at least 1");
+    }
+    this.outbox = outbox;
+    this.eventPublisher = eventPublisher;
+    this.batchSize = batchSize;
+    this.maxBatchesPerRun = maxBatchesPerRun;
+  }
+
+  @Scheduled(fixedDelayString = "${nexusbank.outbox.relay.interval-ms:100}")
+  public void relayPendingEvents() {
+    relay();
+  }
+
+  /**
+   * Publishes batches until the outbox has no more unclaimed events,
+   * {@code maxBatchesPerRun} batches have been published or publishing
+   * fails.
+   * 
+   * @return Number of events published
+   */
+  public int relay() {
+    int relayed = 0;
+    for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+      int count;
+      try {
+        count = outbox.relayBatch(batchSize, eventPublisher::publish);
+      } catch (RuntimeException e) {
+        // Los eventos siguen en la tabla: se reintentan en la próxima ejecución
+        failures.increment();
+        break;
+      }
+      if (count > 0) {
+        published.add(count);
+        batches.increment();
+      }
+      relayed += count;
+      if (count < batchSize) {
+        break;
+      }
+    }
+    return relayed;
+  }
+
+  public long getPublished() {
+    return published.sum();
+  }
+
+  public long getBatches() {
+    return batches.sum();
+  }
+
+  public long getFailures() {
+    return failures.sum();
+  }
+}
@@ -0,0 +1,57 @@
+package com.nexusbank.infrastructure.outbox;
+
+import com.nexusbank.infrastructure.persistence.adapter.OutboxPersistenceAdapter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Publishes the outbox backlog and the throughput of {@link OutboxRelay}
+ * through Micrometer. The backlog and its lag (how long the oldest event has
+ * been waiting) are read from the database on every scrape, so they cover
+ * the events recorded by every node.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayMetrics implements MeterBinder {
+
+  private final OutboxPersistenceAdapter outbox;
+  private final OutboxRelay relay;
+
+  public OutboxRelayMetrics(OutboxPersistenceAdapter outbox, OutboxRelay relay) {
+    this.outbox = outbox;
+    this.relay = relay;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("nexusbank.outbox.pending", outbox, OutboxPersistenceAdapter::countPending)
+        .description("Events recorded and not yet published")
+        .register(registry);
+    Gauge.builder("nexusbank.outbox.lag", outbox, OutboxRelayMetrics::lagSeconds)
+        .description("Time the oldest unpublished event has been waiting")
+        .baseUnit("seconds")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.outbox.published", relay, OutboxRelay::getPublished)
+        .description("Events published by this node")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.outbox.batches", relay, OutboxRelay::getBatches)
+        .description("Event batches published by this node")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.outbox.failures", relay, OutboxRelay::getFailures)
+        .description("Attempts to publish a batch of events that failed")
+        .register(registry);
+  }
+
+  static double lagSeconds(OutboxPersistenceAdapter outbox) {
+    return outbox.oldestPending()
+        .map(oldest -> Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0)
+        .orElse(0.0);
+  }
+}
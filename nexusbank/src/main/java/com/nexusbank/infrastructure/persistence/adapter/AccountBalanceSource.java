@@ -0,0 +1,44 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Where {@link AccountPersistenceAdapter} reads balances from: just
+ * {@code accounts.balance} ({@link #row()}), the journal
+ * ({@link JournalBalanceReader}) or the column plus its shard rows
+ * ({@link BalanceShardPersistenceAdapter}).
+ */
+public interface AccountBalanceSource {
+
+  /**
+   * Current balance of the given accounts. Accounts whose balance is just
+   * {@code accounts.balance} may be absent from the result.
+   */
+  Map<String, BigDecimal> balancesOf(Collection<String> accountIds);
+
+  /**
+   * Whether {@code accounts.balance} holds the whole balance of the account,
+   * so that saving the aggregate may write its balance there.
+   */
+  boolean isStoredInRow(String accountId);
+
+  /**
+   * Every balance is {@code accounts.balance}: the balance ledger mode without
+   * shards.
+   */
+  static AccountBalanceSource row() {
+    return new AccountBalanceSource() {
+      @Override
+      public Map<String, BigDecimal> balancesOf(Collection<String> accountIds) {
+        return Map.of();
+      }
+
+      @Override
+      public boolean isStoredInRow(String accountId) {
+        return true;
+      }
+    };
+  }
+}
@@ -6,40 +6,117 @@ import com.nexusbank.domain.model.Account;
 import com.nexusbank.infrastructure.persistence.entity.AccountEntity;
 import com.nexusbank.infrastructure.persistence.mapper.AccountMapper;
 import com.nexusbank.infrastructure.persistence.repository.AccountRepository;
-import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-@Component
+/**
+ * Accounts stored through JPA. The balance is read from the
+ * {@link AccountBalanceSource} of the ledger mode; registered in
+ * {@code ApplicationConfig}.
+ */
 public class AccountPersistenceAdapter implements LoadAccountPort, SaveAccountPort {
 
   private final AccountRepository accountRepository;
   private final AccountMapper accountMapper;
+  private final ConcurrencyStrategy concurrencyStrategy;
+  private final AccountBalanceSource balances;
 
-  public AccountPersistenceAdapter(AccountRepository accountRepository, AccountMapper accountMapper) {
+  public AccountPersistenceAdapter(AccountRepository accountRepository, AccountMapper accountMapper,
+      ConcurrencyStrategy concurrencyStrategy, AccountBalanceSource balances) {
     this.accountRepository = accountRepository;
     this.accountMapper = accountMapper;
+    this.concurrencyStrategy = concurrencyStrategy;
+    this.balances = balances;
   }
 
   @Override
   public Optional<Account> loadAccount(String accountId) {
     return accountRepository.findById(accountId)
-        .map(accountMapper::toDomainEntity);
+        .map(this::toDomain);
+  }
+
+  @Override
+  public Optional<Account> loadAccountForUpdate(String accountId) {
+    if (concurrencyStrategy == ConcurrencyStrategy.PESSIMISTIC) {
+      return accountRepository.findByIdForUpdate(accountId).map(this::toDomain);
+    }
+    // En modo optimista se anota la versión leída: el libro mayor la compara
+    // al escribir y la unidad de trabajo se reintenta si otra la cambió
+    Optional<AccountEntity> entity = accountRepository.findById(accountId);
+    entity.ifPresent(this::recordVersion);
+    return entity.map(this::toDomain);
+  }
+
+  @Override
+  public List<Account> loadAccountsForUpdate(Collection<String> accountIds) {
+    if (concurrencyStrategy == ConcurrencyStrategy.PESSIMISTIC) {
+      return toDomain(accountRepository.findAllByIdForUpdate(accountIds));
+    }
+    List<AccountEntity> entities = accountRepository.findAllById(accountIds);
+    entities.forEach(this::recordVersion);
+    return toDomain(entities);
   }
 
   @Override
   public List<Account> loadAccountsByUserId(String userId) {
-    return accountRepository.findByUserId(userId).stream()
-        .map(accountMapper::toDomainEntity)
-        .collect(Collectors.toList());
+    return toDomain(accountRepository.findByUserId(userId));
   }
 
   @Override
   public Account saveAccount(Account account) {
     AccountEntity accountEntity = accountMapper.toJpaEntity(account);
-    AccountEntity savedEntity = accountRepository.save(accountEntity);
-    return accountMapper.toDomainEntity(savedEntity);
+
+    // Las cuentas existentes se actualizan sobre la entidad gestionada para
+    // conservar su versión (y la fecha de creación) en lugar de sobrescribirla
+    AccountEntity savedEntity = accountRepository.findById(account.getId())
+        .map(existing -> {
+          // En modo diario o en una cuenta repartida el saldo no es solo el de
+          // la columna: cambia con ajustes, no al guardar el agregado
+          if (balances.isStoredInRow(account.getId())) {
+            existing.setBalance(accountEntity.getBalance());
+          }
+          existing.setActive(accountEntity.isActive());
+          existing.setUpdatedAt(LocalDateTime.now());
+          return accountRepository.save(existing);
+        })
+        .orElseGet(() -> accountRepository.save(accountEntity));
+    return toDomain(savedEntity);
+  }
+
+  public ConcurrencyStrategy getConcurrencyStrategy() {
+    return concurrencyStrategy;
+  }
+
+  private void recordVersion(AccountEntity entity) {
+    ReadAccountVersions.record(entity.getId(), entity.getVersion());
+  }
+
+  private Account toDomain(AccountEntity entity) {
+    return toDomain(entity, balances.balancesOf(List.of(entity.getId())));
+  }
+
+  private List<Account> toDomain(List<AccountEntity> entities) {
+    if (entities.isEmpty()) {
+      return List.of();
+    }
+    // Una sola consulta de saldos para todas las cuentas
+    Map<String, BigDecimal> current = balances.balancesOf(entities.stream().map(AccountEntity::getId).toList());
+    return entities.stream()
+        .map(entity -> toDomain(entity, current))
+        .collect(Collectors.toList());
+  }
+
+  private Account toDomain(AccountEntity entity, Map<String, BigDecimal> current) {
+    // Sin saldo de la fuente, el de la columna
+    BigDecimal balance = current.get(entity.getId());
+    return balance == null
+        ? accountMapper.toDomainEntity(entity)
+        : accountMapper.toDomainEntity(entity, balance);
   }
-}
\ No newline at end of file
+}
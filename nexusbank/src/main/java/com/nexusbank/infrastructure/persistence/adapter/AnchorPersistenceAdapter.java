@@ -0,0 +1,202 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.application.port.out.LoadTransactionProofPort;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionProof;
+import com.nexusbank.infrastructure.anchoring.AnchorReceipt;
+import com.nexusbank.infrastructure.anchoring.MerkleProof;
+import com.nexusbank.infrastructure.anchoring.MerkleTree;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.nexusbank.infrastructure.persistence.adapter.TransactionHistoryPersistenceAdapter.COLUMNS;
+import static com.nexusbank.infrastructure.persistence.adapter.TransactionHistoryPersistenceAdapter.ROW_MAPPER;
+
+/**
+ * Anchoring batches in the {@code anchor_batches} and
+ * {@code transaction_anchors} tables. Completed transactions are batched in
+ * (created_at, id) order: each batch starts right after the last transaction
+ * of the previous one, so finding the next transactions to anchor is an index
+ * range scan and never an anti-join against every anchored transaction.
+ *
+ * The inclusion proof of every transaction is stored packed next to its leaf
+ * when the batch is saved, so serving a proof is a single primary-key lookup
+ * and never rebuilds the tree.
+ */
+@Component
+public class AnchorPersistenceAdapter implements LoadTransactionProofPort {
+
+  static final String LAST_BATCH_SQL = "SELECT last_created_at, last_transaction_id FROM anchor_batches"
+      + " ORDER BY last_created_at DESC, last_transaction_id DESC LIMIT 1";
+
+  static final String TO_ANCHOR_SQL = "SELECT " + COLUMNS + " FROM transactions"
+      + " WHERE status = 'COMPLETED' AND created_at < :until%s"
+      + " ORDER BY created_at, id LIMIT :limit";
+
+  static final String INSERT_BATCH_SQL = "INSERT INTO anchor_batches"
+      + " (id, root, size, last_created_at, last_transaction_id, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+  static final String INSERT_ANCHOR_SQL = "INSERT INTO transaction_anchors"
+      + " (transaction_id, batch_id, leaf_index, leaf_hash, proof) VALUES (?, ?, ?, ?, ?)";
+
+  static final String UNANCHORED_SQL = "SELECT id, root, size FROM anchor_batches WHERE anchored_at IS NULL"
+      + " ORDER BY last_created_at, last_transaction_id";
+
+  static final String CLAIM_SQL = "SELECT id FROM anchor_batches WHERE id = ? AND anchored_at IS NULL"
+      + " FOR UPDATE SKIP LOCKED";
+
+  static final String MARK_ANCHORED_SQL = "UPDATE anchor_batches"
+      + " SET chain_batch_id = ?, chain_transaction_hash = ?, block_number = ?, anchored_at = ? WHERE id = ?";
+
+  static final String PROOF_SQL = "SELECT t." + COLUMNS.replace(", ", ", t.")
+      + ", a.leaf_index, a.leaf_hash, a.proof, b.size, b.root, b.chain_batch_id, b.chain_transaction_hash,"
+      + " b.block_number, b.anchored_at"
+      + " FROM transaction_anchors a"
+      + " JOIN anchor_batches b ON b.id = a.batch_id"
+      + " JOIN transactions t ON t.id = a.transaction_id"
+      + " WHERE a.transaction_id = ? AND b.anchored_at IS NOT NULL";
+
+  static final String COUNT_UNANCHORED_SQL = "SELECT COUNT(*) FROM anchor_batches WHERE anchored_at IS NULL";
+
+  private static final RowMapper<UnanchoredBatch> BATCH_MAPPER = (rs, rowNum) -> new UnanchoredBatch(
+      rs.getString("id"), rs.getBytes("root"), rs.getInt("size"));
+
+  private static final RowMapper<TransactionProof> PROOF_MAPPER = (rs, rowNum) -> {
+    MerkleProof proof = MerkleProof.unpack(rs.getBytes("proof"));
+    return new TransactionProof(
+        ROW_MAPPER.mapRow(rs, rowNum),
+        rs.getBytes("leaf_hash"),
+        rs.getInt("leaf_index"),
+        rs.getInt("size"),
+        proof.siblings(),
+        proof.directions(),
+        rs.getBytes("root"),
+        new TransactionProof.Anchor(
+            rs.getLong("chain_batch_id"),
+            rs.getString("chain_transaction_hash"),
+            rs.getLong("block_number"),
+            rs.getTimestamp("anchored_at").toLocalDateTime()));
+  };
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  public AnchorPersistenceAdapter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Oldest completed transactions created before {@code until} that follow
+   * the last saved batch.
+   */
+  public List<Transaction> transactionsToAnchor(LocalDateTime until, int limit) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("until", Timestamp.valueOf(until))
+        .addValue("limit", limit);
+    String after = "";
+    List<LastAnchored> last = jdbcTemplate.query(LAST_BATCH_SQL, (rs, rowNum) -> new LastAnchored(
+        rs.getTimestamp("last_created_at"), rs.getString("last_transaction_id")));
+    if (!last.isEmpty()) {
+      // Comparación de filas: el índice (created_at, id) resuelve el salto
+      after = " AND (created_at, id) > (:afterCreatedAt, :afterId)";
+      params.addValue("afterCreatedAt", last.get(0).createdAt());
+      params.addValue("afterId", last.get(0).transactionId());
+    }
+    return namedJdbcTemplate.query(String.format(TO_ANCHOR_SQL, after), params, ROW_MAPPER);
+  }
+
+  /**
+   * Saves a batch and the inclusion proof of each of its transactions, not
+   * yet anchored.
+   *
+   * @param transactions Transactions of the batch, in the order of the leaves
+   *                     of {@code tree}
+   * @return {@code false} if another node saved a batch with these
+   *         transactions first
+   */
+  public boolean saveBatch(String batchId, MerkleTree tree, List<Transaction> transactions, List<byte[]> leafHashes,
+      LocalDateTime now) {
+    Transaction last = transactions.get(transactions.size() - 1);
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        jdbcTemplate.update(INSERT_BATCH_SQL, batchId, tree.root(), tree.size(),
+            Timestamp.valueOf(last.getCreatedAt()), last.getId(), Timestamp.valueOf(now));
+        List<Object[]> anchors = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+          anchors.add(new Object[] { transactions.get(i).getId(), batchId, i, leafHashes.get(i),
+              tree.proof(i).pack() });
+        }
+        jdbcTemplate.batchUpdate(INSERT_ANCHOR_SQL, anchors);
+      });
+      return true;
+    } catch (DuplicateKeyException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Saved batches whose root is not anchored yet, oldest first.
+   */
+  public List<UnanchoredBatch> unanchoredBatches() {
+    return jdbcTemplate.query(UNANCHORED_SQL, BATCH_MAPPER);
+  }
+
+  @Override
+  public Optional<TransactionProof> loadTransactionProof(String transactionId) {
+    return jdbcTemplate.query(PROOF_SQL, PROOF_MAPPER, transactionId).stream().findFirst();
+  }
+
+  public long countUnanchored() {
+    Long count = jdbcTemplate.queryForObject(COUNT_UNANCHORED_SQL, Long.class);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * Anchors a saved batch while holding its row lock, and records where it
+   * was anchored in the same transaction. Two nodes never send the same batch
+   * at once; if the process dies after the chain accepted the root but before
+   * the commit, the batch is anchored again and the later anchor is the one
+   * recorded.
+   *
+   * @param anchor Sends the root to the chain
+   * @return {@code false} if another node is anchoring the batch or already
+   *         did
+   */
+  public boolean anchorBatch(UnanchoredBatch batch, Function<UnanchoredBatch, AnchorReceipt> anchor,
+      LocalDateTime now) {
+    return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+      if (jdbcTemplate.queryForList(CLAIM_SQL, String.class, batch.id()).isEmpty()) {
+        return false;
+      }
+      AnchorReceipt receipt = anchor.apply(batch);
+      jdbcTemplate.update(MARK_ANCHORED_SQL, receipt.batchId(), receipt.transactionHash(), receipt.blockNumber(),
+          Timestamp.valueOf(now), batch.id());
+      return true;
+    }));
+  }
+
+  /**
+   * A saved batch waiting for its root to be anchored.
+   */
+  public record UnanchoredBatch(String id, byte[] root, int size) {
+  }
+
+  private record LastAnchored(Timestamp createdAt, String transactionId) {
+  }
+}
@@ -0,0 +1,158 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.application.port.out.AdjustBalancePort;
+import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Transaction;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Applies balance changes with conditional single-statement UPDATEs instead
+ * of loading and merging {@code AccountEntity} instances. All the legs go to
+ * the database as one JDBC batch, followed by one batch inserting the
+ * transaction rows: two round trips regardless of the number of legs or
+ * transactions.
+ *
+ * Used when {@code nexusbank.ledger.mode=balance} (registered in
+ * {@code ApplicationConfig}); by default balances are derived from the journal
+ * instead (see {@link JournalPersistenceAdapter}). Legs on sharded accounts
+ * (see {@link BalanceShardPersistenceAdapter}) are applied one by one instead:
+ * credits go to a shard and debits fold the shards into the account row first.
+ *
+ * Under {@link ConcurrencyStrategy#OPTIMISTIC} each UPDATE also requires the
+ * version the unit of work read (see {@link ReadAccountVersions}); a row
+ * changed since then fails the operation with a retryable
+ * {@code OptimisticLockingFailureException}.
+ */
+public class BalanceAdjustmentPersistenceAdapter implements AdjustBalancePort {
+
+  static final String ADJUST_BALANCE_SQL = "UPDATE accounts"
+      + " SET balance = balance + ?, version = version + 1, updated_at = ?"
+      + " WHERE id = ? AND active = TRUE AND currency = ? AND balance + ? >= 0"
+      + " AND version = COALESCE(?, version)";
+
+  static final String ACCOUNT_STATE_SQL = "SELECT active, currency, balance, version FROM accounts WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final BalanceShards balanceShards;
+
+  public BalanceAdjustmentPersistenceAdapter(JdbcTemplate jdbcTemplate, BalanceShards balanceShards) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.balanceShards = balanceShards;
+  }
+
+  @Override
+  public List<Transaction> adjustBalances(List<BalanceAdjustment> adjustments, List<Transaction> transactions) {
+    // Orden canónico por id para que las transacciones concurrentes bloqueen
+    // las filas siempre en el mismo orden y no se produzcan interbloqueos
+    List<BalanceAdjustment> ordered = adjustments.stream()
+        .sorted(Comparator.comparing(BalanceAdjustment::accountId))
+        .toList();
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    if (ordered.stream().anyMatch(leg -> balanceShards.isSharded(leg.accountId()))) {
+      // Pata a pata y en orden de id: cada cuenta bloquea su fila antes que sus
+      // filas parciales, como hace el consolidador
+      for (BalanceAdjustment adjustment : ordered) {
+        adjustSharded(adjustment, now);
+      }
+    } else {
+      adjust(ordered, now);
+    }
+
+    TransactionRows.insertAll(jdbcTemplate, transactions);
+    return transactions;
+  }
+
+  private void adjustSharded(BalanceAdjustment adjustment, Timestamp now) {
+    String accountId = adjustment.accountId();
+    if (balanceShards.isSharded(accountId)) {
+      if (adjustment.delta().getMinorUnits() > 0) {
+        if (balanceShards.credit(accountId, adjustment.delta(), now)) {
+          return;
+        }
+      } else {
+        // El cargo se comprueba contra la fila de la cuenta: primero se le
+        // suman los abonos repartidos
+        balanceShards.consolidate(accountId);
+      }
+    }
+    adjust(List.of(adjustment), now);
+  }
+
+  private void adjust(List<BalanceAdjustment> ordered, Timestamp now) {
+    int[] updated = ordered.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(ADJUST_BALANCE_SQL, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        BalanceAdjustment adjustment = ordered.get(i);
+        BigDecimal delta = adjustment.delta().getAmount();
+        ps.setBigDecimal(1, delta);
+        ps.setTimestamp(2, now);
+        ps.setString(3, adjustment.accountId());
+        ps.setShort(4, adjustment.delta().getCurrencyUnit().getNumericCode());
+        ps.setBigDecimal(5, delta);
+        // Sin versión leída (modo pesimista o abono sin lectura) no se compara
+        Long expected = ReadAccountVersions.expected(adjustment.accountId());
+        if (expected == null) {
+          ps.setNull(6, Types.BIGINT);
+        } else {
+          ps.setLong(6, expected);
+        }
+      }
+
+      @Override
+      public int getBatchSize() {
+        return ordered.size();
+      }
+    });
+
+    for (int i = 0; i < updated.length; i++) {
+      if (updated[i] == 0) {
+        // Ninguna fila cumplía la condición: se averigua el motivo para
+        // devolver el mismo error que la validación en memoria. La transacción
+        // se deshace al propagarse la excepción.
+        throw rejectionOf(ordered.get(i));
+      }
+      if (updated[i] != 1 && updated[i] != Statement.SUCCESS_NO_INFO) {
+        throw new IllegalStateException("Unexpected update count " + updated[i]
+            + " adjusting account " + ordered.get(i).accountId());
+      }
+      ReadAccountVersions.advance(ordered.get(i).accountId());
+    }
+  }
+
+  private RuntimeException rejectionOf(BalanceAdjustment adjustment) {
+    String accountId = adjustment.accountId();
+    return jdbcTemplate.query(ACCOUNT_STATE_SQL, rs -> {
+      if (!rs.next()) {
+        return new AccountNotFoundException("Account with id " + accountId + " not found");
+      }
+      Long expected = ReadAccountVersions.expected(accountId);
+      if (expected != null && expected != rs.getLong("version")) {
+        return ReadAccountVersions.changedSinceRead(accountId);
+      }
+      if (!rs.getBoolean("active")) {
+        return new IllegalStateException("Account is not active");
+      }
+      Currency currency = Currency.fromNumericCode(rs.getShort("currency"));
+      if (currency != adjustment.delta().getCurrencyUnit()) {
+        return new IllegalArgumentException("Currency mismatch: account is in " + currency.getCode()
+            + " but operation attempted with " + adjustment.delta().getCurrency());
+      }
+      return new InsufficientBalanceException(accountId, rs.getBigDecimal("balance"),
+          adjustment.delta().negate().getAmount());
+    }, accountId);
+  }
+}
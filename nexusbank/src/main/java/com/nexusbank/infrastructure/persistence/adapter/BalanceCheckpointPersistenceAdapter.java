@@ -0,0 +1,172 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.application.port.out.LoadBalanceAtPort;
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Money;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.nexusbank.infrastructure.persistence.adapter.StatementPersistenceAdapter.netChange;
+
+/**
+ * Historic balances from the {@code balance_checkpoints} table. A balance at
+ * a point in time starts from the nearest checkpoint at or before it and
+ * replays only the completed transactions between the two, through the
+ * (account, created_at) indexes of {@code transactions}; the full history is
+ * never summed.
+ *
+ * A checkpoint extends the previous one of the account with the transactions
+ * created since. The first one of an account is derived backwards from its
+ * current balance, because the initial deposit has no transaction row.
+ */
+@Component
+public class BalanceCheckpointPersistenceAdapter implements LoadBalanceAtPort {
+
+  static final String AT_OR_BEFORE_SQL = "SELECT checkpoint_at, balance FROM balance_checkpoints"
+      + " WHERE account_id = ? AND checkpoint_at <= ? ORDER BY checkpoint_at DESC LIMIT 1";
+
+  static final String AFTER_SQL = "SELECT checkpoint_at, balance FROM balance_checkpoints"
+      + " WHERE account_id = ? AND checkpoint_at > ? ORDER BY checkpoint_at LIMIT 1";
+
+  static final String LATEST_SQL = "SELECT MAX(checkpoint_at) FROM balance_checkpoints";
+
+  // Cuentas con transacciones completadas en el intervalo que aún no tienen
+  // checkpoint en su final
+  static final String CANDIDATES_SQL = "SELECT a.id FROM accounts a WHERE a.id IN ("
+      + "SELECT account_id FROM transactions"
+      + " WHERE status = 'COMPLETED' AND created_at < :until%1$s"
+      + " UNION"
+      + " SELECT target_account_id FROM transactions"
+      + " WHERE status = 'COMPLETED' AND target_account_id IS NOT NULL AND created_at < :until%1$s)"
+      + " AND NOT EXISTS (SELECT 1 FROM balance_checkpoints c"
+      + " WHERE c.account_id = a.id AND c.checkpoint_at >= :until)"
+      + " LIMIT :limit";
+
+  static final String INSERT_SQL = "INSERT INTO balance_checkpoints"
+      + " (account_id, checkpoint_at, balance, created_at) VALUES (?, ?, ?, ?)";
+
+  private final AccountPersistenceAdapter accounts;
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+  private final TransactionTemplate readSnapshot;
+  private final TransactionTemplate writeSnapshot;
+
+  public BalanceCheckpointPersistenceAdapter(AccountPersistenceAdapter accounts, JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager) {
+    this.accounts = accounts;
+    this.jdbcTemplate = jdbcTemplate;
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    // El saldo actual y las transacciones se leen de la misma instantánea
+    this.readSnapshot = new TransactionTemplate(transactionManager);
+    this.readSnapshot.setReadOnly(true);
+    this.readSnapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    this.writeSnapshot = new TransactionTemplate(transactionManager);
+    this.writeSnapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+  }
+
+  @Override
+  public Optional<Money> loadBalanceAt(String accountId, LocalDateTime at) {
+    return Optional.ofNullable(readSnapshot.execute(status -> {
+      // Sin caché: el saldo actual tiene que ser el de esta misma instantánea
+      Optional<Account> account = accounts.loadAccount(accountId);
+      if (account.isEmpty()) {
+        return null;
+      }
+      Money current = account.get().getBalance();
+      if (at.isBefore(account.get().getCreatedAt())) {
+        return Money.zero(current.getCurrencyUnit());
+      }
+      return new Money(balanceAt(accountId, at, current.getAmount()), current.getCurrencyUnit());
+    }));
+  }
+
+  /**
+   * Time of the newest checkpoint of any account, which is where the previous
+   * run of the checkpoint job left off.
+   */
+  public Optional<LocalDateTime> latestCheckpoint() {
+    Timestamp latest = jdbcTemplate.queryForObject(LATEST_SQL, Timestamp.class);
+    return Optional.ofNullable(latest).map(Timestamp::toLocalDateTime);
+  }
+
+  /**
+   * Accounts that took part in completed transactions created in
+   * {@code [since, until)} and have no checkpoint at {@code until} yet.
+   *
+   * @param since Start of the interval, or {@code null} for the whole history
+   * @param until Time of the checkpoint to write
+   * @param limit Maximum number of accounts returned
+   */
+  public List<String> accountsToCheckpoint(LocalDateTime since, LocalDateTime until, int limit) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("until", Timestamp.valueOf(until))
+        .addValue("limit", limit);
+    String interval = "";
+    if (since != null) {
+      interval = " AND created_at >= :since";
+      params.addValue("since", Timestamp.valueOf(since));
+    }
+    return namedJdbcTemplate.queryForList(String.format(CANDIDATES_SQL, interval), params, String.class);
+  }
+
+  /**
+   * Writes the checkpoint of an account at the given time, in its own
+   * transaction. Every transaction created before that time must have
+   * committed already.
+   *
+   * @return {@code false} if the account does not exist or already has that
+   *         checkpoint
+   */
+  public boolean writeCheckpoint(String accountId, LocalDateTime at) {
+    try {
+      return Boolean.TRUE.equals(writeSnapshot.execute(status -> {
+        Optional<Account> account = accounts.loadAccount(accountId);
+        if (account.isEmpty()) {
+          return false;
+        }
+        BigDecimal balance = balanceAt(accountId, at, account.get().getBalance().getAmount());
+        return jdbcTemplate.update(INSERT_SQL, accountId, Timestamp.valueOf(at), balance,
+            Timestamp.valueOf(LocalDateTime.now())) == 1;
+      }));
+    } catch (DuplicateKeyException e) {
+      // Otro nodo escribió el mismo checkpoint a la vez
+      return false;
+    }
+  }
+
+  private BigDecimal balanceAt(String accountId, LocalDateTime at, BigDecimal current) {
+    Checkpoint before = jdbcTemplate.query(AT_OR_BEFORE_SQL, Checkpoint.EXTRACTOR, accountId,
+        Timestamp.valueOf(at));
+    if (before != null) {
+      return before.balance().add(netChange(namedJdbcTemplate, accountId, before.at(), at));
+    }
+
+    // Antes del primer checkpoint de la cuenta se deshace hacia atrás desde el
+    // siguiente o, si no hay ninguno, desde el saldo actual
+    Checkpoint after = jdbcTemplate.query(AFTER_SQL, Checkpoint.EXTRACTOR, accountId, Timestamp.valueOf(at));
+    if (after != null) {
+      return after.balance().subtract(netChange(namedJdbcTemplate, accountId, at, after.at()));
+    }
+    return current.subtract(netChange(namedJdbcTemplate, accountId, at, null));
+  }
+
+  private record Checkpoint(LocalDateTime at, BigDecimal balance) {
+
+    static final ResultSetExtractor<Checkpoint> EXTRACTOR = rs -> rs.next()
+        ? new Checkpoint(rs.getTimestamp("checkpoint_at").toLocalDateTime(), rs.getBigDecimal("balance"))
+        : null;
+  }
+}
@@ -0,0 +1,240 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.domain.model.Money;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Spreads the balance of hot accounts across the rows of
+ * {@code account_balance_shards}. The balance of a sharded account is its
+ * {@code accounts.balance} plus the balance of its shards:
+ *
+ * <ul>
+ * <li>Credits add to one shard that no other credit holds, so concurrent
+ * deposits to the same account do not queue on a single row</li>
+ * <li>Debits first fold every shard into the account row and then go through
+ * the usual conditional UPDATE, so the balance check sees all the funds</li>
+ * <li>Reads add the shards to the account row in a single statement</li>
+ * </ul>
+ *
+ * Folding locks the account row before its shards, the same order debits
+ * follow, so it cannot deadlock with them; credits only ever lock one shard.
+ *
+ * Only for {@code nexusbank.ledger.mode=balance}: the journal already takes
+ * credits as inserts without row contention. The accounts to shard are
+ * configured on the consolidator, which also keeps the list of sharded
+ * accounts of this node up to date.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.ledger.balance-shards.enabled", havingValue = "true")
+public class BalanceShardPersistenceAdapter implements BalanceShards, AccountBalanceSource {
+
+  // Abono en una fila parcial cualquiera que ningún otro abono tenga bloqueada
+  static final String CREDIT_FREE_SHARD_SQL = "UPDATE account_balance_shards"
+      + " SET balance = balance + ?, updated_at = ?"
+      + " WHERE account_id = ? AND shard = (SELECT shard FROM account_balance_shards"
+      + " WHERE account_id = ? ORDER BY random() LIMIT 1 FOR UPDATE SKIP LOCKED)"
+      + " AND EXISTS (SELECT 1 FROM accounts WHERE id = ? AND active = TRUE AND currency = ?)";
+
+  static final String CREDIT_SHARD_SQL = "UPDATE account_balance_shards"
+      + " SET balance = balance + ?, updated_at = ?"
+      + " WHERE account_id = ? AND shard = ?"
+      + " AND EXISTS (SELECT 1 FROM accounts WHERE id = ? AND active = TRUE AND currency = ?)";
+
+  static final String LOCK_ACCOUNT_SQL = "SELECT id FROM accounts WHERE id = ? FOR UPDATE";
+
+  static final String LOCK_SHARDS_SQL = "SELECT balance FROM account_balance_shards"
+      + " WHERE account_id = ? ORDER BY shard FOR UPDATE";
+
+  static final String CLEAR_SHARDS_SQL = "UPDATE account_balance_shards SET balance = 0, updated_at = ?"
+      + " WHERE account_id = ? AND balance <> 0";
+
+  static final String FOLD_SQL = "UPDATE accounts"
+      + " SET balance = balance + ?, version = version + 1, updated_at = ?"
+      + " WHERE id = ?";
+
+  static final String DELETE_SHARDS_SQL = "DELETE FROM account_balance_shards WHERE account_id = ? AND shard >= ?";
+
+  static final String CREATE_SHARDS_SQL = "INSERT INTO account_balance_shards"
+      + " (account_id, shard, balance, updated_at)"
+      + " SELECT a.id, g.shard, 0, ? FROM accounts a CROSS JOIN generate_series(0, ? - 1) AS g(shard)"
+      + " WHERE a.id = ?"
+      + " ON CONFLICT DO NOTHING";
+
+  static final String SHARD_COUNTS_SQL = "SELECT account_id, COUNT(*) AS shards FROM account_balance_shards"
+      + " GROUP BY account_id";
+
+  static final String UNCONSOLIDATED_SQL = "SELECT DISTINCT account_id FROM account_balance_shards"
+      + " WHERE balance <> 0 LIMIT ?";
+
+  static final String BALANCES_SQL = "SELECT a.id, a.balance + COALESCE(SUM(s.balance), 0) AS balance"
+      + " FROM accounts a"
+      + " LEFT JOIN account_balance_shards s ON s.account_id = a.id"
+      + " WHERE a.id IN (:ids)"
+      + " GROUP BY a.id, a.balance";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+  // Se reemplaza entera en cada refresco; vacía hasta el primero
+  private volatile Map<String, Integer> shardCounts = Map.of();
+
+  private final LongAdder freeShardCredits = new LongAdder();
+  private final LongAdder waitingShardCredits = new LongAdder();
+  private final LongAdder folds = new LongAdder();
+
+  public BalanceShardPersistenceAdapter(JdbcTemplate jdbcTemplate,
+      @Value("${nexusbank.ledger.mode:journal}") String ledgerMode) {
+    if (!"balance".equals(ledgerMode)) {
+      throw new IllegalStateException("Balance shards require nexusbank.ledger.mode=balance");
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+  }
+
+  @Override
+  public boolean isSharded(String accountId) {
+    return shardCounts.containsKey(accountId);
+  }
+
+  /**
+   * Adds a credit to one of the shards of the account, within the current
+   * transaction. A shard that another credit holds is skipped; only when all
+   * of them are held does the credit wait on a random one.
+   *
+   * @param amount Positive amount to credit
+   * @return {@code false} if the account has no shards (any more) or does not
+   *         accept the credit; the caller then applies it to the account row,
+   *         which reports why
+   */
+  @Override
+  public boolean credit(String accountId, Money amount, Timestamp now) {
+    Integer shards = shardCounts.get(accountId);
+    if (shards == null) {
+      return false;
+    }
+    BigDecimal delta = amount.getAmount();
+    short currency = amount.getCurrencyUnit().getNumericCode();
+    if (jdbcTemplate.update(CREDIT_FREE_SHARD_SQL, delta, now, accountId, accountId, accountId, currency) == 1) {
+      freeShardCredits.increment();
+      return true;
+    }
+    int shard = ThreadLocalRandom.current().nextInt(shards);
+    if (jdbcTemplate.update(CREDIT_SHARD_SQL, delta, now, accountId, shard, accountId, currency) == 1) {
+      waitingShardCredits.increment();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Folds the shards of an account into its row within the current
+   * transaction, which keeps both locked until it ends.
+   *
+   * @return Amount moved from the shards to the account row
+   */
+  @Override
+  public BigDecimal consolidate(String accountId) {
+    jdbcTemplate.query(LOCK_ACCOUNT_SQL, rs -> {
+    }, accountId);
+    BigDecimal pending = jdbcTemplate.queryForList(LOCK_SHARDS_SQL, BigDecimal.class, accountId).stream()
+        .reduce(BigDecimal.ZERO, BigDecimal::add);
+    if (pending.signum() != 0) {
+      Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+      jdbcTemplate.update(CLEAR_SHARDS_SQL, now, accountId);
+      jdbcTemplate.update(FOLD_SQL, pending, now, accountId);
+      // El cargo que sigue en esta transacción no debe tomar el pliegue por un
+      // cambio ajeno
+      ReadAccountVersions.advance(accountId);
+      folds.increment();
+    }
+    return pending;
+  }
+
+  /**
+   * Changes the number of shards of an account within the current
+   * transaction, folding the shards first. With zero shards the account goes
+   * back to a single balance row.
+   */
+  public void reshard(String accountId, int shards) {
+    consolidate(accountId);
+    jdbcTemplate.update(DELETE_SHARDS_SQL, accountId, shards);
+    if (shards > 0) {
+      jdbcTemplate.update(CREATE_SHARDS_SQL, Timestamp.valueOf(LocalDateTime.now()), shards, accountId);
+    }
+  }
+
+  /**
+   * Reloads which accounts are sharded, and into how many shards, from the
+   * database. Until a node refreshes it treats a newly sharded account as a
+   * single row, which is still correct: the row is part of the balance.
+   *
+   * @return Number of shards per sharded account
+   */
+  public Map<String, Integer> refresh() {
+    Map<String, Integer> counts = new HashMap<>();
+    jdbcTemplate.query(SHARD_COUNTS_SQL, rs -> {
+      counts.put(rs.getString("account_id"), rs.getInt("shards"));
+    });
+    shardCounts = Map.copyOf(counts);
+    return shardCounts;
+  }
+
+  /**
+   * Sharded accounts with credits not yet folded into the account row.
+   */
+  public List<String> accountsToConsolidate(int limit) {
+    return jdbcTemplate.queryForList(UNCONSOLIDATED_SQL, String.class, limit);
+  }
+
+  /**
+   * Current balance of the given accounts, shards included, in one query.
+   * Unknown ids are absent from the result.
+   */
+  @Override
+  public Map<String, BigDecimal> balancesOf(Collection<String> accountIds) {
+    Map<String, BigDecimal> balances = new HashMap<>();
+    if (accountIds.isEmpty()) {
+      return balances;
+    }
+    namedJdbcTemplate.query(BALANCES_SQL, Map.of("ids", accountIds), rs -> {
+      balances.put(rs.getString("id"), rs.getBigDecimal("balance"));
+    });
+    return balances;
+  }
+
+  @Override
+  public boolean isStoredInRow(String accountId) {
+    // El saldo de una cuenta repartida cambia con abonos a sus filas parciales
+    return !isSharded(accountId);
+  }
+
+  public int getShardedAccounts() {
+    return shardCounts.size();
+  }
+
+  public long getFreeShardCredits() {
+    return freeShardCredits.sum();
+  }
+
+  public long getWaitingShardCredits() {
+    return waitingShardCredits.sum();
+  }
+
+  public long getFolds() {
+    return folds.sum();
+  }
+}
@@ -0,0 +1,52 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.application.port.out.BalanceShardPort;
+import com.nexusbank.domain.model.Money;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+/**
+ * Shard rows as {@link BalanceAdjustmentPersistenceAdapter} writes them; see
+ * {@link BalanceShardPersistenceAdapter}.
+ */
+public interface BalanceShards extends BalanceShardPort {
+
+  /**
+   * Adds a credit to one of the shards of the account, within the current
+   * transaction.
+   *
+   * @return {@code false} if the credit has to be applied to the account row
+   */
+  boolean credit(String accountId, Money amount, Timestamp now);
+
+  /**
+   * Folds the shards of the account into its row, within the current
+   * transaction.
+   *
+   * @return The amount folded
+   */
+  BigDecimal consolidate(String accountId);
+
+  /**
+   * No account is sharded: balance shards are disabled.
+   */
+  static BalanceShards none() {
+    return new BalanceShards() {
+      @Override
+      public boolean isSharded(String accountId) {
+        return false;
+      }
+
+      @Override
+      public boolean credit(String accountId, Money amount, Timestamp now) {
+        return false;
+      }
+
+      @Override
+      public BigDecimal consolidate(String accountId) {
+        return BigDecimal.ZERO;
+      }
+    };
+  }
+}
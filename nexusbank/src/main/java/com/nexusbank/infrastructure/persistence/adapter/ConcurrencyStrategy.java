@@ -0,0 +1,31 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import java.util.Locale;
+
+/**
+ * How concurrent balance updates are kept from overwriting each other in the
+ * database.
+ */
+public enum ConcurrencyStrategy {
+  /**
+   * Rows are read without locks and their {@code version} is remembered; the
+   * ledger checks it when it writes the balance change and the unit of work
+   * is retried if another transaction changed the account in between.
+   */
+  OPTIMISTIC,
+
+  /**
+   * Rows are read with {@code SELECT ... FOR UPDATE} and stay locked until the
+   * transaction commits.
+   */
+  PESSIMISTIC;
+
+  public static ConcurrencyStrategy from(String value) {
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown concurrency strategy: " + value
+          + " (expected optimistic or pessimistic)");
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.application.port.out.IdempotencyPort;
+import com.nexusbank.domain.exception.DuplicateIdempotencyKeyException;
+import com.nexusbank.infrastructure.persistence.mapper.TransactionMapper;
+import com.nexusbank.infrastructure.persistence.repository.TransactionRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Idempotency records in the {@code idempotency_keys} table, pointing at the
+ * transaction each key produced. The insert runs in the caller's unit of work;
+ * if another request holds the same key uncommitted, the database makes this
+ * insert wait and then fails it once the other commits.
+ */
+@Component
+public class IdempotencyPersistenceAdapter implements IdempotencyPort {
+
+  static final String SELECT_SQL = "SELECT fingerprint, transaction_id FROM idempotency_keys WHERE idempotency_key = ?";
+
+  static final String INSERT_SQL = "INSERT INTO idempotency_keys"
+      + " (idempotency_key, fingerprint, transaction_id, created_at) VALUES (?, ?, ?, ?)";
+
+  static final String DELETE_EXPIRED_SQL = "DELETE FROM idempotency_keys WHERE created_at < ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionRepository transactionRepository;
+  private final TransactionMapper transactionMapper;
+
+  public IdempotencyPersistenceAdapter(JdbcTemplate jdbcTemplate, TransactionRepository transactionRepository,
+      TransactionMapper transactionMapper) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionRepository = transactionRepository;
+    this.transactionMapper = transactionMapper;
+  }
+
+  @Override
+  public Optional<IdempotentOperation> loadOperation(String idempotencyKey) {
+    List<String[]> rows = jdbcTemplate.query(SELECT_SQL,
+        (rs, rowNum) -> new String[] { rs.getString("fingerprint"), rs.getString("transaction_id") },
+        idempotencyKey);
+    if (rows.isEmpty()) {
+      return Optional.empty();
+    }
+    String fingerprint = rows.get(0)[0];
+    String transactionId = rows.get(0)[1];
+    // Una transferencia aceptada y aún no liquidada sigue en la cola
+    return transactionRepository.findById(transactionId)
+        .map(transactionMapper::toDomainEntity)
+        .or(() -> jdbcTemplate.query(TransferQueuePersistenceAdapter.SELECT_BY_ID_SQL,
+            TransferQueuePersistenceAdapter.ROW_MAPPER, transactionId).stream().findFirst())
+        .map(transaction -> new IdempotentOperation(idempotencyKey, fingerprint, transaction));
+  }
+
+  @Override
+  public void saveOperation(IdempotentOperation operation) {
+    try {
+      jdbcTemplate.update(INSERT_SQL,
+          operation.idempotencyKey(),
+          operation.fingerprint(),
+          operation.transaction().getId(),
+          Timestamp.valueOf(LocalDateTime.now()));
+    } catch (DuplicateKeyException e) {
+      throw new DuplicateIdempotencyKeyException(operation.idempotencyKey(), e);
+    }
+  }
+
+  /**
+   * Deletes the records older than the given instant; a retry with one of
+   * those keys is executed again.
+   *
+   * @return Number of records deleted
+   */
+  public int deleteCreatedBefore(LocalDateTime cutoff) {
+    return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(cutoff));
+  }
+}
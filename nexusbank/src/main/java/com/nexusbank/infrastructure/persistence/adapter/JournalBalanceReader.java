@@ -0,0 +1,79 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.domain.model.Currency;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Derives account balances from the journal: the latest snapshot (or the
+ * opening balance stored on the account) plus the postings after it. Thanks to
+ * the (account_id, sequence) index the delta only touches the postings written
+ * since the last snapshot.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.ledger.mode", havingValue = "journal", matchIfMissing = true)
+public class JournalBalanceReader implements AccountBalanceSource {
+
+  static final String ACCOUNT_STATES_SQL = "SELECT a.id, a.active, a.currency,"
+      + " COALESCE(s.balance, a.balance) + COALESCE(SUM(j.amount), 0) AS balance"
+      + " FROM accounts a"
+      + " LEFT JOIN balance_snapshots s ON s.account_id = a.id"
+      + " LEFT JOIN journal_entries j ON j.account_id = a.id AND j.sequence > COALESCE(s.last_sequence, 0)"
+      + " WHERE a.id IN (:ids)"
+      + " GROUP BY a.id, a.active, a.currency, a.balance, s.balance";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public JournalBalanceReader(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+  }
+
+  /**
+   * Current state of the given accounts, in one query. Unknown ids are absent
+   * from the result.
+   */
+  public Map<String, AccountState> statesOf(Collection<String> accountIds) {
+    Map<String, AccountState> states = new HashMap<>();
+    if (accountIds.isEmpty()) {
+      return states;
+    }
+    jdbcTemplate.query(ACCOUNT_STATES_SQL, Map.of("ids", accountIds), rs -> {
+      AccountState state = new AccountState(
+          rs.getString("id"),
+          rs.getBoolean("active"),
+          Currency.fromNumericCode(rs.getShort("currency")),
+          rs.getBigDecimal("balance"));
+      states.put(state.accountId(), state);
+    });
+    return states;
+  }
+
+  /**
+   * Current balance of the given accounts, in one query.
+   */
+  @Override
+  public Map<String, BigDecimal> balancesOf(Collection<String> accountIds) {
+    Map<String, BigDecimal> balances = new HashMap<>();
+    statesOf(accountIds).forEach((accountId, state) -> balances.put(accountId, state.balance()));
+    return balances;
+  }
+
+  @Override
+  public boolean isStoredInRow(String accountId) {
+    // La columna guarda solo el saldo de apertura; los movimientos viven en el diario
+    return false;
+  }
+
+  /**
+   * Account row as seen through the journal.
+   */
+  public record AccountState(String accountId, boolean active, Currency currency, BigDecimal balance) {
+  }
+}
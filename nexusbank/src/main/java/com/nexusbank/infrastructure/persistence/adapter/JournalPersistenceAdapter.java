@@ -0,0 +1,159 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.application.port.out.AdjustBalancePort;
+import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Posting;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.persistence.adapter.JournalBalanceReader.AccountState;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Records balance changes in the append-only double-entry journal instead of
+ * overwriting {@code accounts.balance}. Every completed transaction becomes
+ * one posting per leg (see {@link Transaction#getPostings()}), so the journal
+ * reconciles one-to-one with the {@code transactions} table.
+ *
+ * Credits are pure inserts and never wait on each other, which removes the
+ * row contention of hot receiving accounts. Debits lock the debited account
+ * rows (in id order) before checking the derived balance, so two concurrent
+ * debits cannot both spend the same funds.
+ *
+ * A debit also increments the version of the debited row. Under
+ * {@link ConcurrencyStrategy#OPTIMISTIC} the locked versions are compared with
+ * the ones the unit of work read (see {@link ReadAccountVersions}), so a
+ * transfer decided on an account that another debit changed in the meantime
+ * fails with a retryable {@code OptimisticLockingFailureException}. Credits
+ * only add funds and do not change the version.
+ *
+ * This is the default ledger; {@code nexusbank.ledger.mode=balance} switches
+ * back to {@link BalanceAdjustmentPersistenceAdapter}.
+ */
+@Component
+@Qualifier("ledger")
+@ConditionalOnProperty(name = "nexusbank.ledger.mode", havingValue = "journal", matchIfMissing = true)
+public class JournalPersistenceAdapter implements AdjustBalancePort {
+
+  static final String LOCK_ACCOUNTS_SQL = "SELECT id, version FROM accounts WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+
+  static final String BUMP_VERSIONS_SQL = "UPDATE accounts SET version = version + 1 WHERE id IN (:ids)";
+
+  static final String INSERT_ENTRY_SQL = "INSERT INTO journal_entries"
+      + " (transaction_id, account_id, amount, currency, created_at)"
+      + " VALUES (?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+  private final JournalBalanceReader balanceReader;
+
+  public JournalPersistenceAdapter(JdbcTemplate jdbcTemplate, JournalBalanceReader balanceReader) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    this.balanceReader = balanceReader;
+  }
+
+  @Override
+  public List<Transaction> adjustBalances(List<BalanceAdjustment> adjustments, List<Transaction> transactions) {
+    // Las entradas se derivan de cada transacción (una por pata); los ajustes
+    // netos solo los necesita el modo de saldo en sitio
+    List<JournalLine> lines = new ArrayList<>();
+    Map<String, Money> netByAccount = new TreeMap<>();
+    Set<String> debited = new TreeSet<>();
+    for (Transaction transaction : transactions) {
+      for (Posting posting : transaction.getPostings()) {
+        lines.add(new JournalLine(transaction.getId(), posting));
+        if (!posting.isExternal()) {
+          netByAccount.merge(posting.accountId(), posting.amount(), Money::add);
+          if (posting.isDebit()) {
+            debited.add(posting.accountId());
+          }
+        }
+      }
+    }
+
+    if (!debited.isEmpty()) {
+      // Serializa los cargos sobre la misma cuenta entre nodos; los abonos no
+      // bloquean
+      namedJdbcTemplate.query(LOCK_ACCOUNTS_SQL, Map.of("ids", debited), rs -> {
+        String accountId = rs.getString("id");
+        Long expected = ReadAccountVersions.expected(accountId);
+        if (expected != null && expected != rs.getLong("version")) {
+          throw ReadAccountVersions.changedSinceRead(accountId);
+        }
+      });
+    }
+
+    Map<String, AccountState> states = balanceReader.statesOf(netByAccount.keySet());
+    netByAccount.forEach((accountId, net) -> {
+      RuntimeException rejection = rejectionOf(accountId, net, states.get(accountId), debited.contains(accountId));
+      if (rejection != null) {
+        throw rejection;
+      }
+    });
+
+    if (!debited.isEmpty()) {
+      namedJdbcTemplate.update(BUMP_VERSIONS_SQL, Map.of("ids", debited));
+      debited.forEach(ReadAccountVersions::advance);
+    }
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    if (!lines.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, lines, lines.size(), (ps, line) -> {
+        ps.setString(1, line.transactionId());
+        ps.setString(2, line.posting().accountId());
+        ps.setBigDecimal(3, line.posting().amount().getAmount());
+        ps.setShort(4, line.posting().amount().getCurrencyUnit().getNumericCode());
+        ps.setTimestamp(5, now);
+      });
+    }
+    TransactionRows.insertAll(jdbcTemplate, transactions);
+    return transactions;
+  }
+
+  /**
+   * Credits are inserts and the account is checked again when they are
+   * written, so they need neither the account lock nor a locking read.
+   */
+  @Override
+  public boolean creditsNeedAccountLock() {
+    return false;
+  }
+
+  private RuntimeException rejectionOf(String accountId, Money net, AccountState state, boolean debited) {
+    if (state == null) {
+      return new AccountNotFoundException("Account with id " + accountId + " not found");
+    }
+    if (!state.active()) {
+      return new IllegalStateException("Account is not active");
+    }
+    Currency currency = state.currency();
+    if (currency != net.getCurrencyUnit()) {
+      return new IllegalArgumentException("Currency mismatch: account is in " + currency.getCode()
+          + " but operation attempted with " + net.getCurrency());
+    }
+    // Con la fila bloqueada, ningún otro cargo puede reducir el saldo hasta el
+    // commit; los abonos concurrentes solo pueden aumentarlo
+    if (debited && state.balance().add(net.getAmount()).signum() < 0) {
+      return new InsufficientBalanceException(accountId, state.balance(), net.negate().getAmount());
+    }
+    return null;
+  }
+
+  private record JournalLine(String transactionId, Posting posting) {
+  }
+}
@@ -0,0 +1,107 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.nexusbank.infrastructure.persistence.adapter.TransactionHistoryPersistenceAdapter.COLUMNS;
+import static com.nexusbank.infrastructure.persistence.adapter.TransactionHistoryPersistenceAdapter.ROW_MAPPER;
+
+/**
+ * Transactional outbox in the {@code transaction_outbox} table. Every write
+ * adapter appends the events of the transactions it records right after
+ * inserting them, in the same database transaction (see
+ * {@link TransactionRows}), so an event exists if and only if its transaction
+ * committed.
+ *
+ * Relays claim the oldest events with {@code FOR UPDATE SKIP LOCKED}, so any
+ * number of nodes can drain the outbox at once without publishing the same
+ * event concurrently, and delete them in one statement after publishing.
+ */
+@Component
+public class OutboxPersistenceAdapter {
+
+  static final String INSERT_SQL = "INSERT INTO transaction_outbox (transaction_id, created_at) VALUES (?, ?)";
+
+  static final String CLAIM_SQL = "SELECT o.sequence, o.created_at AS recorded_at, t."
+      + COLUMNS.replace(", ", ", t.")
+      + " FROM transaction_outbox o JOIN transactions t ON t.id = o.transaction_id"
+      + " ORDER BY o.sequence LIMIT ? FOR UPDATE OF o SKIP LOCKED";
+
+  static final String DELETE_SQL = "DELETE FROM transaction_outbox WHERE sequence IN (:sequences)";
+
+  static final String COUNT_SQL = "SELECT COUNT(*) FROM transaction_outbox";
+
+  static final String OLDEST_SQL = "SELECT created_at FROM transaction_outbox ORDER BY sequence LIMIT 1";
+
+  private static final RowMapper<TransactionEvent> EVENT_MAPPER = (rs, rowNum) -> new TransactionEvent(
+      rs.getLong("sequence"),
+      ROW_MAPPER.mapRow(rs, rowNum),
+      rs.getTimestamp("recorded_at").toLocalDateTime());
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  public OutboxPersistenceAdapter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  static void appendAll(JdbcTemplate jdbcTemplate, List<Transaction> transactions) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(INSERT_SQL, transactions, transactions.size(), (ps, transaction) -> {
+      ps.setString(1, transaction.getId());
+      ps.setTimestamp(2, now);
+    });
+  }
+
+  /**
+   * Claims the oldest events, hands them to {@code publisher} while their
+   * rows stay locked and deletes them in the same transaction. If the
+   * publisher throws, nothing is deleted and the events are claimed again by
+   * a later run.
+   *
+   * @param limit Maximum number of events to relay
+   * @return Number of events published and deleted
+   */
+  public int relayBatch(int limit, Consumer<List<TransactionEvent>> publisher) {
+    Integer relayed = transactionTemplate.execute(status -> {
+      List<TransactionEvent> events = jdbcTemplate.query(CLAIM_SQL, EVENT_MAPPER, limit);
+      if (events.isEmpty()) {
+        return 0;
+      }
+      publisher.accept(events);
+      namedJdbcTemplate.update(DELETE_SQL,
+          Map.of("sequences", events.stream().map(TransactionEvent::sequence).toList()));
+      return events.size();
+    });
+    return relayed == null ? 0 : relayed;
+  }
+
+  public long countPending() {
+    Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * When the oldest event still in the outbox was recorded.
+   */
+  public Optional<LocalDateTime> oldestPending() {
+    return jdbcTemplate.query(OLDEST_SQL, (rs, rowNum) -> rs.getTimestamp("created_at").toLocalDateTime())
+        .stream().findFirst();
+  }
+}
@@ -0,0 +1,77 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Versions of the account rows read for update under
+ * {@link ConcurrencyStrategy#OPTIMISTIC}, kept until the current transaction
+ * completes. The ledgers compare them when they write a balance change, so a
+ * unit of work that decided on a row another transaction changed in the
+ * meantime fails with an {@link OptimisticLockingFailureException} and is
+ * retried by {@link UnitOfWorkAdapter}.
+ */
+final class ReadAccountVersions {
+
+  private static final Object RESOURCE_KEY = ReadAccountVersions.class;
+
+  private ReadAccountVersions() {
+  }
+
+  /**
+   * Records the version read for an account. Outside a transaction there is
+   * nothing to check it against later, so it is ignored.
+   */
+  static void record(String accountId, Long version) {
+    if (version == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    current(true).put(accountId, version);
+  }
+
+  /**
+   * Version the current transaction read for the account, or {@code null} if
+   * it did not read it under the optimistic strategy.
+   */
+  static Long expected(String accountId) {
+    Map<String, Long> versions = current(false);
+    return versions == null ? null : versions.get(accountId);
+  }
+
+  /**
+   * Accounts for a version increment made by the current transaction itself,
+   * so that its own later writes still match.
+   */
+  static void advance(String accountId) {
+    Map<String, Long> versions = current(false);
+    if (versions != null) {
+      versions.computeIfPresent(accountId, (id, version) -> version + 1);
+    }
+  }
+
+  static OptimisticLockingFailureException changedSinceRead(String accountId) {
+    return new OptimisticLockingFailureException("Account " + accountId + " was changed by another transaction"
+        + " after it was read");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Long> current(boolean create) {
+    Map<String, Long> versions = (Map<String, Long>) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+    if (versions == null && create) {
+      versions = new HashMap<>();
+      TransactionSynchronizationManager.bindResource(RESOURCE_KEY, versions);
+      // Se desliga al terminar la transacción, haya commit o rollback
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+        }
+      });
+    }
+    return versions;
+  }
+}
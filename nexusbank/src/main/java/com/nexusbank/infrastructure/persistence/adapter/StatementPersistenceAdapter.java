@@ -0,0 +1,123 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.application.port.out.LoadStatementPort;
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.nexusbank.infrastructure.persistence.adapter.TransactionHistoryPersistenceAdapter.COLUMNS;
+import static com.nexusbank.infrastructure.persistence.adapter.TransactionHistoryPersistenceAdapter.ROW_MAPPER;
+
+/**
+ * Account statements read through a JDBC cursor. The rows are fetched
+ * {@link #FETCH_SIZE} at a time while the statement is written, so memory
+ * does not grow with the number of transactions.
+ *
+ * The opening balance is not stored: it is the current balance minus the net
+ * change of the completed transactions since the start of the period. Both,
+ * and the rows, are read in one read-only repeatable-read transaction so that
+ * transactions committed meanwhile cannot make the running balance drift.
+ */
+@Component
+public class StatementPersistenceAdapter implements LoadStatementPort {
+
+  static final int FETCH_SIZE = 500;
+
+  // Una rama por papel de la cuenta, como en el historial, para que cada una
+  // recorra su propio índice (account, created_at, id)
+  static final String NET_CHANGE_SQL = "SELECT COALESCE(SUM(delta), 0) FROM ("
+      + "SELECT CASE WHEN type = 'DEPOSIT' THEN amount ELSE -amount END AS delta FROM transactions"
+      + " WHERE account_id = :accountId AND status = 'COMPLETED'%1$s"
+      + " UNION ALL"
+      + " SELECT amount AS delta FROM transactions"
+      + " WHERE target_account_id = :accountId AND status = 'COMPLETED'%1$s"
+      + ") d";
+
+  static final String STATEMENT_SQL = "SELECT " + COLUMNS + " FROM ("
+      + "SELECT " + COLUMNS + " FROM transactions WHERE account_id = :accountId%1$s"
+      + " UNION ALL"
+      + " SELECT " + COLUMNS + " FROM transactions WHERE target_account_id = :accountId%1$s"
+      + ") s ORDER BY created_at, id";
+
+  private final AccountPersistenceAdapter accounts;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final TransactionTemplate snapshot;
+
+  public StatementPersistenceAdapter(AccountPersistenceAdapter accounts, JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager) {
+    // Sin fetch size el driver de PostgreSQL trae el resultado entero de una vez
+    JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getDataSource());
+    cursor.setFetchSize(FETCH_SIZE);
+    this.accounts = accounts;
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(cursor);
+    this.snapshot = new TransactionTemplate(transactionManager);
+    this.snapshot.setReadOnly(true);
+    this.snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+  }
+
+  @Override
+  public boolean readStatement(String accountId, LocalDateTime from, LocalDateTime to, StatementReader reader) {
+    Boolean found = snapshot.execute(status -> {
+      // Sin caché: el saldo tiene que ser el de esta misma instantánea
+      Optional<Account> account = accounts.loadAccount(accountId);
+      if (account.isEmpty()) {
+        return false;
+      }
+
+      Money balance = account.get().getBalance();
+      Money openingBalance = balance.subtract(
+          new Money(netChange(jdbcTemplate, accountId, from, null), balance.getCurrencyUnit()));
+
+      MapSqlParameterSource params = new MapSqlParameterSource("accountId", accountId);
+      StringBuilder period = new StringBuilder();
+      if (from != null) {
+        period.append(" AND created_at >= :from");
+        params.addValue("from", Timestamp.valueOf(from));
+      }
+      if (to != null) {
+        period.append(" AND created_at < :to");
+        params.addValue("to", Timestamp.valueOf(to));
+      }
+      try (Stream<Transaction> transactions = jdbcTemplate.queryForStream(
+          String.format(STATEMENT_SQL, period), params, ROW_MAPPER)) {
+        reader.read(openingBalance, transactions);
+      }
+      return true;
+    });
+    return Boolean.TRUE.equals(found);
+  }
+
+  /**
+   * Net change of the balance of an account due to the completed transactions
+   * created in {@code [from, to)}; a {@code null} bound leaves that side open.
+   */
+  static BigDecimal netChange(NamedParameterJdbcTemplate jdbcTemplate, String accountId, LocalDateTime from,
+      LocalDateTime to) {
+    MapSqlParameterSource params = new MapSqlParameterSource("accountId", accountId);
+    StringBuilder period = new StringBuilder();
+    if (from != null) {
+      period.append(" AND created_at >= :from");
+      params.addValue("from", Timestamp.valueOf(from));
+    }
+    if (to != null) {
+      period.append(" AND created_at < :to");
+      params.addValue("to", Timestamp.valueOf(to));
+    }
+    BigDecimal netChange = jdbcTemplate.queryForObject(String.format(NET_CHANGE_SQL, period), params,
+        BigDecimal.class);
+    return netChange == null ? BigDecimal.ZERO : netChange;
+  }
+}
@@ -0,0 +1,97 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.application.port.out.LoadTransactionHistoryPort;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Keyset (seek) pagination over the transactions of an account. The query is
+ * a UNION ALL of one branch per role (source and target), so each branch is an
+ * ordered range scan of its own {@code (account, created_at, id)} index that
+ * stops after {@code limit} rows; an OR across both columns could use neither
+ * index for ordering. The outer query merges the two short branches.
+ */
+@Component
+public class TransactionHistoryPersistenceAdapter implements LoadTransactionHistoryPort {
+
+  static final String COLUMNS = "id, account_id, target_account_id, amount, currency, type, status, description,"
+      + " created_at, updated_at";
+
+  static final RowMapper<Transaction> ROW_MAPPER = (rs, rowNum) -> Transaction.reconstitute(
+      rs.getString("id"),
+      rs.getString("account_id"),
+      rs.getString("target_account_id"),
+      new Money(rs.getBigDecimal("amount"), Currency.fromNumericCode(rs.getShort("currency"))),
+      TransactionType.valueOf(rs.getString("type")),
+      TransactionStatus.valueOf(rs.getString("status")),
+      rs.getString("description"),
+      rs.getTimestamp("created_at").toLocalDateTime(),
+      rs.getTimestamp("updated_at").toLocalDateTime());
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public TransactionHistoryPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+  }
+
+  @Override
+  public List<Transaction> loadTransactionHistory(String accountId, HistoryFilter filter, HistoryPosition after,
+      int limit) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("accountId", accountId)
+        .addValue("limit", limit);
+    String conditions = conditions(filter, after, params);
+
+    String sql = "SELECT " + COLUMNS + " FROM ("
+        + branch("account_id", conditions)
+        + " UNION ALL "
+        + branch("target_account_id", conditions)
+        + ") h ORDER BY created_at DESC, id DESC LIMIT :limit";
+    return jdbcTemplate.query(sql, params, ROW_MAPPER);
+  }
+
+  static String branch(String accountColumn, String conditions) {
+    return "(SELECT " + COLUMNS + " FROM transactions WHERE " + accountColumn + " = :accountId" + conditions
+        + " ORDER BY created_at DESC, id DESC LIMIT :limit)";
+  }
+
+  static String conditions(HistoryFilter filter, HistoryPosition after, MapSqlParameterSource params) {
+    StringBuilder sql = new StringBuilder();
+    if (filter != null) {
+      if (filter.type() != null) {
+        sql.append(" AND type = :type");
+        params.addValue("type", filter.type().name());
+      }
+      if (filter.status() != null) {
+        sql.append(" AND status = :status");
+        params.addValue("status", filter.status().name());
+      }
+      if (filter.from() != null) {
+        sql.append(" AND created_at >= :from");
+        params.addValue("from", Timestamp.valueOf(filter.from()));
+      }
+      if (filter.to() != null) {
+        sql.append(" AND created_at < :to");
+        params.addValue("to", Timestamp.valueOf(filter.to()));
+      }
+    }
+    if (after != null) {
+      // Comparación de filas: el índice resuelve el salto sin OFFSET
+      sql.append(" AND (created_at, id) < (:afterCreatedAt, :afterId)");
+      params.addValue("afterCreatedAt", Timestamp.valueOf(after.createdAt()));
+      params.addValue("afterId", after.transactionId());
+    }
+    return sql.toString();
+  }
+}
@@ -1,5 +1,6 @@
 package com.nexusbank.infrastructure.persistence.adapter;
 
+import com.nexusbank.application.port.out.LoadTransactionPort;
 import com.nexusbank.application.port.out.SaveTransactionPort;
 import com.nexusbank.domain.model.Transaction;
 import com.nexusbank.infrastructure.persistence.entity.TransactionEntity;
@@ -8,10 +9,11 @@ import com.nexusbank.infrastructure.persistence.repository.TransactionRepository
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
-public class TransactionPersistenceAdapter implements SaveTransactionPort {
+public class TransactionPersistenceAdapter implements SaveTransactionPort, LoadTransactionPort {
 
   private final TransactionRepository transactionRepository;
   private final TransactionMapper transactionMapper;
@@ -29,6 +31,12 @@ public class TransactionPersistenceAdapter implements SaveTransactionPort {
     return transactionMapper.toDomainEntity(savedEntity);
   }
 
+  @Override
+  public Optional<Transaction> loadTransaction(String transactionId) {
+    return transactionRepository.findById(transactionId)
+        .map(transactionMapper::toDomainEntity);
+  }
+
   @Override
   public List<Transaction> loadTransactionsByAccountId(String accountId) {
     return transactionRepository.findByAccountId(accountId).stream()
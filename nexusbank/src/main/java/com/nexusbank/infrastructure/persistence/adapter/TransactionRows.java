@@ -0,0 +1,37 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.domain.model.Transaction;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Batch insert of {@code transactions} rows shared by the JDBC write adapters,
+ * together with their outbox events.
+ */
+final class TransactionRows {
+
+  static final String INSERT_SQL = "INSERT INTO transactions"
+      + " (id, account_id, target_account_id, amount, currency, type, status, description, created_at, updated_at)"
+      + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private TransactionRows() {
+  }
+
+  static void insertAll(JdbcTemplate jdbcTemplate, List<Transaction> transactions) {
+    jdbcTemplate.batchUpdate(INSERT_SQL, transactions, transactions.size(), (ps, transaction) -> {
+      ps.setString(1, transaction.getId());
+      ps.setString(2, transaction.getAccountId());
+      ps.setString(3, transaction.getTargetAccountId());
+      ps.setBigDecimal(4, transaction.getAmount().getAmount());
+      ps.setShort(5, transaction.getAmount().getCurrencyUnit().getNumericCode());
+      ps.setString(6, transaction.getType().name());
+      ps.setString(7, transaction.getStatus().name());
+      ps.setString(8, transaction.getDescription());
+      ps.setTimestamp(9, Timestamp.valueOf(transaction.getCreatedAt()));
+      ps.setTimestamp(10, Timestamp.valueOf(transaction.getUpdatedAt()));
+    });
+    OutboxPersistenceAdapter.appendAll(jdbcTemplate, transactions);
+  }
+}
@@ -0,0 +1,201 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.application.port.out.TransferQueuePort;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Settlement queue in the {@code pending_transfers} table. Settlers claim
+ * rows with {@code FOR UPDATE SKIP LOCKED}, so any number of them (threads or
+ * nodes) can drain the queue at once without waiting for each other, and a
+ * transfer accepted before a restart is still there after it.
+ *
+ * Skipping locked rows would let a settler overtake a transfer that another
+ * settler is still working on. To keep each account's transfers in order, a
+ * claimed transfer is held back while an older queued transfer of either of
+ * its accounts was not claimed in the same batch; its row is released at the
+ * end of the unit of work and picked up by a later run.
+ */
+@Component
+public class TransferQueuePersistenceAdapter implements TransferQueuePort {
+
+  static final String INSERT_SQL = "INSERT INTO pending_transfers"
+      + " (id, account_id, target_account_id, amount, currency, description, created_at)"
+      + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  static final String SELECT_SQL = "SELECT id, account_id, target_account_id, amount, currency, description,"
+      + " created_at FROM pending_transfers";
+
+  static final String SELECT_BY_ID_SQL = SELECT_SQL + " WHERE id = ?";
+
+  static final String CLAIM_BATCH_SQL = SELECT_SQL + " ORDER BY created_at, id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+  static final String CLAIM_SQL = SELECT_BY_ID_SQL + " FOR UPDATE SKIP LOCKED";
+
+  static final String OLDER_UNCLAIMED_SQL = "SELECT id, account_id, target_account_id, created_at"
+      + " FROM pending_transfers"
+      + " WHERE (account_id IN (:accounts) OR target_account_id IN (:accounts))"
+      + " AND created_at <= :newest AND id NOT IN (:claimed)";
+
+  static final String DELETE_SQL = "DELETE FROM pending_transfers WHERE id IN (:ids)";
+
+  static final String COUNT_SQL = "SELECT COUNT(*) FROM pending_transfers";
+
+  static final String OLDEST_SQL = "SELECT MIN(created_at) FROM pending_transfers";
+
+  static final RowMapper<Transaction> ROW_MAPPER = (rs, rowNum) -> {
+    LocalDateTime createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+    return Transaction.reconstitute(
+        rs.getString("id"),
+        rs.getString("account_id"),
+        rs.getString("target_account_id"),
+        new Money(rs.getBigDecimal("amount"), Currency.fromNumericCode(rs.getShort("currency"))),
+        TransactionType.TRANSFER,
+        TransactionStatus.PENDING,
+        rs.getString("description"),
+        createdAt,
+        createdAt);
+  };
+
+  private static final Comparator<QueuePosition> QUEUE_ORDER = Comparator
+      .comparing(QueuePosition::createdAt)
+      .thenComparing(QueuePosition::id);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+  public TransferQueuePersistenceAdapter(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+  }
+
+  @Override
+  public void enqueue(Transaction transfer) {
+    jdbcTemplate.update(INSERT_SQL,
+        transfer.getId(),
+        transfer.getAccountId(),
+        transfer.getTargetAccountId(),
+        transfer.getAmount().getAmount(),
+        transfer.getAmount().getCurrencyUnit().getNumericCode(),
+        transfer.getDescription(),
+        Timestamp.valueOf(transfer.getCreatedAt()));
+  }
+
+  @Override
+  public List<Transaction> claimBatch(int limit) {
+    List<Transaction> claimed = jdbcTemplate.query(CLAIM_BATCH_SQL, ROW_MAPPER, limit);
+    if (claimed.isEmpty()) {
+      return claimed;
+    }
+
+    // Posición más antigua de la cola que no se puede liquidar en este lote,
+    // por cuenta
+    Map<String, QueuePosition> blockedFrom = olderUnclaimed(claimed);
+    List<Transaction> settleable = new ArrayList<>(claimed.size());
+    for (Transaction transfer : claimed) {
+      QueuePosition position = new QueuePosition(transfer.getCreatedAt(), transfer.getId());
+      if (isBlocked(blockedFrom.get(transfer.getAccountId()), position)
+          || isBlocked(blockedFrom.get(transfer.getTargetAccountId()), position)) {
+        // Las transferencias posteriores de sus cuentas también esperan
+        blockedFrom.merge(transfer.getAccountId(), position, this::earliest);
+        blockedFrom.merge(transfer.getTargetAccountId(), position, this::earliest);
+      } else {
+        settleable.add(transfer);
+      }
+    }
+    return settleable;
+  }
+
+  @Override
+  public Optional<Transaction> claim(String transferId) {
+    return jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER, transferId).stream().findFirst();
+  }
+
+  @Override
+  public void remove(Collection<String> transferIds) {
+    if (transferIds.isEmpty()) {
+      return;
+    }
+    namedJdbcTemplate.update(DELETE_SQL, Map.of("ids", transferIds));
+  }
+
+  @Override
+  public Optional<Transaction> loadPending(String transferId) {
+    return jdbcTemplate.query(SELECT_BY_ID_SQL, ROW_MAPPER, transferId).stream().findFirst();
+  }
+
+  /**
+   * Number of transfers accepted and not yet settled, including those being
+   * settled right now.
+   */
+  public long countPending() {
+    Long pending = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+    return pending == null ? 0 : pending;
+  }
+
+  /**
+   * Creation time of the oldest queued transfer. It keeps that time when it
+   * is settled, so nothing created after it can be taken as final yet.
+   */
+  public Optional<LocalDateTime> oldestPending() {
+    Timestamp oldest = jdbcTemplate.queryForObject(OLDEST_SQL, Timestamp.class);
+    return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+  }
+
+  /**
+   * Queued transfers of the claimed accounts that are not older than the
+   * newest claimed one but were not claimed: they are held by another settler,
+   * or committed after the claim query started.
+   */
+  private Map<String, QueuePosition> olderUnclaimed(List<Transaction> claimed) {
+    Set<String> accountIds = new HashSet<>();
+    List<String> claimedIds = new ArrayList<>(claimed.size());
+    for (Transaction transfer : claimed) {
+      accountIds.add(transfer.getAccountId());
+      accountIds.add(transfer.getTargetAccountId());
+      claimedIds.add(transfer.getId());
+    }
+    LocalDateTime newest = claimed.get(claimed.size() - 1).getCreatedAt();
+
+    Map<String, QueuePosition> blockedFrom = new HashMap<>();
+    namedJdbcTemplate.query(OLDER_UNCLAIMED_SQL,
+        Map.of("accounts", accountIds, "newest", Timestamp.valueOf(newest), "claimed", claimedIds),
+        rs -> {
+          QueuePosition position = new QueuePosition(
+              rs.getTimestamp("created_at").toLocalDateTime(), rs.getString("id"));
+          blockedFrom.merge(rs.getString("account_id"), position, this::earliest);
+          blockedFrom.merge(rs.getString("target_account_id"), position, this::earliest);
+        });
+    return blockedFrom;
+  }
+
+  private static boolean isBlocked(QueuePosition blockedFrom, QueuePosition position) {
+    return blockedFrom != null && QUEUE_ORDER.compare(blockedFrom, position) < 0;
+  }
+
+  private QueuePosition earliest(QueuePosition first, QueuePosition second) {
+    return QUEUE_ORDER.compare(first, second) <= 0 ? first : second;
+  }
+
+  private record QueuePosition(LocalDateTime createdAt, String id) {
+  }
+}
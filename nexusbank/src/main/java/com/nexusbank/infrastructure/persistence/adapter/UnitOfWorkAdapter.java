@@ -0,0 +1,93 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.application.port.out.UnitOfWorkPort;
+import com.nexusbank.domain.exception.ConcurrentUpdateException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs use cases in a JPA transaction and retries them when the database
+ * reports a concurrency failure: a stale version under the optimistic
+ * strategy, or a lock timeout / deadlock victim under the pessimistic one.
+ */
+@Component
+public class UnitOfWorkAdapter implements UnitOfWorkPort {
+
+  private final TransactionTemplate transactionTemplate;
+  private final int maxAttempts;
+  private final long retryBackoffMillis;
+
+  private final LongAdder attempts = new LongAdder();
+  private final LongAdder conflicts = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+
+  public UnitOfWorkAdapter(PlatformTransactionManager transactionManager,
+      @Value("${nexusbank.persistence.max-attempts:5}") int maxAttempts,
+      @Value("${nexusbank.persistence.retry-backoff-ms:5}") long retryBackoffMillis) {
+    if (maxAttempts <= 0) {
+      throw new IllegalArgumentException("Max attempts must be positive");
+    }
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.maxAttempts = maxAttempts;
+    this.retryBackoffMillis = retryBackoffMillis;
+  }
+
+  @Override
+  public <T> T execute(Supplier<T> work) {
+    for (int attempt = 1;; attempt++) {
+      attempts.increment();
+      try {
+        return transactionTemplate.execute(status -> work.get());
+      } catch (ConcurrencyFailureException e) {
+        conflicts.increment();
+        if (attempt >= maxAttempts) {
+          failures.increment();
+          throw new ConcurrentUpdateException(attempt, e);
+        }
+        backOff(attempt);
+      }
+    }
+  }
+
+  /**
+   * Transactions started, including retries.
+   */
+  public long getAttempts() {
+    return attempts.sum();
+  }
+
+  /**
+   * Transactions aborted by a concurrency failure.
+   */
+  public long getConflicts() {
+    return conflicts.sum();
+  }
+
+  /**
+   * Units of work that gave up after exhausting every attempt.
+   */
+  public long getFailures() {
+    return failures.sum();
+  }
+
+  private void backOff(int attempt) {
+    if (retryBackoffMillis <= 0) {
+      return;
+    }
+    // Espera aleatoria creciente para que los reintentos no vuelvan a colisionar
+    long bound = retryBackoffMillis << Math.min(attempt - 1, 6);
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ConcurrentUpdateException(attempt, e);
+    }
+  }
+}
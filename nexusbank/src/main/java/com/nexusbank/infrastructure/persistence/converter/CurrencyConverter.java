@@ -0,0 +1,23 @@
+package com.nexusbank.infrastructure.persistence.converter;
+
+import com.nexusbank.domain.model.Currency;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Persiste una {@link Currency} como su código numérico ISO-4217 (smallint)
+ * en lugar de una cadena de texto.
+ */
+@Converter
+public class CurrencyConverter implements AttributeConverter<Currency, Short> {
+
+  @Override
+  public Short convertToDatabaseColumn(Currency currency) {
+    return currency == null ? null : currency.getNumericCode();
+  }
+
+  @Override
+  public Currency convertToEntityAttribute(Short numericCode) {
+    return numericCode == null ? null : Currency.fromNumericCode(numericCode);
+  }
+}
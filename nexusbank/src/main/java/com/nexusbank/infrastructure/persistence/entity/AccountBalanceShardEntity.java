@@ -0,0 +1,53 @@
+package com.nexusbank.infrastructure.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One of the sub-balance rows of a sharded account. The balance of the
+ * account is {@code accounts.balance} plus the balance of all its shards;
+ * credits land on a single shard and the consolidator periodically folds the
+ * shards back into the account row. Written and read with plain JDBC; the
+ * entity only declares the table.
+ */
+@Entity
+@Table(name = "account_balance_shards")
+@IdClass(AccountBalanceShardEntity.Key.class)
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class AccountBalanceShardEntity {
+
+  @Id
+  @Column(name = "account_id")
+  @EqualsAndHashCode.Include
+  private String accountId;
+
+  @Id
+  @EqualsAndHashCode.Include
+  private int shard;
+
+  @Column(nullable = false, precision = 19, scale = 3)
+  private BigDecimal balance;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private String accountId;
+    private int shard;
+  }
+}
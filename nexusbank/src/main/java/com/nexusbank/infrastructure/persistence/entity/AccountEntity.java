@@ -1,12 +1,16 @@
 package com.nexusbank.infrastructure.persistence.entity;
 
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.infrastructure.persistence.converter.CurrencyConverter;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -24,11 +28,12 @@ public class AccountEntity {
   @Column(name = "user_id", nullable = false)
   private String userId;
 
-  @Column(nullable = false, precision = 19, scale = 2)
+  @Column(nullable = false, precision = 19, scale = 3)
   private BigDecimal balance;
 
-  @Column(nullable = false, length = 3)
-  private String currency;
+  @Convert(converter = CurrencyConverter.class)
+  @Column(nullable = false)
+  private Currency currency;
 
   @Column(nullable = false)
   private boolean active;
@@ -38,4 +43,8 @@ public class AccountEntity {
 
   @Column(name = "updated_at", nullable = false)
   private LocalDateTime updatedAt;
+
+  @Version
+  @Column(nullable = false)
+  private Long version;
 }
@@ -0,0 +1,61 @@
+package com.nexusbank.infrastructure.persistence.entity;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Batch of completed transactions whose Merkle root is anchored in the
+ * {@code TxLedger} contract. The batch is saved, with the proof of each of its
+ * transactions in {@link TransactionAnchorEntity}, before the root is sent to
+ * the chain; the chain columns stay empty until the anchor is confirmed.
+ * Written and read with plain JDBC; the entity only declares the table.
+ */
+@Entity
+@Table(name = "anchor_batches", indexes = {
+    @Index(name = "idx_anchor_batches_last", columnList = "last_created_at, last_transaction_id"),
+    @Index(name = "idx_anchor_batches_anchored", columnList = "anchored_at")
+})
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class AnchorBatchEntity {
+
+  @Id
+  @EqualsAndHashCode.Include
+  private String id;
+
+  @Column(nullable = false, length = 32)
+  private byte[] root;
+
+  @Column(nullable = false)
+  private int size;
+
+  // Última transacción del lote: el siguiente empieza después de ella
+  @Column(name = "last_created_at", nullable = false)
+  private LocalDateTime lastCreatedAt;
+
+  @Column(name = "last_transaction_id", nullable = false)
+  private String lastTransactionId;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "chain_batch_id")
+  private Long chainBatchId;
+
+  @Column(name = "chain_transaction_hash", length = 66)
+  private String chainTransactionHash;
+
+  @Column(name = "block_number")
+  private Long blockNumber;
+
+  @Column(name = "anchored_at")
+  private LocalDateTime anchoredAt;
+}
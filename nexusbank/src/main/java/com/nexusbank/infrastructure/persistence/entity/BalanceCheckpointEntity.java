@@ -0,0 +1,57 @@
+package com.nexusbank.infrastructure.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Balance of an account at a point in time: every completed transaction
+ * created before {@code checkpointAt} applied. Unlike
+ * {@link BalanceSnapshotEntity}, which only keeps the latest fold of the
+ * journal, checkpoints accumulate so that historic balances can start from
+ * the nearest one.
+ */
+@Entity
+@Table(name = "balance_checkpoints", indexes = {
+    @Index(name = "idx_balance_checkpoints_at", columnList = "checkpoint_at")
+})
+@IdClass(BalanceCheckpointEntity.Key.class)
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class BalanceCheckpointEntity {
+
+  @Id
+  @Column(name = "account_id")
+  @EqualsAndHashCode.Include
+  private String accountId;
+
+  @Id
+  @Column(name = "checkpoint_at")
+  @EqualsAndHashCode.Include
+  private LocalDateTime checkpointAt;
+
+  @Column(nullable = false, precision = 19, scale = 3)
+  private BigDecimal balance;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private String accountId;
+    private LocalDateTime checkpointAt;
+  }
+}
@@ -0,0 +1,38 @@
+package com.nexusbank.infrastructure.persistence.entity;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Latest folded balance of an account: its opening balance plus every journal
+ * posting up to {@code lastSequence}. The current balance is this value plus
+ * the postings after it.
+ */
+@Entity
+@Table(name = "balance_snapshots")
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class BalanceSnapshotEntity {
+
+  @Id
+  @Column(name = "account_id")
+  @EqualsAndHashCode.Include
+  private String accountId;
+
+  @Column(nullable = false, precision = 19, scale = 3)
+  private BigDecimal balance;
+
+  @Column(name = "last_sequence", nullable = false)
+  private long lastSequence;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
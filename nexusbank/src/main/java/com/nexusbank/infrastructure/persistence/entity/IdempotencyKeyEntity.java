@@ -0,0 +1,40 @@
+package com.nexusbank.infrastructure.persistence.entity;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Durable record of a request executed under an idempotency key. The key is
+ * the primary key, so only one request per key can ever commit. Written and
+ * read with plain JDBC; the entity only declares the table.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_created", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class IdempotencyKeyEntity {
+
+  @Id
+  @Column(name = "idempotency_key", length = 255)
+  @EqualsAndHashCode.Include
+  private String idempotencyKey;
+
+  @Column(nullable = false, length = 512)
+  private String fingerprint;
+
+  @Column(name = "transaction_id", nullable = false)
+  private String transactionId;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
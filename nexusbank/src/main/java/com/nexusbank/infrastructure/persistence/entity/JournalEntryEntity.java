@@ -0,0 +1,55 @@
+package com.nexusbank.infrastructure.persistence.entity;
+
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.infrastructure.persistence.converter.CurrencyConverter;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only double-entry journal: one row per posting, never updated. The
+ * identity column gives every posting a monotonically increasing sequence,
+ * which balance snapshots use as their high-water mark.
+ */
+@Entity
+@Table(name = "journal_entries", indexes = {
+    @Index(name = "idx_journal_entries_account_sequence", columnList = "account_id, sequence"),
+    @Index(name = "idx_journal_entries_transaction", columnList = "transaction_id")
+})
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class JournalEntryEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @EqualsAndHashCode.Include
+  private Long sequence;
+
+  @Column(name = "transaction_id", nullable = false)
+  private String transactionId;
+
+  @Column(name = "account_id", nullable = false)
+  private String accountId;
+
+  // Con signo: positivo para abonos y negativo para cargos
+  @Column(nullable = false, precision = 19, scale = 3)
+  private BigDecimal amount;
+
+  @Convert(converter = CurrencyConverter.class)
+  @Column(nullable = false)
+  private Currency currency;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
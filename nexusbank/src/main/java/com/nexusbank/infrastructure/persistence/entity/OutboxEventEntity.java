@@ -0,0 +1,38 @@
+package com.nexusbank.infrastructure.persistence.entity;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Transactional outbox: one row per recorded transaction, inserted in the same
+ * commit as the transaction and deleted once the event has been published.
+ * The row only points at the transaction, which is read when the event is
+ * relayed. Written and read with plain JDBC; the entity only declares the
+ * table.
+ */
+@Entity
+@Table(name = "transaction_outbox")
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class OutboxEventEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @EqualsAndHashCode.Include
+  private Long sequence;
+
+  @Column(name = "transaction_id", nullable = false)
+  private String transactionId;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
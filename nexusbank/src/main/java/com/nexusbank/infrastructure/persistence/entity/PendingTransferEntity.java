@@ -0,0 +1,54 @@
+package com.nexusbank.infrastructure.persistence.entity;
+
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.infrastructure.persistence.converter.CurrencyConverter;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Durable settlement queue: one row per transfer accepted as PENDING and not
+ * yet settled. Settlement deletes the row in the same commit that records the
+ * transaction. Written and read with plain JDBC; the entity only declares the
+ * table.
+ */
+@Entity
+@Table(name = "pending_transfers", indexes = {
+    @Index(name = "idx_pending_transfers_created", columnList = "created_at, id")
+})
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class PendingTransferEntity {
+
+  @Id
+  @EqualsAndHashCode.Include
+  private String id;
+
+  @Column(name = "account_id", nullable = false)
+  private String accountId;
+
+  @Column(name = "target_account_id", nullable = false)
+  private String targetAccountId;
+
+  @Column(nullable = false, precision = 19, scale = 3)
+  private BigDecimal amount;
+
+  @Convert(converter = CurrencyConverter.class)
+  @Column(nullable = false)
+  private Currency currency;
+
+  @Column(length = 255)
+  private String description;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
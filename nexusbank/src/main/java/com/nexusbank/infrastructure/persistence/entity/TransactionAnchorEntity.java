@@ -0,0 +1,44 @@
+package com.nexusbank.infrastructure.persistence.entity;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Position of an anchored transaction in its {@link AnchorBatchEntity} and its
+ * Merkle inclusion proof, packed as the proof directions followed by the
+ * sibling hashes. Written and read with plain JDBC; the entity only declares
+ * the table.
+ */
+@Entity
+@Table(name = "transaction_anchors", indexes = {
+    @Index(name = "idx_transaction_anchors_batch", columnList = "batch_id")
+})
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class TransactionAnchorEntity {
+
+  @Id
+  @Column(name = "transaction_id")
+  @EqualsAndHashCode.Include
+  private String transactionId;
+
+  @Column(name = "batch_id", nullable = false)
+  private String batchId;
+
+  @Column(name = "leaf_index", nullable = false)
+  private int leafIndex;
+
+  @Column(name = "leaf_hash", nullable = false, length = 32)
+  private byte[] leafHash;
+
+  // 8 bytes de direcciones y 32 por hermano: da para lotes de 2^31 hojas
+  @Column(nullable = false, length = 1000)
+  private byte[] proof;
+}
@@ -1,7 +1,9 @@
 package com.nexusbank.infrastructure.persistence.entity;
 
+import com.nexusbank.domain.model.Currency;
 import com.nexusbank.domain.model.TransactionStatus;
 import com.nexusbank.domain.model.TransactionType;
+import com.nexusbank.infrastructure.persistence.converter.CurrencyConverter;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -10,7 +12,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+    @Index(name = "idx_transactions_account_created", columnList = "account_id, created_at, id"),
+    @Index(name = "idx_transactions_target_created", columnList = "target_account_id, created_at, id"),
+    @Index(name = "idx_transactions_created", columnList = "created_at, id")
+})
 @Data
 @NoArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -26,11 +32,12 @@ public class TransactionEntity {
   @Column(name = "target_account_id")
   private String targetAccountId;
 
-  @Column(nullable = false, precision = 19, scale = 2)
+  @Column(nullable = false, precision = 19, scale = 3)
   private BigDecimal amount;
 
-  @Column(nullable = false, length = 3)
-  private String currency;
+  @Convert(converter = CurrencyConverter.class)
+  @Column(nullable = false)
+  private Currency currency;
 
   @Enumerated(EnumType.STRING)
   @Column(nullable = false)
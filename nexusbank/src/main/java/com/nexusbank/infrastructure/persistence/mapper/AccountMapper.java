@@ -5,26 +5,28 @@ import com.nexusbank.domain.model.Money;
 import com.nexusbank.infrastructure.persistence.entity.AccountEntity;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Component
 public class AccountMapper {
 
   public Account toDomainEntity(AccountEntity entity) {
-    Account account = Account.createNew(entity.getId(), entity.getUserId(), entity.getCurrency());
-
-    // Asumiendo que el método createNew crea una cuenta con balance cero
-    // Si el balance de la entidad no es cero, necesitamos depositarlo
-    if (entity.getBalance().compareTo(java.math.BigDecimal.ZERO) > 0) {
-      account.deposit(new Money(entity.getBalance(), entity.getCurrency()));
-    }
-
-    // Establecer el estado activo/inactivo
-    if (!entity.isActive()) {
-      account.deactivate();
-    }
+    return toDomainEntity(entity, entity.getBalance());
+  }
 
-    return account;
+  /**
+   * Maps the entity with a balance obtained elsewhere, e.g. derived from the
+   * journal instead of the {@code balance} column.
+   */
+  public Account toDomainEntity(AccountEntity entity, BigDecimal balance) {
+    return Account.reconstitute(
+        entity.getId(),
+        entity.getUserId(),
+        new Money(balance, entity.getCurrency()),
+        entity.isActive(),
+        entity.getCreatedAt(),
+        entity.getUpdatedAt());
   }
 
   public AccountEntity toJpaEntity(Account account) {
@@ -32,7 +34,7 @@ public class AccountMapper {
     entity.setId(account.getId());
     entity.setUserId(account.getUserId());
     entity.setBalance(account.getBalance().getAmount());
-    entity.setCurrency(account.getBalance().getCurrency());
+    entity.setCurrency(account.getBalance().getCurrencyUnit());
     entity.setActive(account.isActive());
 
     // Si es una entidad nueva, establecer las fechas de creación y actualización
@@ -5,46 +5,20 @@ import com.nexusbank.domain.model.Transaction;
 import com.nexusbank.infrastructure.persistence.entity.TransactionEntity;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-
 @Component
 public class TransactionMapper {
 
   public Transaction toDomainEntity(TransactionEntity entity) {
-    Money amount = new Money(entity.getAmount(), entity.getCurrency());
-    Transaction transaction;
-
-    switch (entity.getType()) {
-      case DEPOSIT:
-        transaction = Transaction.createDeposit(entity.getId(), entity.getAccountId(), amount);
-        break;
-      case WITHDRAWAL:
-        transaction = Transaction.createWithdrawal(entity.getId(), entity.getAccountId(), amount);
-        break;
-      case TRANSFER:
-        if (entity.getStatus() == com.nexusbank.domain.model.TransactionStatus.PENDING) {
-          transaction = Transaction.createPendingTransfer(
-              entity.getId(), entity.getAccountId(), entity.getTargetAccountId(), amount);
-        } else {
-          transaction = Transaction.createTransfer(
-              entity.getId(), entity.getAccountId(), entity.getTargetAccountId(), amount);
-        }
-        break;
-      default:
-        throw new IllegalArgumentException("Unknown transaction type: " + entity.getType());
-    }
-
-    // Actualizar el estado si es necesario
-    if (entity.getStatus() == com.nexusbank.domain.model.TransactionStatus.FAILED) {
-      transaction.markAsFailed();
-    }
-
-    // Actualizar la descripción si es diferente de la predeterminada
-    if (entity.getDescription() != null && !entity.getDescription().equals(transaction.getDescription())) {
-      transaction.updateDescription(entity.getDescription());
-    }
-
-    return transaction;
+    return Transaction.reconstitute(
+        entity.getId(),
+        entity.getAccountId(),
+        entity.getTargetAccountId(),
+        new Money(entity.getAmount(), entity.getCurrency()),
+        entity.getType(),
+        entity.getStatus(),
+        entity.getDescription(),
+        entity.getCreatedAt(),
+        entity.getUpdatedAt());
   }
 
   public TransactionEntity toJpaEntity(Transaction transaction) {
@@ -53,15 +27,14 @@ public class TransactionMapper {
     entity.setAccountId(transaction.getAccountId());
     entity.setTargetAccountId(transaction.getTargetAccountId());
     entity.setAmount(transaction.getAmount().getAmount());
-    entity.setCurrency(transaction.getAmount().getCurrency());
+    entity.setCurrency(transaction.getAmount().getCurrencyUnit());
     entity.setType(transaction.getType());
     entity.setStatus(transaction.getStatus());
     entity.setDescription(transaction.getDescription());
-
-    // Establecer fechas de creación y actualización
-    LocalDateTime now = LocalDateTime.now();
-    entity.setCreatedAt(now);
-    entity.setUpdatedAt(now);
+    // Se conservan las fechas del dominio: el orden (created_at, id) lo usan
+    // el historial paginado, los checkpoints y el anclaje
+    entity.setCreatedAt(transaction.getCreatedAt());
+    entity.setUpdatedAt(transaction.getUpdatedAt());
 
     return entity;
   }
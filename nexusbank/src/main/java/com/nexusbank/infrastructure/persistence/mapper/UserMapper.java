@@ -5,24 +5,26 @@ import com.nexusbank.infrastructure.persistence.entity.UserEntity;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Component
 public class UserMapper {
 
-  // Este método necesitará ser modificado con datos simulados para passwordHash
-  // debido a que UserEntity no tiene todos los campos necesarios
-  public User toDomainEntity(UserEntity entity) {
-    // Valor simulado para passwordHash ya que no está en la entidad
-    String defaultPasswordHash = "NO_PASSWORD_STORED";
+  // Valor simulado para passwordHash ya que no está en la entidad
+  static final String NO_PASSWORD_STORED = "NO_PASSWORD_STORED";
 
-    // Utilizamos el factory method para crear un nuevo usuario
-    User user = User.createNew(
+  // UserEntity no guarda passwordHash, estado ni cuentas: se usan valores por
+  // defecto
+  public User toDomainEntity(UserEntity entity) {
+    return User.reconstitute(
         entity.getId(),
         entity.getName(),
         entity.getEmail(),
-        defaultPasswordHash);
-
-    return user;
+        NO_PASSWORD_STORED,
+        true,
+        Set.of(),
+        entity.getCreatedAt(),
+        entity.getUpdatedAt());
   }
 
   public UserEntity toJpaEntity(User user) {
@@ -1,12 +1,26 @@
 package com.nexusbank.infrastructure.persistence.repository;
 
 import com.nexusbank.infrastructure.persistence.entity.AccountEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AccountRepository extends JpaRepository<AccountEntity, String> {
   List<AccountEntity> findByUserId(String userId);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT a FROM AccountEntity a WHERE a.id = :id")
+  Optional<AccountEntity> findByIdForUpdate(@Param("id") String id);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT a FROM AccountEntity a WHERE a.id IN :ids ORDER BY a.id")
+  List<AccountEntity> findAllByIdForUpdate(@Param("ids") Collection<String> ids);
 }
\ No newline at end of file
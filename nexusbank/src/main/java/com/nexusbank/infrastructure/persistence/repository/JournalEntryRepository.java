@@ -0,0 +1,15 @@
+package com.nexusbank.infrastructure.persistence.repository;
+
+import com.nexusbank.infrastructure.persistence.entity.JournalEntryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JournalEntryRepository extends JpaRepository<JournalEntryEntity, Long> {
+  List<JournalEntryEntity> findByTransactionIdOrderBySequence(String transactionId);
+
+  List<JournalEntryEntity> findByTransactionIdIn(Collection<String> transactionIds);
+}
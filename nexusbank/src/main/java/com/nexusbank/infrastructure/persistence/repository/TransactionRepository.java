@@ -4,6 +4,7 @@ import com.nexusbank.infrastructure.persistence.entity.TransactionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -11,4 +12,6 @@ public interface TransactionRepository extends JpaRepository<TransactionEntity,
   List<TransactionEntity> findByAccountId(String accountId);
 
   List<TransactionEntity> findByAccountIdOrTargetAccountId(String accountId, String targetAccountId);
+
+  List<TransactionEntity> findByCreatedAtBetween(LocalDateTime from, LocalDateTime to);
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.nexusbank.infrastructure.replica;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Sends each connection request to the primary (the target data source) or,
+ * inside a replica read, to an eligible replica chosen by the
+ * {@link ReplicaLagMonitor}. The choice is made per connection, which with
+ * Hibernate and the JDBC adapters means per transaction: a unit of work that
+ * started on the primary keeps its connection for every statement.
+ */
+public class ReadReplicaRoutingDataSource extends DelegatingDataSource {
+
+  private final Supplier<ReplicaLagMonitor> monitor;
+
+  /**
+   * @param primary Primary data source
+   * @param monitor Lag monitor; resolved on the first replica read, since the
+   *                monitor itself is created after the primary data source
+   */
+  public ReadReplicaRoutingDataSource(DataSource primary, Supplier<ReplicaLagMonitor> monitor) {
+    super(primary);
+    this.monitor = monitor;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Optional<DataSource> replica = replica();
+    return replica.isPresent() ? replica.get().getConnection() : super.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    Optional<DataSource> replica = replica();
+    return replica.isPresent()
+        ? replica.get().getConnection(username, password)
+        : super.getConnection(username, password);
+  }
+
+  private Optional<DataSource> replica() {
+    if (!ReplicaRouting.isReplicaRead()) {
+      return Optional.empty();
+    }
+    return monitor.get().replicaFor(ReplicaRouting.minPosition());
+  }
+}
@@ -0,0 +1,72 @@
+package com.nexusbank.infrastructure.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Read-your-writes for replica reads. A successful write request answers with
+ * a {@value #CONSISTENCY_TOKEN} header holding the primary's write-ahead log
+ * position once the write has committed. A read that sends the token back
+ * only goes to a replica that has replayed up to that position, and to the
+ * primary otherwise. Requests without the token read from any replica within
+ * the allowed lag.
+ *
+ * The write response is buffered so the header can be added after the
+ * controller has run; write responses are small.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  public static final String CONSISTENCY_TOKEN = "X-Consistency-Token";
+
+  static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+  private final ReplicaLagMonitor monitor;
+
+  public ReadYourWritesFilter(ReplicaLagMonitor monitor) {
+    this.monitor = monitor;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (WRITE_METHODS.contains(request.getMethod())) {
+      ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+      filterChain.doFilter(request, buffered);
+      if (buffered.getStatus() < 400) {
+        try {
+          buffered.setHeader(CONSISTENCY_TOKEN, ReplicaRouting.formatPosition(monitor.currentPrimaryPosition()));
+        } catch (RuntimeException e) {
+          // La escritura ya se confirmó: se responde sin token
+        }
+      }
+      buffered.copyBodyToResponse();
+      return;
+    }
+
+    String token = request.getHeader(CONSISTENCY_TOKEN);
+    if (token == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    long position;
+    try {
+      position = ReplicaRouting.parsePosition(token.trim());
+    } catch (IllegalArgumentException e) {
+      // Un token ilegible no puede garantizar nada: se lee del primario
+      position = Long.MAX_VALUE;
+    }
+    ReplicaRouting.requirePosition(position);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ReplicaRouting.clearPosition();
+    }
+  }
+}
@@ -0,0 +1,194 @@
+package com.nexusbank.infrastructure.replica;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks how far each replica has replayed the primary's write-ahead log and
+ * picks a replica for each replica read.
+ *
+ * Lag is measured in log positions, not in replay timestamps: a replica is
+ * eligible when it has replayed at least the position the primary had
+ * {@code maxLag} ago. An idle primary therefore does not make caught-up
+ * replicas look stale, and a replica whose replication stopped falls out of
+ * rotation as soon as the primary moves on. Until the first primary sample
+ * is {@code maxLag} old, and whenever a replica cannot be polled, reads go to
+ * the primary.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+  static final String PRIMARY_POSITION_SQL = "SELECT pg_current_wal_lsn()::text";
+
+  // Fuera de recuperación no es una réplica: NULL y queda fuera de rotación
+  static final String REPLAY_POSITION_SQL = "SELECT CASE WHEN pg_is_in_recovery()"
+      + " THEN pg_last_wal_replay_lsn()::text END";
+
+  static final long UNAVAILABLE = -1;
+
+  private final JdbcTemplate primary;
+  private final List<DataSource> replicas;
+  private final List<JdbcTemplate> replicaTemplates;
+  private final long maxLagNanos;
+
+  // Solo el hilo del sondeo toca las muestras
+  private final Deque<Sample> primarySamples = new ArrayDeque<>();
+  private volatile long[] replayPositions;
+  private volatile long primaryPosition = UNAVAILABLE;
+  private volatile long requiredPosition = Long.MAX_VALUE;
+
+  private final AtomicInteger next = new AtomicInteger();
+  private final LongAdder replicaReads = new LongAdder();
+  private final LongAdder primaryFallbacks = new LongAdder();
+
+  public ReplicaLagMonitor(DataSource primary, List<DataSource> replicas, Duration maxLag) {
+    if (replicas.isEmpty()) {
+      throw new IllegalArgumentException("At least one replica is required");
+    }
+    this.primary = new JdbcTemplate(primary);
+    this.replicas = List.copyOf(replicas);
+    this.replicaTemplates = new ArrayList<>();
+    for (DataSource replica : replicas) {
+      replicaTemplates.add(new JdbcTemplate(replica));
+    }
+    this.maxLagNanos = maxLag.toNanos();
+    this.replayPositions = new long[replicas.size()];
+    Arrays.fill(replayPositions, UNAVAILABLE);
+  }
+
+  @Scheduled(fixedDelayString = "${nexusbank.datasource.replica.poll-interval-ms:200}")
+  public void poll() {
+    long now = System.nanoTime();
+    try {
+      long position = currentPrimaryPosition();
+      primaryPosition = position;
+      primarySamples.addLast(new Sample(now, position));
+    } catch (RuntimeException e) {
+      // Sin muestra nueva: el umbral anterior sigue siendo válido
+    }
+    requiredPosition = requiredPosition(now);
+
+    long[] positions = new long[replicaTemplates.size()];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = replayPosition(replicaTemplates.get(i));
+    }
+    replayPositions = positions;
+  }
+
+  /**
+   * A replica that has replayed the log up to {@code minPosition} and is
+   * within the allowed lag, in round-robin order; empty if none qualifies and
+   * the read has to go to the primary.
+   */
+  public Optional<DataSource> replicaFor(long minPosition) {
+    long required = Math.max(requiredPosition, minPosition);
+    long[] positions = replayPositions;
+    int start = Math.floorMod(next.getAndIncrement(), positions.length);
+    for (int i = 0; i < positions.length; i++) {
+      int candidate = (start + i) % positions.length;
+      if (positions[candidate] != UNAVAILABLE && positions[candidate] >= required) {
+        replicaReads.increment();
+        return Optional.of(replicas.get(candidate));
+      }
+    }
+    primaryFallbacks.increment();
+    return Optional.empty();
+  }
+
+  /**
+   * Current write-ahead log position of the primary, queried now.
+   */
+  public long currentPrimaryPosition() {
+    return ReplicaRouting.parsePosition(primary.queryForObject(PRIMARY_POSITION_SQL, String.class));
+  }
+
+  public int getReplicaCount() {
+    return replicas.size();
+  }
+
+  /**
+   * Bytes of write-ahead log the replica is behind the primary as of the last
+   * poll, or {@code -1} if it could not be polled.
+   */
+  public long getLagBytes(int replica) {
+    long replayed = replayPositions[replica];
+    long current = primaryPosition;
+    if (replayed == UNAVAILABLE || current == UNAVAILABLE) {
+      return UNAVAILABLE;
+    }
+    return Math.max(0, current - replayed);
+  }
+
+  public boolean isEligible(int replica) {
+    long replayed = replayPositions[replica];
+    return replayed != UNAVAILABLE && replayed >= requiredPosition;
+  }
+
+  /**
+   * Reads served by a replica.
+   */
+  public long getReplicaReads() {
+    return replicaReads.sum();
+  }
+
+  /**
+   * Replica-safe reads that went to the primary because no replica was
+   * eligible.
+   */
+  public long getPrimaryFallbacks() {
+    return primaryFallbacks.sum();
+  }
+
+  @Override
+  public void close() throws Exception {
+    for (DataSource replica : replicas) {
+      if (replica instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+
+  /**
+   * Replayed positions as of the last poll; for tests that cannot set up
+   * streaming replication.
+   */
+  void recordReplayPositions(long required, long... positions) {
+    requiredPosition = required;
+    replayPositions = positions.clone();
+  }
+
+  private long requiredPosition(long now) {
+    // Se conserva la muestra más reciente que ya tiene maxLag de antigüedad
+    Sample threshold = null;
+    while (!primarySamples.isEmpty() && now - primarySamples.peekFirst().nanoTime() >= maxLagNanos) {
+      threshold = primarySamples.pollFirst();
+    }
+    if (threshold == null) {
+      return requiredPosition;
+    }
+    primarySamples.addFirst(threshold);
+    return threshold.position();
+  }
+
+  private static long replayPosition(JdbcTemplate replica) {
+    try {
+      String position = replica.queryForObject(REPLAY_POSITION_SQL, String.class);
+      return position == null ? UNAVAILABLE : ReplicaRouting.parsePosition(position);
+    } catch (RuntimeException e) {
+      return UNAVAILABLE;
+    }
+  }
+
+  private record Sample(long nanoTime, long position) {
+  }
+}
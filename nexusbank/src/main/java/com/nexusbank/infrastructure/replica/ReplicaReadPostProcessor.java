@@ -0,0 +1,54 @@
+package com.nexusbank.infrastructure.replica;
+
+import com.nexusbank.application.port.in.GetAccountUseCase;
+import com.nexusbank.application.port.in.GetTransactionHistoryUseCase;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Marks the query use cases that may read from a replica. Only the methods
+ * those interfaces declare are advised: {@code AccountService} also creates
+ * accounts, and that stays on the primary.
+ *
+ * Proxies are class-based, so beans can still be injected by their concrete
+ * type.
+ */
+public class ReplicaReadPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+  static final Set<Class<?>> REPLICA_USE_CASES = Set.of(GetAccountUseCase.class, GetTransactionHistoryUseCase.class);
+
+  public ReplicaReadPostProcessor() {
+    MethodInterceptor interceptor = invocation -> {
+      Boolean previous = ReplicaRouting.enterReplicaRead();
+      try {
+        return invocation.proceed();
+      } finally {
+        ReplicaRouting.exitReplicaRead(previous);
+      }
+    };
+    this.advisor = new StaticMethodMatcherPointcutAdvisor(interceptor) {
+      @Override
+      public boolean matches(Method method, Class<?> targetClass) {
+        return isReplicaRead(method, targetClass);
+      }
+    };
+    setProxyTargetClass(true);
+    setBeforeExistingAdvisors(true);
+  }
+
+  static boolean isReplicaRead(Method method, Class<?> targetClass) {
+    for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+      if (REPLICA_USE_CASES.contains(type)
+          && ReflectionUtils.findMethod(type, method.getName(), method.getParameterTypes()) != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
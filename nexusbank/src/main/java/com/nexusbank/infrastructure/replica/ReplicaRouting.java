@@ -0,0 +1,80 @@
+package com.nexusbank.infrastructure.replica;
+
+/**
+ * Routing state of the current thread. Reads are sent to a replica only
+ * inside a replica-safe use case (see {@link ReplicaReadPostProcessor}), and
+ * then only to a replica that has replayed the write-ahead log at least up to
+ * the position the request asked for (see {@link ReadYourWritesFilter}).
+ * Everything else goes to the primary.
+ */
+public final class ReplicaRouting {
+
+  private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+  private static final ThreadLocal<Long> MIN_POSITION = new ThreadLocal<>();
+
+  private ReplicaRouting() {
+  }
+
+  /**
+   * Whether connections borrowed now may come from a replica.
+   */
+  public static boolean isReplicaRead() {
+    return Boolean.TRUE.equals(REPLICA_READ.get());
+  }
+
+  /**
+   * Lowest write-ahead log position a replica must have replayed to serve the
+   * current request; {@code 0} when the request carries no consistency token.
+   */
+  public static long minPosition() {
+    Long position = MIN_POSITION.get();
+    return position == null ? 0 : position;
+  }
+
+  static Boolean enterReplicaRead() {
+    Boolean previous = REPLICA_READ.get();
+    REPLICA_READ.set(Boolean.TRUE);
+    return previous;
+  }
+
+  static void exitReplicaRead(Boolean previous) {
+    if (previous == null) {
+      REPLICA_READ.remove();
+    } else {
+      REPLICA_READ.set(previous);
+    }
+  }
+
+  static void requirePosition(long position) {
+    MIN_POSITION.set(position);
+  }
+
+  static void clearPosition() {
+    MIN_POSITION.remove();
+  }
+
+  /**
+   * Parses a PostgreSQL LSN ({@code 16/B374D848}) into its 64-bit position.
+   *
+   * @throws IllegalArgumentException if the text is not an LSN
+   */
+  public static long parsePosition(String lsn) {
+    int slash = lsn == null ? -1 : lsn.indexOf('/');
+    if (slash <= 0 || slash == lsn.length() - 1 || slash > 8 || lsn.length() - slash - 1 > 8) {
+      throw new IllegalArgumentException("Invalid log sequence number: " + lsn);
+    }
+    try {
+      return Long.parseLong(lsn.substring(0, slash), 16) << 32 | Long.parseLong(lsn.substring(slash + 1), 16);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid log sequence number: " + lsn, e);
+    }
+  }
+
+  /**
+   * Formats a position the way PostgreSQL prints an LSN.
+   */
+  public static String formatPosition(long position) {
+    return Long.toHexString(position >>> 32).toUpperCase() + "/" + Long.toHexString(position & 0xFFFFFFFFL)
+        .toUpperCase();
+  }
+}
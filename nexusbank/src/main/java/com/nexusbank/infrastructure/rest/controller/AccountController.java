@@ -1,10 +1,22 @@
 package com.nexusbank.infrastructure.rest.controller;
 
 import com.nexusbank.application.port.in.CreateAccountUseCase;
+import com.nexusbank.application.port.in.ExportStatementUseCase;
+import com.nexusbank.application.port.in.ExportStatementUseCase.StatementQuery;
 import com.nexusbank.application.port.in.GetAccountUseCase;
+import com.nexusbank.application.port.in.GetBalanceAtUseCase;
+import com.nexusbank.application.port.in.GetTransactionHistoryUseCase;
+import com.nexusbank.application.port.in.GetTransactionHistoryUseCase.TransactionHistoryQuery;
 import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+import com.nexusbank.infrastructure.concurrency.StatementExportLimiter;
 import com.nexusbank.infrastructure.rest.dto.request.CreateAccountRequest;
 import com.nexusbank.infrastructure.rest.dto.response.AccountResponse;
+import com.nexusbank.infrastructure.rest.dto.response.HistoricBalanceResponse;
+import com.nexusbank.infrastructure.rest.dto.response.StatementFormat;
+import com.nexusbank.infrastructure.rest.dto.response.TransactionPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,11 +25,22 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -27,10 +50,20 @@ public class AccountController {
 
   private final CreateAccountUseCase createAccountUseCase;
   private final GetAccountUseCase getAccountUseCase;
+  private final GetTransactionHistoryUseCase getTransactionHistoryUseCase;
+  private final ExportStatementUseCase exportStatementUseCase;
+  private final GetBalanceAtUseCase getBalanceAtUseCase;
+  private final StatementExportLimiter statementExportLimiter;
 
-  public AccountController(CreateAccountUseCase createAccountUseCase, GetAccountUseCase getAccountUseCase) {
+  public AccountController(CreateAccountUseCase createAccountUseCase, GetAccountUseCase getAccountUseCase,
+      GetTransactionHistoryUseCase getTransactionHistoryUseCase, ExportStatementUseCase exportStatementUseCase,
+      GetBalanceAtUseCase getBalanceAtUseCase, StatementExportLimiter statementExportLimiter) {
     this.createAccountUseCase = createAccountUseCase;
     this.getAccountUseCase = getAccountUseCase;
+    this.getTransactionHistoryUseCase = getTransactionHistoryUseCase;
+    this.exportStatementUseCase = exportStatementUseCase;
+    this.getBalanceAtUseCase = getBalanceAtUseCase;
+    this.statementExportLimiter = statementExportLimiter;
   }
 
   @Operation(summary = "Crear una nueva cuenta bancaria", description = "Crea una nueva cuenta bancaria para un usuario existente")
@@ -44,9 +77,14 @@ public class AccountController {
   public ResponseEntity<AccountResponse> createAccount(
       @Parameter(description = "Datos para crear la cuenta", required = true) @Valid @RequestBody CreateAccountRequest request) {
 
+    Currency currency = request.currency() != null
+        ? Currency.of(request.currency())
+        : CreateAccountUseCase.DEFAULT_CURRENCY;
+
     Account createdAccount = createAccountUseCase.createAccount(
         request.userId(),
-        request.initialDeposit());
+        request.initialDeposit(),
+        currency);
 
     return new ResponseEntity<>(
         AccountResponse.fromDomain(createdAccount),
@@ -84,4 +122,98 @@ public class AccountController {
 
     return ResponseEntity.ok(accountResponses);
   }
+
+  @Operation(summary = "Historial de transacciones de una cuenta", description = "Devuelve las transacciones en las que participa la cuenta, de la más reciente a la más antigua, paginadas por cursor")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Página recuperada correctamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TransactionPageResponse.class))),
+      @ApiResponse(responseCode = "400", description = "Cursor o filtros inválidos", content = @Content),
+      @ApiResponse(responseCode = "404", description = "Cuenta no encontrada", content = @Content),
+      @ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content)
+  })
+  @GetMapping("/{accountId}/transactions")
+  public ResponseEntity<TransactionPageResponse> getTransactionHistory(
+      @Parameter(description = "ID de la cuenta", required = true) @PathVariable String accountId,
+      @Parameter(description = "Filtrar por tipo") @RequestParam(required = false) TransactionType type,
+      @Parameter(description = "Filtrar por estado") @RequestParam(required = false) TransactionStatus status,
+      @Parameter(description = "Desde (inclusive)", example = "2025-03-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @Parameter(description = "Hasta (exclusive)", example = "2025-04-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+      @Parameter(description = "Cursor devuelto por la página anterior") @RequestParam(required = false) String cursor,
+      @Parameter(description = "Tamaño de página (por defecto 50, máximo 500)") @RequestParam(required = false) Integer limit) {
+
+    TransactionHistoryQuery query = new TransactionHistoryQuery(accountId, type, status, from, to, cursor, limit);
+    return ResponseEntity.ok(TransactionPageResponse.fromDomain(
+        getTransactionHistoryUseCase.getTransactionHistory(query)));
+  }
+
+  @Operation(summary = "Saldo en un instante", description = "Saldo de la cuenta con todas las transacciones completadas creadas antes del instante indicado (el actual si se omite). Se calcula desde el checkpoint de saldo más cercano, sin recorrer todo el historial")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Saldo en el instante indicado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = HistoricBalanceResponse.class))),
+      @ApiResponse(responseCode = "404", description = "Cuenta no encontrada", content = @Content),
+      @ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content)
+  })
+  @GetMapping("/{accountId}/balance")
+  public ResponseEntity<HistoricBalanceResponse> getBalanceAt(
+      @Parameter(description = "ID de la cuenta", required = true) @PathVariable String accountId,
+      @Parameter(description = "Instante (exclusive)", example = "2025-04-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+
+    LocalDateTime instant = at == null ? LocalDateTime.now() : at;
+    return ResponseEntity.ok(HistoricBalanceResponse.of(accountId, instant,
+        getBalanceAtUseCase.getBalanceAt(accountId, instant)));
+  }
+
+  @Operation(summary = "Extracto de una cuenta", description = "Exporta las transacciones del periodo, de la más antigua a la más reciente, con el saldo tras cada una. La respuesta se genera a medida que se leen las filas, sin cargar el extracto entero en memoria")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Extracto en CSV o NDJSON", content = {
+          @Content(mediaType = "text/csv"), @Content(mediaType = "application/x-ndjson") }),
+      @ApiResponse(responseCode = "400", description = "Formato o periodo inválidos", content = @Content),
+      @ApiResponse(responseCode = "404", description = "Cuenta no encontrada", content = @Content),
+      @ApiResponse(responseCode = "429", description = "Demasiados extractos en curso; reintentar más tarde", content = @Content),
+      @ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content)
+  })
+  @GetMapping("/{accountId}/statement")
+  public ResponseEntity<StreamingResponseBody> exportStatement(
+      @Parameter(description = "ID de la cuenta", required = true) @PathVariable String accountId,
+      @Parameter(description = "Desde (inclusive)", example = "2025-03-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @Parameter(description = "Hasta (exclusive)", example = "2025-04-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+      @Parameter(description = "Formato: csv o ndjson") @RequestParam(defaultValue = "csv") String format) {
+
+    Optional<StatementFormat> statementFormat = StatementFormat.from(format);
+    if (statementFormat.isEmpty()) {
+      return ResponseEntity.badRequest().build();
+    }
+    StatementQuery query = new StatementQuery(accountId, from, to);
+
+    // Una vez empezado el cuerpo ya no se puede responder 404: la cuenta se
+    // comprueba antes
+    getAccountUseCase.getAccountById(accountId);
+    // Igual con el límite de extractos simultáneos: el permiso se toma aquí
+    // y se devuelve cuando se ha escrito el cuerpo
+    StatementExportLimiter.Permit permit = statementExportLimiter.acquire();
+
+    StatementFormat writerFormat = statementFormat.get();
+    StreamingResponseBody body = outputStream -> {
+      try (permit) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writerFormat.writeHeader(writer);
+        try {
+          exportStatementUseCase.exportStatement(query, line -> {
+            try {
+              writerFormat.write(line, writer);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+        } catch (UncheckedIOException e) {
+          throw e.getCause();
+        }
+        writer.flush();
+      }
+    };
+
+    return ResponseEntity.ok()
+        .contentType(writerFormat.getMediaType())
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"statement-" + accountId + "." + writerFormat.getExtension() + "\"")
+        .body(body);
+  }
 }
\ No newline at end of file
@@ -1,10 +1,19 @@
 package com.nexusbank.infrastructure.rest.controller;
 
+import com.nexusbank.application.port.in.BatchTransferUseCase;
+import com.nexusbank.application.port.in.BatchTransferUseCase.TransferInstruction;
+import com.nexusbank.application.port.in.BatchTransferUseCase.TransferResult;
 import com.nexusbank.application.port.in.DepositMoneyUseCase;
+import com.nexusbank.application.port.in.GetTransactionProofUseCase;
+import com.nexusbank.application.port.in.GetTransactionUseCase;
+import com.nexusbank.application.port.in.SubmitTransferUseCase;
 import com.nexusbank.application.port.in.TransferMoneyUseCase;
 import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.rest.dto.request.BatchTransferRequest;
 import com.nexusbank.infrastructure.rest.dto.request.DepositRequest;
 import com.nexusbank.infrastructure.rest.dto.request.TransferRequest;
+import com.nexusbank.infrastructure.rest.dto.response.BatchTransferResponse;
+import com.nexusbank.infrastructure.rest.dto.response.TransactionProofResponse;
 import com.nexusbank.infrastructure.rest.dto.response.TransactionResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,18 +25,41 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/transactions")
 @Tag(name = "transactions", description = "API para gestión de transacciones bancarias")
 public class TransactionController {
 
+  static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+  // RFC 7240: el cliente pide que la transferencia se liquide en segundo plano
+  static final String PREFER_HEADER = "Prefer";
+  static final String RESPOND_ASYNC = "respond-async";
+
+  private static final String IDEMPOTENCY_KEY_DESCRIPTION = "Clave de idempotencia (máx. 255 caracteres): un reintento con la misma clave devuelve la transacción original sin repetirla";
+
   private final DepositMoneyUseCase depositMoneyUseCase;
   private final TransferMoneyUseCase transferMoneyUseCase;
+  private final BatchTransferUseCase batchTransferUseCase;
+  private final SubmitTransferUseCase submitTransferUseCase;
+  private final GetTransactionUseCase getTransactionUseCase;
+  private final GetTransactionProofUseCase getTransactionProofUseCase;
 
-  public TransactionController(DepositMoneyUseCase depositMoneyUseCase, TransferMoneyUseCase transferMoneyUseCase) {
+  public TransactionController(DepositMoneyUseCase depositMoneyUseCase, TransferMoneyUseCase transferMoneyUseCase,
+      BatchTransferUseCase batchTransferUseCase, SubmitTransferUseCase submitTransferUseCase,
+      GetTransactionUseCase getTransactionUseCase, GetTransactionProofUseCase getTransactionProofUseCase) {
     this.depositMoneyUseCase = depositMoneyUseCase;
     this.transferMoneyUseCase = transferMoneyUseCase;
+    this.batchTransferUseCase = batchTransferUseCase;
+    this.submitTransferUseCase = submitTransferUseCase;
+    this.getTransactionUseCase = getTransactionUseCase;
+    this.getTransactionProofUseCase = getTransactionProofUseCase;
   }
 
   @Operation(summary = "Realizar un depósito", description = "Deposita dinero en una cuenta bancaria específica")
@@ -35,36 +67,109 @@ public class TransactionController {
       @ApiResponse(responseCode = "200", description = "Depósito realizado correctamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TransactionResponse.class))),
       @ApiResponse(responseCode = "400", description = "Datos de depósito inválidos", content = @Content),
       @ApiResponse(responseCode = "404", description = "Cuenta no encontrada", content = @Content),
+      @ApiResponse(responseCode = "422", description = "Clave de idempotencia ya usada para otra operación", content = @Content),
       @ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content)
   })
   @PostMapping("/accounts/{accountId}/deposit")
   public ResponseEntity<TransactionResponse> deposit(
       @Parameter(description = "ID de la cuenta donde se realizará el depósito", required = true) @PathVariable String accountId,
 
+      @Parameter(description = IDEMPOTENCY_KEY_DESCRIPTION) @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+
       @Parameter(description = "Detalles del depósito", required = true) @Valid @RequestBody DepositRequest request) {
 
-    Transaction transaction = depositMoneyUseCase.depositMoney(accountId, request.amount());
+    Transaction transaction = idempotencyKey == null
+        ? depositMoneyUseCase.depositMoney(accountId, request.amount())
+        : depositMoneyUseCase.depositMoney(accountId, request.amount(), idempotencyKey);
     return ResponseEntity.ok(TransactionResponse.fromDomain(transaction));
   }
 
-  @Operation(summary = "Realizar una transferencia", description = "Transfiere dinero desde una cuenta a otra")
+  @Operation(summary = "Realizar una transferencia", description = "Transfiere dinero desde una cuenta a otra. Con la cabecera 'Prefer: respond-async' la transferencia se acepta como PENDING y se liquida en segundo plano; su estado se consulta en GET /api/transactions/{transactionId}")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Transferencia realizada correctamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TransactionResponse.class))),
+      @ApiResponse(responseCode = "202", description = "Transferencia aceptada para liquidarse en segundo plano", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TransactionResponse.class))),
       @ApiResponse(responseCode = "400", description = "Datos de transferencia inválidos o saldo insuficiente", content = @Content),
       @ApiResponse(responseCode = "404", description = "Cuenta origen o destino no encontrada", content = @Content),
+      @ApiResponse(responseCode = "422", description = "Clave de idempotencia ya usada para otra operación", content = @Content),
       @ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content)
   })
   @PostMapping("/accounts/{sourceAccountId}/transfer")
   public ResponseEntity<TransactionResponse> transfer(
       @Parameter(description = "ID de la cuenta de origen", required = true) @PathVariable String sourceAccountId,
 
+      @Parameter(description = IDEMPOTENCY_KEY_DESCRIPTION) @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+
+      @Parameter(description = "Preferencias del cliente; 'respond-async' liquida la transferencia en segundo plano") @RequestHeader(name = PREFER_HEADER, required = false) String prefer,
+
       @Parameter(description = "Detalles de la transferencia", required = true) @Valid @RequestBody TransferRequest request) {
 
-    Transaction transaction = transferMoneyUseCase.transferMoney(
-        sourceAccountId,
-        request.targetAccountId(),
-        request.amount());
+    if (prefer != null && prefer.toLowerCase(Locale.ROOT).contains(RESPOND_ASYNC)) {
+      Transaction pending = idempotencyKey == null
+          ? submitTransferUseCase.submitTransfer(sourceAccountId, request.targetAccountId(), request.amount())
+          : submitTransferUseCase.submitTransfer(sourceAccountId, request.targetAccountId(), request.amount(),
+              idempotencyKey);
+
+      URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+          .path("/api/transactions/{transactionId}")
+          .buildAndExpand(pending.getId())
+          .toUri();
+      return ResponseEntity.accepted()
+          .location(location)
+          .header("Preference-Applied", RESPOND_ASYNC)
+          .body(TransactionResponse.fromDomain(pending));
+    }
+
+    Transaction transaction = idempotencyKey == null
+        ? transferMoneyUseCase.transferMoney(sourceAccountId, request.targetAccountId(), request.amount())
+        : transferMoneyUseCase.transferMoney(sourceAccountId, request.targetAccountId(), request.amount(),
+            idempotencyKey);
 
     return ResponseEntity.ok(TransactionResponse.fromDomain(transaction));
   }
-}
\ No newline at end of file
+
+  @Operation(summary = "Consultar una transacción", description = "Devuelve una transacción con su estado actual, incluidas las transferencias pendientes de liquidar")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Transacción encontrada", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TransactionResponse.class))),
+      @ApiResponse(responseCode = "404", description = "Transacción no encontrada", content = @Content),
+      @ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content)
+  })
+  @GetMapping("/{transactionId}")
+  public ResponseEntity<TransactionResponse> getTransaction(
+      @Parameter(description = "ID de la transacción", required = true) @PathVariable String transactionId) {
+
+    Transaction transaction = getTransactionUseCase.getTransactionById(transactionId);
+    return ResponseEntity.ok(TransactionResponse.fromDomain(transaction));
+  }
+
+  @Operation(summary = "Obtener la prueba de inclusión de una transacción", description = "Devuelve la hoja de Merkle de una transacción completada, el camino de hermanos hasta la raíz de su lote y la referencia de esa raíz en el contrato TxLedger, para verificarla sin confiar en la base de datos del banco")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Prueba de inclusión de la transacción", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TransactionProofResponse.class))),
+      @ApiResponse(responseCode = "404", description = "Transacción no encontrada o aún no anclada", content = @Content),
+      @ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content)
+  })
+  @GetMapping("/{transactionId}/proof")
+  public ResponseEntity<TransactionProofResponse> getTransactionProof(
+      @Parameter(description = "ID de la transacción", required = true) @PathVariable String transactionId) {
+
+    return ResponseEntity.ok(TransactionProofResponse.fromDomain(
+        getTransactionProofUseCase.getTransactionProof(transactionId)));
+  }
+
+  @Operation(summary = "Realizar un lote de transferencias", description = "Ejecuta miles de transferencias en una sola petición e informa del resultado de cada una")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Lote procesado; cada transferencia indica si se completó o falló", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BatchTransferResponse.class))),
+      @ApiResponse(responseCode = "400", description = "Datos del lote inválidos", content = @Content),
+      @ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content)
+  })
+  @PostMapping("/batch")
+  public ResponseEntity<BatchTransferResponse> transferBatch(
+      @Parameter(description = "Transferencias del lote", required = true) @Valid @RequestBody BatchTransferRequest request) {
+
+    List<TransferInstruction> instructions = request.transfers().stream()
+        .map(item -> new TransferInstruction(item.sourceAccountId(), item.targetAccountId(), item.amount()))
+        .toList();
+    List<TransferResult> results = batchTransferUseCase.transferBatch(instructions);
+
+    return ResponseEntity.ok(BatchTransferResponse.fromDomain(results));
+  }
+}
@@ -0,0 +1,29 @@
+package com.nexusbank.infrastructure.rest.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO para realizar un lote de transferencias en una sola petición.
+ */
+@Schema(description = "Lote de transferencias entre cuentas")
+public record BatchTransferRequest(
+        @Schema(description = "Transferencias a realizar, en orden", requiredMode = Schema.RequiredMode.REQUIRED) @NotEmpty(message = "At least one transfer is required") @Size(max = 10000, message = "A batch can contain at most 10000 transfers") List<@Valid @NotNull(message = "Transfer cannot be null") Item> transfers) {
+
+    @Schema(description = "Una transferencia del lote")
+    public record Item(
+            @Schema(description = "ID de la cuenta origen", example = "account-123", requiredMode = Schema.RequiredMode.REQUIRED) @NotBlank(message = "Source account ID is required") String sourceAccountId,
+
+            @Schema(description = "ID de la cuenta destino", example = "account-456", requiredMode = Schema.RequiredMode.REQUIRED) @NotBlank(message = "Target account ID is required") String targetAccountId,
+
+            @Schema(description = "Monto a transferir (debe ser mayor que cero, con como mucho los decimales de la moneda de la cuenta)", example = "100.00", requiredMode = Schema.RequiredMode.REQUIRED) @NotNull(message = "Amount is required") @Positive(message = "Amount must be greater than zero") BigDecimal amount) {
+    }
+}
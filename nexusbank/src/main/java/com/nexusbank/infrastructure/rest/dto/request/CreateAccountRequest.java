@@ -3,6 +3,9 @@ package com.nexusbank.infrastructure.rest.dto.request;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+import java.math.BigDecimal;
 
 /**
  * DTO para crear una nueva cuenta bancaria.
@@ -11,5 +14,11 @@ import jakarta.validation.constraints.NotBlank;
 public record CreateAccountRequest(
         @Schema(description = "ID del usuario propietario de la cuenta", example = "user-123", requiredMode = Schema.RequiredMode.REQUIRED) @NotBlank(message = "User ID is required") String userId,
 
-        @Schema(description = "Depósito inicial para la cuenta (opcional, puede ser 0)", example = "100.0", defaultValue = "0.0") @DecimalMin(value = "0.0", inclusive = true, message = "Initial deposit must be zero or positive") Double initialDeposit) {
+        @Schema(description = "Depósito inicial para la cuenta (opcional, puede ser 0, con como mucho los decimales de la moneda de la cuenta)", example = "100.00", defaultValue = "0") @DecimalMin(value = "0", inclusive = true, message = "Initial deposit must be zero or positive") BigDecimal initialDeposit,
+
+        @Schema(description = "Código ISO-4217 de la moneda de la cuenta (opcional)", example = "USD", defaultValue = "USD") @Pattern(regexp = "[A-Z]{3}", message = "Currency must be a 3-letter ISO-4217 code") String currency) {
+
+    public CreateAccountRequest(String userId, BigDecimal initialDeposit) {
+        this(userId, initialDeposit, null);
+    }
 }
\ No newline at end of file
@@ -1,13 +1,15 @@
 package com.nexusbank.infrastructure.rest.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
 
 /**
  * DTO para realizar un depósito en una cuenta.
  */
 @Schema(description = "Datos para realizar un depósito en una cuenta")
 public record DepositRequest(
-        @Schema(description = "Monto a depositar (debe ser mayor que cero)", example = "100.0", requiredMode = Schema.RequiredMode.REQUIRED) @NotNull(message = "Amount is required") @DecimalMin(value = "0.01", inclusive = true, message = "Amount must be greater than zero") Double amount) {
+        @Schema(description = "Monto a depositar (debe ser mayor que cero, con como mucho los decimales de la moneda de la cuenta)", example = "100.00", requiredMode = Schema.RequiredMode.REQUIRED) @NotNull(message = "Amount is required") @Positive(message = "Amount must be greater than zero") BigDecimal amount) {
 }
\ No newline at end of file
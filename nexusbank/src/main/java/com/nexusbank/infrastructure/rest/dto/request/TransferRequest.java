@@ -1,9 +1,11 @@
 package com.nexusbank.infrastructure.rest.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
 
 /**
  * DTO para realizar una transferencia entre cuentas.
@@ -12,5 +14,5 @@ import jakarta.validation.constraints.NotNull;
 public record TransferRequest(
         @Schema(description = "ID de la cuenta destino", example = "account-456", requiredMode = Schema.RequiredMode.REQUIRED) @NotBlank(message = "Target account ID is required") String targetAccountId,
 
-        @Schema(description = "Monto a transferir (debe ser mayor que cero)", example = "100.0", requiredMode = Schema.RequiredMode.REQUIRED) @NotNull(message = "Amount is required") @DecimalMin(value = "0.01", inclusive = true, message = "Amount must be greater than zero") Double amount) {
+        @Schema(description = "Monto a transferir (debe ser mayor que cero, con como mucho los decimales de la moneda de la cuenta)", example = "100.00", requiredMode = Schema.RequiredMode.REQUIRED) @NotNull(message = "Amount is required") @Positive(message = "Amount must be greater than zero") BigDecimal amount) {
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.nexusbank.infrastructure.rest.dto.response;
+
+import com.nexusbank.application.port.in.BatchTransferUseCase.TransferResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Resultado de un lote de transferencias")
+public record BatchTransferResponse(
+        @Schema(description = "Número de transferencias recibidas", example = "3") int total,
+        @Schema(description = "Número de transferencias completadas", example = "2") int succeeded,
+        @Schema(description = "Número de transferencias rechazadas", example = "1") int failed,
+        @Schema(description = "Resultado de cada transferencia, en el orden de la petición") List<ItemResult> results) {
+
+    public static BatchTransferResponse fromDomain(List<TransferResult> results) {
+        List<ItemResult> items = results.stream()
+                .map(ItemResult::fromDomain)
+                .toList();
+        int succeeded = (int) results.stream().filter(TransferResult::isSuccessful).count();
+        return new BatchTransferResponse(results.size(), succeeded, results.size() - succeeded, items);
+    }
+
+    @Schema(description = "Resultado de una transferencia del lote")
+    public record ItemResult(
+            @Schema(description = "Posición de la transferencia en la petición", example = "0") int index,
+            @Schema(description = "Estado de la transferencia", example = "COMPLETED") String status,
+            @Schema(description = "Transacción generada (solo si se completó)") TransactionResponse transaction,
+            @Schema(description = "Motivo del rechazo (solo si falló)", example = "Insufficient balance in account acc-123") String error) {
+
+        static ItemResult fromDomain(TransferResult result) {
+            if (result.isSuccessful()) {
+                return new ItemResult(result.index(), "COMPLETED",
+                        TransactionResponse.fromDomain(result.transaction()), null);
+            }
+            return new ItemResult(result.index(), "FAILED", null, result.error());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.nexusbank.infrastructure.rest.dto.response;
+
+import com.nexusbank.domain.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+@Schema(description = "Saldo de una cuenta en un instante dado")
+public record HistoricBalanceResponse(
+    @Schema(description = "ID de la cuenta", example = "acc-123") String accountId,
+    @Schema(description = "Instante consultado", example = "2025-04-01T00:00:00") LocalDateTime at,
+    @Schema(description = "Saldo en ese instante") AccountResponse.BalanceResponse balance) {
+
+    public static HistoricBalanceResponse of(String accountId, LocalDateTime at, Money balance) {
+        return new HistoricBalanceResponse(
+                accountId,
+                at,
+                new AccountResponse.BalanceResponse(balance.getAmount(), balance.getCurrency()));
+    }
+}
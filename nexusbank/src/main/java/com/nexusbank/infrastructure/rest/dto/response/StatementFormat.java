@@ -0,0 +1,150 @@
+package com.nexusbank.infrastructure.rest.dto.response;
+
+import com.nexusbank.application.port.in.ExportStatementUseCase.StatementLine;
+import com.nexusbank.domain.model.Transaction;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Formatos del extracto de cuenta. Cada línea se escribe en cuanto llega, sin
+ * construir el documento completo en memoria.
+ */
+public enum StatementFormat {
+
+    CSV(new MediaType("text", "csv"), "csv") {
+        @Override
+        public void writeHeader(Writer writer) throws IOException {
+            writer.write("transaction_id,created_at,type,status,description,account_id,target_account_id,"
+                    + "currency,amount,change,balance\n");
+        }
+
+        @Override
+        public void write(StatementLine line, Writer writer) throws IOException {
+            Transaction transaction = line.transaction();
+            writer.write(csv(transaction.getId()));
+            writer.write(',');
+            writer.write(transaction.getCreatedAt().toString());
+            writer.write(',');
+            writer.write(transaction.getType().name());
+            writer.write(',');
+            writer.write(transaction.getStatus().name());
+            writer.write(',');
+            writer.write(csv(transaction.getDescription()));
+            writer.write(',');
+            writer.write(csv(transaction.getAccountId()));
+            writer.write(',');
+            writer.write(csv(transaction.getTargetAccountId()));
+            writer.write(',');
+            writer.write(transaction.getAmount().getCurrency());
+            writer.write(',');
+            writer.write(transaction.getAmount().getAmount().toPlainString());
+            writer.write(',');
+            writer.write(line.change().getAmount().toPlainString());
+            writer.write(',');
+            writer.write(line.balance().getAmount().toPlainString());
+            writer.write('\n');
+        }
+    },
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson") {
+        @Override
+        public void writeHeader(Writer writer) {
+        }
+
+        @Override
+        public void write(StatementLine line, Writer writer) throws IOException {
+            Transaction transaction = line.transaction();
+            writer.write("{\"transactionId\":");
+            writer.write(json(transaction.getId()));
+            writer.write(",\"createdAt\":");
+            writer.write(json(transaction.getCreatedAt().toString()));
+            writer.write(",\"type\":");
+            writer.write(json(transaction.getType().name()));
+            writer.write(",\"status\":");
+            writer.write(json(transaction.getStatus().name()));
+            writer.write(",\"description\":");
+            writer.write(json(transaction.getDescription()));
+            writer.write(",\"accountId\":");
+            writer.write(json(transaction.getAccountId()));
+            writer.write(",\"targetAccountId\":");
+            writer.write(json(transaction.getTargetAccountId()));
+            writer.write(",\"currency\":");
+            writer.write(json(transaction.getAmount().getCurrency()));
+            writer.write(",\"amount\":");
+            writer.write(transaction.getAmount().getAmount().toPlainString());
+            writer.write(",\"change\":");
+            writer.write(line.change().getAmount().toPlainString());
+            writer.write(",\"balance\":");
+            writer.write(line.balance().getAmount().toPlainString());
+            writer.write("}\n");
+        }
+    };
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    StatementFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static Optional<StatementFormat> from(String name) {
+        for (StatementFormat format : values()) {
+            if (format.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public abstract void writeHeader(Writer writer) throws IOException;
+
+    public abstract void write(StatementLine line, Writer writer) throws IOException;
+
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    static String json(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+}
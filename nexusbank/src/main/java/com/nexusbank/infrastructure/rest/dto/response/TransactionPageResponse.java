@@ -0,0 +1,20 @@
+package com.nexusbank.infrastructure.rest.dto.response;
+
+import com.nexusbank.application.port.in.GetTransactionHistoryUseCase.TransactionHistoryPage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Página del historial de transacciones de una cuenta")
+public record TransactionPageResponse(
+        @Schema(description = "Transacciones de la página, de la más reciente a la más antigua") List<TransactionResponse> transactions,
+        @Schema(description = "Cursor para pedir la página siguiente (nulo en la última)", example = "MjAyNS0wMy0wNlQxMDoxNTozMHx0eC0xMjM") String nextCursor) {
+
+    public static TransactionPageResponse fromDomain(TransactionHistoryPage page) {
+        return new TransactionPageResponse(
+                page.transactions().stream()
+                        .map(TransactionResponse::fromDomain)
+                        .toList(),
+                page.nextCursor());
+    }
+}
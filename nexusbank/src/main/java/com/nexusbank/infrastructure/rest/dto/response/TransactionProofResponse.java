@@ -0,0 +1,73 @@
+package com.nexusbank.infrastructure.rest.dto.response;
+
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionProof;
+import com.nexusbank.infrastructure.anchoring.TransactionLeaves;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+@Schema(description = "Prueba de inclusión de una transacción en un lote anclado en la cadena")
+public record TransactionProofResponse(
+        @Schema(description = "Campos de la transacción tal y como se codifican en la hoja") LeafResponse leaf,
+        @Schema(description = "Hash SHA-256 de la hoja, en hexadecimal", example = "0x5f3a…") String leafHash,
+        @Schema(description = "Posición de la hoja en el lote", example = "17") int leafIndex,
+        @Schema(description = "Número de transacciones del lote", example = "1024") int batchSize,
+        @Schema(description = "Hashes hermanos desde la hoja hasta la raíz, en hexadecimal") List<String> siblings,
+        @Schema(description = "Bit i a 1 cuando el hermano i es el nodo izquierdo", example = "5") long directions,
+        @Schema(description = "Raíz de Merkle del lote, en hexadecimal", example = "0x9c1e…") String root,
+        @Schema(description = "Referencia de la raíz en el contrato TxLedger") AnchorResponse anchor) {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    public static TransactionProofResponse fromDomain(TransactionProof proof) {
+        return new TransactionProofResponse(
+                LeafResponse.fromDomain(proof.transaction()),
+                hex(proof.leafHash()),
+                proof.leafIndex(),
+                proof.batchSize(),
+                proof.siblings().stream().map(TransactionProofResponse::hex).toList(),
+                proof.directions(),
+                hex(proof.root()),
+                new AnchorResponse(
+                        proof.anchor().ledgerBatchId(),
+                        proof.anchor().transactionHash(),
+                        proof.anchor().blockNumber(),
+                        proof.anchor().anchoredAt()));
+    }
+
+    private static String hex(byte[] bytes) {
+        return "0x" + HEX.formatHex(bytes);
+    }
+
+    @Schema(description = "Campos de la transacción que se codifican en la hoja")
+    public record LeafResponse(
+            @Schema(description = "ID de la transacción", example = "tx-123") String id,
+            @Schema(description = "ID de la cuenta asociada", example = "acc-123") String accountId,
+            @Schema(description = "ID de la cuenta destino (opcional)", example = "acc-456") String targetAccountId,
+            @Schema(description = "Tipo de transacción", example = "TRANSFER") String type,
+            @Schema(description = "Monto en unidades menores de la moneda", example = "15000") long amountMinorUnits,
+            @Schema(description = "Código ISO-4217 de la moneda", example = "USD") String currency,
+            @Schema(description = "Fecha de creación en microsegundos desde 1970-01-01T00:00, sin zona", example = "1741256130000000") long createdAtMicros) {
+
+        public static LeafResponse fromDomain(Transaction transaction) {
+            return new LeafResponse(
+                    transaction.getId(),
+                    transaction.getAccountId(),
+                    transaction.getTargetAccountId(),
+                    transaction.getType().name(),
+                    transaction.getAmount().getMinorUnits(),
+                    transaction.getAmount().getCurrency(),
+                    TransactionLeaves.epochMicros(transaction.getCreatedAt()));
+        }
+    }
+
+    @Schema(description = "Referencia de la raíz anclada en el contrato TxLedger")
+    public record AnchorResponse(
+            @Schema(description = "ID del lote en el contrato", example = "42") long ledgerBatchId,
+            @Schema(description = "Hash de la transacción de la cadena que ancló la raíz", example = "0x7d2b…") String transactionHash,
+            @Schema(description = "Bloque que incluye esa transacción", example = "1834201") long blockNumber,
+            @Schema(description = "Fecha de anclaje", example = "2025-03-06T10:16:30") LocalDateTime anchoredAt) {
+    }
+}
@@ -1,7 +1,18 @@
 package com.nexusbank.infrastructure.rest.exception;
 
 import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.IdempotencyKeyReusedException;
 import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.exception.InvalidAmountException;
+import com.nexusbank.domain.exception.InvalidIdempotencyKeyException;
+import com.nexusbank.domain.exception.InvalidCursorException;
+import com.nexusbank.domain.exception.InvalidStatementPeriodException;
+import com.nexusbank.domain.exception.AccountLockTimeoutException;
+import com.nexusbank.domain.exception.ConcurrentUpdateException;
+import com.nexusbank.domain.exception.StatementExportsBusyException;
+import com.nexusbank.domain.exception.TransactionNotAnchoredException;
+import com.nexusbank.domain.exception.TransactionNotFoundException;
+import com.nexusbank.domain.exception.UnsupportedCurrencyException;
 import com.nexusbank.domain.exception.UserNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -48,6 +59,38 @@ public class RestExceptionHandler {
     return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
   }
 
+  /**
+   * Maneja excepciones de tipo TransactionNotFoundException y retorna un código
+   * de estado 404 Not Found.
+   */
+  @ExceptionHandler(TransactionNotFoundException.class)
+  public ResponseEntity<ErrorResponse> handleTransactionNotFoundException(TransactionNotFoundException ex,
+      WebRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        LocalDateTime.now(),
+        HttpStatus.NOT_FOUND.value(),
+        "Transaction Not Found",
+        ex.getMessage(),
+        request.getDescription(false));
+    return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+  }
+
+  /**
+   * Maneja excepciones de tipo TransactionNotAnchoredException y retorna un
+   * código de estado 404 Not Found: la prueba de inclusión aún no existe.
+   */
+  @ExceptionHandler(TransactionNotAnchoredException.class)
+  public ResponseEntity<ErrorResponse> handleTransactionNotAnchoredException(TransactionNotAnchoredException ex,
+      WebRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        LocalDateTime.now(),
+        HttpStatus.NOT_FOUND.value(),
+        "Transaction Not Anchored",
+        ex.getMessage(),
+        request.getDescription(false));
+    return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+  }
+
   /**
    * Maneja excepciones de tipo InsufficientBalanceException y retorna un código
    * de estado 400 Bad Request.
@@ -64,6 +107,149 @@ public class RestExceptionHandler {
     return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
   }
 
+  /**
+   * Maneja excepciones de tipo UnsupportedCurrencyException y retorna un código
+   * de estado 400 Bad Request.
+   */
+  @ExceptionHandler(UnsupportedCurrencyException.class)
+  public ResponseEntity<ErrorResponse> handleUnsupportedCurrencyException(UnsupportedCurrencyException ex,
+      WebRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        LocalDateTime.now(),
+        HttpStatus.BAD_REQUEST.value(),
+        "Unsupported Currency",
+        ex.getMessage(),
+        request.getDescription(false));
+    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Maneja excepciones de tipo InvalidAmountException (importes no positivos o
+   * con más decimales de los que admite la moneda) y retorna un código de
+   * estado 400 Bad Request.
+   */
+  @ExceptionHandler(InvalidAmountException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidAmountException(InvalidAmountException ex, WebRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        LocalDateTime.now(),
+        HttpStatus.BAD_REQUEST.value(),
+        "Invalid Amount",
+        ex.getMessage(),
+        request.getDescription(false));
+    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Maneja excepciones de tipo InvalidCursorException y retorna un código de
+   * estado 400 Bad Request.
+   */
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex, WebRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        LocalDateTime.now(),
+        HttpStatus.BAD_REQUEST.value(),
+        "Invalid Cursor",
+        ex.getMessage(),
+        request.getDescription(false));
+    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Maneja excepciones de tipo InvalidStatementPeriodException y retorna un
+   * código de estado 400 Bad Request.
+   */
+  @ExceptionHandler(InvalidStatementPeriodException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidStatementPeriodException(InvalidStatementPeriodException ex,
+      WebRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        LocalDateTime.now(),
+        HttpStatus.BAD_REQUEST.value(),
+        "Invalid Statement Period",
+        ex.getMessage(),
+        request.getDescription(false));
+    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Maneja excepciones de tipo InvalidIdempotencyKeyException y retorna un
+   * código de estado 400 Bad Request.
+   */
+  @ExceptionHandler(InvalidIdempotencyKeyException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidIdempotencyKeyException(InvalidIdempotencyKeyException ex,
+      WebRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        LocalDateTime.now(),
+        HttpStatus.BAD_REQUEST.value(),
+        "Invalid Idempotency Key",
+        ex.getMessage(),
+        request.getDescription(false));
+    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Maneja excepciones de tipo IdempotencyKeyReusedException y retorna un
+   * código de estado 422 Unprocessable Entity.
+   */
+  @ExceptionHandler(IdempotencyKeyReusedException.class)
+  public ResponseEntity<ErrorResponse> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException ex,
+      WebRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        LocalDateTime.now(),
+        HttpStatus.UNPROCESSABLE_ENTITY.value(),
+        "Idempotency Key Reused",
+        ex.getMessage(),
+        request.getDescription(false));
+    return new ResponseEntity<>(errorResponse, HttpStatus.UNPROCESSABLE_ENTITY);
+  }
+
+  /**
+   * Maneja excepciones de tipo AccountLockTimeoutException y retorna un código
+   * de estado 503 Service Unavailable para que el cliente reintente.
+   */
+  @ExceptionHandler(AccountLockTimeoutException.class)
+  public ResponseEntity<ErrorResponse> handleAccountLockTimeoutException(AccountLockTimeoutException ex,
+      WebRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        LocalDateTime.now(),
+        HttpStatus.SERVICE_UNAVAILABLE.value(),
+        "Account Busy",
+        ex.getMessage(),
+        request.getDescription(false));
+    return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
+  /**
+   * Maneja excepciones de tipo StatementExportsBusyException y retorna un
+   * código de estado 429 Too Many Requests para que el cliente reintente.
+   */
+  @ExceptionHandler(StatementExportsBusyException.class)
+  public ResponseEntity<ErrorResponse> handleStatementExportsBusyException(StatementExportsBusyException ex,
+      WebRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        LocalDateTime.now(),
+        HttpStatus.TOO_MANY_REQUESTS.value(),
+        "Too Many Statement Exports",
+        ex.getMessage(),
+        request.getDescription(false));
+    return new ResponseEntity<>(errorResponse, HttpStatus.TOO_MANY_REQUESTS);
+  }
+
+  /**
+   * Maneja excepciones de tipo ConcurrentUpdateException y retorna un código
+   * de estado 409 Conflict cuando se agotan los reintentos.
+   */
+  @ExceptionHandler(ConcurrentUpdateException.class)
+  public ResponseEntity<ErrorResponse> handleConcurrentUpdateException(ConcurrentUpdateException ex,
+      WebRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        LocalDateTime.now(),
+        HttpStatus.CONFLICT.value(),
+        "Concurrent Update",
+        ex.getMessage(),
+        request.getDescription(false));
+    return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+  }
+
   /**
    * Maneja excepciones de validación (cuando un @Valid falla) y retorna un código
    * de estado 400 Bad Request.
@@ -0,0 +1,73 @@
+package com.nexusbank.infrastructure.settlement;
+
+import com.nexusbank.application.port.in.SettleTransfersUseCase;
+import com.nexusbank.application.port.in.SettleTransfersUseCase.SettlementResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drains the settlement queue in batches. Every node runs the job; claimed
+ * transfers are skipped by the others, so adding nodes adds settlement
+ * throughput.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.settlement.enabled", havingValue = "true", matchIfMissing = true)
+public class TransferSettlementJob {
+
+  private final SettleTransfersUseCase settleTransfersUseCase;
+  private final int batchSize;
+  private final int maxBatchesPerRun;
+
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+
+  public TransferSettlementJob(SettleTransfersUseCase settleTransfersUseCase,
+      @Value("${nexusbank.settlement.batch-size:500}") int batchSize,
+      @Value("${nexusbank.settlement.max-batches-per-run:20}") int maxBatchesPerRun) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Settlement batch size must be at least 1");
+    }
+    this.settleTransfersUseCase = settleTransfersUseCase;
+    this.batchSize = batchSize;
+    this.maxBatchesPerRun = maxBatchesPerRun;
+  }
+
+  @Scheduled(fixedDelayString = "${nexusbank.settlement.interval-ms:200}")
+  public void settlePendingTransfers() {
+    drain();
+  }
+
+  /**
+   * Settles batches until the queue has no more transfers ready, or
+   * {@code maxBatchesPerRun} batches have been settled.
+   * 
+   * @return Number of transfers settled
+   */
+  public int drain() {
+    int settled = 0;
+    for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+      SettlementResult result = settleTransfersUseCase.settlePendingTransfers(batchSize);
+      completed.add(result.completed());
+      failed.add(result.failed());
+      settled += result.settled();
+      // Un lote incompleto indica que la cola está vacía o que lo que queda
+      // espera a otra liquidación en curso
+      if (result.settled() < batchSize) {
+        break;
+      }
+    }
+    return settled;
+  }
+
+  public long getCompleted() {
+    return completed.sum();
+  }
+
+  public long getFailed() {
+    return failed.sum();
+  }
+}
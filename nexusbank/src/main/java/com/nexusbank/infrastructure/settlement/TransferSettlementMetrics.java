@@ -0,0 +1,44 @@
+package com.nexusbank.infrastructure.settlement;
+
+import com.nexusbank.infrastructure.persistence.adapter.TransferQueuePersistenceAdapter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the transfers waiting in the settlement queue and the outcomes of
+ * {@link TransferSettlementJob} through Micrometer. The queue size is counted
+ * in the database on every scrape, so it includes the transfers accepted by
+ * every node.
+ */
+@Component
+@ConditionalOnProperty(name = "nexusbank.settlement.enabled", havingValue = "true", matchIfMissing = true)
+public class TransferSettlementMetrics implements MeterBinder {
+
+  private final TransferQueuePersistenceAdapter transferQueue;
+  private final TransferSettlementJob settlementJob;
+
+  public TransferSettlementMetrics(TransferQueuePersistenceAdapter transferQueue,
+      TransferSettlementJob settlementJob) {
+    this.transferQueue = transferQueue;
+    this.settlementJob = settlementJob;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("nexusbank.transfers.pending", transferQueue, TransferQueuePersistenceAdapter::countPending)
+        .description("Transfers accepted and not yet settled")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.transfers.settled", settlementJob, TransferSettlementJob::getCompleted)
+        .description("Queued transfers settled as completed by this node")
+        .tag("status", "completed")
+        .register(registry);
+    FunctionCounter.builder("nexusbank.transfers.settled", settlementJob, TransferSettlementJob::getFailed)
+        .description("Queued transfers settled as failed by this node")
+        .tag("status", "failed")
+        .register(registry);
+  }
+}
@@ -0,0 +1,52 @@
+package com.nexusbank.application.infrastructure.persistence.container;
+
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+import com.nexusbank.infrastructure.persistence.entity.AccountEntity;
+import com.nexusbank.infrastructure.persistence.entity.TransactionEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Rows written straight through the repositories by the integration tests.
+ * Every account and transaction is in USD.
+ */
+public final class TestEntities {
+
+  private TestEntities() {
+  }
+
+  public static AccountEntity account(String id, String balance) {
+    return account(id, balance, LocalDateTime.now());
+  }
+
+  public static AccountEntity account(String id, String balance, LocalDateTime createdAt) {
+    AccountEntity account = new AccountEntity();
+    account.setId(id);
+    account.setUserId("user-123");
+    account.setBalance(new BigDecimal(balance));
+    account.setCurrency(Currency.USD);
+    account.setActive(true);
+    account.setCreatedAt(createdAt);
+    account.setUpdatedAt(createdAt);
+    return account;
+  }
+
+  public static TransactionEntity transaction(String id, String accountId, String targetAccountId,
+      TransactionType type, String amount, TransactionStatus status, LocalDateTime createdAt) {
+    TransactionEntity transaction = new TransactionEntity();
+    transaction.setId(id);
+    transaction.setAccountId(accountId);
+    transaction.setTargetAccountId(targetAccountId);
+    transaction.setAmount(new BigDecimal(amount));
+    transaction.setCurrency(Currency.USD);
+    transaction.setType(type);
+    transaction.setStatus(status);
+    transaction.setDescription(type.name());
+    transaction.setCreatedAt(createdAt);
+    transaction.setUpdatedAt(createdAt);
+    return transaction;
+  }
+}
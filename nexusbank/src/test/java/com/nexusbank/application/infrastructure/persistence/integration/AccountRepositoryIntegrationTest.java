@@ -1,6 +1,7 @@
 package com.nexusbank.application.infrastructure.persistence.integration;
 
 import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import com.nexusbank.domain.model.Currency;
 import com.nexusbank.infrastructure.persistence.entity.AccountEntity;
 import com.nexusbank.infrastructure.persistence.repository.AccountRepository;
 import org.junit.jupiter.api.Test;
@@ -31,7 +32,7 @@ public class AccountRepositoryIntegrationTest {
     account.setId("acc-123");
     account.setUserId("user-123");
     account.setBalance(new BigDecimal("1000.00"));
-    account.setCurrency("USD");
+    account.setCurrency(Currency.USD);
     account.setActive(true);
     account.setCreatedAt(LocalDateTime.now());
     account.setUpdatedAt(LocalDateTime.now());
@@ -44,6 +45,6 @@ public class AccountRepositoryIntegrationTest {
     assertTrue(retrieved.isPresent());
     assertEquals("user-123", retrieved.get().getUserId());
     assertEquals(new BigDecimal("1000.00"), retrieved.get().getBalance());
-    assertEquals("USD", retrieved.get().getCurrency());
+    assertEquals(Currency.USD, retrieved.get().getCurrency());
   }
 }
\ No newline at end of file
@@ -0,0 +1,181 @@
+package com.nexusbank.application.infrastructure.persistence.integration;
+
+import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.TransactionProof;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+import com.nexusbank.infrastructure.anchoring.AnchorReceipt;
+import com.nexusbank.infrastructure.anchoring.InProcessLedgerAnchor;
+import com.nexusbank.infrastructure.anchoring.LedgerAnchorException;
+import com.nexusbank.infrastructure.anchoring.MerkleProof;
+import com.nexusbank.infrastructure.anchoring.TransactionAnchoringJob;
+import com.nexusbank.infrastructure.anchoring.TransactionLeaves;
+import com.nexusbank.infrastructure.anchoring.TransactionProofVerifier;
+import com.nexusbank.infrastructure.id.UuidV7IdGenerator;
+import com.nexusbank.infrastructure.persistence.adapter.AnchorPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.TransferQueuePersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.entity.TransactionEntity;
+import com.nexusbank.infrastructure.persistence.mapper.TransactionMapper;
+import com.nexusbank.infrastructure.persistence.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Lotes de dos transacciones que esperan como máximo una hora
+@DataJpaTest(properties = { "nexusbank.anchoring.enabled=true", "nexusbank.anchoring.batch-size=2",
+    "nexusbank.anchoring.max-wait-ms=3600000", "nexusbank.anchoring.settle-ms=60000" })
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestDatabaseConfig.class)
+@Import({ AnchorPersistenceAdapter.class, TransactionAnchoringJob.class, TransferQueuePersistenceAdapter.class,
+    AnchoringIntegrationTest.SwitchableLedgerAnchor.class, UuidV7IdGenerator.class, TransactionMapper.class })
+public class AnchoringIntegrationTest {
+
+  private static final LocalDateTime DAY_1 = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+  @Autowired
+  private TransactionAnchoringJob job;
+
+  @Autowired
+  private AnchorPersistenceAdapter anchors;
+
+  @Autowired
+  private SwitchableLedgerAnchor ledger;
+
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  @Autowired
+  private TransactionMapper transactionMapper;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  public void setUp() {
+    ledger.failing = false;
+    // Cinco transacciones completadas, una por minuto, y una fallida entre medias
+    for (int i = 0; i < 5; i++) {
+      transactionRepository.saveAndFlush(transaction("tx-" + i, TransactionStatus.COMPLETED,
+          DAY_1.plusMinutes(i)));
+    }
+    transactionRepository.saveAndFlush(transaction("tx-f", TransactionStatus.FAILED, DAY_1.plusSeconds(150)));
+  }
+
+  @Test
+  public void testFullBatchesAreAnchoredAndTheLastOneWaits() {
+    int batchesBefore = ledger.getBatchCount();
+
+    assertEquals(4, job.anchorPending(DAY_1.plusMinutes(30)));
+    assertEquals(batchesBefore + 2, ledger.getBatchCount());
+
+    // La quinta se ancla sola cuando ha esperado el máximo
+    assertEquals(1, job.anchorPending(DAY_1.plusHours(2)));
+    assertEquals(0, job.anchorPending(DAY_1.plusHours(3)));
+    assertEquals(batchesBefore + 3, ledger.getBatchCount());
+
+    assertAnchored("tx-0", "tx-1", "tx-2", "tx-3", "tx-4");
+  }
+
+  @Test
+  public void testSettlePeriodHoldsBackRecentTransactions() {
+    // Solo tx-0 y tx-1 tienen más de un minuto
+    assertEquals(2, job.anchorPending(DAY_1.plusMinutes(3)));
+
+    assertAnchored("tx-0", "tx-1");
+  }
+
+  @Test
+  public void testBatchWhoseAnchorFailedIsSentAgainBeforeNewOnes() {
+    ledger.failing = true;
+
+    assertEquals(0, job.anchorPending(DAY_1.plusMinutes(30)));
+    assertEquals(1, anchors.countUnanchored());
+    assertEquals(1, job.getAnchorFailures());
+
+    ledger.failing = false;
+    assertEquals(4, job.anchorPending(DAY_1.plusMinutes(31)));
+    assertEquals(0, anchors.countUnanchored());
+    assertAnchored("tx-0", "tx-1", "tx-2", "tx-3");
+  }
+
+  @Test
+  public void testProofIsServedOnlyOnceTheBatchIsAnchored() {
+    ledger.failing = true;
+    job.anchorPending(DAY_1.plusMinutes(30));
+
+    // El lote está guardado pero su raíz aún no está en la cadena
+    assertTrue(anchors.loadTransactionProof("tx-1").isEmpty());
+
+    ledger.failing = false;
+    job.anchorPending(DAY_1.plusMinutes(31));
+    TransactionProof proof = anchors.loadTransactionProof("tx-1").orElseThrow();
+
+    assertEquals("tx-1", proof.transaction().getId());
+    assertEquals(1, proof.leafIndex());
+    assertEquals(2, proof.batchSize());
+    byte[] anchoredRoot = ledger.root(proof.anchor().ledgerBatchId()).orElseThrow();
+    assertArrayEquals(anchoredRoot, proof.root());
+    assertTrue(TransactionProofVerifier.verify(proof.transaction(),
+        new MerkleProof(proof.siblings(), proof.directions()), anchoredRoot));
+    assertTrue(anchors.loadTransactionProof("missing").isEmpty());
+  }
+
+  private void assertAnchored(String... transactionIds) {
+    List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT a.transaction_id, a.leaf_hash, a.proof,"
+        + " b.chain_batch_id FROM transaction_anchors a JOIN anchor_batches b ON b.id = a.batch_id"
+        + " ORDER BY a.transaction_id");
+    assertEquals(List.of(transactionIds), rows.stream().map(row -> row.get("transaction_id")).toList());
+    for (Map<String, Object> row : rows) {
+      byte[] leafHash = (byte[]) row.get("leaf_hash");
+      // La hoja es la de la transacción tal como está guardada, y su prueba
+      // lleva a la raíz anclada
+      TransactionEntity entity = transactionRepository.findById((String) row.get("transaction_id")).orElseThrow();
+      assertArrayEquals(TransactionLeaves.hash(transactionMapper.toDomainEntity(entity)), leafHash);
+      assertTrue(ledger.verifyInclusion(((Number) row.get("chain_batch_id")).longValue(), leafHash,
+          MerkleProof.unpack((byte[]) row.get("proof"))));
+    }
+  }
+
+  private TransactionEntity transaction(String id, TransactionStatus status, LocalDateTime createdAt) {
+    TransactionEntity transaction = new TransactionEntity();
+    transaction.setId(id);
+    transaction.setAccountId("acc-1");
+    transaction.setTargetAccountId("acc-2");
+    transaction.setAmount(new BigDecimal("10.00"));
+    transaction.setCurrency(Currency.USD);
+    transaction.setType(TransactionType.TRANSFER);
+    transaction.setStatus(status);
+    transaction.setDescription("Transfer");
+    transaction.setCreatedAt(createdAt);
+    transaction.setUpdatedAt(createdAt);
+    return transaction;
+  }
+
+  static class SwitchableLedgerAnchor extends InProcessLedgerAnchor {
+
+    volatile boolean failing;
+
+    @Override
+    public AnchorReceipt anchor(byte[] root, int size) {
+      if (failing) {
+        throw new LedgerAnchorException("Chain unavailable");
+      }
+      return super.anchor(root, size);
+    }
+  }
+}
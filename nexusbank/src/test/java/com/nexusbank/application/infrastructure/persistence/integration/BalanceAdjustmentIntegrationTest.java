@@ -0,0 +1,107 @@
+package com.nexusbank.application.infrastructure.persistence.integration;
+
+import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import com.nexusbank.application.port.out.AdjustBalancePort.BalanceAdjustment;
+import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.persistence.adapter.BalanceAdjustmentPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.BalanceShards;
+import com.nexusbank.infrastructure.persistence.repository.AccountRepository;
+import com.nexusbank.infrastructure.persistence.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.nexusbank.application.infrastructure.persistence.container.TestEntities.account;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "nexusbank.ledger.mode=balance")
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestDatabaseConfig.class)
+public class BalanceAdjustmentIntegrationTest {
+
+  @Autowired
+  private BalanceAdjustmentPersistenceAdapter adapter;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  public void setUp() {
+    accountRepository.saveAndFlush(account("acc-source", "100.00"));
+    accountRepository.saveAndFlush(account("acc-target", "10.00"));
+  }
+
+  @Test
+  public void testTransferUpdatesBothBalancesAndRecordsTransaction() {
+    Money amount = new Money(new BigDecimal("40.00"), Currency.USD);
+    Transaction transaction = Transaction.createTransfer("tx-1", "acc-source", "acc-target", amount);
+
+    adapter.adjustBalances(
+        List.of(BalanceAdjustment.debit("acc-source", amount), BalanceAdjustment.credit("acc-target", amount)),
+        transaction);
+
+    assertEquals(0, new BigDecimal("60.00").compareTo(balanceOf("acc-source")));
+    assertEquals(0, new BigDecimal("50.00").compareTo(balanceOf("acc-target")));
+    assertEquals(1L, versionOf("acc-source"));
+    assertTrue(transactionRepository.findById("tx-1").isPresent());
+  }
+
+  @Test
+  public void testDebitBeyondBalanceIsRejected() {
+    Money amount = new Money(new BigDecimal("100.01"), Currency.USD);
+    Transaction transaction = Transaction.createTransfer("tx-2", "acc-source", "acc-target", amount);
+
+    assertThrows(InsufficientBalanceException.class, () -> adapter.adjustBalances(
+        List.of(BalanceAdjustment.debit("acc-source", amount), BalanceAdjustment.credit("acc-target", amount)),
+        transaction));
+    assertEquals(0, new BigDecimal("100.00").compareTo(balanceOf("acc-source")));
+  }
+
+  @Test
+  public void testUnknownAccountIsRejected() {
+    Money amount = new Money(new BigDecimal("1.00"), Currency.USD);
+    Transaction transaction = Transaction.createDeposit("tx-3", "acc-missing", amount);
+
+    assertThrows(AccountNotFoundException.class, () -> adapter.adjustBalances(
+        List.of(BalanceAdjustment.credit("acc-missing", amount)), transaction));
+  }
+
+  private BigDecimal balanceOf(String accountId) {
+    return jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, accountId);
+  }
+
+  private Long versionOf(String accountId) {
+    return jdbcTemplate.queryForObject("SELECT version FROM accounts WHERE id = ?", Long.class, accountId);
+  }
+
+  // El adaptador se registra en ApplicationConfig; aquí, sin cuentas repartidas
+  @TestConfiguration
+  static class Adapters {
+
+    @Bean
+    BalanceAdjustmentPersistenceAdapter balanceAdjustmentPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+      return new BalanceAdjustmentPersistenceAdapter(jdbcTemplate, BalanceShards.none());
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.nexusbank.application.infrastructure.persistence.integration;
+
+import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+import com.nexusbank.infrastructure.ledger.BalanceCheckpointJob;
+import com.nexusbank.infrastructure.persistence.adapter.AccountBalanceSource;
+import com.nexusbank.infrastructure.persistence.adapter.AccountPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.BalanceCheckpointPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.ConcurrencyStrategy;
+import com.nexusbank.infrastructure.persistence.adapter.TransferQueuePersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.mapper.AccountMapper;
+import com.nexusbank.infrastructure.persistence.repository.AccountRepository;
+import com.nexusbank.infrastructure.persistence.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.nexusbank.application.infrastructure.persistence.container.TestEntities.account;
+import static com.nexusbank.application.infrastructure.persistence.container.TestEntities.transaction;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Checkpoints diarios para que las fechas del escenario caigan en su límite
+@DataJpaTest(properties = "nexusbank.ledger.checkpoint.period-ms=86400000")
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestDatabaseConfig.class)
+@Import({ BalanceCheckpointPersistenceAdapter.class, BalanceCheckpointJob.class, AccountMapper.class,
+    TransferQueuePersistenceAdapter.class })
+public class BalanceCheckpointIntegrationTest {
+
+  private static final LocalDateTime DAY_1 = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+  @Autowired
+  private BalanceCheckpointPersistenceAdapter adapter;
+
+  @Autowired
+  private BalanceCheckpointJob job;
+
+  @Autowired
+  private TransferQueuePersistenceAdapter transferQueue;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  @BeforeEach
+  public void setUp() {
+    // Saldo actual 170: 100 de apertura, +50 la víspera de DAY_1, -20 y +30 en
+    // los dos días siguientes, un fallo que no cuenta y +10 días después
+    accountRepository.saveAndFlush(account("acc-1", "170.00", DAY_1.minusDays(10)));
+    transactionRepository.saveAndFlush(transaction("tx-0", "acc-1", null, TransactionType.DEPOSIT, "50.00",
+        TransactionStatus.COMPLETED, DAY_1.minusDays(1)));
+    transactionRepository.saveAndFlush(transaction("tx-1", "acc-1", null, TransactionType.WITHDRAWAL, "20.00",
+        TransactionStatus.COMPLETED, DAY_1.plusDays(1)));
+    transactionRepository.saveAndFlush(transaction("tx-2", "acc-2", "acc-1", TransactionType.TRANSFER, "30.00",
+        TransactionStatus.COMPLETED, DAY_1.plusDays(2)));
+    transactionRepository.saveAndFlush(transaction("tx-3", "acc-1", "acc-2", TransactionType.TRANSFER, "500.00",
+        TransactionStatus.FAILED, DAY_1.plusDays(2).plusHours(1)));
+    transactionRepository.saveAndFlush(transaction("tx-4", "acc-1", null, TransactionType.DEPOSIT, "10.00",
+        TransactionStatus.COMPLETED, DAY_1.plusDays(9)));
+  }
+
+  @Test
+  public void testCheckpointsExtendThePreviousOneIncrementally() {
+    // El primero se deriva del saldo actual; el segundo suma lo ocurrido desde
+    // el primero
+    assertEquals(1, job.takeCheckpoints(DAY_1.plusDays(1).plusHours(12)));
+    assertEquals(Optional.of(DAY_1.plusDays(1)), adapter.latestCheckpoint());
+    assertEquals(1, job.takeCheckpoints(DAY_1.plusDays(11).plusHours(12)));
+    assertEquals(Optional.of(DAY_1.plusDays(11)), adapter.latestCheckpoint());
+
+    // Sin transacciones nuevas no hay checkpoints nuevos
+    assertEquals(0, job.takeCheckpoints(DAY_1.plusDays(12).plusHours(12)));
+
+    assertBalance("150.00", DAY_1.plusDays(1));
+    assertBalance("170.00", DAY_1.plusDays(11));
+  }
+
+  @Test
+  public void testBalanceAtReplaysFromTheNearestCheckpoint() {
+    job.takeCheckpoints(DAY_1.plusDays(1).plusHours(12));
+
+    // Después del checkpoint se avanza desde él; antes se retrocede desde él
+    assertBalance("160.00", DAY_1.plusDays(2).plusHours(6));
+    assertBalance("170.00", DAY_1.plusDays(20));
+    assertBalance("150.00", DAY_1);
+    assertBalance("100.00", DAY_1.minusDays(2));
+    // Antes de abrirse la cuenta no tenía saldo
+    assertBalance("0.00", DAY_1.minusDays(30));
+  }
+
+  @Test
+  public void testBalanceAtWithoutCheckpointsStartsFromCurrentBalance() {
+    assertBalance("160.00", DAY_1.plusDays(2).plusHours(6));
+    assertTrue(adapter.loadBalanceAt("missing", DAY_1).isEmpty());
+  }
+
+  @Test
+  public void testCheckpointStaysBehindOldestQueuedTransfer() {
+    // Una transferencia aceptada el día 1 se registrará con esa fecha al
+    // liquidarse: no puede haber checkpoint posterior todavía
+    transferQueue.enqueue(Transaction.reconstitute("tx-q", "acc-1", "acc-2",
+        new Money(new BigDecimal("5.00"), Currency.USD), TransactionType.TRANSFER, TransactionStatus.PENDING,
+        "Pending transfer between accounts", DAY_1.plusHours(12), DAY_1.plusHours(12)));
+
+    job.takeCheckpoints(DAY_1.plusDays(11).plusHours(12));
+
+    assertEquals(Optional.of(DAY_1), adapter.latestCheckpoint());
+  }
+
+  private void assertBalance(String expected, LocalDateTime at) {
+    assertEquals(new Money(new BigDecimal(expected), Currency.USD), adapter.loadBalanceAt("acc-1", at).orElseThrow());
+  }
+
+  // El adaptador de cuentas se registra en ApplicationConfig; aquí, con el
+  // saldo en la columna
+  @TestConfiguration
+  static class Adapters {
+
+    @Bean
+    AccountPersistenceAdapter accountPersistenceAdapter(AccountRepository accountRepository,
+        AccountMapper accountMapper) {
+      return new AccountPersistenceAdapter(accountRepository, accountMapper, ConcurrencyStrategy.OPTIMISTIC,
+          AccountBalanceSource.row());
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.nexusbank.application.infrastructure.persistence.integration;
+
+import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import com.nexusbank.application.port.out.AdjustBalancePort.BalanceAdjustment;
+import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.ledger.BalanceShardConsolidator;
+import com.nexusbank.infrastructure.persistence.adapter.AccountPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.BalanceAdjustmentPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.BalanceShardPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.ConcurrencyStrategy;
+import com.nexusbank.infrastructure.persistence.mapper.AccountMapper;
+import com.nexusbank.infrastructure.persistence.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.nexusbank.application.infrastructure.persistence.container.TestEntities.account;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+    "nexusbank.ledger.mode=balance",
+    "nexusbank.ledger.balance-shards.enabled=true",
+    "nexusbank.ledger.balance-shards.accounts=acc-hot",
+    "nexusbank.ledger.balance-shards.count=4" })
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestDatabaseConfig.class)
+@Import({ BalanceShardPersistenceAdapter.class, BalanceShardConsolidator.class, AccountMapper.class })
+public class BalanceShardIntegrationTest {
+
+  @Autowired
+  private BalanceShardPersistenceAdapter balanceShards;
+
+  @Autowired
+  private BalanceShardConsolidator consolidator;
+
+  @Autowired
+  private BalanceAdjustmentPersistenceAdapter adapter;
+
+  @Autowired
+  private AccountPersistenceAdapter accounts;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @BeforeEach
+  public void setUp() {
+    accountRepository.saveAndFlush(account("acc-hot", "100.00"));
+    accountRepository.saveAndFlush(account("acc-payout", "0.00"));
+    // La primera pasada reparte la cuenta configurada
+    consolidator.consolidate();
+  }
+
+  @Test
+  public void testCreditsLandOnShardsAndReadsAddThemUp() {
+    assertTrue(balanceShards.isSharded("acc-hot"));
+    assertEquals(4, shardCount("acc-hot"));
+
+    for (int i = 0; i < 3; i++) {
+      deposit("tx-" + i, "acc-hot", "10.00");
+    }
+
+    // La fila de la cuenta no se toca; el saldo suma las filas parciales
+    assertAmount("100.00", rowBalanceOf("acc-hot"));
+    assertAmount("30.00", shardBalanceOf("acc-hot"));
+    assertAmount("130.00", accounts.loadAccount("acc-hot").orElseThrow().getBalance().getAmount());
+  }
+
+  @Test
+  public void testDebitFoldsShardsBeforeCheckingBalance() {
+    deposit("tx-1", "acc-hot", "50.00");
+
+    // Solo hay 100 en la fila: el cargo necesita lo abonado en las parciales
+    transfer("tx-2", "acc-hot", "acc-payout", "120.00");
+
+    assertAmount("30.00", rowBalanceOf("acc-hot"));
+    assertAmount("0.00", shardBalanceOf("acc-hot"));
+    assertAmount("120.00", rowBalanceOf("acc-payout"));
+    assertThrows(InsufficientBalanceException.class, () -> transfer("tx-3", "acc-hot", "acc-payout", "30.01"));
+  }
+
+  @Test
+  public void testConsolidatorFoldsShardsAndUnshardsAccountsNoLongerConfigured() {
+    deposit("tx-1", "acc-hot", "25.00");
+
+    assertEquals(1, consolidator.consolidate());
+    assertAmount("125.00", rowBalanceOf("acc-hot"));
+    assertAmount("0.00", shardBalanceOf("acc-hot"));
+    assertEquals(0, consolidator.consolidate());
+
+    deposit("tx-2", "acc-hot", "5.00");
+    new BalanceShardConsolidator(balanceShards, transactionManager, List.of(), 4, 500).consolidate();
+
+    assertFalse(balanceShards.isSharded("acc-hot"));
+    assertEquals(0, shardCount("acc-hot"));
+    assertAmount("130.00", rowBalanceOf("acc-hot"));
+
+    // Sin filas parciales el abono vuelve a la fila de la cuenta
+    deposit("tx-3", "acc-hot", "1.00");
+    assertAmount("131.00", rowBalanceOf("acc-hot"));
+  }
+
+  private void deposit(String transactionId, String accountId, String amount) {
+    Money money = new Money(new BigDecimal(amount), Currency.USD);
+    adapter.adjustBalances(List.of(BalanceAdjustment.credit(accountId, money)),
+        Transaction.createDeposit(transactionId, accountId, money));
+  }
+
+  private void transfer(String transactionId, String sourceAccountId, String targetAccountId, String amount) {
+    Money money = new Money(new BigDecimal(amount), Currency.USD);
+    adapter.adjustBalances(
+        List.of(BalanceAdjustment.debit(sourceAccountId, money), BalanceAdjustment.credit(targetAccountId, money)),
+        Transaction.createTransfer(transactionId, sourceAccountId, targetAccountId, money));
+  }
+
+  private void assertAmount(String expected, BigDecimal actual) {
+    assertEquals(0, new BigDecimal(expected).compareTo(actual), () -> "expected " + expected + " but was " + actual);
+  }
+
+  private BigDecimal rowBalanceOf(String accountId) {
+    return jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, accountId);
+  }
+
+  private BigDecimal shardBalanceOf(String accountId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COALESCE(SUM(balance), 0) FROM account_balance_shards WHERE account_id = ?", BigDecimal.class,
+        accountId);
+  }
+
+  private int shardCount(String accountId) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM account_balance_shards WHERE account_id = ?",
+        Integer.class, accountId);
+  }
+
+  // Los adaptadores se registran en ApplicationConfig; aquí, con los saldos
+  // repartidos del adaptador de filas parciales
+  @TestConfiguration
+  static class Adapters {
+
+    @Bean
+    BalanceAdjustmentPersistenceAdapter balanceAdjustmentPersistenceAdapter(JdbcTemplate jdbcTemplate,
+        BalanceShardPersistenceAdapter balanceShards) {
+      return new BalanceAdjustmentPersistenceAdapter(jdbcTemplate, balanceShards);
+    }
+
+    @Bean
+    AccountPersistenceAdapter accountPersistenceAdapter(AccountRepository accountRepository,
+        AccountMapper accountMapper, BalanceShardPersistenceAdapter balanceShards) {
+      return new AccountPersistenceAdapter(accountRepository, accountMapper, ConcurrencyStrategy.OPTIMISTIC,
+          balanceShards);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.nexusbank.application.infrastructure.persistence.integration;
+
+import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import com.nexusbank.application.port.out.IdempotencyPort.IdempotentOperation;
+import com.nexusbank.domain.exception.DuplicateIdempotencyKeyException;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.persistence.adapter.IdempotencyPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.mapper.TransactionMapper;
+import com.nexusbank.infrastructure.persistence.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestDatabaseConfig.class)
+@Import({ IdempotencyPersistenceAdapter.class, TransactionMapper.class })
+public class IdempotencyIntegrationTest {
+
+  @Autowired
+  private IdempotencyPersistenceAdapter adapter;
+
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  @Autowired
+  private TransactionMapper transactionMapper;
+
+  private Transaction transaction;
+
+  @BeforeEach
+  public void setUp() {
+    transaction = Transaction.createDeposit("tx-1", "acc-1", new Money(new BigDecimal("10.00"), Currency.USD));
+    transactionRepository.saveAndFlush(transactionMapper.toJpaEntity(transaction));
+  }
+
+  @Test
+  public void testSavedOperationIsLoadedWithItsTransaction() {
+    adapter.saveOperation(new IdempotentOperation("key-1", "deposit|acc-1|10", transaction));
+
+    Optional<IdempotentOperation> loaded = adapter.loadOperation("key-1");
+
+    assertTrue(loaded.isPresent());
+    assertEquals("deposit|acc-1|10", loaded.get().fingerprint());
+    assertEquals("tx-1", loaded.get().transaction().getId());
+    assertTrue(adapter.loadOperation("key-unknown").isEmpty());
+  }
+
+  @Test
+  public void testExpiredOperationsAreDeleted() {
+    adapter.saveOperation(new IdempotentOperation("key-1", "deposit|acc-1|10", transaction));
+
+    assertEquals(0, adapter.deleteCreatedBefore(LocalDateTime.now().minusHours(1)));
+    assertEquals(1, adapter.deleteCreatedBefore(LocalDateTime.now().plusHours(1)));
+    assertTrue(adapter.loadOperation("key-1").isEmpty());
+  }
+
+  @Test
+  public void testSecondOperationWithSameKeyIsRejected() {
+    adapter.saveOperation(new IdempotentOperation("key-1", "deposit|acc-1|10", transaction));
+
+    // La violación de clave aborta la transacción: debe ser lo último del test
+    assertThrows(DuplicateIdempotencyKeyException.class,
+        () -> adapter.saveOperation(new IdempotentOperation("key-1", "deposit|acc-1|10", transaction)));
+  }
+}
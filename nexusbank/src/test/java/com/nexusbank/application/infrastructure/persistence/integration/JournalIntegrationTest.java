@@ -0,0 +1,121 @@
+package com.nexusbank.application.infrastructure.persistence.integration;
+
+import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import com.nexusbank.application.port.out.AdjustBalancePort.BalanceAdjustment;
+import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.ledger.BalanceSnapshotJob;
+import com.nexusbank.infrastructure.ledger.JournalReconciler;
+import com.nexusbank.infrastructure.persistence.adapter.JournalBalanceReader;
+import com.nexusbank.infrastructure.persistence.adapter.JournalPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.mapper.TransactionMapper;
+import com.nexusbank.infrastructure.persistence.repository.AccountRepository;
+import com.nexusbank.infrastructure.persistence.repository.JournalEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.nexusbank.application.infrastructure.persistence.container.TestEntities.account;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "nexusbank.ledger.snapshot.min-entries=1")
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestDatabaseConfig.class)
+@Import({ JournalPersistenceAdapter.class, JournalBalanceReader.class, BalanceSnapshotJob.class,
+    JournalReconciler.class, TransactionMapper.class })
+public class JournalIntegrationTest {
+
+  @Autowired
+  private JournalPersistenceAdapter adapter;
+
+  @Autowired
+  private JournalBalanceReader balanceReader;
+
+  @Autowired
+  private BalanceSnapshotJob snapshotJob;
+
+  @Autowired
+  private JournalReconciler reconciler;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Autowired
+  private JournalEntryRepository journalEntryRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  public void setUp() {
+    accountRepository.saveAndFlush(account("acc-source", "100.00"));
+    accountRepository.saveAndFlush(account("acc-target", "10.00"));
+  }
+
+  @Test
+  public void testTransferAppendsPostingsWithoutTouchingBalanceColumn() {
+    Money amount = new Money(new BigDecimal("40.00"), Currency.USD);
+    transfer("tx-1", amount);
+
+    assertEquals(0, new BigDecimal("60.00").compareTo(balanceReader.balancesOf(List.of("acc-source")).get("acc-source")));
+    assertEquals(0, new BigDecimal("50.00").compareTo(balanceReader.balancesOf(List.of("acc-target")).get("acc-target")));
+    assertEquals(0, new BigDecimal("100.00").compareTo(
+        jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, "acc-source")));
+    assertEquals(2, journalEntryRepository.findByTransactionIdOrderBySequence("tx-1").size());
+  }
+
+  @Test
+  public void testDebitBeyondDerivedBalanceIsRejected() {
+    transfer("tx-1", new Money(new BigDecimal("60.00"), Currency.USD));
+
+    assertThrows(InsufficientBalanceException.class,
+        () -> transfer("tx-2", new Money(new BigDecimal("40.01"), Currency.USD)));
+  }
+
+  @Test
+  public void testSnapshotKeepsDerivedBalances() {
+    transfer("tx-1", new Money(new BigDecimal("40.00"), Currency.USD));
+    Money deposit = new Money(new BigDecimal("5.00"), Currency.USD);
+    adapter.adjustBalances(List.of(BalanceAdjustment.credit("acc-target", deposit)),
+        Transaction.createDeposit("tx-2", "acc-target", deposit));
+
+    int written = snapshotJob.takeSnapshots(LocalDateTime.now().plusHours(1));
+    transfer("tx-3", new Money(new BigDecimal("10.00"), Currency.USD));
+
+    // Origen, destino y la cuenta externa del USD
+    assertEquals(3, written);
+    assertEquals(0, new BigDecimal("50.00").compareTo(balanceReader.balancesOf(List.of("acc-source")).get("acc-source")));
+    assertEquals(0, new BigDecimal("65.00").compareTo(balanceReader.balancesOf(List.of("acc-target")).get("acc-target")));
+  }
+
+  @Test
+  public void testJournalReconcilesWithTransactions() {
+    transfer("tx-1", new Money(new BigDecimal("40.00"), Currency.USD));
+
+    JournalReconciler.ReconciliationReport report = reconciler.reconcile(
+        LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+
+    assertEquals(1, report.transactionsChecked());
+    assertEquals(2, report.entriesChecked());
+    assertTrue(report.isBalanced());
+  }
+
+  private void transfer(String transactionId, Money amount) {
+    adapter.adjustBalances(
+        List.of(BalanceAdjustment.debit("acc-source", amount), BalanceAdjustment.credit("acc-target", amount)),
+        Transaction.createTransfer(transactionId, "acc-source", "acc-target", amount));
+  }
+}
@@ -0,0 +1,131 @@
+package com.nexusbank.application.infrastructure.persistence.integration;
+
+import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import com.nexusbank.application.port.out.AdjustBalancePort.BalanceAdjustment;
+import com.nexusbank.application.port.out.EventPublisherPort;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionEvent;
+import com.nexusbank.infrastructure.outbox.OutboxRelay;
+import com.nexusbank.infrastructure.persistence.adapter.JournalBalanceReader;
+import com.nexusbank.infrastructure.persistence.adapter.JournalPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.OutboxPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.nexusbank.application.infrastructure.persistence.container.TestEntities.account;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Lotes de dos eventos para recorrer varios lotes por ejecución
+@DataJpaTest(properties = "nexusbank.outbox.relay.batch-size=2")
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestDatabaseConfig.class)
+@Import({ JournalPersistenceAdapter.class, JournalBalanceReader.class, OutboxPersistenceAdapter.class,
+    OutboxRelay.class, OutboxIntegrationTest.RecordingEventPublisher.class })
+public class OutboxIntegrationTest {
+
+  @Autowired
+  private JournalPersistenceAdapter ledger;
+
+  @Autowired
+  private OutboxPersistenceAdapter outbox;
+
+  @Autowired
+  private OutboxRelay relay;
+
+  @Autowired
+  private RecordingEventPublisher publisher;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @BeforeEach
+  public void setUp() {
+    publisher.failing = false;
+    publisher.published.clear();
+    accountRepository.saveAndFlush(account("acc-source", "100.00"));
+    accountRepository.saveAndFlush(account("acc-target", "0.00"));
+  }
+
+  @Test
+  public void testRecordedTransactionsArePublishedInOrderAndRemoved() {
+    Money amount = new Money(new BigDecimal("10.00"), Currency.USD);
+    ledger.adjustBalances(List.of(BalanceAdjustment.credit("acc-source", amount)),
+        Transaction.createDeposit("tx-1", "acc-source", amount));
+    transfer("tx-2", amount);
+    transfer("tx-3", amount);
+
+    // Cada transacción registrada deja su evento en la misma unidad de trabajo
+    assertEquals(3, outbox.countPending());
+
+    assertEquals(3, relay.relay());
+
+    assertEquals(List.of("tx-1", "tx-2", "tx-3"),
+        publisher.published.stream().map(event -> event.transaction().getId()).toList());
+    assertTrue(publisher.published.get(0).sequence() < publisher.published.get(2).sequence());
+    assertEquals(new Money(new BigDecimal("10.00"), Currency.USD), publisher.published.get(1).transaction().getAmount());
+    assertEquals(0, outbox.countPending());
+    assertEquals(0, relay.relay());
+  }
+
+  @Test
+  public void testEventsStayInTheOutboxUntilPublished() {
+    transfer("tx-1", new Money(new BigDecimal("10.00"), Currency.USD));
+    long failuresBefore = relay.getFailures();
+    publisher.failing = true;
+
+    assertEquals(0, relay.relay());
+    assertEquals(1, outbox.countPending());
+    assertEquals(failuresBefore + 1, relay.getFailures());
+
+    publisher.failing = false;
+    assertEquals(1, relay.relay());
+    assertEquals(0, outbox.countPending());
+  }
+
+  @Test
+  public void testOldestPendingEventGivesTheRelayLag() {
+    LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+    assertTrue(outbox.oldestPending().isEmpty());
+
+    transfer("tx-1", new Money(new BigDecimal("10.00"), Currency.USD));
+
+    assertFalse(outbox.oldestPending().orElseThrow().isBefore(before));
+    relay.relay();
+    assertTrue(outbox.oldestPending().isEmpty());
+  }
+
+  private void transfer(String transactionId, Money amount) {
+    ledger.adjustBalances(
+        List.of(BalanceAdjustment.debit("acc-source", amount), BalanceAdjustment.credit("acc-target", amount)),
+        Transaction.createTransfer(transactionId, "acc-source", "acc-target", amount));
+  }
+
+  static class RecordingEventPublisher implements EventPublisherPort {
+
+    final List<TransactionEvent> published = new CopyOnWriteArrayList<>();
+    volatile boolean failing;
+
+    @Override
+    public void publish(List<TransactionEvent> events) {
+      if (failing) {
+        throw new IllegalStateException("Broker unavailable");
+      }
+      published.addAll(events);
+    }
+  }
+}
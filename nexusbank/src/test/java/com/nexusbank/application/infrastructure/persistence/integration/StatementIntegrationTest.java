@@ -0,0 +1,123 @@
+package com.nexusbank.application.infrastructure.persistence.integration;
+
+import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+import com.nexusbank.infrastructure.persistence.adapter.AccountBalanceSource;
+import com.nexusbank.infrastructure.persistence.adapter.AccountPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.ConcurrencyStrategy;
+import com.nexusbank.infrastructure.persistence.adapter.StatementPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.mapper.AccountMapper;
+import com.nexusbank.infrastructure.persistence.repository.AccountRepository;
+import com.nexusbank.infrastructure.persistence.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.nexusbank.application.infrastructure.persistence.container.TestEntities.account;
+import static com.nexusbank.application.infrastructure.persistence.container.TestEntities.transaction;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestDatabaseConfig.class)
+@Import({ StatementPersistenceAdapter.class, AccountMapper.class })
+public class StatementIntegrationTest {
+
+  private static final LocalDateTime FROM = LocalDateTime.of(2025, 3, 1, 0, 0);
+  private static final LocalDateTime TO = LocalDateTime.of(2025, 4, 1, 0, 0);
+
+  @Autowired
+  private StatementPersistenceAdapter adapter;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  @BeforeEach
+  public void setUp() {
+    // Saldo actual 170: 100 de apertura, +50 antes del periodo, -20 y +30
+    // dentro, un fallo que no cuenta y +10 después del periodo
+    accountRepository.saveAndFlush(account("acc-1", "170.00", FROM.minusDays(10)));
+    transactionRepository.saveAndFlush(transaction("tx-0", "acc-1", null, TransactionType.DEPOSIT, "50.00",
+        TransactionStatus.COMPLETED, FROM.minusDays(1)));
+    transactionRepository.saveAndFlush(transaction("tx-1", "acc-1", null, TransactionType.WITHDRAWAL, "20.00",
+        TransactionStatus.COMPLETED, FROM.plusDays(1)));
+    transactionRepository.saveAndFlush(transaction("tx-2", "acc-2", "acc-1", TransactionType.TRANSFER, "30.00",
+        TransactionStatus.COMPLETED, FROM.plusDays(2)));
+    transactionRepository.saveAndFlush(transaction("tx-3", "acc-1", "acc-2", TransactionType.TRANSFER, "500.00",
+        TransactionStatus.FAILED, FROM.plusDays(3)));
+    transactionRepository.saveAndFlush(transaction("tx-4", "acc-1", null, TransactionType.DEPOSIT, "10.00",
+        TransactionStatus.COMPLETED, TO.plusDays(1)));
+  }
+
+  @Test
+  public void testOpeningBalanceExcludesEverythingSinceThePeriodStarted() {
+    List<Money> openings = new ArrayList<>();
+    List<String> ids = new ArrayList<>();
+
+    boolean found = adapter.readStatement("acc-1", FROM, TO, (openingBalance, transactions) -> {
+      openings.add(openingBalance);
+      transactions.forEach(transaction -> ids.add(transaction.getId()));
+    });
+
+    assertTrue(found);
+    assertEquals(List.of(new Money(new BigDecimal("150.00"), Currency.USD)), openings);
+    // Orden cronológico, con las dos ramas (origen y destino) intercaladas
+    assertEquals(List.of("tx-1", "tx-2", "tx-3"), ids);
+  }
+
+  @Test
+  public void testOpenPeriodStartsFromBalanceNotCoveredByTransactions() {
+    List<Money> openings = new ArrayList<>();
+    List<Transaction> transactions = new ArrayList<>();
+
+    adapter.readStatement("acc-1", null, null, (openingBalance, rows) -> {
+      openings.add(openingBalance);
+      rows.forEach(transactions::add);
+    });
+
+    // El depósito inicial de la cuenta no genera transacción: queda como saldo
+    // de apertura
+    assertEquals(List.of(new Money(new BigDecimal("100.00"), Currency.USD)), openings);
+    assertEquals(5, transactions.size());
+    assertEquals(TransactionStatus.FAILED, transactions.get(3).getStatus());
+  }
+
+  @Test
+  public void testUnknownAccountIsNotFound() {
+    assertFalse(adapter.readStatement("missing", FROM, TO, (openingBalance, rows) -> {
+    }));
+  }
+
+  // El adaptador de cuentas se registra en ApplicationConfig; aquí, con el
+  // saldo en la columna
+  @TestConfiguration
+  static class Adapters {
+
+    @Bean
+    AccountPersistenceAdapter accountPersistenceAdapter(AccountRepository accountRepository,
+        AccountMapper accountMapper) {
+      return new AccountPersistenceAdapter(accountRepository, accountMapper, ConcurrencyStrategy.OPTIMISTIC,
+          AccountBalanceSource.row());
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.nexusbank.application.infrastructure.persistence.integration;
+
+import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import com.nexusbank.application.port.out.LoadTransactionHistoryPort.HistoryFilter;
+import com.nexusbank.application.port.out.LoadTransactionHistoryPort.HistoryPosition;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+import com.nexusbank.infrastructure.persistence.adapter.TransactionHistoryPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.entity.TransactionEntity;
+import com.nexusbank.infrastructure.persistence.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestDatabaseConfig.class)
+@Import(TransactionHistoryPersistenceAdapter.class)
+public class TransactionHistoryIntegrationTest {
+
+  private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 6, 10, 0);
+
+  @Autowired
+  private TransactionHistoryPersistenceAdapter adapter;
+
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  @BeforeEach
+  public void setUp() {
+    // acc-1 aparece como origen y como destino; tx-c y tx-d comparten instante
+    transactionRepository.saveAndFlush(transaction("tx-a", "acc-1", null, TransactionType.DEPOSIT, BASE.plusMinutes(1)));
+    transactionRepository.saveAndFlush(transaction("tx-b", "acc-2", "acc-1", TransactionType.TRANSFER, BASE.plusMinutes(2)));
+    transactionRepository.saveAndFlush(transaction("tx-c", "acc-1", "acc-2", TransactionType.TRANSFER, BASE.plusMinutes(3)));
+    transactionRepository.saveAndFlush(transaction("tx-d", "acc-1", null, TransactionType.WITHDRAWAL, BASE.plusMinutes(3)));
+    transactionRepository.saveAndFlush(transaction("tx-e", "acc-2", null, TransactionType.DEPOSIT, BASE.plusMinutes(4)));
+  }
+
+  @Test
+  public void testPagesCoverBothRolesNewestFirstWithoutGapsOrDuplicates() {
+    HistoryFilter noFilter = new HistoryFilter(null, null, null, null);
+
+    List<Transaction> first = adapter.loadTransactionHistory("acc-1", noFilter, null, 2);
+    Transaction last = first.get(first.size() - 1);
+    List<Transaction> second = adapter.loadTransactionHistory("acc-1", noFilter,
+        new HistoryPosition(last.getCreatedAt(), last.getId()), 2);
+
+    assertEquals(List.of("tx-d", "tx-c"), ids(first));
+    assertEquals(List.of("tx-b", "tx-a"), ids(second));
+    assertEquals(BASE.plusMinutes(3), first.get(0).getCreatedAt());
+  }
+
+  @Test
+  public void testFiltersNarrowTheHistory() {
+    List<Transaction> transfers = adapter.loadTransactionHistory("acc-1",
+        new HistoryFilter(TransactionType.TRANSFER, TransactionStatus.COMPLETED, null, null), null, 10);
+    List<Transaction> window = adapter.loadTransactionHistory("acc-1",
+        new HistoryFilter(null, null, BASE.plusMinutes(2), BASE.plusMinutes(3)), null, 10);
+
+    assertEquals(List.of("tx-c", "tx-b"), ids(transfers));
+    assertEquals(List.of("tx-b"), ids(window));
+  }
+
+  private List<String> ids(List<Transaction> transactions) {
+    return transactions.stream().map(Transaction::getId).toList();
+  }
+
+  private TransactionEntity transaction(String id, String accountId, String targetAccountId, TransactionType type,
+      LocalDateTime createdAt) {
+    TransactionEntity transaction = new TransactionEntity();
+    transaction.setId(id);
+    transaction.setAccountId(accountId);
+    transaction.setTargetAccountId(targetAccountId);
+    transaction.setAmount(new BigDecimal("10.00"));
+    transaction.setCurrency(Currency.USD);
+    transaction.setType(type);
+    transaction.setStatus(TransactionStatus.COMPLETED);
+    transaction.setDescription(type.name());
+    transaction.setCreatedAt(createdAt);
+    transaction.setUpdatedAt(createdAt);
+    return transaction;
+  }
+}
@@ -1,6 +1,7 @@
 package com.nexusbank.application.infrastructure.persistence.integration;
 
 import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import com.nexusbank.domain.model.Currency;
 import com.nexusbank.domain.model.TransactionStatus;
 import com.nexusbank.domain.model.TransactionType;
 import com.nexusbank.infrastructure.persistence.entity.TransactionEntity;
@@ -34,7 +35,7 @@ public class TransactionRepositoryIntegrationTest {
     transaction.setAccountId("acc-123");
     transaction.setTargetAccountId("acc-456");
     transaction.setAmount(new BigDecimal("150.00"));
-    transaction.setCurrency("USD");
+    transaction.setCurrency(Currency.USD);
     transaction.setType(TransactionType.DEPOSIT);
     transaction.setStatus(TransactionStatus.COMPLETED);
     transaction.setDescription("Deposit transaction");
@@ -50,7 +51,7 @@ public class TransactionRepositoryIntegrationTest {
     assertEquals("acc-123", retrieved.get().getAccountId());
     assertEquals("acc-456", retrieved.get().getTargetAccountId());
     assertEquals(new BigDecimal("150.00"), retrieved.get().getAmount());
-    assertEquals("USD", retrieved.get().getCurrency());
+    assertEquals(Currency.USD, retrieved.get().getCurrency());
     assertEquals(TransactionType.DEPOSIT, retrieved.get().getType());
     assertEquals(TransactionStatus.COMPLETED, retrieved.get().getStatus());
     assertEquals("Deposit transaction", retrieved.get().getDescription());
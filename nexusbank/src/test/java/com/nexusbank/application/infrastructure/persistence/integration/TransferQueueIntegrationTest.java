@@ -0,0 +1,120 @@
+package com.nexusbank.application.infrastructure.persistence.integration;
+
+import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.infrastructure.persistence.adapter.TransferQueuePersistenceAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sin transacción de test: el bloqueo de otra liquidación solo se ve con
+// datos confirmados y dos conexiones
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestDatabaseConfig.class)
+@Import(TransferQueuePersistenceAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TransferQueueIntegrationTest {
+
+  @Autowired
+  private TransferQueuePersistenceAdapter adapter;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+
+  @BeforeEach
+  public void setUp() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    adapter.enqueue(transfer("tx-1", "acc-a", "acc-b"));
+    adapter.enqueue(transfer("tx-2", "acc-a", "acc-c"));
+    adapter.enqueue(transfer("tx-3", "acc-d", "acc-e"));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    jdbcTemplate.update("DELETE FROM pending_transfers");
+  }
+
+  @Test
+  public void testEnqueuedTransferIsLoadedAsPending() {
+    Transaction loaded = adapter.loadPending("tx-1").orElseThrow();
+
+    assertEquals(TransactionStatus.PENDING, loaded.getStatus());
+    assertEquals("acc-b", loaded.getTargetAccountId());
+    assertEquals(0, new BigDecimal("10.00").compareTo(loaded.getAmount().getAmount()));
+    assertTrue(adapter.loadPending("tx-unknown").isEmpty());
+  }
+
+  @Test
+  public void testClaimBatchReturnsOldestFirstAndRemoveDequeues() {
+    List<String> claimed = transactionTemplate.execute(status -> {
+      List<Transaction> batch = adapter.claimBatch(10);
+      adapter.remove(batch.stream().map(Transaction::getId).toList());
+      return batch.stream().map(Transaction::getId).toList();
+    });
+
+    assertEquals(List.of("tx-1", "tx-2", "tx-3"), claimed);
+    assertTrue(adapter.loadPending("tx-1").isEmpty());
+  }
+
+  @Test
+  public void testClaimBatchHoldsBackTransfersBehindAnotherSettler() throws Exception {
+    CountDownLatch claimedElsewhere = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    // Otra liquidación tiene tomada la transferencia más antigua de acc-a
+    CompletableFuture<Void> otherSettler = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+        status -> {
+          adapter.claim("tx-1").orElseThrow();
+          claimedElsewhere.countDown();
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }));
+
+    try {
+      assertTrue(claimedElsewhere.await(10, TimeUnit.SECONDS));
+      List<String> claimed = transactionTemplate.execute(
+          status -> adapter.claimBatch(10).stream().map(Transaction::getId).toList());
+
+      // tx-2 espera a tx-1 porque comparten acc-a; tx-3 no depende de ninguna
+      assertEquals(List.of("tx-3"), claimed);
+    } finally {
+      release.countDown();
+      otherSettler.get(10, TimeUnit.SECONDS);
+    }
+  }
+
+  private Transaction transfer(String id, String source, String target) {
+    return Transaction.createPendingTransfer(id, source, target, new Money(new BigDecimal("10.00"), Currency.USD));
+  }
+}
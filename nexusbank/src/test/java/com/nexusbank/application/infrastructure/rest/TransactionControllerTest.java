@@ -2,13 +2,26 @@ package com.nexusbank.application.infrastructure.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nexusbank.application.port.in.BatchTransferUseCase;
+import com.nexusbank.application.port.in.BatchTransferUseCase.TransferInstruction;
+import com.nexusbank.application.port.in.BatchTransferUseCase.TransferResult;
 import com.nexusbank.application.port.in.DepositMoneyUseCase;
+import com.nexusbank.application.port.in.GetTransactionProofUseCase;
+import com.nexusbank.application.port.in.GetTransactionUseCase;
+import com.nexusbank.application.port.in.SubmitTransferUseCase;
 import com.nexusbank.application.port.in.TransferMoneyUseCase;
 import com.nexusbank.domain.exception.AccountNotFoundException;
 import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.exception.TransactionNotAnchoredException;
+import com.nexusbank.domain.exception.TransactionNotFoundException;
 import com.nexusbank.domain.model.Money;
 import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionProof;
+import com.nexusbank.infrastructure.anchoring.MerkleProof;
+import com.nexusbank.infrastructure.anchoring.MerkleTree;
+import com.nexusbank.infrastructure.anchoring.TransactionLeaves;
 import com.nexusbank.infrastructure.rest.controller.TransactionController;
+import com.nexusbank.infrastructure.rest.dto.request.BatchTransferRequest;
 import com.nexusbank.infrastructure.rest.dto.request.DepositRequest;
 import com.nexusbank.infrastructure.rest.dto.request.TransferRequest;
 import com.nexusbank.infrastructure.rest.exception.RestExceptionHandler;
@@ -22,17 +35,24 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -47,13 +67,26 @@ public class TransactionControllerTest {
   @Mock
   private TransferMoneyUseCase transferMoneyUseCase;
 
+  @Mock
+  private BatchTransferUseCase batchTransferUseCase;
+
+  @Mock
+  private SubmitTransferUseCase submitTransferUseCase;
+
+  @Mock
+  private GetTransactionUseCase getTransactionUseCase;
+
+  @Mock
+  private GetTransactionProofUseCase getTransactionProofUseCase;
+
   private ObjectMapper objectMapper;
 
   @BeforeEach
   void setUp() {
     // Initialize controller with mocked use cases
     TransactionController transactionController = new TransactionController(
-        depositMoneyUseCase, transferMoneyUseCase);
+        depositMoneyUseCase, transferMoneyUseCase, batchTransferUseCase, submitTransferUseCase,
+        getTransactionUseCase, getTransactionProofUseCase);
 
     // Configure MockMvc with RestExceptionHandler
     mockMvc = MockMvcBuilders
@@ -69,16 +102,16 @@ public class TransactionControllerTest {
   void deposit_shouldReturnOkStatus() throws Exception {
     // Input data
     String accountId = "acc-123";
-    DepositRequest request = new DepositRequest(100.0);
+    DepositRequest request = new DepositRequest(new BigDecimal("100.00"));
 
     // Mock successful transaction
     String transactionId = UUID.randomUUID().toString();
     Transaction mockTransaction = Transaction.createDeposit(
         transactionId,
         accountId,
-        new Money(100.0, "USD"));
+        new Money(new BigDecimal("100.0"), "USD"));
 
-    when(depositMoneyUseCase.depositMoney(eq(accountId), eq(100.0)))
+    when(depositMoneyUseCase.depositMoney(eq(accountId), eq(new BigDecimal("100.00"))))
         .thenReturn(mockTransaction);
 
     // Perform request and verify results
@@ -94,17 +127,17 @@ public class TransactionControllerTest {
         .andExpect(jsonPath("$.type").value("DEPOSIT"))
         .andExpect(jsonPath("$.status").value("COMPLETED"));
 
-    verify(depositMoneyUseCase).depositMoney(eq(accountId), eq(100.0));
+    verify(depositMoneyUseCase).depositMoney(eq(accountId), eq(new BigDecimal("100.00")));
   }
 
   @Test
   void deposit_shouldReturnNotFoundWhenAccountDoesNotExist() throws Exception {
     // Input data for non-existent account
     String accountId = "non-existent-account";
-    DepositRequest request = new DepositRequest(100.0);
+    DepositRequest request = new DepositRequest(new BigDecimal("100.00"));
 
     doThrow(new AccountNotFoundException(accountId))
-        .when(depositMoneyUseCase).depositMoney(eq(accountId), anyDouble());
+        .when(depositMoneyUseCase).depositMoney(eq(accountId), any(BigDecimal.class));
 
     // Perform request and verify error response manually
     MvcResult result = mockMvc.perform(post("/api/transactions/accounts/{accountId}/deposit", accountId)
@@ -126,7 +159,7 @@ public class TransactionControllerTest {
     // Input data
     String sourceAccountId = "source-acc";
     String targetAccountId = "target-acc";
-    TransferRequest request = new TransferRequest(targetAccountId, 100.0);
+    TransferRequest request = new TransferRequest(targetAccountId, new BigDecimal("100.00"));
 
     // Mock successful transaction
     String transactionId = UUID.randomUUID().toString();
@@ -134,9 +167,9 @@ public class TransactionControllerTest {
         transactionId,
         sourceAccountId,
         targetAccountId,
-        new Money(100.0, "USD"));
+        new Money(new BigDecimal("100.0"), "USD"));
 
-    when(transferMoneyUseCase.transferMoney(eq(sourceAccountId), eq(targetAccountId), eq(100.0)))
+    when(transferMoneyUseCase.transferMoney(eq(sourceAccountId), eq(targetAccountId), eq(new BigDecimal("100.00"))))
         .thenReturn(mockTransaction);
 
     // Perform request and verify results
@@ -153,7 +186,108 @@ public class TransactionControllerTest {
         .andExpect(jsonPath("$.type").value("TRANSFER"))
         .andExpect(jsonPath("$.status").value("COMPLETED"));
 
-    verify(transferMoneyUseCase).transferMoney(eq(sourceAccountId), eq(targetAccountId), eq(100.0));
+    verify(transferMoneyUseCase).transferMoney(eq(sourceAccountId), eq(targetAccountId), eq(new BigDecimal("100.00")));
+  }
+
+  @Test
+  void transfer_shouldReturnAcceptedWhenAsyncResponseIsPreferred() throws Exception {
+    // Input data
+    String sourceAccountId = "source-acc";
+    String targetAccountId = "target-acc";
+    TransferRequest request = new TransferRequest(targetAccountId, new BigDecimal("100.00"));
+
+    // Mock accepted transfer
+    Transaction pendingTransfer = Transaction.createPendingTransfer(
+        "tx-pending",
+        sourceAccountId,
+        targetAccountId,
+        new Money(new BigDecimal("100.0"), "USD"));
+
+    when(submitTransferUseCase.submitTransfer(eq(sourceAccountId), eq(targetAccountId), eq(new BigDecimal("100.00"))))
+        .thenReturn(pendingTransfer);
+
+    // Perform request and verify results
+    mockMvc.perform(post("/api/transactions/accounts/{sourceAccountId}/transfer", sourceAccountId)
+        .header("Prefer", "respond-async")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(request)))
+        .andDo(print())
+        .andExpect(status().isAccepted())
+        .andExpect(header().string("Location", "http://localhost/api/transactions/tx-pending"))
+        .andExpect(header().string("Preference-Applied", "respond-async"))
+        .andExpect(jsonPath("$.id").value("tx-pending"))
+        .andExpect(jsonPath("$.status").value("PENDING"));
+
+    verify(transferMoneyUseCase, never()).transferMoney(any(), any(), any());
+  }
+
+  @Test
+  void getTransaction_shouldReturnCurrentStatus() throws Exception {
+    // Mock settled transfer
+    Transaction transfer = Transaction.createPendingTransfer("tx-1", "source-acc", "target-acc",
+        new Money(new BigDecimal("100.0"), "USD"));
+    transfer.markAsCompleted();
+
+    when(getTransactionUseCase.getTransactionById("tx-1")).thenReturn(transfer);
+
+    // Perform request and verify results
+    mockMvc.perform(get("/api/transactions/{transactionId}", "tx-1"))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value("tx-1"))
+        .andExpect(jsonPath("$.status").value("COMPLETED"));
+  }
+
+  @Test
+  void getTransaction_shouldReturnNotFoundWhenTransactionDoesNotExist() throws Exception {
+    when(getTransactionUseCase.getTransactionById("missing"))
+        .thenThrow(new TransactionNotFoundException("missing"));
+
+    // Perform request and verify error response
+    mockMvc.perform(get("/api/transactions/{transactionId}", "missing"))
+        .andDo(print())
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.error").value("Transaction Not Found"));
+  }
+
+  @Test
+  void getTransactionProof_shouldReturnLeafPathAndAnchoredRoot() throws Exception {
+    // Mock transfer anchored as the second leaf of a batch of three
+    Transaction transfer = Transaction.createTransfer("tx-1", "source-acc", "target-acc",
+        new Money(new BigDecimal("100.0"), "USD"));
+    MerkleTree tree = new MerkleTree(List.of(MerkleTree.leafHash(new byte[] { 1 }), TransactionLeaves.hash(transfer),
+        MerkleTree.leafHash(new byte[] { 3 })));
+    MerkleProof path = tree.proof(1);
+    when(getTransactionProofUseCase.getTransactionProof("tx-1")).thenReturn(new TransactionProof(transfer,
+        TransactionLeaves.hash(transfer), 1, 3, path.siblings(), path.directions(), tree.root(),
+        new TransactionProof.Anchor(7, "0xabc", 8, LocalDateTime.of(2025, 3, 6, 10, 15))));
+
+    // Perform request and verify results
+    mockMvc.perform(get("/api/transactions/{transactionId}/proof", "tx-1"))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.leaf.id").value("tx-1"))
+        .andExpect(jsonPath("$.leaf.type").value("TRANSFER"))
+        .andExpect(jsonPath("$.leaf.amountMinorUnits").value(10000))
+        .andExpect(jsonPath("$.leafHash").value("0x" + HexFormat.of().formatHex(TransactionLeaves.hash(transfer))))
+        .andExpect(jsonPath("$.leafIndex").value(1))
+        .andExpect(jsonPath("$.siblings.length()").value(2))
+        .andExpect(jsonPath("$.directions").value(1))
+        .andExpect(jsonPath("$.root").value("0x" + HexFormat.of().formatHex(tree.root())))
+        .andExpect(jsonPath("$.anchor.ledgerBatchId").value(7))
+        .andExpect(jsonPath("$.anchor.blockNumber").value(8));
+  }
+
+  @Test
+  void getTransactionProof_shouldReturnNotFoundWhenTransactionIsNotAnchored() throws Exception {
+    when(getTransactionProofUseCase.getTransactionProof("tx-1"))
+        .thenThrow(new TransactionNotAnchoredException("tx-1"));
+
+    // Perform request and verify error response
+    mockMvc.perform(get("/api/transactions/{transactionId}/proof", "tx-1"))
+        .andDo(print())
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.error").value("Transaction Not Anchored"));
   }
 
   @Test
@@ -161,10 +295,10 @@ public class TransactionControllerTest {
     // Input data
     String sourceAccountId = "non-existent-account";
     String targetAccountId = "target-acc";
-    TransferRequest request = new TransferRequest(targetAccountId, 100.0);
+    TransferRequest request = new TransferRequest(targetAccountId, new BigDecimal("100.00"));
 
     doThrow(new AccountNotFoundException("Source account with id " + sourceAccountId + " not found"))
-        .when(transferMoneyUseCase).transferMoney(eq(sourceAccountId), eq(targetAccountId), anyDouble());
+        .when(transferMoneyUseCase).transferMoney(eq(sourceAccountId), eq(targetAccountId), any(BigDecimal.class));
 
     // Perform request and verify error response manually
     MvcResult result = mockMvc.perform(post("/api/transactions/accounts/{sourceAccountId}/transfer", sourceAccountId)
@@ -186,10 +320,10 @@ public class TransactionControllerTest {
     // Input data
     String sourceAccountId = "source-acc";
     String targetAccountId = "non-existent-account";
-    TransferRequest request = new TransferRequest(targetAccountId, 100.0);
+    TransferRequest request = new TransferRequest(targetAccountId, new BigDecimal("100.00"));
 
     doThrow(new AccountNotFoundException("Target account with id " + targetAccountId + " not found"))
-        .when(transferMoneyUseCase).transferMoney(eq(sourceAccountId), eq(targetAccountId), anyDouble());
+        .when(transferMoneyUseCase).transferMoney(eq(sourceAccountId), eq(targetAccountId), any(BigDecimal.class));
 
     // Perform request and verify error response manually
     MvcResult result = mockMvc.perform(post("/api/transactions/accounts/{sourceAccountId}/transfer", sourceAccountId)
@@ -211,10 +345,10 @@ public class TransactionControllerTest {
     // Input data
     String sourceAccountId = "source-acc";
     String targetAccountId = "target-acc";
-    TransferRequest request = new TransferRequest(targetAccountId, 1000.0);
+    TransferRequest request = new TransferRequest(targetAccountId, new BigDecimal("1000.00"));
 
     doThrow(new InsufficientBalanceException("Insufficient balance in account " + sourceAccountId))
-        .when(transferMoneyUseCase).transferMoney(eq(sourceAccountId), eq(targetAccountId), anyDouble());
+        .when(transferMoneyUseCase).transferMoney(eq(sourceAccountId), eq(targetAccountId), any(BigDecimal.class));
 
     // Perform request and verify error response manually
     MvcResult result = mockMvc.perform(post("/api/transactions/accounts/{sourceAccountId}/transfer", sourceAccountId)
@@ -235,7 +369,7 @@ public class TransactionControllerTest {
   void deposit_shouldReturnBadRequestWhenAmountIsInvalid() throws Exception {
     // Input data with invalid amount (negative)
     String accountId = "acc-123";
-    DepositRequest request = new DepositRequest(-50.0);
+    DepositRequest request = new DepositRequest(new BigDecimal("-50.00"));
 
     // Perform request and verify validation error
     MvcResult result = mockMvc.perform(post("/api/transactions/accounts/{accountId}/deposit", accountId)
@@ -252,7 +386,7 @@ public class TransactionControllerTest {
   void transfer_shouldReturnBadRequestWhenAmountIsZero() throws Exception {
     // Input data with invalid amount (zero)
     String sourceAccountId = "source-acc";
-    TransferRequest request = new TransferRequest("target-acc", 0.0);
+    TransferRequest request = new TransferRequest("target-acc", new BigDecimal("0.00"));
 
     // Perform request and verify validation error
     MvcResult result = mockMvc.perform(post("/api/transactions/accounts/{sourceAccountId}/transfer", sourceAccountId)
@@ -264,4 +398,52 @@ public class TransactionControllerTest {
     // Check status code manually
     assertEquals(400, result.getResponse().getStatus());
   }
-}
\ No newline at end of file
+
+  @Test
+  void transferBatch_shouldReportResultOfEachTransfer() throws Exception {
+    // Input data
+    BatchTransferRequest request = new BatchTransferRequest(List.of(
+        new BatchTransferRequest.Item("acc-1", "acc-2", new BigDecimal("10.00")),
+        new BatchTransferRequest.Item("acc-3", "acc-2", new BigDecimal("20.00"))));
+
+    Transaction mockTransaction = Transaction.createTransfer("tx-1", "acc-1", "acc-2",
+        new Money(new BigDecimal("10.0"), "USD"));
+    when(batchTransferUseCase.transferBatch(eq(List.of(
+        new TransferInstruction("acc-1", "acc-2", new BigDecimal("10.00")),
+        new TransferInstruction("acc-3", "acc-2", new BigDecimal("20.00"))))))
+        .thenReturn(List.of(
+            TransferResult.completed(0, mockTransaction),
+            TransferResult.failed(1, "Insufficient balance in account acc-3")));
+
+    // Perform request and verify results
+    mockMvc.perform(post("/api/transactions/batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(request)))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total").value(2))
+        .andExpect(jsonPath("$.succeeded").value(1))
+        .andExpect(jsonPath("$.failed").value(1))
+        .andExpect(jsonPath("$.results[0].status").value("COMPLETED"))
+        .andExpect(jsonPath("$.results[0].transaction.id").value("tx-1"))
+        .andExpect(jsonPath("$.results[1].index").value(1))
+        .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+        .andExpect(jsonPath("$.results[1].error").value("Insufficient balance in account acc-3"));
+  }
+
+  @Test
+  void transferBatch_shouldReturnBadRequestWhenBatchIsEmpty() throws Exception {
+    // Input data without transfers
+    BatchTransferRequest request = new BatchTransferRequest(List.of());
+
+    // Perform request and verify validation error
+    MvcResult result = mockMvc.perform(post("/api/transactions/batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(request)))
+        .andDo(print())
+        .andReturn();
+
+    // Check status code manually
+    assertEquals(400, result.getResponse().getStatus());
+  }
+}
@@ -3,33 +3,59 @@ package com.nexusbank.application.infrastructure.rest.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.nexusbank.application.port.in.CreateAccountUseCase;
+import com.nexusbank.application.port.in.ExportStatementUseCase;
+import com.nexusbank.application.port.in.ExportStatementUseCase.StatementLine;
+import com.nexusbank.application.port.in.ExportStatementUseCase.StatementQuery;
 import com.nexusbank.application.port.in.GetAccountUseCase;
+import com.nexusbank.application.port.in.GetBalanceAtUseCase;
+import com.nexusbank.application.port.in.GetTransactionHistoryUseCase;
+import com.nexusbank.application.port.in.GetTransactionHistoryUseCase.TransactionHistoryPage;
+import com.nexusbank.application.port.in.GetTransactionHistoryUseCase.TransactionHistoryQuery;
 import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.InvalidCursorException;
 import com.nexusbank.domain.exception.UserNotFoundException;
 import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Currency;
 import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionType;
+import com.nexusbank.infrastructure.concurrency.StatementExportLimiter;
 import com.nexusbank.infrastructure.rest.controller.AccountController;
 import com.nexusbank.infrastructure.rest.dto.request.CreateAccountRequest;
 import com.nexusbank.infrastructure.rest.exception.RestExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
-import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,12 +69,25 @@ public class AccountControllerTest {
   @Mock
   private GetAccountUseCase getAccountUseCase;
 
+  @Mock
+  private GetTransactionHistoryUseCase getTransactionHistoryUseCase;
+
+  @Mock
+  private ExportStatementUseCase exportStatementUseCase;
+
+  @Mock
+  private GetBalanceAtUseCase getBalanceAtUseCase;
+
+  private StatementExportLimiter statementExportLimiter;
+
   private ObjectMapper objectMapper;
 
   @BeforeEach
   void setUp() {
     // Se instancia el controlador utilizando los puertos de entrada simulados
-    AccountController accountController = new AccountController(createAccountUseCase, getAccountUseCase);
+    statementExportLimiter = new StatementExportLimiter(1);
+    AccountController accountController = new AccountController(createAccountUseCase, getAccountUseCase,
+        getTransactionHistoryUseCase, exportStatementUseCase, getBalanceAtUseCase, statementExportLimiter);
 
     // Configurar MockMvc con el RestExceptionHandler para manejar excepciones
     mockMvc = MockMvcBuilders
@@ -63,13 +102,13 @@ public class AccountControllerTest {
   @Test
   void createAccount_shouldReturnCreatedStatus() throws Exception {
     // Datos de entrada
-    CreateAccountRequest request = new CreateAccountRequest("user-123", 100.0);
+    CreateAccountRequest request = new CreateAccountRequest("user-123", new BigDecimal("100.0"));
 
     // Se simula la creación de la cuenta
     Account mockAccount = Account.createNew("acc-123", "user-123", "USD");
-    mockAccount.deposit(new Money(100.0, "USD"));
+    mockAccount.deposit(new Money(new BigDecimal("100.0"), "USD"));
 
-    when(createAccountUseCase.createAccount(anyString(), anyDouble())).thenReturn(mockAccount);
+    when(createAccountUseCase.createAccount(anyString(), any(BigDecimal.class), eq(Currency.USD))).thenReturn(mockAccount);
 
     // Se realiza la petición POST y se verifican los resultados esperados
     mockMvc.perform(post("/api/accounts")
@@ -83,14 +122,14 @@ public class AccountControllerTest {
         .andExpect(jsonPath("$.balance.amount").value(100.0))
         .andExpect(jsonPath("$.balance.currency").value("USD"));
 
-    verify(createAccountUseCase).createAccount("user-123", 100.0);
+    verify(createAccountUseCase).createAccount("user-123", new BigDecimal("100.0"), Currency.USD);
   }
 
   @Test
   void createAccount_shouldReturnNotFoundWhenUserDoesNotExist() throws Exception {
     // Datos de entrada para un usuario no existente
-    CreateAccountRequest request = new CreateAccountRequest("non-existent-user", 100.0);
-    when(createAccountUseCase.createAccount(anyString(), anyDouble()))
+    CreateAccountRequest request = new CreateAccountRequest("non-existent-user", new BigDecimal("100.0"));
+    when(createAccountUseCase.createAccount(anyString(), any(BigDecimal.class), any(Currency.class)))
         .thenThrow(new UserNotFoundException("non-existent-user"));
 
     mockMvc.perform(post("/api/accounts")
@@ -106,7 +145,7 @@ public class AccountControllerTest {
   void getAccount_shouldReturnAccount() throws Exception {
     String accountId = "acc-123";
     Account mockAccount = Account.createNew(accountId, "user-123", "USD");
-    mockAccount.deposit(new Money(500.0, "USD"));
+    mockAccount.deposit(new Money(new BigDecimal("500.0"), "USD"));
 
     when(getAccountUseCase.getAccountById(accountId)).thenReturn(mockAccount);
 
@@ -137,9 +176,9 @@ public class AccountControllerTest {
   void getAccountsByUserId_shouldReturnListOfAccounts() throws Exception {
     String userId = "user-123";
     Account account1 = Account.createNew("acc-1", userId, "USD");
-    account1.deposit(new Money(500.0, "USD"));
+    account1.deposit(new Money(new BigDecimal("500.0"), "USD"));
     Account account2 = Account.createNew("acc-2", userId, "USD");
-    account2.deposit(new Money(300.0, "USD"));
+    account2.deposit(new Money(new BigDecimal("300.0"), "USD"));
 
     List<Account> accounts = Arrays.asList(account1, account2);
     when(getAccountUseCase.getAccountsByUserId(userId)).thenReturn(accounts);
@@ -167,4 +206,156 @@ public class AccountControllerTest {
 
     verify(getAccountUseCase).getAccountsByUserId(userId);
   }
-}
\ No newline at end of file
+
+  @Test
+  void getTransactionHistory_shouldReturnPageWithNextCursor() throws Exception {
+    String accountId = "acc-123";
+    Transaction deposit = Transaction.createDeposit("tx-2", accountId, new Money(new BigDecimal("50.0"), "USD"));
+    Transaction withdrawal = Transaction.createWithdrawal("tx-1", accountId, new Money(new BigDecimal("20.0"), "USD"));
+
+    when(getTransactionHistoryUseCase.getTransactionHistory(any(TransactionHistoryQuery.class)))
+        .thenReturn(new TransactionHistoryPage(List.of(deposit, withdrawal), "next-cursor"));
+
+    mockMvc.perform(get("/api/accounts/{accountId}/transactions", accountId)
+        .param("type", "DEPOSIT")
+        .param("from", "2025-03-01T00:00:00")
+        .param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.transactions[0].id").value("tx-2"))
+        .andExpect(jsonPath("$.transactions[1].id").value("tx-1"))
+        .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+
+    // Los parámetros de la petición llegan tal cual al caso de uso
+    ArgumentCaptor<TransactionHistoryQuery> query = ArgumentCaptor.forClass(TransactionHistoryQuery.class);
+    verify(getTransactionHistoryUseCase).getTransactionHistory(query.capture());
+    assertEquals(accountId, query.getValue().accountId());
+    assertEquals(TransactionType.DEPOSIT, query.getValue().type());
+    assertEquals(LocalDateTime.of(2025, 3, 1, 0, 0), query.getValue().from());
+    assertEquals(2, query.getValue().limit());
+    assertNull(query.getValue().cursor());
+  }
+
+  @Test
+  void getTransactionHistory_shouldReturnBadRequestForInvalidCursor() throws Exception {
+    when(getTransactionHistoryUseCase.getTransactionHistory(any(TransactionHistoryQuery.class)))
+        .thenThrow(new InvalidCursorException("garbage"));
+
+    mockMvc.perform(get("/api/accounts/{accountId}/transactions", "acc-123")
+        .param("cursor", "garbage"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status").value(400))
+        .andExpect(jsonPath("$.error").value("Invalid Cursor"));
+  }
+
+  @Test
+  void getBalanceAt_shouldReturnBalanceAtRequestedInstant() throws Exception {
+    LocalDateTime at = LocalDateTime.of(2025, 4, 1, 0, 0);
+    when(getBalanceAtUseCase.getBalanceAt("acc-123", at)).thenReturn(new Money(new BigDecimal("160.0"), "USD"));
+
+    mockMvc.perform(get("/api/accounts/{accountId}/balance", "acc-123")
+        .param("at", "2025-04-01T00:00:00"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.accountId").value("acc-123"))
+        .andExpect(jsonPath("$.balance.amount").value(160.0))
+        .andExpect(jsonPath("$.balance.currency").value("USD"));
+  }
+
+  @Test
+  void getBalanceAt_shouldReturnNotFoundWhenAccountDoesNotExist() throws Exception {
+    when(getBalanceAtUseCase.getBalanceAt(eq("missing"), any(LocalDateTime.class)))
+        .thenThrow(new AccountNotFoundException("missing"));
+
+    mockMvc.perform(get("/api/accounts/{accountId}/balance", "missing"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.error").value("Account Not Found"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void exportStatement_shouldStreamLinesWithRunningBalance() throws Exception {
+    String accountId = "acc-123";
+    when(getAccountUseCase.getAccountById(accountId)).thenReturn(Account.createNew(accountId, "user-123", "USD"));
+    Transaction deposit = Transaction.createDeposit("tx-1", accountId, new Money(new BigDecimal("50.0"), "USD"));
+    Transaction withdrawal = Transaction.createWithdrawal("tx-2", accountId, new Money(new BigDecimal("20.0"), "USD"));
+    doAnswer(invocation -> {
+      Consumer<StatementLine> sink = invocation.getArgument(1);
+      sink.accept(new StatementLine(deposit, new Money(new BigDecimal("50.0"), "USD"),
+          new Money(new BigDecimal("150.0"), "USD")));
+      sink.accept(new StatementLine(withdrawal, new Money(new BigDecimal("-20.0"), "USD"),
+          new Money(new BigDecimal("130.0"), "USD")));
+      return null;
+    }).when(exportStatementUseCase).exportStatement(any(StatementQuery.class), any(Consumer.class));
+
+    // El cuerpo se escribe de forma asíncrona, tras devolver el controlador
+    MvcResult result = mockMvc.perform(get("/api/accounts/{accountId}/statement", accountId)
+        .param("from", "2025-03-01T00:00:00")
+        .param("format", "ndjson"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    String body = mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andExpect(header().string("Content-Disposition", "attachment; filename=\"statement-acc-123.ndjson\""))
+        .andReturn().getResponse().getContentAsString();
+
+    String[] lines = body.split("\n");
+    assertEquals(2, lines.length);
+    assertEquals("tx-1", objectMapper.readTree(lines[0]).get("transactionId").asText());
+    assertEquals(0, objectMapper.readTree(lines[1]).get("balance").decimalValue().compareTo(
+        new BigDecimal("130")));
+
+    ArgumentCaptor<StatementQuery> query = ArgumentCaptor.forClass(StatementQuery.class);
+    verify(exportStatementUseCase).exportStatement(query.capture(), any(Consumer.class));
+    assertEquals(LocalDateTime.of(2025, 3, 1, 0, 0), query.getValue().from());
+    assertNull(query.getValue().to());
+    // El permiso se devuelve al terminar el cuerpo
+    assertEquals(0, statementExportLimiter.getActiveExports());
+  }
+
+  @Test
+  void exportStatement_shouldReturnTooManyRequestsWhenExportsAreAtTheCap() throws Exception {
+    // Given: el único permiso lo tiene otro extracto en curso
+    when(getAccountUseCase.getAccountById("acc-123")).thenReturn(Account.createNew("acc-123", "user-123", "USD"));
+    statementExportLimiter.acquire();
+
+    // When / Then
+    mockMvc.perform(get("/api/accounts/{accountId}/statement", "acc-123"))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(jsonPath("$.error").value("Too Many Statement Exports"));
+
+    verifyNoInteractions(exportStatementUseCase);
+    assertEquals(1, statementExportLimiter.getRejected());
+  }
+
+  @Test
+  void exportStatement_shouldReturnBadRequestForInvalidPeriod() throws Exception {
+    mockMvc.perform(get("/api/accounts/{accountId}/statement", "acc-123")
+        .param("from", "2025-04-01T00:00:00")
+        .param("to", "2025-03-01T00:00:00"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.error").value("Invalid Statement Period"));
+
+    verifyNoInteractions(exportStatementUseCase);
+  }
+
+  @Test
+  void exportStatement_shouldReturnBadRequestForUnknownFormat() throws Exception {
+    mockMvc.perform(get("/api/accounts/{accountId}/statement", "acc-123")
+        .param("format", "xlsx"))
+        .andExpect(status().isBadRequest());
+
+    verifyNoInteractions(exportStatementUseCase);
+  }
+
+  @Test
+  void exportStatement_shouldReturnNotFoundBeforeStreaming() throws Exception {
+    when(getAccountUseCase.getAccountById("missing")).thenThrow(new AccountNotFoundException("missing"));
+
+    mockMvc.perform(get("/api/accounts/{accountId}/statement", "missing"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.error").value("Account Not Found"));
+
+    verifyNoInteractions(exportStatementUseCase);
+  }
+}
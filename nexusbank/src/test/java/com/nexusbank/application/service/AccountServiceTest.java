@@ -1,11 +1,14 @@
 package com.nexusbank.application.service;
 
+import com.nexusbank.application.port.out.IdGeneratorPort;
 import com.nexusbank.application.port.out.LoadAccountPort;
 import com.nexusbank.application.port.out.LoadUserPort;
 import com.nexusbank.application.port.out.SaveAccountPort;
 import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.InvalidAmountException;
 import com.nexusbank.domain.exception.UserNotFoundException;
 import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Currency;
 import com.nexusbank.domain.model.Money;
 import com.nexusbank.domain.model.User;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +17,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -38,14 +42,15 @@ class AccountServiceTest {
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
-    accountService = new AccountService(saveAccountPort, loadAccountPort, loadUserPort);
+    accountService = new AccountService(saveAccountPort, loadAccountPort, loadUserPort,
+        IdGeneratorPort.randomUuids());
   }
 
   @Test
   void createAccount_shouldCreateAndSaveAccount() {
     // Given
     String userId = "user-123";
-    Double initialDeposit = 100.0;
+    BigDecimal initialDeposit = new BigDecimal("100.00");
 
     User mockUser = User.createNew(userId, "Test User", "test@example.com", "hashed_pwd");
     when(loadUserPort.loadUser(userId)).thenReturn(Optional.of(mockUser));
@@ -80,7 +85,7 @@ class AccountServiceTest {
   void createAccount_shouldThrowExceptionWhenUserNotFound() {
     // Given
     String userId = "non-existent-user";
-    Double initialDeposit = 100.0;
+    BigDecimal initialDeposit = new BigDecimal("100.00");
 
     when(loadUserPort.loadUser(userId)).thenReturn(Optional.empty());
 
@@ -96,12 +101,25 @@ class AccountServiceTest {
     verify(saveAccountPort, never()).saveAccount(any(Account.class));
   }
 
+  @Test
+  void createAccount_shouldRejectInitialDepositWithMoreDecimalsThanTheCurrency() {
+    // Given
+    String userId = "user-123";
+    User mockUser = User.createNew(userId, "Test User", "test@example.com", "hashed_pwd");
+    when(loadUserPort.loadUser(userId)).thenReturn(Optional.of(mockUser));
+
+    // When & Then: los yenes no tienen decimales, nunca se redondea
+    assertThrows(InvalidAmountException.class,
+        () -> accountService.createAccount(userId, new BigDecimal("100.5"), Currency.JPY));
+    verify(saveAccountPort, never()).saveAccount(any(Account.class));
+  }
+
   @Test
   void getAccountById_shouldReturnAccountWhenFound() {
     // Given
     String accountId = "account-123";
     Account mockAccount = Account.createNew(accountId, "user-123", "USD");
-    mockAccount.deposit(new Money(500.0, "USD"));
+    mockAccount.deposit(new Money(new BigDecimal("500.0"), "USD"));
 
     when(loadAccountPort.loadAccount(accountId)).thenReturn(Optional.of(mockAccount));
 
@@ -0,0 +1,132 @@
+package com.nexusbank.application.service;
+
+import com.nexusbank.application.port.in.ExportStatementUseCase.StatementLine;
+import com.nexusbank.application.port.in.ExportStatementUseCase.StatementQuery;
+import com.nexusbank.application.port.out.LoadBalanceAtPort;
+import com.nexusbank.application.port.out.LoadStatementPort;
+import com.nexusbank.application.port.out.LoadStatementPort.StatementReader;
+import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.InvalidStatementPeriodException;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AccountStatementServiceTest {
+
+  private static final LocalDateTime FROM = LocalDateTime.of(2025, 3, 1, 0, 0);
+  private static final LocalDateTime TO = LocalDateTime.of(2025, 4, 1, 0, 0);
+
+  @Mock
+  private LoadStatementPort loadStatementPort;
+
+  @Mock
+  private LoadBalanceAtPort loadBalanceAtPort;
+
+  private AccountStatementService statementService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    statementService = new AccountStatementService(loadStatementPort, loadBalanceAtPort);
+  }
+
+  @Test
+  void exportStatement_shouldAccumulateRunningBalanceFromOpeningBalance() {
+    // Given: una retirada, una transferencia recibida y una transferencia fallida
+    Transaction withdrawal = Transaction.createWithdrawal("tx-1", "acc-1", new Money(new BigDecimal("20.0"), "USD"));
+    Transaction incoming = Transaction.createTransfer("tx-2", "acc-2", "acc-1",
+        new Money(new BigDecimal("30.0"), "USD"));
+    Transaction failed = Transaction.createPendingTransfer("tx-3", "acc-1", "acc-2",
+        new Money(new BigDecimal("500.0"), "USD"));
+    failed.markAsFailed();
+    when(loadStatementPort.readStatement(eq("acc-1"), eq(FROM), eq(TO), any())).thenAnswer(invocation -> {
+      StatementReader reader = invocation.getArgument(3);
+      reader.read(new Money(new BigDecimal("150.0"), "USD"), Stream.of(withdrawal, incoming, failed));
+      return true;
+    });
+    List<StatementLine> lines = new ArrayList<>();
+
+    // When
+    statementService.exportStatement(new StatementQuery("acc-1", FROM, TO), lines::add);
+
+    // Then
+    assertEquals(3, lines.size());
+    assertEquals(new Money(new BigDecimal("-20.0"), "USD"), lines.get(0).change());
+    assertEquals(new Money(new BigDecimal("130.0"), "USD"), lines.get(0).balance());
+    assertEquals(new Money(new BigDecimal("30.0"), "USD"), lines.get(1).change());
+    assertEquals(new Money(new BigDecimal("160.0"), "USD"), lines.get(1).balance());
+    // La fallida aparece en el extracto pero no mueve el saldo
+    assertEquals(new Money(new BigDecimal("0.0"), "USD"), lines.get(2).change());
+    assertEquals(new Money(new BigDecimal("160.0"), "USD"), lines.get(2).balance());
+  }
+
+  @Test
+  void exportStatement_shouldThrowWhenAccountDoesNotExist() {
+    // Given
+    when(loadStatementPort.readStatement(eq("missing"), any(), any(), any())).thenReturn(false);
+    List<StatementLine> lines = new ArrayList<>();
+
+    // When/Then
+    assertThrows(AccountNotFoundException.class,
+        () -> statementService.exportStatement(new StatementQuery("missing", null, null), lines::add));
+    assertTrue(lines.isEmpty());
+  }
+
+  @Test
+  void getBalanceAt_shouldReturnBalanceFromPort() {
+    // Given
+    when(loadBalanceAtPort.loadBalanceAt("acc-1", TO))
+        .thenReturn(Optional.of(new Money(new BigDecimal("160.0"), "USD")));
+
+    // When
+    Money balance = statementService.getBalanceAt("acc-1", TO);
+
+    // Then
+    assertEquals(new Money(new BigDecimal("160.0"), "USD"), balance);
+  }
+
+  @Test
+  void getBalanceAt_shouldUseCurrentTimeWhenNoInstantIsGiven() {
+    // Given
+    LocalDateTime before = LocalDateTime.now();
+    when(loadBalanceAtPort.loadBalanceAt(eq("acc-1"), any()))
+        .thenReturn(Optional.of(new Money(new BigDecimal("10.0"), "USD")));
+
+    // When
+    statementService.getBalanceAt("acc-1", null);
+
+    // Then
+    verify(loadBalanceAtPort).loadBalanceAt(eq("acc-1"), argThat(at -> !at.isBefore(before)));
+  }
+
+  @Test
+  void getBalanceAt_shouldThrowWhenAccountDoesNotExist() {
+    // Given
+    when(loadBalanceAtPort.loadBalanceAt(eq("missing"), any())).thenReturn(Optional.empty());
+
+    // When/Then
+    assertThrows(AccountNotFoundException.class, () -> statementService.getBalanceAt("missing", TO));
+  }
+
+  @Test
+  void statementQuery_shouldRejectPeriodEndingBeforeItStarts() {
+    assertThrows(InvalidStatementPeriodException.class, () -> new StatementQuery("acc-1", TO, FROM));
+    assertThrows(InvalidStatementPeriodException.class, () -> new StatementQuery("acc-1", FROM, FROM));
+  }
+}
@@ -0,0 +1,176 @@
+package com.nexusbank.application.service;
+
+import com.nexusbank.application.port.out.IdempotencyPort;
+import com.nexusbank.application.port.out.IdempotencyPort.IdempotentOperation;
+import com.nexusbank.domain.exception.DuplicateIdempotencyKeyException;
+import com.nexusbank.domain.exception.IdempotencyKeyReusedException;
+import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.exception.InvalidIdempotencyKeyException;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class IdempotencyGuardTest {
+
+  @Mock
+  private IdempotencyPort idempotencyPort;
+
+  private IdempotencyGuard guard;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(idempotencyPort.loadOperation("key-1")).thenReturn(Optional.empty());
+    guard = new IdempotencyGuard(idempotencyPort);
+  }
+
+  @Test
+  void execute_shouldReplayRecordedOperationWithoutRunningWork() {
+    // Given
+    Transaction original = deposit("tx-1");
+    when(idempotencyPort.loadOperation("key-1"))
+        .thenReturn(Optional.of(new IdempotentOperation("key-1", "deposit|acc-1|10", original)));
+
+    // When
+    Transaction result = guard.execute("key-1", "deposit|acc-1|10", () -> fail("work must not run"));
+
+    // Then
+    assertSame(original, result);
+  }
+
+  @Test
+  void execute_shouldRejectKeyRecordedForAnotherRequest() {
+    // Given
+    when(idempotencyPort.loadOperation("key-1"))
+        .thenReturn(Optional.of(new IdempotentOperation("key-1", "deposit|acc-1|10", deposit("tx-1"))));
+
+    // When/Then
+    assertThrows(IdempotencyKeyReusedException.class,
+        () -> guard.execute("key-1", "deposit|acc-1|20", () -> fail("work must not run")));
+  }
+
+  @Test
+  void execute_shouldRejectInvalidKeys() {
+    assertThrows(InvalidIdempotencyKeyException.class, () -> guard.execute(" ", "f", () -> deposit("tx-1")));
+    assertThrows(InvalidIdempotencyKeyException.class,
+        () -> guard.execute("k".repeat(IdempotencyGuard.MAX_KEY_LENGTH + 1), "f", () -> deposit("tx-1")));
+    verifyNoInteractions(idempotencyPort);
+  }
+
+  @Test
+  void execute_shouldMakeConcurrentDuplicatesWaitForFirstExecution() throws Exception {
+    // Given
+    CountDownLatch workStarted = new CountDownLatch(1);
+    CountDownLatch releaseWork = new CountDownLatch(1);
+    AtomicInteger executions = new AtomicInteger();
+    Transaction transaction = deposit("tx-1");
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      // When
+      Future<Transaction> first = executor.submit(() -> guard.execute("key-1", "deposit|acc-1|10", () -> {
+        executions.incrementAndGet();
+        workStarted.countDown();
+        await(releaseWork);
+        return transaction;
+      }));
+      assertTrue(workStarted.await(5, TimeUnit.SECONDS));
+      Future<Transaction> duplicate = executor.submit(() -> guard.execute("key-1", "deposit|acc-1|10", () -> {
+        executions.incrementAndGet();
+        return deposit("tx-2");
+      }));
+
+      // El duplicado sigue esperando mientras la primera ejecución no termina
+      Thread.sleep(100);
+      assertFalse(duplicate.isDone());
+      releaseWork.countDown();
+
+      // Then
+      assertSame(transaction, first.get(5, TimeUnit.SECONDS));
+      assertSame(transaction, duplicate.get(5, TimeUnit.SECONDS));
+      assertEquals(1, executions.get());
+      assertEquals(0, guard.inFlightCount());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void execute_shouldNotRememberFailures() {
+    // Given
+    AtomicInteger executions = new AtomicInteger();
+
+    // When
+    assertThrows(InsufficientBalanceException.class, () -> guard.execute("key-1", "deposit|acc-1|10", () -> {
+      executions.incrementAndGet();
+      throw new InsufficientBalanceException("Insufficient balance in account acc-1");
+    }));
+    Transaction retried = guard.execute("key-1", "deposit|acc-1|10", () -> {
+      executions.incrementAndGet();
+      return deposit("tx-1");
+    });
+
+    // Then
+    assertEquals("tx-1", retried.getId());
+    assertEquals(2, executions.get());
+    assertEquals(0, guard.inFlightCount());
+  }
+
+  @Test
+  void execute_shouldReplayOperationCommittedByAnotherInstance() {
+    // Given
+    Transaction committedElsewhere = deposit("tx-other");
+    when(idempotencyPort.loadOperation("key-1")).thenReturn(Optional.empty(), Optional.empty(),
+        Optional.of(new IdempotentOperation("key-1", "deposit|acc-1|10", committedElsewhere)));
+
+    // When
+    Transaction result = guard.execute("key-1", "deposit|acc-1|10", () -> {
+      throw new DuplicateIdempotencyKeyException("key-1", null);
+    });
+
+    // Then
+    assertSame(committedElsewhere, result);
+  }
+
+  @Test
+  void record_shouldSaveOperation() {
+    // Given
+    Transaction transaction = deposit("tx-1");
+
+    // When
+    Transaction result = guard.record("key-1", "deposit|acc-1|10", transaction);
+
+    // Then
+    assertSame(transaction, result);
+    verify(idempotencyPort).saveOperation(new IdempotentOperation("key-1", "deposit|acc-1|10", transaction));
+    verify(idempotencyPort, never()).loadOperation(any());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static Transaction deposit(String id) {
+    return Transaction.createDeposit(id, "acc-1", new Money(new BigDecimal("10.0"), "USD"));
+  }
+}
@@ -0,0 +1,124 @@
+package com.nexusbank.application.service;
+
+import com.nexusbank.application.port.in.GetTransactionHistoryUseCase;
+import com.nexusbank.application.port.in.GetTransactionHistoryUseCase.TransactionHistoryPage;
+import com.nexusbank.application.port.in.GetTransactionHistoryUseCase.TransactionHistoryQuery;
+import com.nexusbank.application.port.out.LoadAccountPort;
+import com.nexusbank.application.port.out.LoadTransactionHistoryPort;
+import com.nexusbank.application.port.out.LoadTransactionHistoryPort.HistoryFilter;
+import com.nexusbank.application.port.out.LoadTransactionHistoryPort.HistoryPosition;
+import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.InvalidCursorException;
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TransactionHistoryServiceTest {
+
+  @Mock
+  private LoadAccountPort loadAccountPort;
+
+  @Mock
+  private LoadTransactionHistoryPort loadTransactionHistoryPort;
+
+  private TransactionHistoryService transactionHistoryService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    transactionHistoryService = new TransactionHistoryService(loadAccountPort, loadTransactionHistoryPort);
+    when(loadAccountPort.loadAccount("acc-1")).thenReturn(Optional.of(Account.createNew("acc-1", "user-1", "USD")));
+  }
+
+  @Test
+  void getTransactionHistory_shouldReturnCursorWhenMoreRowsExist() {
+    // Given
+    LocalDateTime base = LocalDateTime.of(2025, 3, 6, 10, 0);
+    when(loadTransactionHistoryPort.loadTransactionHistory(eq("acc-1"), any(HistoryFilter.class), isNull(), eq(3)))
+        .thenReturn(List.of(deposit("tx-3", base.plusMinutes(3)), deposit("tx-2", base.plusMinutes(2)),
+            deposit("tx-1", base.plusMinutes(1))));
+
+    // When
+    TransactionHistoryPage page = transactionHistoryService.getTransactionHistory(query(null, 2));
+
+    // Then
+    assertEquals(List.of("tx-3", "tx-2"), page.transactions().stream().map(Transaction::getId).toList());
+    assertNotNull(page.nextCursor());
+    assertEquals(new HistoryPosition(base.plusMinutes(2), "tx-2"), TransactionHistoryService.decode(page.nextCursor()));
+  }
+
+  @Test
+  void getTransactionHistory_shouldResumeAfterCursorAndEndWithoutNextCursor() {
+    // Given
+    HistoryPosition position = new HistoryPosition(LocalDateTime.of(2025, 3, 6, 10, 2), "tx-2");
+    when(loadTransactionHistoryPort.loadTransactionHistory(eq("acc-1"), any(HistoryFilter.class), eq(position), eq(3)))
+        .thenReturn(List.of(deposit("tx-1", LocalDateTime.of(2025, 3, 6, 10, 1))));
+
+    // When
+    TransactionHistoryPage page = transactionHistoryService.getTransactionHistory(
+        query(TransactionHistoryService.encode(position), 2));
+
+    // Then
+    assertEquals(1, page.transactions().size());
+    assertNull(page.nextCursor());
+  }
+
+  @Test
+  void getTransactionHistory_shouldClampPageSize() {
+    // Given
+    when(loadTransactionHistoryPort.loadTransactionHistory(anyString(), any(), any(), anyInt())).thenReturn(List.of());
+
+    // When
+    transactionHistoryService.getTransactionHistory(query(null, null));
+    transactionHistoryService.getTransactionHistory(query(null, 10_000));
+
+    // Then
+    verify(loadTransactionHistoryPort).loadTransactionHistory(eq("acc-1"), any(), isNull(),
+        eq(GetTransactionHistoryUseCase.DEFAULT_PAGE_SIZE + 1));
+    verify(loadTransactionHistoryPort).loadTransactionHistory(eq("acc-1"), any(), isNull(),
+        eq(GetTransactionHistoryUseCase.MAX_PAGE_SIZE + 1));
+  }
+
+  @Test
+  void getTransactionHistory_shouldRejectMalformedCursor() {
+    // When/Then
+    assertThrows(InvalidCursorException.class,
+        () -> transactionHistoryService.getTransactionHistory(query("not-a-cursor", 10)));
+    verifyNoInteractions(loadTransactionHistoryPort);
+  }
+
+  @Test
+  void getTransactionHistory_shouldThrowWhenAccountDoesNotExist() {
+    // Given
+    when(loadAccountPort.loadAccount("acc-missing")).thenReturn(Optional.empty());
+
+    // When/Then
+    assertThrows(AccountNotFoundException.class, () -> transactionHistoryService.getTransactionHistory(
+        new TransactionHistoryQuery("acc-missing", null, null, null, null, null, null)));
+    verifyNoInteractions(loadTransactionHistoryPort);
+  }
+
+  private TransactionHistoryQuery query(String cursor, Integer limit) {
+    return new TransactionHistoryQuery("acc-1", null, null, null, null, cursor, limit);
+  }
+
+  private Transaction deposit(String id, LocalDateTime createdAt) {
+    return Transaction.reconstitute(id, "acc-1", null, new Money(new BigDecimal("10.00"), "USD"),
+        TransactionType.DEPOSIT, TransactionStatus.COMPLETED, "Deposit to account", createdAt, createdAt);
+  }
+}
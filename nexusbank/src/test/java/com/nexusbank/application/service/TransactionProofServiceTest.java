@@ -0,0 +1,92 @@
+package com.nexusbank.application.service;
+
+import com.nexusbank.application.port.out.LoadTransactionPort;
+import com.nexusbank.application.port.out.LoadTransactionProofPort;
+import com.nexusbank.application.port.out.TransferQueuePort;
+import com.nexusbank.domain.exception.TransactionNotAnchoredException;
+import com.nexusbank.domain.exception.TransactionNotFoundException;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionProof;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TransactionProofServiceTest {
+
+  @Mock
+  private LoadTransactionProofPort loadTransactionProofPort;
+
+  @Mock
+  private TransferQueuePort transferQueuePort;
+
+  @Mock
+  private LoadTransactionPort loadTransactionPort;
+
+  private TransactionProofService proofService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    proofService = new TransactionProofService(loadTransactionProofPort, transferQueuePort, loadTransactionPort);
+  }
+
+  @Test
+  void getTransactionProof_shouldReturnProofWithoutLoadingTheTransactionAgain() {
+    // Given
+    Transaction deposit = Transaction.createDeposit("tx-1", "acc-1", new Money(new BigDecimal("10.0"), "USD"));
+    TransactionProof proof = new TransactionProof(deposit, new byte[32], 0, 1, List.of(), 0, new byte[32],
+        new TransactionProof.Anchor(0, "0xabc", 1, LocalDateTime.now()));
+    when(loadTransactionProofPort.loadTransactionProof("tx-1")).thenReturn(Optional.of(proof));
+
+    // When
+    TransactionProof result = proofService.getTransactionProof("tx-1");
+
+    // Then
+    assertSame(proof, result);
+    verifyNoInteractions(transferQueuePort, loadTransactionPort);
+  }
+
+  @Test
+  void getTransactionProof_shouldThrowNotAnchoredWhenTransactionIsRecorded() {
+    // Given
+    when(loadTransactionProofPort.loadTransactionProof("tx-1")).thenReturn(Optional.empty());
+    when(transferQueuePort.loadPending("tx-1")).thenReturn(Optional.empty());
+    when(loadTransactionPort.loadTransaction("tx-1"))
+        .thenReturn(Optional.of(Transaction.createDeposit("tx-1", "acc-1", new Money(new BigDecimal("10.0"), "USD"))));
+
+    // When/Then
+    assertThrows(TransactionNotAnchoredException.class, () -> proofService.getTransactionProof("tx-1"));
+  }
+
+  @Test
+  void getTransactionProof_shouldThrowNotAnchoredWhenTransferIsStillPending() {
+    // Given
+    when(loadTransactionProofPort.loadTransactionProof("tx-1")).thenReturn(Optional.empty());
+    when(transferQueuePort.loadPending("tx-1")).thenReturn(Optional.of(
+        Transaction.createPendingTransfer("tx-1", "acc-1", "acc-2", new Money(new BigDecimal("10.0"), "USD"))));
+
+    // When/Then
+    assertThrows(TransactionNotAnchoredException.class, () -> proofService.getTransactionProof("tx-1"));
+  }
+
+  @Test
+  void getTransactionProof_shouldThrowNotFoundWhenTransactionDoesNotExist() {
+    // Given
+    when(loadTransactionProofPort.loadTransactionProof("missing")).thenReturn(Optional.empty());
+    when(transferQueuePort.loadPending("missing")).thenReturn(Optional.empty());
+    when(loadTransactionPort.loadTransaction("missing")).thenReturn(Optional.empty());
+
+    // When/Then
+    assertThrows(TransactionNotFoundException.class, () -> proofService.getTransactionProof("missing"));
+  }
+}
@@ -1,10 +1,20 @@
 package com.nexusbank.application.service;
 
+import com.nexusbank.application.port.in.BatchTransferUseCase.TransferInstruction;
+import com.nexusbank.application.port.in.BatchTransferUseCase.TransferResult;
+import com.nexusbank.application.port.out.AccountLockPort;
+import com.nexusbank.application.port.out.AdjustBalancePort;
+import com.nexusbank.application.port.out.AdjustBalancePort.BalanceAdjustment;
+import com.nexusbank.application.port.out.BalanceShardPort;
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import com.nexusbank.application.port.out.IdempotencyPort;
+import com.nexusbank.application.port.out.IdempotencyPort.IdempotentOperation;
 import com.nexusbank.application.port.out.LoadAccountPort;
-import com.nexusbank.application.port.out.SaveAccountPort;
-import com.nexusbank.application.port.out.SaveTransactionPort;
+import com.nexusbank.application.port.out.UnitOfWorkPort;
 import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.IdempotencyKeyReusedException;
 import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.exception.InvalidAmountException;
 import com.nexusbank.domain.model.Account;
 import com.nexusbank.domain.model.Money;
 import com.nexusbank.domain.model.Transaction;
@@ -12,13 +22,23 @@ import com.nexusbank.domain.model.TransactionType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class TransactionServiceTest {
@@ -27,32 +47,47 @@ class TransactionServiceTest {
   private LoadAccountPort loadAccountPort;
 
   @Mock
-  private SaveAccountPort saveAccountPort;
+  private AdjustBalancePort adjustBalancePort;
 
   @Mock
-  private SaveTransactionPort saveTransactionPort;
+  private AccountLockPort accountLockPort;
+
+  @Mock
+  private UnitOfWorkPort unitOfWorkPort;
+
+  @Mock
+  private IdempotencyPort idempotencyPort;
 
   private TransactionService transactionService;
 
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
-    transactionService = new TransactionService(loadAccountPort, saveAccountPort, saveTransactionPort);
+    when(accountLockPort.lock(anyString())).thenReturn(() -> {
+    });
+    when(accountLockPort.lock(anyString(), anyString())).thenReturn(() -> {
+    });
+    when(accountLockPort.lockAll(anyCollection())).thenReturn(() -> {
+    });
+    when(unitOfWorkPort.execute(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+    when(adjustBalancePort.adjustBalances(anyList(), any(Transaction.class)))
+        .thenAnswer(invocation -> invocation.getArgument(1));
+    when(adjustBalancePort.creditsNeedAccountLock()).thenReturn(true);
+    when(idempotencyPort.loadOperation(anyString())).thenReturn(Optional.empty());
+    transactionService = new TransactionService(loadAccountPort, adjustBalancePort, accountLockPort,
+        unitOfWorkPort, idempotencyPort, IdGeneratorPort.randomUuids(), BalanceShardPort.none());
   }
 
   @Test
   void depositMoney_shouldDepositAndCreateTransaction() {
     // Given
     String accountId = "account-123";
-    Double amount = 100.0;
+    BigDecimal amount = new BigDecimal("100.00");
 
     Account account = Account.createNew(accountId, "user-123", "USD");
-    account.deposit(new Money(50.0, "USD")); // Initial balance
+    account.deposit(new Money(new BigDecimal("50.0"), "USD")); // Initial balance
 
-    when(loadAccountPort.loadAccount(accountId)).thenReturn(Optional.of(account));
-    when(saveAccountPort.saveAccount(any(Account.class))).thenReturn(account);
-    when(saveTransactionPort.saveTransaction(any(Transaction.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(loadAccountPort.loadAccountForUpdate(accountId)).thenReturn(Optional.of(account));
 
     // When
     Transaction result = transactionService.depositMoney(accountId, amount);
@@ -67,11 +102,12 @@ class TransactionServiceTest {
     assertEquals(150.0, account.getBalance().toDouble(), 0.001);
 
     // Verify interactions with ports
-    verify(loadAccountPort).loadAccount(accountId);
-    verify(saveAccountPort).saveAccount(account);
+    verify(loadAccountPort).loadAccountForUpdate(accountId);
 
     ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
-    verify(saveTransactionPort).saveTransaction(transactionCaptor.capture());
+    verify(adjustBalancePort).adjustBalances(
+        eq(List.of(new BalanceAdjustment(accountId, new Money(new BigDecimal("100.0"), "USD")))),
+        transactionCaptor.capture());
 
     Transaction capturedTransaction = transactionCaptor.getValue();
     assertEquals(accountId, capturedTransaction.getAccountId());
@@ -82,9 +118,9 @@ class TransactionServiceTest {
   void depositMoney_shouldThrowExceptionWhenAccountNotFound() {
     // Given
     String accountId = "non-existent-account";
-    Double amount = 100.0;
+    BigDecimal amount = new BigDecimal("100.00");
 
-    when(loadAccountPort.loadAccount(accountId)).thenReturn(Optional.empty());
+    when(loadAccountPort.loadAccountForUpdate(accountId)).thenReturn(Optional.empty());
 
     // When & Then
     AccountNotFoundException exception = assertThrows(
@@ -94,9 +130,102 @@ class TransactionServiceTest {
     // Usamos contains en lugar de equals para ser más flexibles
     assertTrue(exception.getMessage().contains("non-existent-account"),
         "El mensaje de error debería contener el ID de cuenta");
-    verify(loadAccountPort).loadAccount(accountId);
-    verify(saveAccountPort, never()).saveAccount(any(Account.class));
-    verify(saveTransactionPort, never()).saveTransaction(any(Transaction.class));
+    verify(loadAccountPort).loadAccountForUpdate(accountId);
+    verify(adjustBalancePort, never()).adjustBalances(anyList(), any(Transaction.class));
+  }
+
+  @Test
+  void depositMoney_shouldValidateAmountAgainstAccountCurrency() {
+    // Given
+    when(loadAccountPort.loadAccountForUpdate("acc-kwd"))
+        .thenReturn(Optional.of(Account.createNew("acc-kwd", "user-123", "KWD")));
+    when(loadAccountPort.loadAccountForUpdate("acc-jpy"))
+        .thenReturn(Optional.of(Account.createNew("acc-jpy", "user-123", "JPY")));
+
+    // When
+    Transaction result = transactionService.depositMoney("acc-kwd", new BigDecimal("0.005"));
+
+    // Then: medio céntimo es válido en KWD, una fracción de yen no
+    assertEquals(5L, result.getAmount().getMinorUnits());
+    assertThrows(InvalidAmountException.class,
+        () -> transactionService.depositMoney("acc-jpy", new BigDecimal("0.4")));
+  }
+
+  @Test
+  void depositMoney_toShardedAccount_shouldSkipAccountLock() {
+    // Given
+    String accountId = "merchant-1";
+    BalanceShardPort balanceShardPort = id -> id.equals(accountId);
+    TransactionService shardedService = new TransactionService(loadAccountPort, adjustBalancePort,
+        accountLockPort, unitOfWorkPort, idempotencyPort, IdGeneratorPort.randomUuids(), balanceShardPort);
+    when(loadAccountPort.loadAccount(accountId))
+        .thenReturn(Optional.of(Account.createNew(accountId, "user-123", "USD")));
+
+    // When
+    Transaction result = shardedService.depositMoney(accountId, new BigDecimal("10.00"));
+
+    // Then: ni lock en memoria ni lectura con bloqueo de la fila
+    assertEquals(accountId, result.getAccountId());
+    verify(accountLockPort, never()).lock(anyString());
+    verify(loadAccountPort, never()).loadAccountForUpdate(anyString());
+    verify(adjustBalancePort).adjustBalances(
+        eq(List.of(new BalanceAdjustment(accountId, new Money(new BigDecimal("10.0"), "USD")))),
+        any(Transaction.class));
+  }
+
+  @Test
+  void depositBatch_shouldApplySingleCreditForTheSum() {
+    // Given
+    String accountId = "account-123";
+    Account account = Account.createNew(accountId, "user-123", "USD");
+    when(loadAccountPort.loadAccountForUpdate(accountId)).thenReturn(Optional.of(account));
+    when(adjustBalancePort.adjustBalances(anyList(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+    // When
+    List<Transaction> results = transactionService.depositBatch(accountId,
+        List.of(new BigDecimal("10.00"), new BigDecimal("20.00"), new BigDecimal("30.00")));
+
+    // Then: una transacción por monto, en orden, y un solo abono por la suma
+    assertEquals(3, results.size());
+    assertEquals(20.0, results.get(1).getAmount().toDouble(), 0.001);
+    assertEquals(3, results.stream().map(Transaction::getId).distinct().count());
+    assertEquals(60.0, account.getBalance().toDouble(), 0.001);
+    verify(accountLockPort, times(1)).lock(accountId);
+    verify(loadAccountPort, times(1)).loadAccountForUpdate(accountId);
+    verify(adjustBalancePort).adjustBalances(
+        eq(List.of(new BalanceAdjustment(accountId, new Money(new BigDecimal("60.0"), "USD")))),
+        eq(results));
+  }
+
+  @Test
+  void depositBatch_shouldNotWriteWhenAccountIsInactive() {
+    // Given
+    String accountId = "account-123";
+    Account account = Account.createNew(accountId, "user-123", "USD");
+    account.deactivate();
+    when(loadAccountPort.loadAccountForUpdate(accountId)).thenReturn(Optional.of(account));
+
+    // When & Then
+    assertThrows(IllegalStateException.class, () -> transactionService.depositBatch(accountId,
+        List.of(new BigDecimal("10.00"), new BigDecimal("20.00"))));
+    verify(adjustBalancePort, never()).adjustBalances(anyList(), anyList());
+  }
+
+  @Test
+  void depositMoney_withLedgerCreditingWithoutContention_shouldSkipAccountLock() {
+    // Given: el diario abona con inserts
+    String accountId = "merchant-1";
+    when(adjustBalancePort.creditsNeedAccountLock()).thenReturn(false);
+    when(loadAccountPort.loadAccount(accountId))
+        .thenReturn(Optional.of(Account.createNew(accountId, "user-123", "USD")));
+
+    // When
+    Transaction result = transactionService.depositMoney(accountId, new BigDecimal("10.00"));
+
+    // Then: ni lock en memoria ni SELECT ... FOR UPDATE
+    assertEquals(accountId, result.getAccountId());
+    verify(accountLockPort, never()).lock(anyString());
+    verify(loadAccountPort, never()).loadAccountForUpdate(anyString());
   }
 
   @Test
@@ -104,19 +233,16 @@ class TransactionServiceTest {
     // Given
     String sourceAccountId = "source-account";
     String targetAccountId = "target-account";
-    Double amount = 100.0;
+    BigDecimal amount = new BigDecimal("100.00");
 
     Account sourceAccount = Account.createNew(sourceAccountId, "user-123", "USD");
-    sourceAccount.deposit(new Money(200.0, "USD")); // Initial balance
+    sourceAccount.deposit(new Money(new BigDecimal("200.0"), "USD")); // Initial balance
 
     Account targetAccount = Account.createNew(targetAccountId, "user-456", "USD");
-    targetAccount.deposit(new Money(50.0, "USD")); // Initial balance
+    targetAccount.deposit(new Money(new BigDecimal("50.0"), "USD")); // Initial balance
 
-    when(loadAccountPort.loadAccount(sourceAccountId)).thenReturn(Optional.of(sourceAccount));
-    when(loadAccountPort.loadAccount(targetAccountId)).thenReturn(Optional.of(targetAccount));
-    when(saveAccountPort.saveAccount(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
-    when(saveTransactionPort.saveTransaction(any(Transaction.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(loadAccountPort.loadAccountForUpdate(sourceAccountId)).thenReturn(Optional.of(sourceAccount));
+    when(loadAccountPort.loadAccountForUpdate(targetAccountId)).thenReturn(Optional.of(targetAccount));
 
     // When
     Transaction result = transactionService.transferMoney(sourceAccountId, targetAccountId, amount);
@@ -133,13 +259,15 @@ class TransactionServiceTest {
     assertEquals(150.0, targetAccount.getBalance().toDouble(), 0.001);
 
     // Verify interactions with ports
-    verify(loadAccountPort).loadAccount(sourceAccountId);
-    verify(loadAccountPort).loadAccount(targetAccountId);
-    verify(saveAccountPort).saveAccount(sourceAccount);
-    verify(saveAccountPort).saveAccount(targetAccount);
+    verify(loadAccountPort).loadAccountForUpdate(sourceAccountId);
+    verify(loadAccountPort).loadAccountForUpdate(targetAccountId);
 
     ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
-    verify(saveTransactionPort).saveTransaction(transactionCaptor.capture());
+    verify(adjustBalancePort).adjustBalances(
+        eq(List.of(
+            new BalanceAdjustment(sourceAccountId, new Money(new BigDecimal("-100.0"), "USD")),
+            new BalanceAdjustment(targetAccountId, new Money(new BigDecimal("100.0"), "USD")))),
+        transactionCaptor.capture());
 
     Transaction capturedTransaction = transactionCaptor.getValue();
     assertEquals(sourceAccountId, capturedTransaction.getAccountId());
@@ -152,9 +280,9 @@ class TransactionServiceTest {
     // Given
     String sourceAccountId = "non-existent-account";
     String targetAccountId = "target-account";
-    Double amount = 100.0;
+    BigDecimal amount = new BigDecimal("100.00");
 
-    when(loadAccountPort.loadAccount(sourceAccountId)).thenReturn(Optional.empty());
+    when(loadAccountPort.loadAccountForUpdate(sourceAccountId)).thenReturn(Optional.empty());
 
     // When & Then
     AccountNotFoundException exception = assertThrows(
@@ -166,10 +294,9 @@ class TransactionServiceTest {
         "El mensaje de error debería contener el ID de cuenta origen");
     assertTrue(exception.getMessage().contains("Source") || exception.getMessage().contains("source"),
         "El mensaje de error debería indicar que es la cuenta origen");
-    verify(loadAccountPort).loadAccount(sourceAccountId);
-    verify(loadAccountPort, never()).loadAccount(targetAccountId);
-    verify(saveAccountPort, never()).saveAccount(any(Account.class));
-    verify(saveTransactionPort, never()).saveTransaction(any(Transaction.class));
+    verify(loadAccountPort).loadAccountForUpdate(sourceAccountId);
+    verify(loadAccountPort, never()).loadAccountForUpdate(targetAccountId);
+    verify(adjustBalancePort, never()).adjustBalances(anyList(), any(Transaction.class));
   }
 
   @Test
@@ -177,13 +304,13 @@ class TransactionServiceTest {
     // Given
     String sourceAccountId = "source-account";
     String targetAccountId = "non-existent-account";
-    Double amount = 100.0;
+    BigDecimal amount = new BigDecimal("100.00");
 
     Account sourceAccount = Account.createNew(sourceAccountId, "user-123", "USD");
-    sourceAccount.deposit(new Money(200.0, "USD")); // Initial balance
+    sourceAccount.deposit(new Money(new BigDecimal("200.0"), "USD")); // Initial balance
 
-    when(loadAccountPort.loadAccount(sourceAccountId)).thenReturn(Optional.of(sourceAccount));
-    when(loadAccountPort.loadAccount(targetAccountId)).thenReturn(Optional.empty());
+    when(loadAccountPort.loadAccountForUpdate(sourceAccountId)).thenReturn(Optional.of(sourceAccount));
+    when(loadAccountPort.loadAccountForUpdate(targetAccountId)).thenReturn(Optional.empty());
 
     // When & Then
     AccountNotFoundException exception = assertThrows(
@@ -195,10 +322,9 @@ class TransactionServiceTest {
         "El mensaje de error debería contener el ID de cuenta destino");
     assertTrue(exception.getMessage().contains("Target") || exception.getMessage().contains("target"),
         "El mensaje de error debería indicar que es la cuenta destino");
-    verify(loadAccountPort).loadAccount(sourceAccountId);
-    verify(loadAccountPort).loadAccount(targetAccountId);
-    verify(saveAccountPort, never()).saveAccount(any(Account.class));
-    verify(saveTransactionPort, never()).saveTransaction(any(Transaction.class));
+    verify(loadAccountPort).loadAccountForUpdate(sourceAccountId);
+    verify(loadAccountPort).loadAccountForUpdate(targetAccountId);
+    verify(adjustBalancePort, never()).adjustBalances(anyList(), any(Transaction.class));
   }
 
   @Test
@@ -206,16 +332,16 @@ class TransactionServiceTest {
     // Given
     String sourceAccountId = "source-account";
     String targetAccountId = "target-account";
-    Double amount = 300.0; // More than available balance
+    BigDecimal amount = new BigDecimal("300.00"); // More than available balance
 
     Account sourceAccount = Account.createNew(sourceAccountId, "user-123", "USD");
-    sourceAccount.deposit(new Money(200.0, "USD")); // Initial balance
+    sourceAccount.deposit(new Money(new BigDecimal("200.0"), "USD")); // Initial balance
 
     Account targetAccount = Account.createNew(targetAccountId, "user-456", "USD");
-    targetAccount.deposit(new Money(50.0, "USD")); // Initial balance
+    targetAccount.deposit(new Money(new BigDecimal("50.0"), "USD")); // Initial balance
 
-    when(loadAccountPort.loadAccount(sourceAccountId)).thenReturn(Optional.of(sourceAccount));
-    when(loadAccountPort.loadAccount(targetAccountId)).thenReturn(Optional.of(targetAccount));
+    when(loadAccountPort.loadAccountForUpdate(sourceAccountId)).thenReturn(Optional.of(sourceAccount));
+    when(loadAccountPort.loadAccountForUpdate(targetAccountId)).thenReturn(Optional.of(targetAccount));
 
     // When & Then
     InsufficientBalanceException exception = assertThrows(
@@ -224,10 +350,9 @@ class TransactionServiceTest {
 
     assertTrue(exception.getMessage().contains(sourceAccountId),
         "El mensaje de error debería contener el ID de cuenta origen");
-    verify(loadAccountPort).loadAccount(sourceAccountId);
-    verify(loadAccountPort).loadAccount(targetAccountId);
-    verify(saveAccountPort, never()).saveAccount(any(Account.class));
-    verify(saveTransactionPort, never()).saveTransaction(any(Transaction.class));
+    verify(loadAccountPort).loadAccountForUpdate(sourceAccountId);
+    verify(loadAccountPort).loadAccountForUpdate(targetAccountId);
+    verify(adjustBalancePort, never()).adjustBalances(anyList(), any(Transaction.class));
   }
 
   @Test
@@ -235,16 +360,16 @@ class TransactionServiceTest {
     // Given
     String sourceAccountId = "source-account";
     String targetAccountId = "target-account";
-    Double amount = 100.0;
+    BigDecimal amount = new BigDecimal("100.00");
 
     Account sourceAccount = Account.createNew(sourceAccountId, "user-123", "USD");
-    sourceAccount.deposit(new Money(200.0, "USD")); // Initial balance
+    sourceAccount.deposit(new Money(new BigDecimal("200.0"), "USD")); // Initial balance
 
     Account targetAccount = Account.createNew(targetAccountId, "user-456", "EUR");
-    targetAccount.deposit(new Money(50.0, "EUR")); // Initial balance with different currency
+    targetAccount.deposit(new Money(new BigDecimal("50.0"), "EUR")); // Initial balance with different currency
 
-    when(loadAccountPort.loadAccount(sourceAccountId)).thenReturn(Optional.of(sourceAccount));
-    when(loadAccountPort.loadAccount(targetAccountId)).thenReturn(Optional.of(targetAccount));
+    when(loadAccountPort.loadAccountForUpdate(sourceAccountId)).thenReturn(Optional.of(sourceAccount));
+    when(loadAccountPort.loadAccountForUpdate(targetAccountId)).thenReturn(Optional.of(targetAccount));
 
     // When & Then
     IllegalArgumentException exception = assertThrows(
@@ -252,9 +377,134 @@ class TransactionServiceTest {
         () -> transactionService.transferMoney(sourceAccountId, targetAccountId, amount));
 
     assertEquals("Cannot transfer between accounts with different currencies", exception.getMessage());
-    verify(loadAccountPort).loadAccount(sourceAccountId);
-    verify(loadAccountPort).loadAccount(targetAccountId);
-    verify(saveAccountPort, never()).saveAccount(any(Account.class));
-    verify(saveTransactionPort, never()).saveTransaction(any(Transaction.class));
+    verify(loadAccountPort).loadAccountForUpdate(sourceAccountId);
+    verify(loadAccountPort).loadAccountForUpdate(targetAccountId);
+    verify(adjustBalancePort, never()).adjustBalances(anyList(), any(Transaction.class));
+  }
+
+  @Test
+  void transferMoney_shouldPropagateRejectionFromDatabase() {
+    // Given: el saldo leído parece suficiente pero otra operación lo consumió
+    String sourceAccountId = "source-account";
+    String targetAccountId = "target-account";
+    BigDecimal amount = new BigDecimal("100.00");
+
+    Account sourceAccount = Account.createNew(sourceAccountId, "user-123", "USD");
+    sourceAccount.deposit(new Money(new BigDecimal("200.0"), "USD"));
+    Account targetAccount = Account.createNew(targetAccountId, "user-456", "USD");
+
+    when(loadAccountPort.loadAccountForUpdate(sourceAccountId)).thenReturn(Optional.of(sourceAccount));
+    when(loadAccountPort.loadAccountForUpdate(targetAccountId)).thenReturn(Optional.of(targetAccount));
+    when(adjustBalancePort.adjustBalances(anyList(), any(Transaction.class)))
+        .thenThrow(new InsufficientBalanceException(sourceAccountId, new BigDecimal("50.00"),
+            new BigDecimal("100.00")));
+
+    // When & Then
+    assertThrows(InsufficientBalanceException.class,
+        () -> transactionService.transferMoney(sourceAccountId, targetAccountId, amount));
+  }
+
+  @Test
+  void transferBatch_shouldApplyValidTransfersAndReportFailures() {
+    // Given
+    Account a = Account.createNew("acc-a", "user-1", "USD");
+    a.deposit(new Money(new BigDecimal("100.0"), "USD"));
+    Account b = Account.createNew("acc-b", "user-2", "USD");
+    Account c = Account.createNew("acc-c", "user-3", "EUR");
+
+    when(loadAccountPort.loadAccountsForUpdate(anyCollection())).thenReturn(List.of(a, b, c));
+
+    List<TransferInstruction> instructions = List.of(
+        new TransferInstruction("acc-a", "acc-b", new BigDecimal("60.00")),
+        new TransferInstruction("acc-a", "acc-b", new BigDecimal("60.00")), // saldo insuficiente tras la primera
+        new TransferInstruction("acc-b", "acc-a", new BigDecimal("10.00")),
+        new TransferInstruction("acc-a", "acc-c", new BigDecimal("1.00")), // monedas distintas
+        new TransferInstruction("acc-a", "missing", new BigDecimal("1.00")));
+
+    // When
+    List<TransferResult> results = transactionService.transferBatch(instructions);
+
+    // Then
+    assertEquals(5, results.size());
+    assertTrue(results.get(0).isSuccessful());
+    assertFalse(results.get(1).isSuccessful());
+    assertTrue(results.get(1).error().contains("acc-a"));
+    assertTrue(results.get(2).isSuccessful());
+    assertEquals("Cannot transfer between accounts with different currencies", results.get(3).error());
+    assertTrue(results.get(4).error().contains("missing"));
+
+    // Un único ajuste neto por cuenta y todas las transacciones en una llamada
+    verify(loadAccountPort, times(1)).loadAccountsForUpdate(anyCollection());
+    verify(adjustBalancePort).adjustBalances(
+        eq(List.of(
+            new BalanceAdjustment("acc-a", new Money(new BigDecimal("-50.0"), "USD")),
+            new BalanceAdjustment("acc-b", new Money(new BigDecimal("50.0"), "USD")))),
+        argThat((List<Transaction> transactions) -> transactions.size() == 2));
+    verify(accountLockPort).lockAll(Set.of("acc-a", "acc-b", "acc-c", "missing"));
+  }
+
+  @Test
+  void transferBatch_shouldNotWriteWhenEveryTransferFails() {
+    // Given
+    when(loadAccountPort.loadAccountsForUpdate(anyCollection())).thenReturn(List.of());
+
+    // When
+    List<TransferResult> results = transactionService.transferBatch(List.of(
+        new TransferInstruction("acc-a", "acc-b", new BigDecimal("1.00"))));
+
+    // Then
+    assertFalse(results.get(0).isSuccessful());
+    verify(adjustBalancePort, never()).adjustBalances(anyList(), anyList());
+  }
+
+  @Test
+  void depositMoney_withNewIdempotencyKey_shouldRecordOperationInsideUnitOfWork() {
+    // Given
+    Account account = Account.createNew("account-123", "user-123", "USD");
+    when(loadAccountPort.loadAccountForUpdate("account-123")).thenReturn(Optional.of(account));
+
+    // When
+    Transaction result = transactionService.depositMoney("account-123", new BigDecimal("100.00"), "key-1");
+
+    // Then
+    ArgumentCaptor<IdempotentOperation> operation = ArgumentCaptor.forClass(IdempotentOperation.class);
+    InOrder inOrder = inOrder(unitOfWorkPort, adjustBalancePort, idempotencyPort);
+    inOrder.verify(unitOfWorkPort).execute(any());
+    inOrder.verify(adjustBalancePort).adjustBalances(anyList(), any(Transaction.class));
+    inOrder.verify(idempotencyPort).saveOperation(operation.capture());
+    assertEquals("key-1", operation.getValue().idempotencyKey());
+    assertEquals("deposit|account-123|100", operation.getValue().fingerprint());
+    assertSame(result, operation.getValue().transaction());
+  }
+
+  @Test
+  void transferMoney_withRecordedIdempotencyKey_shouldReplayWithoutLoadingAccounts() {
+    // Given
+    Transaction original = Transaction.createTransfer("tx-1", "source-account", "target-account",
+        new Money(new BigDecimal("25.0"), "USD"));
+    when(idempotencyPort.loadOperation("key-1")).thenReturn(Optional.of(
+        new IdempotentOperation("key-1", "transfer|source-account|target-account|25", original)));
+
+    // When
+    Transaction result = transactionService.transferMoney("source-account", "target-account",
+        new BigDecimal("25.0"), "key-1");
+
+    // Then
+    assertSame(original, result);
+    verifyNoInteractions(loadAccountPort, adjustBalancePort, accountLockPort, unitOfWorkPort);
+  }
+
+  @Test
+  void transferMoney_withIdempotencyKeyUsedForAnotherRequest_shouldBeRejected() {
+    // Given
+    Transaction original = Transaction.createTransfer("tx-1", "source-account", "target-account",
+        new Money(new BigDecimal("25.0"), "USD"));
+    when(idempotencyPort.loadOperation("key-1")).thenReturn(Optional.of(
+        new IdempotentOperation("key-1", "transfer|source-account|target-account|25", original)));
+
+    // When/Then
+    assertThrows(IdempotencyKeyReusedException.class, () -> transactionService.transferMoney(
+        "source-account", "target-account", new BigDecimal("30.00"), "key-1"));
+    verifyNoInteractions(loadAccountPort, adjustBalancePort);
   }
-}
\ No newline at end of file
+}
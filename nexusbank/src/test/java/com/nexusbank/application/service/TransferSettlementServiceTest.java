@@ -0,0 +1,232 @@
+package com.nexusbank.application.service;
+
+import com.nexusbank.application.port.in.SettleTransfersUseCase.SettlementResult;
+import com.nexusbank.application.port.out.AccountLockPort;
+import com.nexusbank.application.port.out.AdjustBalancePort;
+import com.nexusbank.application.port.out.AdjustBalancePort.BalanceAdjustment;
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import com.nexusbank.application.port.out.IdempotencyPort;
+import com.nexusbank.application.port.out.LoadAccountPort;
+import com.nexusbank.application.port.out.LoadTransactionPort;
+import com.nexusbank.application.port.out.TransferQueuePort;
+import com.nexusbank.application.port.out.UnitOfWorkPort;
+import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.exception.TransactionNotFoundException;
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TransferSettlementServiceTest {
+
+  @Mock
+  private LoadAccountPort loadAccountPort;
+
+  @Mock
+  private AdjustBalancePort adjustBalancePort;
+
+  @Mock
+  private AccountLockPort accountLockPort;
+
+  @Mock
+  private UnitOfWorkPort unitOfWorkPort;
+
+  @Mock
+  private TransferQueuePort transferQueuePort;
+
+  @Mock
+  private LoadTransactionPort loadTransactionPort;
+
+  @Mock
+  private IdempotencyPort idempotencyPort;
+
+  private TransferSettlementService settlementService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(accountLockPort.lockAll(anyCollection())).thenReturn(() -> {
+    });
+    when(unitOfWorkPort.execute(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+    when(idempotencyPort.loadOperation(anyString())).thenReturn(Optional.empty());
+    settlementService = new TransferSettlementService(loadAccountPort, adjustBalancePort, accountLockPort,
+        unitOfWorkPort, transferQueuePort, loadTransactionPort, idempotencyPort, IdGeneratorPort.randomUuids());
+  }
+
+  @Test
+  void submitTransfer_shouldEnqueuePendingTransferWithoutMovingMoney() {
+    // Given
+    when(loadAccountPort.loadAccount("acc-source")).thenReturn(Optional.of(account("acc-source", 100.0)));
+    when(loadAccountPort.loadAccount("acc-target")).thenReturn(Optional.of(account("acc-target", 0.0)));
+
+    // When
+    Transaction result = settlementService.submitTransfer("acc-source", "acc-target", new BigDecimal("40.00"));
+
+    // Then
+    assertEquals(TransactionStatus.PENDING, result.getStatus());
+    assertEquals("acc-target", result.getTargetAccountId());
+    verify(transferQueuePort).enqueue(result);
+    verify(adjustBalancePort, never()).adjustBalances(anyList(), anyList());
+  }
+
+  @Test
+  void submitTransfer_shouldRejectUnknownAccountImmediately() {
+    // Given
+    when(loadAccountPort.loadAccount("acc-source")).thenReturn(Optional.of(account("acc-source", 100.0)));
+    when(loadAccountPort.loadAccount("missing")).thenReturn(Optional.empty());
+
+    // When/Then
+    assertThrows(AccountNotFoundException.class,
+        () -> settlementService.submitTransfer("acc-source", "missing", new BigDecimal("40.00")));
+    verify(transferQueuePort, never()).enqueue(any());
+  }
+
+  @Test
+  void submitTransfer_shouldReplayTransferAcceptedWithSameKey() {
+    // Given
+    when(loadAccountPort.loadAccount("acc-source")).thenReturn(Optional.of(account("acc-source", 100.0)));
+    when(loadAccountPort.loadAccount("acc-target")).thenReturn(Optional.of(account("acc-target", 0.0)));
+    Transaction first = settlementService.submitTransfer("acc-source", "acc-target", new BigDecimal("40.00"),
+        "key-1");
+    when(idempotencyPort.loadOperation("key-1")).thenReturn(Optional.of(new IdempotencyPort.IdempotentOperation(
+        "key-1", "transfer-async|acc-source|acc-target|40", first)));
+
+    // When
+    Transaction retry = settlementService.submitTransfer("acc-source", "acc-target", new BigDecimal("40.0"),
+        "key-1");
+
+    // Then
+    assertSame(first, retry);
+    verify(transferQueuePort, times(1)).enqueue(any());
+  }
+
+  @Test
+  void settlePendingTransfers_shouldCompleteAndFailTransfersInQueueOrder() {
+    // Given: la segunda transferencia ya no tiene saldo tras la primera
+    Transaction first = pending("tx-1", "acc-source", "acc-target", 60.0);
+    Transaction second = pending("tx-2", "acc-source", "acc-target", 60.0);
+    Transaction third = pending("tx-3", "acc-target", "acc-source", 10.0);
+    when(transferQueuePort.claimBatch(10)).thenReturn(List.of(first, second, third));
+    when(loadAccountPort.loadAccountsForUpdate(anyCollection())).thenReturn(List.of(
+        account("acc-source", 100.0), account("acc-target", 0.0)));
+
+    // When
+    SettlementResult result = settlementService.settlePendingTransfers(10);
+
+    // Then
+    assertEquals(new SettlementResult(3, 2, 1), result);
+    assertEquals(TransactionStatus.COMPLETED, first.getStatus());
+    assertEquals(TransactionStatus.FAILED, second.getStatus());
+    assertTrue(second.getDescription().contains("Insufficient balance"));
+    assertEquals(TransactionStatus.COMPLETED, third.getStatus());
+
+    // Un único ajuste neto por cuenta para todo el lote
+    verify(adjustBalancePort).adjustBalances(
+        List.of(new BalanceAdjustment("acc-source", new Money(new BigDecimal("-50.0"), "USD")),
+            new BalanceAdjustment("acc-target", new Money(new BigDecimal("50.0"), "USD"))),
+        List.of(first, second, third));
+    verify(transferQueuePort).remove(List.of("tx-1", "tx-2", "tx-3"));
+  }
+
+  @Test
+  void settlePendingTransfers_shouldDoNothingWhenQueueIsEmpty() {
+    // Given
+    when(transferQueuePort.claimBatch(anyInt())).thenReturn(List.of());
+
+    // When
+    SettlementResult result = settlementService.settlePendingTransfers(10);
+
+    // Then
+    assertEquals(SettlementResult.EMPTY, result);
+    verify(adjustBalancePort, never()).adjustBalances(anyList(), anyList());
+  }
+
+  @Test
+  void settlePendingTransfers_shouldSettleOneByOneWhenDatabaseRejectsBatch() {
+    // Given: la base de datos rechaza el lote por un saldo que cambió en otro nodo
+    Transaction first = pending("tx-1", "acc-a", "acc-b", 10.0);
+    Transaction second = pending("tx-2", "acc-c", "acc-b", 10.0);
+    when(transferQueuePort.claimBatch(10)).thenReturn(List.of(first, second));
+    Transaction firstAgain = pending("tx-1", "acc-a", "acc-b", 10.0);
+    Transaction secondAgain = pending("tx-2", "acc-c", "acc-b", 10.0);
+    Transaction secondToFail = pending("tx-2", "acc-c", "acc-b", 10.0);
+    when(transferQueuePort.claim("tx-1")).thenReturn(Optional.of(firstAgain));
+    when(transferQueuePort.claim("tx-2")).thenReturn(Optional.of(secondAgain), Optional.of(secondToFail));
+    when(loadAccountPort.loadAccountsForUpdate(anyCollection())).thenReturn(List.of(
+        account("acc-a", 100.0), account("acc-b", 0.0), account("acc-c", 100.0)));
+    InsufficientBalanceException rejection = new InsufficientBalanceException("Insufficient balance in account acc-c");
+    when(adjustBalancePort.adjustBalances(anyList(), anyList()))
+        .thenThrow(rejection)
+        .thenReturn(List.of(firstAgain))
+        .thenThrow(rejection)
+        .thenReturn(List.of(secondToFail));
+
+    // When
+    SettlementResult result = settlementService.settlePendingTransfers(10);
+
+    // Then
+    assertEquals(new SettlementResult(2, 1, 1), result);
+    assertEquals(TransactionStatus.COMPLETED, firstAgain.getStatus());
+    assertEquals(TransactionStatus.FAILED, secondToFail.getStatus());
+    verify(adjustBalancePort).adjustBalances(List.of(), List.of(secondToFail));
+    verify(transferQueuePort).remove(List.of("tx-1"));
+    verify(transferQueuePort).remove(List.of("tx-2"));
+  }
+
+  @Test
+  void getTransactionById_shouldPreferPendingTransferFromQueue() {
+    // Given
+    Transaction pending = pending("tx-1", "acc-a", "acc-b", 10.0);
+    when(transferQueuePort.loadPending("tx-1")).thenReturn(Optional.of(pending));
+
+    // When
+    Transaction result = settlementService.getTransactionById("tx-1");
+
+    // Then
+    assertSame(pending, result);
+    verify(loadTransactionPort, never()).loadTransaction(anyString());
+  }
+
+  @Test
+  void getTransactionById_shouldFallBackToRecordedTransactions() {
+    // Given
+    Transaction settled = pending("tx-1", "acc-a", "acc-b", 10.0);
+    settled.markAsCompleted();
+    when(transferQueuePort.loadPending("tx-1")).thenReturn(Optional.empty());
+    when(loadTransactionPort.loadTransaction("tx-1")).thenReturn(Optional.of(settled));
+
+    // When/Then
+    assertEquals(TransactionStatus.COMPLETED, settlementService.getTransactionById("tx-1").getStatus());
+    assertThrows(TransactionNotFoundException.class, () -> settlementService.getTransactionById("missing"));
+  }
+
+  private Account account(String id, double balance) {
+    Account account = Account.createNew(id, "user-123", "USD");
+    if (balance > 0) {
+      account.deposit(new Money(BigDecimal.valueOf(balance), "USD"));
+    }
+    return account;
+  }
+
+  private Transaction pending(String id, String source, String target, double amount) {
+    return Transaction.createPendingTransfer(id, source, target, new Money(BigDecimal.valueOf(amount), "USD"));
+  }
+}
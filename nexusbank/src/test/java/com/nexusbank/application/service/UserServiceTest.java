@@ -1,6 +1,7 @@
 package com.nexusbank.application.service;
 
 import com.nexusbank.application.port.in.CreateUserUseCase.CreateUserCommand;
+import com.nexusbank.application.port.out.IdGeneratorPort;
 import com.nexusbank.application.port.out.LoadUserPort;
 import com.nexusbank.application.port.out.SaveUserPort;
 import com.nexusbank.domain.model.User;
@@ -30,7 +31,7 @@ class UserServiceTest {
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
-    userService = new UserService(saveUserPort, loadUserPort);
+    userService = new UserService(saveUserPort, loadUserPort, IdGeneratorPort.randomUuids());
   }
 
   @Test
@@ -0,0 +1,47 @@
+package com.nexusbank.architecture;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noMethods;
+
+/**
+ * A virtual thread that blocks while holding a monitor pins its carrier
+ * thread. In virtual-thread mode every use case runs on a virtual thread and
+ * blocks on JDBC, so application code must coordinate with
+ * {@code java.util.concurrent} locks instead of {@code synchronized}.
+ */
+class ThreadPinningTest {
+
+  private static JavaClasses classes;
+
+  @BeforeAll
+  static void importClasses() {
+    classes = new ClassFileImporter()
+        .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS)
+        .importPackages("com.nexusbank");
+  }
+
+  @Test
+  void noSynchronizedMethods() {
+    noMethods().should().haveModifier(JavaModifier.SYNCHRONIZED)
+        .because("a virtual thread blocking inside a synchronized method pins its carrier thread")
+        .check(classes);
+  }
+
+  @Test
+  void noMonitorWaitOrNotify() {
+    // wait/notify solo se pueden usar dentro de bloques synchronized
+    noClasses().should().callMethod(Object.class, "wait")
+        .orShould().callMethod(Object.class, "wait", long.class)
+        .orShould().callMethod(Object.class, "notify")
+        .orShould().callMethod(Object.class, "notifyAll")
+        .because("monitor-based coordination pins virtual threads; use java.util.concurrent instead")
+        .check(classes);
+  }
+}
@@ -1,7 +1,9 @@
 package com.nexusbank.domain.model;
 
+import com.nexusbank.domain.exception.InvalidAmountException;
 import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -132,6 +134,22 @@ class AccountTest {
     assertThrows(IllegalStateException.class, () -> account.deposit(deposit));
   }
 
+  @Test
+  void shouldNotDepositOrWithdrawNonPositiveAmounts() {
+    // Given
+    Account account = Account.createNew(
+        UUID.randomUUID().toString(),
+        UUID.randomUUID().toString(),
+        "USD");
+    account.deposit(new Money(new BigDecimal("100.00"), "USD"));
+
+    // When & Then
+    assertThrows(InvalidAmountException.class, () -> account.deposit(Money.zero("USD")));
+    assertThrows(InvalidAmountException.class, () -> account.deposit(Money.ofMinor(-1, "USD")));
+    assertThrows(InvalidAmountException.class, () -> account.withdraw(Money.zero("USD")));
+    assertEquals(new BigDecimal("100.00"), account.getBalance().getAmount());
+  }
+
   @Test
   void shouldNotWithdrawFromInactiveAccount() {
     // Given
@@ -179,4 +197,23 @@ class AccountTest {
     // Then
     assertFalse(account.isActive());
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldReconstituteAccountWithStoredState() {
+    // Given
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+    LocalDateTime updatedAt = LocalDateTime.of(2024, 2, 1, 10, 0);
+
+    // When
+    Account account = Account.reconstitute("acc-1", "user-1", new Money(new BigDecimal("150.50"), "USD"), false,
+        createdAt, updatedAt);
+
+    // Then
+    assertEquals("acc-1", account.getId());
+    assertEquals("user-1", account.getUserId());
+    assertEquals(0, new BigDecimal("150.50").compareTo(account.getBalance().getAmount()));
+    assertFalse(account.isActive());
+    assertEquals(createdAt, account.getCreatedAt());
+    assertEquals(updatedAt, account.getUpdatedAt());
+  }
+}
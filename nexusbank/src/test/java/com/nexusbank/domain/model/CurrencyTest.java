@@ -0,0 +1,44 @@
+package com.nexusbank.domain.model;
+
+import com.nexusbank.domain.exception.UnsupportedCurrencyException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurrencyTest {
+
+  @Test
+  void shouldResolveCurrenciesByAlphabeticAndNumericCode() {
+    // Then
+    assertSame(Currency.USD, Currency.of("USD"));
+    assertSame(Currency.EUR, Currency.fromNumericCode(978));
+    assertEquals(840, Currency.USD.getNumericCode());
+    assertEquals("JPY", Currency.JPY.getCode());
+  }
+
+  @Test
+  void shouldExposeMinorUnitDigits() {
+    // Then
+    assertEquals(2, Currency.USD.getMinorUnitDigits());
+    assertEquals(0, Currency.JPY.getMinorUnitDigits());
+    assertEquals(3, Currency.KWD.getMinorUnitDigits());
+    assertEquals(1000L, Currency.KWD.getMinorUnitsPerUnit());
+  }
+
+  @Test
+  void shouldRejectUnknownCodes() {
+    // Then
+    assertThrows(UnsupportedCurrencyException.class, () -> Currency.of("XYZ"));
+    assertThrows(UnsupportedCurrencyException.class, () -> Currency.of(null));
+    assertThrows(UnsupportedCurrencyException.class, () -> Currency.fromNumericCode(999));
+    assertThrows(UnsupportedCurrencyException.class, () -> Currency.fromNumericCode(-1));
+  }
+
+  @Test
+  void shouldHaveUniqueNumericCodes() {
+    // Then
+    for (Currency currency : Currency.values()) {
+      assertSame(currency, Currency.fromNumericCode(currency.getNumericCode()));
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.nexusbank.domain.model;
+
+import com.nexusbank.domain.exception.InvalidAmountException;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+  @Test
+  void shouldStoreAmountAsMinorUnits() {
+    // When
+    Money money = new Money(new BigDecimal("123.45"), "USD");
+
+    // Then
+    assertEquals(12345L, money.getMinorUnits());
+    assertEquals(new BigDecimal("123.45"), money.getAmount());
+    assertEquals("USD", money.getCurrency());
+  }
+
+  @Test
+  void shouldRejectAmountsWithMoreDecimalsThanTheCurrency() {
+    // Then: nunca se redondea en silencio
+    assertThrows(InvalidAmountException.class, () -> new Money(new BigDecimal("1.005"), "USD"));
+    assertThrows(InvalidAmountException.class, () -> new Money(new BigDecimal("0.4"), "JPY"));
+    assertEquals(100L, new Money(new BigDecimal("1.000"), "USD").getMinorUnits());
+    assertEquals(5L, new Money(new BigDecimal("0.005"), "KWD").getMinorUnits());
+  }
+
+  @Test
+  void shouldAddDecimalAmountsWithoutBinaryArtifacts() {
+    // When
+    Money money = new Money(new BigDecimal("0.1"), "USD").add(new Money(new BigDecimal("0.2"), "USD"));
+
+    // Then
+    assertEquals(30L, money.getMinorUnits());
+    assertEquals(0.3, money.toDouble());
+  }
+
+  @Test
+  void shouldAddAndSubtractMoney() {
+    // Given
+    Money a = Money.ofMinor(10050, "USD");
+    Money b = Money.ofMinor(2525, "USD");
+
+    // Then
+    assertEquals(Money.ofMinor(12575, "USD"), a.add(b));
+    assertEquals(Money.ofMinor(7525, "USD"), a.subtract(b));
+    assertEquals(Money.ofMinor(-10050, "USD"), a.negate());
+    assertTrue(b.isLessThan(a));
+    assertFalse(a.isLessThan(b));
+  }
+
+  @Test
+  void shouldRejectOperationsWithDifferentCurrencies() {
+    // Given
+    Money usd = Money.ofMinor(100, "USD");
+    Money eur = Money.ofMinor(100, "EUR");
+
+    // Then
+    assertThrows(IllegalArgumentException.class, () -> usd.add(eur));
+    assertThrows(IllegalArgumentException.class, () -> usd.subtract(eur));
+    assertThrows(IllegalArgumentException.class, () -> usd.isLessThan(eur));
+  }
+
+  @Test
+  void shouldFailOnOverflow() {
+    // Given
+    Money max = Money.ofMinor(Long.MAX_VALUE, "USD");
+    Money min = Money.ofMinor(Long.MIN_VALUE, "USD");
+
+    // Then
+    assertThrows(ArithmeticException.class, () -> max.add(Money.ofMinor(1, "USD")));
+    assertThrows(ArithmeticException.class, () -> min.subtract(Money.ofMinor(1, "USD")));
+    assertThrows(ArithmeticException.class, () -> new Money(new BigDecimal("1E+20"), "USD"));
+    assertThrows(ArithmeticException.class, min::negate);
+  }
+
+  @Test
+  void shouldImplementValueEquality() {
+    // Then
+    assertEquals(new Money(new BigDecimal("100.0"), "USD"), new Money(new BigDecimal("100.00"), "USD"));
+    assertEquals(new Money(new BigDecimal("100.0"), "USD").hashCode(),
+        new Money(new BigDecimal("100"), "USD").hashCode());
+    assertNotEquals(new Money(new BigDecimal("100.0"), "USD"), new Money(new BigDecimal("100.0"), "EUR"));
+    assertEquals("100.00 USD", new Money(new BigDecimal("100.0"), "USD").toString());
+  }
+
+  @Test
+  void shouldUseMinorUnitDigitsOfTheCurrency() {
+    // When
+    Money yen = new Money(new BigDecimal("1500"), Currency.JPY);
+    Money dinar = new Money(new BigDecimal("12.345"), Currency.KWD);
+
+    // Then
+    assertEquals(1500L, yen.getMinorUnits());
+    assertEquals(new BigDecimal("1500"), yen.getAmount());
+    assertEquals(12345L, dinar.getMinorUnits());
+    assertEquals(new BigDecimal("12.345"), dinar.getAmount());
+    assertEquals(12.345, dinar.toDouble());
+  }
+
+  @Test
+  void shouldRejectUnknownCurrencyCodes() {
+    // Then
+    assertThrows(IllegalArgumentException.class, () -> Money.zero("XYZ"));
+  }
+}
@@ -2,6 +2,7 @@ package com.nexusbank.domain.model;
 
 import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -115,4 +116,49 @@ class TransactionTest {
     // Then
     assertEquals(TransactionStatus.FAILED, transaction.getStatus());
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldBalanceTransferPostings() {
+    // Given
+    Money amount = new Money(new BigDecimal("25.00"), "USD");
+    Transaction transaction = Transaction.createTransfer("tx-1", "acc-source", "acc-target", amount);
+
+    // When
+    List<Posting> postings = transaction.getPostings();
+
+    // Then
+    assertEquals(List.of(
+        new Posting("acc-source", amount.negate()),
+        new Posting("acc-target", amount)), postings);
+  }
+
+  @Test
+  void shouldBalanceDepositAndWithdrawalAgainstExternalAccount() {
+    // Given
+    Money amount = new Money(new BigDecimal("10.00"), "EUR");
+
+    // When
+    List<Posting> deposit = Transaction.createDeposit("tx-1", "acc-1", amount).getPostings();
+    List<Posting> withdrawal = Transaction.createWithdrawal("tx-2", "acc-1", amount).getPostings();
+
+    // Then
+    assertEquals(List.of(
+        new Posting("acc-1", amount),
+        new Posting("external:EUR", amount.negate())), deposit);
+    assertEquals(List.of(
+        new Posting("acc-1", amount.negate()),
+        new Posting("external:EUR", amount)), withdrawal);
+    assertTrue(deposit.get(1).isExternal());
+    assertTrue(withdrawal.get(0).isDebit());
+  }
+
+  @Test
+  void shouldNotPostPendingTransfers() {
+    // Given
+    Transaction transaction = Transaction.createPendingTransfer("tx-1", "acc-source", "acc-target",
+        new Money(new BigDecimal("25.00"), "USD"));
+
+    // Then
+    assertTrue(transaction.getPostings().isEmpty());
+  }
+}
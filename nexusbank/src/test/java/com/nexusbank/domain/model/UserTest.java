@@ -1,6 +1,8 @@
 package com.nexusbank.domain.model;
 
 import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -402,4 +404,22 @@ class UserTest {
     // When & Then
     assertThrows(IllegalArgumentException.class, () -> user.updatePasswordHash(""));
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldReconstituteUserWithStoredState() {
+    // Given
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+    LocalDateTime updatedAt = LocalDateTime.of(2024, 2, 1, 10, 0);
+
+    // When
+    User user = User.reconstitute("user-1", "John Doe", "john.doe@example.com", "hashedPassword123", false,
+        Set.of("acc-1"), createdAt, updatedAt);
+    user.addAccount("acc-2");
+
+    // Then
+    assertEquals("user-1", user.getId());
+    assertFalse(user.isActive());
+    assertEquals(Set.of("acc-1", "acc-2"), user.getAccounts());
+    assertEquals(createdAt, user.getCreatedAt());
+  }
+}
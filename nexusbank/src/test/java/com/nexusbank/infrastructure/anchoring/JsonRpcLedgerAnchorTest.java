@@ -0,0 +1,105 @@
+package com.nexusbank.infrastructure.anchoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonRpcLedgerAnchorTest {
+
+  private static final String CONTRACT = "0x5FbDB2315678afecb367f032d93F642f64180aa3";
+  private static final String FROM = "0xf39Fd6e51aad88F6F4ce6aB8827279cffFb92266";
+  private static final String TX_HASH = "0x" + "ab".repeat(32);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+  private Function<JsonNode, String> node;
+  private HttpServer server;
+  private JsonRpcLedgerAnchor anchor;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    // Nodo JSON-RPC falso: registra cada petición y responde lo que diga 'node'
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+      requests.add(request);
+      byte[] body = ("{\"jsonrpc\":\"2.0\",\"id\":" + request.get("id") + "," + node.apply(request) + "}")
+          .getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    server.start();
+    anchor = new JsonRpcLedgerAnchor(objectMapper, "http://127.0.0.1:" + server.getAddress().getPort(), CONTRACT,
+        FROM, 100_000, 5_000, 10);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void anchor_shouldSendRootAndReadBatchIdFromReceipt() {
+    // Given: el recibo aparece en el segundo sondeo
+    byte[] root = new byte[32];
+    root[31] = 7;
+    int[] polls = { 0 };
+    node = request -> switch (request.get("method").asText()) {
+      case "eth_sendTransaction" -> "\"result\":\"" + TX_HASH + "\"";
+      case "eth_getTransactionReceipt" -> polls[0]++ == 0 ? "\"result\":null" : "\"result\":" + receipt("0x1");
+      default -> "\"error\":{\"code\":-32601,\"message\":\"method not found\"}";
+    };
+
+    // When
+    AnchorReceipt receipt = anchor.anchor(root, 1024);
+
+    // Then
+    assertEquals(new AnchorReceipt(5, TX_HASH, 0x1a), receipt);
+    JsonNode transaction = requests.get(0).get("params").get(0);
+    assertEquals(FROM, transaction.get("from").asText());
+    assertEquals(CONTRACT, transaction.get("to").asText());
+    assertEquals("0x" + JsonRpcLedgerAnchor.ANCHOR_BATCH_SELECTOR + HexFormat.of().formatHex(root)
+        + "0".repeat(61) + "400", transaction.get("data").asText());
+    assertEquals(3, requests.size());
+  }
+
+  @Test
+  void anchor_shouldFailWhenTheTransactionReverts() {
+    node = request -> "eth_sendTransaction".equals(request.get("method").asText())
+        ? "\"result\":\"" + TX_HASH + "\""
+        : "\"result\":" + receipt("0x0");
+
+    assertThrows(LedgerAnchorException.class, () -> anchor.anchor(new byte[32], 1));
+  }
+
+  @Test
+  void anchor_shouldFailWhenTheNodeRejectsTheTransaction() {
+    node = request -> "\"error\":{\"code\":-32000,\"message\":\"unknown account\"}";
+
+    LedgerAnchorException exception = assertThrows(LedgerAnchorException.class,
+        () -> anchor.anchor(new byte[32], 1));
+    assertTrue(exception.getMessage().contains("unknown account"));
+  }
+
+  private static String receipt(String status) {
+    return "{\"transactionHash\":\"" + TX_HASH + "\",\"blockNumber\":\"0x1a\",\"status\":\"" + status + "\","
+        + "\"logs\":[{\"address\":\"" + CONTRACT.toLowerCase() + "\",\"topics\":[\""
+        + JsonRpcLedgerAnchor.BATCH_ANCHORED_TOPIC + "\",\"0x" + "0".repeat(63) + "5\"]}]}";
+  }
+}
@@ -0,0 +1,112 @@
+package com.nexusbank.infrastructure.anchoring;
+
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MerkleTreeTest {
+
+  @Test
+  void proof_shouldLeadEveryLeafToTheRootForAnySize() {
+    for (int size = 1; size <= 17; size++) {
+      // Given
+      List<byte[]> leaves = leaves(size);
+      MerkleTree tree = new MerkleTree(leaves);
+
+      // When/Then
+      for (int i = 0; i < size; i++) {
+        MerkleProof proof = MerkleProof.unpack(tree.proof(i).pack());
+        assertArrayEquals(tree.root(), proof.rootFrom(leaves.get(i)), "leaf " + i + " of " + size);
+      }
+    }
+  }
+
+  @Test
+  void proof_shouldSkipLevelsWhereTheNodeHasNoSibling() {
+    // Given: con 5 hojas la quinta sube sin hermano hasta el último nivel
+    List<byte[]> leaves = leaves(5);
+    MerkleTree tree = new MerkleTree(leaves);
+
+    // When
+    MerkleProof proof = tree.proof(4);
+
+    // Then
+    assertEquals(1, proof.siblings().size());
+    assertEquals(1L, proof.directions());
+    assertArrayEquals(MerkleTree.nodeHash(
+        MerkleTree.nodeHash(MerkleTree.nodeHash(leaves.get(0), leaves.get(1)),
+            MerkleTree.nodeHash(leaves.get(2), leaves.get(3))),
+        leaves.get(4)), tree.root());
+  }
+
+  @Test
+  void rootFrom_shouldRejectAnotherLeafOrAnInnerNode() {
+    // Given
+    List<byte[]> leaves = leaves(4);
+    MerkleTree tree = new MerkleTree(leaves);
+
+    // When/Then
+    assertFalse(Arrays.equals(tree.root(), tree.proof(0).rootFrom(leaves.get(1))));
+    // Un nodo interno no se puede presentar como hoja de un árbol de dos
+    byte[] inner = MerkleTree.nodeHash(leaves.get(0), leaves.get(1));
+    assertFalse(Arrays.equals(tree.root(),
+        MerkleTree.nodeHash(MerkleTree.leafHash(inner), MerkleTree.nodeHash(leaves.get(2), leaves.get(3)))));
+  }
+
+  @Test
+  void singleLeaf_shouldBeItsOwnRoot() {
+    byte[] leaf = MerkleTree.leafHash("only".getBytes(StandardCharsets.UTF_8));
+
+    MerkleTree tree = new MerkleTree(List.of(leaf));
+
+    assertArrayEquals(leaf, tree.root());
+    assertTrue(tree.proof(0).siblings().isEmpty());
+    assertEquals(8, tree.proof(0).pack().length);
+  }
+
+  @Test
+  void unpack_shouldRejectTruncatedProofs() {
+    assertThrows(IllegalArgumentException.class, () -> MerkleProof.unpack(new byte[7]));
+    assertThrows(IllegalArgumentException.class, () -> MerkleProof.unpack(new byte[8 + 31]));
+    assertThrows(IllegalArgumentException.class, () -> new MerkleTree(List.of()));
+  }
+
+  @Test
+  void transactionLeaves_shouldHashOnlyTheAnchoredFields() {
+    // Given
+    LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123_456_789);
+    Transaction transaction = Transaction.reconstitute("tx-1", "acc-1", "acc-2",
+        new Money(new BigDecimal("10.0"), "USD"),
+        TransactionType.TRANSFER, TransactionStatus.COMPLETED, "Transfer", createdAt, createdAt);
+    // Lo que se relee de la base de datos: microsegundos y otra descripción
+    Transaction reloaded = Transaction.reconstitute("tx-1", "acc-1", "acc-2",
+        new Money(new BigDecimal("10.0"), "USD"),
+        TransactionType.TRANSFER, TransactionStatus.COMPLETED, "Edited", createdAt.withNano(123_456_000), createdAt);
+    Transaction otherAmount = Transaction.reconstitute("tx-1", "acc-1", "acc-2",
+        new Money(new BigDecimal("10.01"), "USD"),
+        TransactionType.TRANSFER, TransactionStatus.COMPLETED, "Transfer", createdAt, createdAt);
+
+    // When/Then
+    assertArrayEquals(TransactionLeaves.hash(transaction), TransactionLeaves.hash(reloaded));
+    assertFalse(Arrays.equals(TransactionLeaves.hash(transaction), TransactionLeaves.hash(otherAmount)));
+  }
+
+  private static List<byte[]> leaves(int size) {
+    List<byte[]> leaves = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      leaves.add(MerkleTree.leafHash(("tx-" + i).getBytes(StandardCharsets.UTF_8)));
+    }
+    return leaves;
+  }
+}
@@ -0,0 +1,91 @@
+package com.nexusbank.infrastructure.anchoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionProof;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+import com.nexusbank.infrastructure.rest.dto.response.TransactionProofResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionProofVerifierTest {
+
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 6, 10, 15, 30, 123_456_000);
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+  private Transaction transfer;
+  private MerkleTree tree;
+
+  @BeforeEach
+  void setUp() {
+    // La transferencia es la tercera hoja de un lote de cinco
+    transfer = Transaction.reconstitute("tx-3", "acc-1", "acc-2", new Money(new BigDecimal("12.34"), "EUR"),
+        TransactionType.TRANSFER, TransactionStatus.COMPLETED, "Transfer", CREATED_AT, CREATED_AT);
+    tree = new MerkleTree(List.of(MerkleTree.leafHash(new byte[] { 1 }), MerkleTree.leafHash(new byte[] { 2 }),
+        TransactionLeaves.hash(transfer), MerkleTree.leafHash(new byte[] { 4 }),
+        MerkleTree.leafHash(new byte[] { 5 })));
+  }
+
+  @Test
+  void verify_shouldAcceptTheAnchoredRootOnly() {
+    MerkleProof proof = tree.proof(2);
+
+    assertTrue(TransactionProofVerifier.verify(transfer, proof, tree.root()));
+    assertFalse(TransactionProofVerifier.verify(transfer, proof, MerkleTree.leafHash(new byte[] { 9 })));
+    assertFalse(TransactionProofVerifier.verify(transfer, tree.proof(3), tree.root()));
+  }
+
+  @Test
+  void check_shouldVerifyTheProofPublishedByTheApi() throws Exception {
+    // Given: el cuerpo de GET /api/transactions/{id}/proof
+    ObjectNode body = publishedProof();
+
+    // When/Then: se recalcula desde los campos, sin la base de datos
+    assertEquals(List.of(), TransactionProofVerifier.check(body, tree.root()));
+    assertEquals(List.of(), TransactionProofVerifier.check(body, null));
+  }
+
+  @Test
+  void check_shouldReportTamperedFieldsAndAnotherAnchoredRoot() throws Exception {
+    // Given: el importe publicado no es el que se ancló
+    ObjectNode body = publishedProof();
+    ((ObjectNode) body.get("leaf")).put("amountMinorUnits", 123_400);
+
+    // When
+    List<String> problems = TransactionProofVerifier.check(body, tree.root());
+
+    // Then
+    assertEquals(3, problems.size());
+    assertEquals(List.of("Sibling path does not lead to the anchored root"),
+        TransactionProofVerifier.check(publishedProof(), MerkleTree.leafHash(new byte[] { 9 })));
+  }
+
+  @Test
+  void check_shouldRejectMalformedProofs() throws Exception {
+    ObjectNode body = publishedProof();
+    body.put("root", "0x1234");
+
+    assertThrows(IllegalArgumentException.class, () -> TransactionProofVerifier.check(body, null));
+    assertThrows(IllegalArgumentException.class,
+        () -> TransactionProofVerifier.check(objectMapper.createObjectNode(), null));
+  }
+
+  private ObjectNode publishedProof() throws Exception {
+    MerkleProof proof = tree.proof(2);
+    TransactionProofResponse response = TransactionProofResponse.fromDomain(new TransactionProof(transfer,
+        TransactionLeaves.hash(transfer), 2, 5, proof.siblings(), proof.directions(), tree.root(),
+        new TransactionProof.Anchor(3, "0xabc", 4, CREATED_AT.plusMinutes(1))));
+    return (ObjectNode) objectMapper.readTree(objectMapper.writeValueAsString(response));
+  }
+}
@@ -0,0 +1,107 @@
+package com.nexusbank.infrastructure.cache;
+
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountCacheTest {
+
+  private AccountCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new AccountCache(1000, 60_000);
+  }
+
+  @Test
+  void shouldReturnIndependentCopies() {
+    // Given
+    cache.putIfUnchanged(account("acc-1", 100), cache.stamp("acc-1"));
+
+    // When
+    Account first = cache.get("acc-1").orElseThrow();
+    first.deposit(Money.ofMinor(5000, "USD"));
+
+    // Then
+    assertEquals(10000L, cache.get("acc-1").orElseThrow().getBalance().getMinorUnits());
+  }
+
+  @Test
+  void shouldNotCacheReadsOverlappingAWrite() {
+    // Given
+    long stampBeforeWrite = cache.stamp("acc-1");
+    cache.beginWrite(List.of("acc-1"));
+
+    // When
+    cache.putIfUnchanged(account("acc-1", 100), cache.stamp("acc-1"));
+    cache.completeWrite(List.of("acc-1"), true, () -> {
+    });
+    cache.putIfUnchanged(account("acc-1", 100), stampBeforeWrite);
+
+    // Then
+    assertTrue(cache.get("acc-1").isEmpty());
+    assertEquals(2, cache.getStalePutsRejected());
+  }
+
+  @Test
+  void shouldApplyCommittedDeltaAndKeepStateOnRollback() {
+    // Given
+    cache.putIfUnchanged(account("acc-1", 100), cache.stamp("acc-1"));
+
+    // When
+    cache.beginWrite(List.of("acc-1"));
+    cache.completeWrite(List.of("acc-1"), false, () -> cache.applyDelta("acc-1", Money.ofMinor(-2500, "USD")));
+    long afterRollback = cache.get("acc-1").orElseThrow().getBalance().getMinorUnits();
+    cache.beginWrite(List.of("acc-1"));
+    cache.completeWrite(List.of("acc-1"), true, () -> cache.applyDelta("acc-1", Money.ofMinor(-2500, "USD")));
+
+    // Then
+    assertEquals(10000L, afterRollback);
+    assertEquals(7500L, cache.get("acc-1").orElseThrow().getBalance().getMinorUnits());
+  }
+
+  @Test
+  void shouldKeepInactiveState() {
+    // Given
+    Account account = account("acc-1", 0);
+    account.deactivate();
+
+    // When
+    cache.putIfUnchanged(account, cache.stamp("acc-1"));
+
+    // Then
+    assertFalse(cache.get("acc-1").orElseThrow().isActive());
+  }
+
+  @Test
+  void shouldKeepStoredTimestamps() {
+    // Given
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 9, 30);
+    LocalDateTime updatedAt = LocalDateTime.of(2024, 6, 1, 18, 0);
+    Account account = Account.reconstitute("acc-1", "user-123", Money.ofMinor(4200, "USD"), true,
+        createdAt, updatedAt);
+
+    // When
+    cache.putIfUnchanged(account, cache.stamp("acc-1"));
+    Account cached = cache.get("acc-1").orElseThrow();
+
+    // Then: la lectura de caché no inventa fechas nuevas
+    assertEquals(createdAt, cached.getCreatedAt());
+    assertEquals(updatedAt, cached.getUpdatedAt());
+    assertEquals(4200L, cached.getBalance().getMinorUnits());
+  }
+
+  private Account account(String id, long balance) {
+    Account account = Account.createNew(id, "user-123", "USD");
+    if (balance > 0) {
+      account.deposit(Money.ofMinor(balance * 100, "USD"));
+    }
+    return account;
+  }
+}
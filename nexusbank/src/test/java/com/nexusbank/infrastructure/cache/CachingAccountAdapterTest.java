@@ -0,0 +1,143 @@
+package com.nexusbank.infrastructure.cache;
+
+import com.nexusbank.application.port.out.AdjustBalancePort;
+import com.nexusbank.application.port.out.AdjustBalancePort.BalanceAdjustment;
+import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.persistence.adapter.AccountPersistenceAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CachingAccountAdapterTest {
+
+  @Mock
+  private AccountPersistenceAdapter accounts;
+
+  @Mock
+  private AdjustBalancePort ledger;
+
+  private AccountCache cache;
+
+  private CachingAccountAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    cache = new AccountCache(1000, 60_000);
+    adapter = new CachingAccountAdapter(accounts, ledger, cache);
+  }
+
+  @Test
+  void loadAccount_shouldReadDatabaseOnlyOnce() {
+    // Given
+    when(accounts.loadAccount("acc-1")).thenReturn(Optional.of(account("acc-1", 10000)));
+
+    // When
+    adapter.loadAccount("acc-1");
+    Optional<Account> second = adapter.loadAccount("acc-1");
+
+    // Then
+    assertEquals(10000L, second.orElseThrow().getBalance().getMinorUnits());
+    verify(accounts, times(1)).loadAccount("acc-1");
+  }
+
+  @Test
+  void loadAccountForUpdate_shouldAlwaysReadDatabaseAndRefreshCache() {
+    // Given: la entrada cacheada quedó atrás de una escritura hecha en otro nodo
+    when(accounts.loadAccount("acc-1")).thenReturn(Optional.of(account("acc-1", 10000)));
+    when(accounts.loadAccountForUpdate("acc-1")).thenReturn(Optional.of(account("acc-1", 25000)));
+    adapter.loadAccount("acc-1");
+
+    // When
+    Optional<Account> locked = adapter.loadAccountForUpdate("acc-1");
+
+    // Then
+    assertEquals(25000L, locked.orElseThrow().getBalance().getMinorUnits());
+    assertEquals(25000L, adapter.loadAccount("acc-1").orElseThrow().getBalance().getMinorUnits());
+    verify(accounts).loadAccountForUpdate("acc-1");
+    verify(accounts, times(1)).loadAccount("acc-1");
+  }
+
+  @Test
+  void loadAccountsForUpdate_shouldReadEveryAccountFromDatabase() {
+    // Given
+    when(accounts.loadAccount("acc-1")).thenReturn(Optional.of(account("acc-1", 10000)));
+    when(accounts.loadAccountsForUpdate(anyCollection()))
+        .thenReturn(List.of(account("acc-1", 10000), account("acc-2", 500)));
+    adapter.loadAccount("acc-1");
+
+    // When
+    List<Account> result = adapter.loadAccountsForUpdate(List.of("acc-1", "acc-2"));
+
+    // Then
+    assertEquals(2, result.size());
+    verify(accounts).loadAccountsForUpdate(argThat(ids -> ids.size() == 2));
+  }
+
+  @Test
+  void adjustBalances_shouldApplyDeltasToCachedEntries() {
+    // Given
+    when(accounts.loadAccount("acc-1")).thenReturn(Optional.of(account("acc-1", 10000)));
+    adapter.loadAccount("acc-1");
+    Money amount = Money.ofMinor(2500, "USD");
+    Transaction transaction = Transaction.createTransfer("tx-1", "acc-1", "acc-2", amount);
+
+    // When
+    adapter.adjustBalances(
+        List.of(BalanceAdjustment.debit("acc-1", amount), BalanceAdjustment.credit("acc-2", amount)),
+        transaction);
+
+    // Then
+    assertEquals(7500L, adapter.loadAccount("acc-1").orElseThrow().getBalance().getMinorUnits());
+    assertTrue(cache.get("acc-2").isEmpty());
+    verify(accounts, times(1)).loadAccount("acc-1");
+  }
+
+  @Test
+  void adjustBalances_shouldKeepCachedEntryWhenRejected() {
+    // Given
+    when(accounts.loadAccount("acc-1")).thenReturn(Optional.of(account("acc-1", 10000)));
+    adapter.loadAccount("acc-1");
+    Money amount = Money.ofMinor(20000, "USD");
+    when(ledger.adjustBalances(anyList(), anyList())).thenThrow(new InsufficientBalanceException("Insufficient"));
+
+    // When/Then
+    assertThrows(InsufficientBalanceException.class, () -> adapter.adjustBalances(
+        List.of(BalanceAdjustment.debit("acc-1", amount)), List.of()));
+    assertEquals(10000L, cache.get("acc-1").orElseThrow().getBalance().getMinorUnits());
+  }
+
+  @Test
+  void saveAccount_shouldWriteThrough() {
+    // Given
+    Account account = account("acc-1", 0);
+    account.deactivate();
+    when(accounts.saveAccount(account)).thenReturn(account);
+
+    // When
+    adapter.saveAccount(account);
+
+    // Then
+    assertFalse(adapter.loadAccount("acc-1").orElseThrow().isActive());
+    verify(accounts, never()).loadAccount(anyString());
+  }
+
+  private Account account(String id, long balanceMinor) {
+    Account account = Account.createNew(id, "user-123", "USD");
+    if (balanceMinor > 0) {
+      account.deposit(Money.ofMinor(balanceMinor, "USD"));
+    }
+    return account;
+  }
+}
@@ -0,0 +1,85 @@
+package com.nexusbank.infrastructure.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitedDataSourceTest {
+
+  @Mock
+  private DataSource target;
+
+  @Mock
+  private Connection connection;
+
+  private ConcurrencyLimitedDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    MockitoAnnotations.openMocks(this);
+    when(target.getConnection()).thenReturn(connection);
+    dataSource = new ConcurrencyLimitedDataSource(target, 2, 50);
+  }
+
+  @Test
+  void getConnection_shouldTimeOutWhenEveryPermitIsInUse() throws SQLException {
+    // Given
+    dataSource.getConnection();
+    dataSource.getConnection();
+
+    // When/Then
+    assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+    assertEquals(2, dataSource.getActiveConnections());
+    assertEquals(1, dataSource.getTimeouts());
+    verify(target, times(2)).getConnection();
+  }
+
+  @Test
+  void close_shouldReturnPermitOnlyOnce() throws SQLException {
+    // Given
+    Connection first = dataSource.getConnection();
+    dataSource.getConnection();
+
+    // When
+    first.close();
+    first.close();
+
+    // Then
+    assertEquals(1, dataSource.getActiveConnections());
+    verify(connection, times(2)).close();
+    assertNotNull(dataSource.getConnection());
+    assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+  }
+
+  @Test
+  void getConnection_shouldReturnPermitWhenPoolFails() throws SQLException {
+    // Given
+    when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+    // When/Then
+    assertThrows(SQLException.class, () -> dataSource.getConnection());
+    assertEquals(0, dataSource.getActiveConnections());
+  }
+
+  @Test
+  void connection_shouldDelegateCallsAndPropagateErrors() throws SQLException {
+    // Given
+    when(connection.getAutoCommit()).thenReturn(true);
+    doThrow(new SQLException("broken")).when(connection).commit();
+    Connection borrowed = dataSource.getConnection();
+
+    // When/Then
+    assertTrue(borrowed.getAutoCommit());
+    SQLException error = assertThrows(SQLException.class, borrowed::commit);
+    assertEquals("broken", error.getMessage());
+  }
+}
@@ -0,0 +1,136 @@
+package com.nexusbank.infrastructure.concurrency;
+
+import com.nexusbank.application.port.in.DepositMoneyUseCase;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DepositCoalescerTest {
+
+  private static final String ACCOUNT_ID = "account-123";
+
+  @Mock
+  private DepositMoneyUseCase deposits;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(deposits.depositMoney(anyString(), any(BigDecimal.class)))
+        .thenAnswer(invocation -> deposit(invocation.getArgument(1)));
+    when(deposits.depositBatch(anyString(), anyList())).thenAnswer(invocation -> {
+      List<Transaction> transactions = new ArrayList<>();
+      for (BigDecimal amount : invocation.<List<BigDecimal>>getArgument(1)) {
+        transactions.add(deposit(amount));
+      }
+      return transactions;
+    });
+  }
+
+  @Test
+  void concurrentDeposits_shouldBeAppliedAsOneGroup() throws Exception {
+    // Given: ventana muy larga, el grupo se cierra al llenarse
+    DepositCoalescer coalescer = new DepositCoalescer(deposits, TimeUnit.SECONDS.toMicros(10), 4);
+
+    // When
+    List<Future<Transaction>> results = depositConcurrently(coalescer, "1.00", "2.00", "3.00", "4.00");
+
+    // Then: cada llamada recibe la transacción de su propio monto
+    for (int i = 0; i < results.size(); i++) {
+      assertEquals(i + 1, results.get(i).get(5, TimeUnit.SECONDS).getAmount().toDouble(), 0.001);
+    }
+    verify(deposits, times(1)).depositBatch(eq(ACCOUNT_ID), anyList());
+    verify(deposits, never()).depositMoney(anyString(), any(BigDecimal.class));
+    assertEquals(1, coalescer.getGroups());
+    assertEquals(4, coalescer.getCoalescedDeposits());
+  }
+
+  @Test
+  void loneDeposit_shouldGoThroughUsualPath() {
+    // Given
+    DepositCoalescer coalescer = new DepositCoalescer(deposits, 0, 100);
+
+    // When
+    Transaction result = coalescer.depositMoney(ACCOUNT_ID, new BigDecimal("5.00"));
+
+    // Then
+    assertEquals(5.0, result.getAmount().toDouble(), 0.001);
+    verify(deposits).depositMoney(ACCOUNT_ID, new BigDecimal("5.00"));
+    verify(deposits, never()).depositBatch(anyString(), anyList());
+  }
+
+  @Test
+  void failedGroup_shouldRetryEachDepositOnItsOwn() throws Exception {
+    // Given: el grupo falla entero por un monto que la cuenta no admite
+    DepositCoalescer coalescer = new DepositCoalescer(deposits, TimeUnit.SECONDS.toMicros(10), 2);
+    doThrow(new IllegalArgumentException("Invalid amount")).when(deposits).depositBatch(anyString(), anyList());
+    doThrow(new IllegalArgumentException("Invalid amount")).when(deposits)
+        .depositMoney(ACCOUNT_ID, new BigDecimal("-1.00"));
+
+    // When
+    List<Future<Transaction>> results = depositConcurrently(coalescer, "10.00", "-1.00");
+
+    // Then: solo falla el depósito que no se puede aplicar
+    assertEquals(10.0, results.get(0).get(5, TimeUnit.SECONDS).getAmount().toDouble(), 0.001);
+    ExecutionException failure = assertThrows(ExecutionException.class,
+        () -> results.get(1).get(5, TimeUnit.SECONDS));
+    assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+    assertEquals(2, coalescer.getRetriedDeposits());
+  }
+
+  @Test
+  void depositWithIdempotencyKey_shouldNotBeCoalesced() {
+    // Given
+    DepositCoalescer coalescer = new DepositCoalescer(deposits, TimeUnit.SECONDS.toMicros(10), 100);
+
+    // When
+    coalescer.depositMoney(ACCOUNT_ID, new BigDecimal("5.00"), "key-1");
+
+    // Then
+    verify(deposits).depositMoney(ACCOUNT_ID, new BigDecimal("5.00"), "key-1");
+    assertEquals(0, coalescer.getGroups());
+  }
+
+  private List<Future<Transaction>> depositConcurrently(DepositCoalescer coalescer, String... amounts)
+      throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(amounts.length);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Transaction>> results = new ArrayList<>();
+    try {
+      for (String amount : amounts) {
+        results.add(executor.submit(() -> {
+          start.await();
+          return coalescer.depositMoney(ACCOUNT_ID, new BigDecimal(amount));
+        }));
+      }
+      start.countDown();
+    } finally {
+      executor.shutdown();
+    }
+    assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    return results;
+  }
+
+  private static Transaction deposit(BigDecimal amount) {
+    return Transaction.createDeposit("tx-" + amount, ACCOUNT_ID, new Money(amount, "USD"));
+  }
+}
@@ -0,0 +1,44 @@
+package com.nexusbank.infrastructure.concurrency;
+
+import com.nexusbank.domain.exception.StatementExportsBusyException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementExportLimiterTest {
+
+  @Test
+  void acquire_shouldRejectExportsOverTheCapWithoutWaiting() {
+    // Given
+    StatementExportLimiter limiter = new StatementExportLimiter(2);
+    limiter.acquire();
+    limiter.acquire();
+
+    // When / Then
+    assertThrows(StatementExportsBusyException.class, limiter::acquire);
+    assertEquals(2, limiter.getActiveExports());
+    assertEquals(1, limiter.getRejected());
+  }
+
+  @Test
+  void permit_shouldBeReleasedOnlyOnce() {
+    // Given
+    StatementExportLimiter limiter = new StatementExportLimiter(2);
+    StatementExportLimiter.Permit permit = limiter.acquire();
+    limiter.acquire();
+
+    // When: cerrar dos veces el mismo permiso no libera el del otro extracto
+    permit.close();
+    permit.close();
+
+    // Then
+    assertEquals(1, limiter.getActiveExports());
+    limiter.acquire();
+    assertThrows(StatementExportsBusyException.class, limiter::acquire);
+  }
+
+  @Test
+  void constructor_shouldRejectNonPositiveCap() {
+    assertThrows(IllegalArgumentException.class, () -> new StatementExportLimiter(0));
+  }
+}
@@ -0,0 +1,115 @@
+package com.nexusbank.infrastructure.concurrency;
+
+import com.nexusbank.application.port.out.AccountLockPort.AccountLock;
+import com.nexusbank.domain.exception.AccountLockTimeoutException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedAccountLockManagerTest {
+
+  @Test
+  void shouldRoundStripeCountUpToPowerOfTwo() {
+    // Then
+    assertEquals(1, new StripedAccountLockManager(1, 100).getStripeCount());
+    assertEquals(8, new StripedAccountLockManager(5, 100).getStripeCount());
+    assertEquals(1024, new StripedAccountLockManager(1024, 100).getStripeCount());
+    assertThrows(IllegalArgumentException.class, () -> new StripedAccountLockManager(0, 100));
+  }
+
+  @Test
+  void shouldLockAccountsSharingAStripeOnlyOnce() {
+    // Given: con un único stripe todas las cuentas colisionan
+    StripedAccountLockManager manager = new StripedAccountLockManager(1, 100);
+
+    // When
+    try (AccountLock ignored = manager.lock("account-1", "account-2")) {
+      try (AccountLock all = manager.lockAll(List.of("account-1", "account-2", "account-3"))) {
+        // Then: el lock es reentrante y no se bloquea a sí mismo
+        assertEquals(2, manager.getAcquisitions());
+      }
+    }
+    assertEquals(0, manager.getContendedAcquisitions());
+  }
+
+  @Test
+  void shouldNotDeadlockOnTransfersInOppositeDirections() throws Exception {
+    // Given
+    StripedAccountLockManager manager = new StripedAccountLockManager(1024, 5000);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    AtomicInteger completed = new AtomicInteger();
+    int iterations = 10_000;
+
+    // When
+    try {
+      Future<?> forward = executor.submit(() -> {
+        for (int i = 0; i < iterations; i++) {
+          try (AccountLock ignored = manager.lock("account-A", "account-B")) {
+            completed.incrementAndGet();
+          }
+        }
+      });
+      Future<?> backward = executor.submit(() -> {
+        for (int i = 0; i < iterations; i++) {
+          try (AccountLock ignored = manager.lock("account-B", "account-A")) {
+            completed.incrementAndGet();
+          }
+        }
+      });
+      forward.get(30, TimeUnit.SECONDS);
+      backward.get(30, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // Then
+    assertEquals(2 * iterations, completed.get());
+    assertEquals(0, manager.getTimeouts());
+  }
+
+  @Test
+  void shouldRecordContentionAndTimeOut() throws Exception {
+    // Given
+    StripedAccountLockManager manager = new StripedAccountLockManager(16, 50);
+    CountDownLatch locked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread holder = new Thread(() -> {
+      try (AccountLock ignored = manager.lock("account-1")) {
+        locked.countDown();
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    holder.start();
+    locked.await();
+
+    // When
+    try {
+      assertThrows(AccountLockTimeoutException.class, () -> manager.lock("account-1"));
+    } finally {
+      release.countDown();
+      holder.join();
+    }
+
+    // Then
+    assertEquals(1, manager.getContendedAcquisitions());
+    assertEquals(1, manager.getTimeouts());
+    assertTrue(manager.getWaitNanos() > 0);
+    assertEquals(1, manager.hottestStripes(10).size());
+    assertEquals(manager.stripeOf("account-1"), manager.hottestStripes(10).get(0).stripe());
+
+    // Una vez liberado, la cuenta vuelve a estar disponible
+    try (AccountLock ignored = manager.lock("account-1")) {
+      assertEquals(0, manager.hottestStripes(10).get(0).queuedThreads());
+    }
+  }
+}
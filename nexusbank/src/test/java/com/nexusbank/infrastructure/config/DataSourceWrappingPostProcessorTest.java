@@ -0,0 +1,60 @@
+package com.nexusbank.infrastructure.config;
+
+import com.nexusbank.infrastructure.concurrency.ConcurrencyLimitedDataSource;
+import com.nexusbank.infrastructure.replica.ReadReplicaRoutingDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.OrderComparator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class DataSourceWrappingPostProcessorTest {
+
+  @Test
+  void wrappers_shouldRouteReplicasOutsideTheLimitOfThePrimaryPool() {
+    // Given: registrados en el orden contrario al de la cadena
+    DataSource pool = mock(DataSource.class);
+    List<BeanPostProcessor> postProcessors = new ArrayList<>(List.of(
+        new DataSourceWrappingPostProcessor(DataSourceWrappingPostProcessor.REPLICA_ROUTING,
+            ReadReplicaRoutingDataSource.class, dataSource -> new ReadReplicaRoutingDataSource(dataSource, () -> null)),
+        new DataSourceWrappingPostProcessor(DataSourceWrappingPostProcessor.CONCURRENCY_LIMIT,
+            ConcurrencyLimitedDataSource.class, dataSource -> new ConcurrencyLimitedDataSource(dataSource, 10, 50))));
+
+    // When: se aplican como lo hace Spring, por orden
+    OrderComparator.sort(postProcessors);
+    Object bean = pool;
+    for (BeanPostProcessor postProcessor : postProcessors) {
+      bean = postProcessor.postProcessAfterInitialization(bean, "dataSource");
+    }
+
+    // Then: enrutado → límite → pool
+    ReadReplicaRoutingDataSource routing = assertInstanceOf(ReadReplicaRoutingDataSource.class, bean);
+    ConcurrencyLimitedDataSource limited = assertInstanceOf(ConcurrencyLimitedDataSource.class,
+        routing.getTargetDataSource());
+    assertSame(pool, limited.getTargetDataSource());
+    assertSame(limited, ConcurrencyLimitedDataSource.find(routing));
+  }
+
+  @Test
+  void postProcessor_shouldWrapEachDataSourceOnlyOnce() {
+    // Given
+    DataSourceWrappingPostProcessor postProcessor = new DataSourceWrappingPostProcessor(
+        DataSourceWrappingPostProcessor.CONCURRENCY_LIMIT, ConcurrencyLimitedDataSource.class,
+        dataSource -> new ConcurrencyLimitedDataSource(dataSource, 10, 50));
+    Object wrapped = postProcessor.postProcessAfterInitialization(mock(DataSource.class), "dataSource");
+
+    // When / Then
+    assertSame(wrapped, postProcessor.postProcessAfterInitialization(wrapped, "dataSource"));
+    assertEquals("other", postProcessor.postProcessAfterInitialization("other", "other"));
+  }
+
+  @Test
+  void find_shouldReturnNullWithoutLimiter() {
+    assertNull(ConcurrencyLimitedDataSource.find(new ReadReplicaRoutingDataSource(mock(DataSource.class), () -> null)));
+  }
+}
@@ -0,0 +1,74 @@
+package com.nexusbank.infrastructure.id;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+  @Test
+  void nextLong_shouldEncodeTimestampNodeAndSequence() {
+    // Given
+    long millis = SnowflakeIdGenerator.EPOCH_MILLIS + 123_456L;
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(42, () -> millis);
+
+    // When
+    long first = generator.nextLong();
+    long second = generator.nextLong();
+
+    // Then
+    assertEquals(123_456L, first >>> 22);
+    assertEquals(42, (first >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID);
+    assertEquals(0, first & 0xFFF);
+    assertEquals(1, second & 0xFFF);
+  }
+
+  @Test
+  void nextId_shouldBeZeroPaddedSoThatTextOrderMatchesNumericOrder() {
+    // Given
+    long[] now = { SnowflakeIdGenerator.EPOCH_MILLIS + 1 };
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> now[0]);
+
+    // When
+    String small = generator.nextId();
+    now[0] += 1_000L * 60 * 60 * 24 * 365 * 10;
+    String large = generator.nextId();
+
+    // Then
+    assertEquals(19, small.length());
+    assertEquals(19, large.length());
+    assertTrue(small.compareTo(large) < 0);
+    assertTrue(Long.parseLong(small) < Long.parseLong(large));
+  }
+
+  @Test
+  void nextLong_shouldKeepIncreasingWhenSequenceOverflowsOrClockGoesBack() {
+    // Given
+    long[] now = { SnowflakeIdGenerator.EPOCH_MILLIS + 10_000 };
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, () -> now[0]);
+
+    // When/Then
+    long previous = generator.nextLong();
+    for (int i = 0; i < 5_000; i++) {
+      if (i == 4_500) {
+        now[0] -= 5_000;
+      }
+      long next = generator.nextLong();
+      assertTrue(next > previous);
+      previous = next;
+    }
+  }
+
+  @Test
+  void podOrdinal_shouldOnlyBeTakenFromPodsOfTheConfiguredStatefulSet() {
+    assertEquals(3, SnowflakeIdGenerator.podOrdinal("nexusbank", "nexusbank-3"));
+    assertThrows(IllegalStateException.class, () -> SnowflakeIdGenerator.podOrdinal("nexusbank", "nexusbank"));
+    // Pod de un Deployment cuyo sufijo aleatorio es numérico
+    assertThrows(IllegalStateException.class,
+        () -> SnowflakeIdGenerator.podOrdinal("nexusbank", "nexusbank-deployment-7d9f8c6b5-48213"));
+    assertThrows(IllegalStateException.class, () -> SnowflakeIdGenerator.podOrdinal("", "nexusbank-3"));
+    assertThrows(IllegalStateException.class, () -> new SnowflakeIdGenerator(-1, "", "nexusbank-48213"));
+    assertThrows(IllegalArgumentException.class,
+        () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1, System::currentTimeMillis));
+  }
+}
@@ -0,0 +1,81 @@
+package com.nexusbank.infrastructure.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7IdGeneratorTest {
+
+  @Test
+  void nextId_shouldProduceVersion7UuidsWithTheCurrentTimestamp() {
+    // Given
+    UuidV7IdGenerator generator = new UuidV7IdGenerator(() -> 1_700_000_000_000L);
+
+    // When
+    UUID uuid = UUID.fromString(generator.nextId());
+
+    // Then
+    assertEquals(7, uuid.version());
+    assertEquals(2, uuid.variant());
+    assertEquals(1_700_000_000_000L, uuid.getMostSignificantBits() >>> 16);
+  }
+
+  @Test
+  void nextId_shouldSortInGenerationOrderWithinTheSameMillisecondAndWhenClockGoesBack() {
+    // Given: más ids que valores del contador en el mismo milisegundo, y luego
+    // un reloj que retrocede
+    long[] now = { 1_700_000_000_000L };
+    UuidV7IdGenerator generator = new UuidV7IdGenerator(() -> now[0]);
+    List<String> ids = new ArrayList<>();
+
+    // When
+    for (int i = 0; i < 5_000; i++) {
+      ids.add(generator.nextId());
+    }
+    now[0] -= 1_000;
+    ids.add(generator.nextId());
+
+    // Then
+    for (int i = 1; i < ids.size(); i++) {
+      assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0, "ids must be strictly increasing");
+    }
+  }
+
+  @Test
+  void nextId_shouldBeUniqueAcrossThreads() throws Exception {
+    // Given
+    UuidV7IdGenerator generator = new UuidV7IdGenerator();
+    Set<String> ids = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // When
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // Then
+    assertEquals(80_000, new HashSet<>(ids).size());
+  }
+}
@@ -0,0 +1,117 @@
+package com.nexusbank.infrastructure.metrics;
+
+import com.nexusbank.application.port.in.GetAccountUseCase;
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import com.nexusbank.application.port.out.LoadAccountPort;
+import com.nexusbank.application.port.out.LoadUserPort;
+import com.nexusbank.application.port.out.SaveAccountPort;
+import com.nexusbank.application.service.AccountService;
+import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.infrastructure.id.RandomUuidIdGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class PortMetricsPostProcessorTest {
+
+  @Mock
+  private SaveAccountPort saveAccountPort;
+
+  @Mock
+  private LoadAccountPort loadAccountPort;
+
+  @Mock
+  private LoadUserPort loadUserPort;
+
+  private SimpleMeterRegistry registry;
+  private PortMetricsPostProcessor postProcessor;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    registry = new SimpleMeterRegistry();
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerSingleton("meterRegistry", registry);
+    postProcessor = new PortMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class));
+    postProcessor.setBeanFactory(beanFactory);
+  }
+
+  @Test
+  void useCaseCalls_shouldBeTimedWithPercentileHistogram() {
+    // Given
+    when(loadAccountPort.loadAccount("acc-1")).thenReturn(Optional.of(Account.createNew("acc-1", "user-1", "USD")));
+    Object bean = postProcessor.postProcessAfterInitialization(
+        new AccountService(saveAccountPort, loadAccountPort, loadUserPort, IdGeneratorPort.randomUuids()),
+        "accountService");
+
+    // When
+    ((GetAccountUseCase) bean).getAccountById("acc-1");
+
+    // Then: el proxy conserva la clase para inyectar el bean por su tipo
+    assertTrue(AopUtils.isCglibProxy(bean));
+    assertInstanceOf(AccountService.class, bean);
+    Timer timer = registry.get(MeteredOperation.USE_CASE_TIMER)
+        .tags("usecase", "GetAccountUseCase", "method", "getAccountById", "exception", "none")
+        .timer();
+    assertEquals(1, timer.count());
+    assertTrue(timer.takeSnapshot().histogramCounts().length > 0);
+    assertEquals(0, registry.get(MeteredOperation.USE_CASE_ACTIVE).longTaskTimer().activeTasks());
+  }
+
+  @Test
+  void rejectedUseCaseCalls_shouldBeCountedByReason() {
+    // Given
+    when(loadAccountPort.loadAccount("missing")).thenReturn(Optional.empty());
+    GetAccountUseCase useCase = (GetAccountUseCase) postProcessor.postProcessAfterInitialization(
+        new AccountService(saveAccountPort, loadAccountPort, loadUserPort, IdGeneratorPort.randomUuids()),
+        "accountService");
+
+    // When
+    assertThrows(AccountNotFoundException.class, () -> useCase.getAccountById("missing"));
+
+    // Then
+    assertEquals(1, registry.get(MeteredOperation.USE_CASE_TIMER)
+        .tags("method", "getAccountById", "exception", "AccountNotFoundException")
+        .timer().count());
+    assertEquals(1.0, registry.get(MeteredOperation.USE_CASE_REJECTIONS)
+        .tags("usecase", "GetAccountUseCase", "reason", "not_found")
+        .counter().count());
+  }
+
+  @Test
+  void portCalls_shouldBeTimedPerAdapter() {
+    // Given
+    IdGeneratorPort port = (IdGeneratorPort) postProcessor.postProcessAfterInitialization(
+        new RandomUuidIdGenerator(), "idGenerator");
+
+    // When
+    port.nextId();
+    port.nextId();
+
+    // Then
+    assertEquals(2, registry.get(MeteredOperation.PORT_TIMER)
+        .tags("port", "IdGeneratorPort", "method", "nextId", "adapter", "RandomUuidIdGenerator")
+        .timer().count());
+  }
+
+  @Test
+  void otherBeans_shouldNotBeProxied() {
+    // Given
+    StringBuilder bean = new StringBuilder();
+
+    // When/Then
+    assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "builder"));
+  }
+}
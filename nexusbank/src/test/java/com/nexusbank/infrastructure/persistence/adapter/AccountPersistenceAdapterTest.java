@@ -1,6 +1,7 @@
 package com.nexusbank.infrastructure.persistence.adapter;
 
 import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.Currency;
 import com.nexusbank.domain.model.Money;
 import com.nexusbank.infrastructure.persistence.entity.AccountEntity;
 import com.nexusbank.infrastructure.persistence.mapper.AccountMapper;
@@ -11,8 +12,10 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,7 +34,8 @@ class AccountPersistenceAdapterTest {
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
-    accountPersistenceAdapter = new AccountPersistenceAdapter(accountRepository, accountMapper);
+    accountPersistenceAdapter = new AccountPersistenceAdapter(accountRepository, accountMapper,
+        ConcurrencyStrategy.OPTIMISTIC, AccountBalanceSource.row());
   }
 
   @Test
@@ -41,10 +45,10 @@ class AccountPersistenceAdapterTest {
     AccountEntity accountEntity = new AccountEntity();
     accountEntity.setId(accountId);
     accountEntity.setBalance(new BigDecimal("100.00"));
-    accountEntity.setCurrency("USD");
+    accountEntity.setCurrency(Currency.USD);
 
     Account domainAccount = Account.createNew(accountId, "user-123", "USD");
-    domainAccount.deposit(new Money(100.0, "USD"));
+    domainAccount.deposit(new Money(new BigDecimal("100.0"), "USD"));
 
     when(accountRepository.findById(accountId)).thenReturn(Optional.of(accountEntity));
     when(accountMapper.toDomainEntity(accountEntity)).thenReturn(domainAccount);
@@ -114,13 +118,13 @@ class AccountPersistenceAdapterTest {
     String accountId = "acc-123";
     String userId = "user-123";
     Account account = Account.createNew(accountId, userId, "USD");
-    account.deposit(new Money(200.0, "USD"));
+    account.deposit(new Money(new BigDecimal("200.0"), "USD"));
 
     AccountEntity accountEntity = new AccountEntity();
     accountEntity.setId(accountId);
     accountEntity.setUserId(userId);
     accountEntity.setBalance(new BigDecimal("200.00"));
-    accountEntity.setCurrency("USD");
+    accountEntity.setCurrency(Currency.USD);
 
     when(accountMapper.toJpaEntity(account)).thenReturn(accountEntity);
     when(accountRepository.save(accountEntity)).thenReturn(accountEntity);
@@ -137,4 +141,130 @@ class AccountPersistenceAdapterTest {
     verify(accountRepository).save(accountEntity);
     verify(accountMapper).toDomainEntity(accountEntity);
   }
-}
\ No newline at end of file
+
+  @Test
+  void saveAccount_shouldUpdateManagedEntityKeepingVersionAndCreationDate() {
+    // Given
+    String accountId = "acc-123";
+    Account account = Account.createNew(accountId, "user-123", "USD");
+    account.deposit(new Money(new BigDecimal("300.0"), "USD"));
+
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    AccountEntity existing = new AccountEntity();
+    existing.setId(accountId);
+    existing.setUserId("user-123");
+    existing.setBalance(new BigDecimal("100.00"));
+    existing.setCurrency(Currency.USD);
+    existing.setActive(true);
+    existing.setCreatedAt(createdAt);
+    existing.setVersion(7L);
+
+    AccountEntity mapped = new AccountEntity();
+    mapped.setId(accountId);
+    mapped.setBalance(new BigDecimal("300.00"));
+    mapped.setActive(true);
+
+    when(accountMapper.toJpaEntity(account)).thenReturn(mapped);
+    when(accountRepository.findById(accountId)).thenReturn(Optional.of(existing));
+    when(accountRepository.save(existing)).thenReturn(existing);
+    when(accountMapper.toDomainEntity(existing)).thenReturn(account);
+
+    // When
+    accountPersistenceAdapter.saveAccount(account);
+
+    // Then
+    assertEquals(new BigDecimal("300.00"), existing.getBalance());
+    assertEquals(createdAt, existing.getCreatedAt());
+    assertEquals(7L, existing.getVersion());
+    verify(accountRepository).save(existing);
+    verify(accountRepository, never()).save(mapped);
+  }
+
+  @Test
+  void loadAccountForUpdate_shouldLockRowWhenPessimistic() {
+    // Given
+    AccountPersistenceAdapter pessimisticAdapter = new AccountPersistenceAdapter(accountRepository, accountMapper,
+        ConcurrencyStrategy.PESSIMISTIC, AccountBalanceSource.row());
+    AccountEntity accountEntity = new AccountEntity();
+    accountEntity.setId("acc-123");
+    Account domainAccount = Account.createNew("acc-123", "user-123", "USD");
+
+    when(accountRepository.findByIdForUpdate("acc-123")).thenReturn(Optional.of(accountEntity));
+    when(accountMapper.toDomainEntity(accountEntity)).thenReturn(domainAccount);
+
+    // When
+    Optional<Account> result = pessimisticAdapter.loadAccountForUpdate("acc-123");
+
+    // Then
+    assertTrue(result.isPresent());
+    verify(accountRepository).findByIdForUpdate("acc-123");
+    verify(accountRepository, never()).findById(anyString());
+  }
+
+  @Test
+  void loadAccountForUpdate_shouldReadWithoutLockWhenOptimistic() {
+    // Given
+    when(accountRepository.findById("acc-123")).thenReturn(Optional.empty());
+
+    // When
+    Optional<Account> result = accountPersistenceAdapter.loadAccountForUpdate("acc-123");
+
+    // Then
+    assertFalse(result.isPresent());
+    verify(accountRepository).findById("acc-123");
+    verify(accountRepository, never()).findByIdForUpdate(anyString());
+  }
+
+  @Test
+  void loadAccount_shouldDeriveBalanceFromJournal() {
+    // Given
+    JournalBalanceReader journalBalanceReader = mock(JournalBalanceReader.class);
+    AccountPersistenceAdapter journalAdapter = new AccountPersistenceAdapter(accountRepository, accountMapper,
+        ConcurrencyStrategy.OPTIMISTIC, journalBalanceReader);
+    AccountEntity accountEntity = new AccountEntity();
+    accountEntity.setId("acc-123");
+    accountEntity.setBalance(new BigDecimal("100.00"));
+    Account domainAccount = Account.createNew("acc-123", "user-123", "USD");
+
+    when(accountRepository.findById("acc-123")).thenReturn(Optional.of(accountEntity));
+    when(journalBalanceReader.balancesOf(List.of("acc-123"))).thenReturn(Map.of("acc-123", new BigDecimal("42.50")));
+    when(accountMapper.toDomainEntity(accountEntity, new BigDecimal("42.50"))).thenReturn(domainAccount);
+
+    // When
+    Optional<Account> result = journalAdapter.loadAccount("acc-123");
+
+    // Then
+    assertTrue(result.isPresent());
+    verify(accountMapper).toDomainEntity(accountEntity, new BigDecimal("42.50"));
+  }
+
+  @Test
+  void saveAccount_shouldKeepOpeningBalanceInJournalMode() {
+    // Given
+    AccountPersistenceAdapter journalAdapter = new AccountPersistenceAdapter(accountRepository, accountMapper,
+        ConcurrencyStrategy.OPTIMISTIC, mock(JournalBalanceReader.class));
+    Account account = Account.createNew("acc-123", "user-123", "USD");
+    account.deactivate();
+
+    AccountEntity existing = new AccountEntity();
+    existing.setId("acc-123");
+    existing.setBalance(new BigDecimal("100.00"));
+    existing.setActive(true);
+
+    AccountEntity mapped = new AccountEntity();
+    mapped.setId("acc-123");
+    mapped.setBalance(new BigDecimal("250.00"));
+    mapped.setActive(false);
+
+    when(accountMapper.toJpaEntity(account)).thenReturn(mapped);
+    when(accountRepository.findById("acc-123")).thenReturn(Optional.of(existing));
+    when(accountRepository.save(existing)).thenReturn(existing);
+
+    // When
+    journalAdapter.saveAccount(account);
+
+    // Then
+    assertEquals(new BigDecimal("100.00"), existing.getBalance());
+    assertFalse(existing.isActive());
+  }
+}
@@ -0,0 +1,218 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.application.port.out.AdjustBalancePort.BalanceAdjustment;
+import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BalanceAdjustmentPersistenceAdapterTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private PreparedStatement preparedStatement;
+
+  private BalanceAdjustmentPersistenceAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    adapter = new BalanceAdjustmentPersistenceAdapter(jdbcTemplate, BalanceShards.none());
+  }
+
+  @Test
+  void adjustBalances_shouldBatchLegsInCanonicalOrderAndInsertTransaction() throws Exception {
+    // Given
+    Money amount = new Money(new BigDecimal("25.00"), "USD");
+    Transaction transaction = Transaction.createTransfer("tx-1", "acc-b", "acc-a", amount);
+    when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+        .thenReturn(new int[] { 1, 1 });
+
+    // When
+    Transaction result = adapter.adjustBalances(
+        List.of(BalanceAdjustment.debit("acc-b", amount), BalanceAdjustment.credit("acc-a", amount)),
+        transaction);
+
+    // Then
+    assertSame(transaction, result);
+    ArgumentCaptor<BatchPreparedStatementSetter> setter = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+    InOrder inOrder = inOrder(jdbcTemplate);
+    inOrder.verify(jdbcTemplate).batchUpdate(eq(BalanceAdjustmentPersistenceAdapter.ADJUST_BALANCE_SQL),
+        setter.capture());
+    inOrder.verify(jdbcTemplate).batchUpdate(eq(TransactionRows.INSERT_SQL),
+        eq(List.of(transaction)), eq(1), any(ParameterizedPreparedStatementSetter.class));
+
+    assertEquals(2, setter.getValue().getBatchSize());
+    setter.getValue().setValues(preparedStatement, 0);
+    verify(preparedStatement).setString(3, "acc-a");
+    verify(preparedStatement).setBigDecimal(1, new BigDecimal("25.00"));
+    setter.getValue().setValues(preparedStatement, 1);
+    verify(preparedStatement).setString(3, "acc-b");
+    verify(preparedStatement).setBigDecimal(1, new BigDecimal("-25.00"));
+    verify(preparedStatement).setBigDecimal(5, new BigDecimal("-25.00"));
+  }
+
+  @Test
+  void adjustBalances_shouldRequireTheVersionReadInTheSameTransaction() throws Exception {
+    // Given: la cuenta se leyó en modo optimista con la versión 7
+    Money amount = new Money(new BigDecimal("25.00"), "USD");
+    Transaction transaction = Transaction.createWithdrawal("tx-1", "acc-a", amount);
+    when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+        .thenReturn(new int[] { 1 });
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      ReadAccountVersions.record("acc-a", 7L);
+
+      // When
+      adapter.adjustBalances(List.of(BalanceAdjustment.debit("acc-a", amount)), transaction);
+
+      // Then
+      ArgumentCaptor<BatchPreparedStatementSetter> setter = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+      verify(jdbcTemplate).batchUpdate(eq(BalanceAdjustmentPersistenceAdapter.ADJUST_BALANCE_SQL), setter.capture());
+      setter.getValue().setValues(preparedStatement, 0);
+      verify(preparedStatement).setLong(6, 7L);
+      // Su propia escritura sube la versión esperada
+      assertEquals(8L, ReadAccountVersions.expected("acc-a"));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+      TransactionSynchronizationManager.unbindResourceIfPossible(ReadAccountVersions.class);
+    }
+  }
+
+  @Test
+  void adjustBalances_shouldNotCompareVersionsOfAccountsNotReadOptimistically() throws Exception {
+    // Given
+    Money amount = new Money(new BigDecimal("25.00"), "USD");
+    Transaction transaction = Transaction.createDeposit("tx-1", "acc-a", amount);
+    when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+        .thenReturn(new int[] { 1 });
+
+    // When
+    adapter.adjustBalances(List.of(BalanceAdjustment.credit("acc-a", amount)), transaction);
+
+    // Then
+    ArgumentCaptor<BatchPreparedStatementSetter> setter = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+    verify(jdbcTemplate).batchUpdate(eq(BalanceAdjustmentPersistenceAdapter.ADJUST_BALANCE_SQL), setter.capture());
+    setter.getValue().setValues(preparedStatement, 0);
+    verify(preparedStatement).setNull(6, Types.BIGINT);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void adjustBalances_shouldRejectWhenConditionFailsAndNotInsertTransaction() {
+    // Given
+    Money amount = new Money(new BigDecimal("25.00"), "USD");
+    Transaction transaction = Transaction.createTransfer("tx-1", "acc-a", "acc-b", amount);
+    when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+        .thenReturn(new int[] { 0, 1 });
+    InsufficientBalanceException rejection = new InsufficientBalanceException("Insufficient balance in account acc-a");
+    when(jdbcTemplate.query(eq(BalanceAdjustmentPersistenceAdapter.ACCOUNT_STATE_SQL),
+        any(ResultSetExtractor.class), eq("acc-a"))).thenReturn(rejection);
+
+    // When
+    InsufficientBalanceException exception = assertThrows(InsufficientBalanceException.class,
+        () -> adapter.adjustBalances(
+            List.of(BalanceAdjustment.debit("acc-a", amount), BalanceAdjustment.credit("acc-b", amount)),
+            transaction));
+
+    // Then
+    assertSame(rejection, exception);
+    verify(jdbcTemplate, never()).batchUpdate(eq(TransactionRows.INSERT_SQL),
+        anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  void adjustBalances_shouldInsertEveryTransactionOfTheGroup() {
+    // Given
+    Money amount = new Money(new BigDecimal("5.00"), "USD");
+    List<Transaction> transactions = List.of(
+        Transaction.createTransfer("tx-1", "acc-a", "acc-b", amount),
+        Transaction.createTransfer("tx-2", "acc-b", "acc-a", amount));
+    when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+        .thenReturn(new int[0]);
+
+    // When: los movimientos se compensan y no hay saldo que ajustar
+    List<Transaction> result = adapter.adjustBalances(List.of(), transactions);
+
+    // Then
+    assertEquals(transactions, result);
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+    verify(jdbcTemplate).batchUpdate(eq(TransactionRows.INSERT_SQL),
+        eq(transactions), eq(2), any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  void adjustBalances_shouldCreditShardOfShardedAccountWithoutTouchingItsRow() {
+    // Given
+    BalanceShardPersistenceAdapter balanceShards = mock(BalanceShardPersistenceAdapter.class);
+    BalanceAdjustmentPersistenceAdapter shardedAdapter = new BalanceAdjustmentPersistenceAdapter(jdbcTemplate,
+        balanceShards);
+    Money amount = new Money(new BigDecimal("25.00"), "USD");
+    Transaction transaction = Transaction.createDeposit("tx-1", "acc-hot", amount);
+    when(balanceShards.isSharded("acc-hot")).thenReturn(true);
+    when(balanceShards.credit(eq("acc-hot"), eq(amount), any(Timestamp.class))).thenReturn(true);
+
+    // When
+    shardedAdapter.adjustBalances(List.of(BalanceAdjustment.credit("acc-hot", amount)), transaction);
+
+    // Then
+    verify(jdbcTemplate, never()).batchUpdate(eq(BalanceAdjustmentPersistenceAdapter.ADJUST_BALANCE_SQL),
+        any(BatchPreparedStatementSetter.class));
+    verify(jdbcTemplate).batchUpdate(eq(TransactionRows.INSERT_SQL),
+        eq(List.of(transaction)), eq(1), any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  void adjustBalances_shouldFoldShardsBeforeDebitingShardedAccount() throws Exception {
+    // Given
+    BalanceShardPersistenceAdapter balanceShards = mock(BalanceShardPersistenceAdapter.class);
+    BalanceAdjustmentPersistenceAdapter shardedAdapter = new BalanceAdjustmentPersistenceAdapter(jdbcTemplate,
+        balanceShards);
+    Money amount = new Money(new BigDecimal("25.00"), "USD");
+    Transaction transaction = Transaction.createTransfer("tx-1", "acc-hot", "acc-a", amount);
+    when(balanceShards.isSharded("acc-hot")).thenReturn(true);
+    when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+        .thenReturn(new int[] { 1 });
+
+    // When
+    shardedAdapter.adjustBalances(
+        List.of(BalanceAdjustment.debit("acc-hot", amount), BalanceAdjustment.credit("acc-a", amount)),
+        transaction);
+
+    // Then: pata a pata en orden de id, y el cargo tras consolidar la cuenta
+    ArgumentCaptor<BatchPreparedStatementSetter> setter = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+    InOrder inOrder = inOrder(jdbcTemplate, balanceShards);
+    inOrder.verify(jdbcTemplate).batchUpdate(eq(BalanceAdjustmentPersistenceAdapter.ADJUST_BALANCE_SQL),
+        setter.capture());
+    inOrder.verify(balanceShards).consolidate("acc-hot");
+    inOrder.verify(jdbcTemplate).batchUpdate(eq(BalanceAdjustmentPersistenceAdapter.ADJUST_BALANCE_SQL),
+        setter.capture());
+    verify(balanceShards, never()).credit(anyString(), any(), any());
+
+    setter.getAllValues().get(0).setValues(preparedStatement, 0);
+    verify(preparedStatement).setString(3, "acc-a");
+    setter.getAllValues().get(1).setValues(preparedStatement, 0);
+    verify(preparedStatement).setString(3, "acc-hot");
+  }
+}
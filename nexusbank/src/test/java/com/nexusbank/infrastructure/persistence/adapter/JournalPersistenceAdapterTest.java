@@ -0,0 +1,160 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.application.port.out.AdjustBalancePort.BalanceAdjustment;
+import com.nexusbank.domain.exception.AccountNotFoundException;
+import com.nexusbank.domain.exception.InsufficientBalanceException;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.infrastructure.persistence.adapter.JournalBalanceReader.AccountState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JournalPersistenceAdapterTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private JournalBalanceReader balanceReader;
+
+  private JournalPersistenceAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    adapter = new JournalPersistenceAdapter(jdbcTemplate, balanceReader);
+  }
+
+  @Test
+  void adjustBalances_shouldLockDebitedAccountAndAppendOnePostingPerLeg() {
+    // Given
+    Money amount = new Money(new BigDecimal("25.00"), "USD");
+    Transaction transaction = Transaction.createTransfer("tx-1", "acc-source", "acc-target", amount);
+    when(balanceReader.statesOf(anyCollection())).thenReturn(Map.of(
+        "acc-source", state("acc-source", "100.00"),
+        "acc-target", state("acc-target", "0.00")));
+
+    // When
+    Transaction result = adapter.adjustBalances(
+        List.of(BalanceAdjustment.debit("acc-source", amount), BalanceAdjustment.credit("acc-target", amount)),
+        transaction);
+
+    // Then
+    assertSame(transaction, result);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Collection<Object>> lines = ArgumentCaptor.forClass(Collection.class);
+    InOrder inOrder = inOrder(jdbcTemplate, balanceReader);
+    inOrder.verify(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    inOrder.verify(balanceReader).statesOf(Set.of("acc-source", "acc-target"));
+    inOrder.verify(jdbcTemplate).batchUpdate(eq(JournalPersistenceAdapter.INSERT_ENTRY_SQL),
+        lines.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+    inOrder.verify(jdbcTemplate).batchUpdate(eq(TransactionRows.INSERT_SQL),
+        eq(List.of(transaction)), eq(1), any(ParameterizedPreparedStatementSetter.class));
+    // El evento del outbox va en la misma unidad de trabajo que la transacción
+    inOrder.verify(jdbcTemplate).batchUpdate(eq(OutboxPersistenceAdapter.INSERT_SQL),
+        eq(List.of(transaction)), eq(1), any(ParameterizedPreparedStatementSetter.class));
+    assertEquals(2, lines.getValue().size());
+  }
+
+  @Test
+  void adjustBalances_shouldAppendDepositsWithoutLocking() {
+    // Given
+    Money amount = new Money(new BigDecimal("10.00"), "USD");
+    Transaction transaction = Transaction.createDeposit("tx-1", "acc-1", amount);
+    when(balanceReader.statesOf(anyCollection())).thenReturn(Map.of("acc-1", state("acc-1", "0.00")));
+
+    // When
+    adapter.adjustBalances(List.of(BalanceAdjustment.credit("acc-1", amount)), transaction);
+
+    // Then
+    verify(jdbcTemplate, never()).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    verify(balanceReader).statesOf(Set.of("acc-1"));
+    verify(jdbcTemplate).batchUpdate(eq(JournalPersistenceAdapter.INSERT_ENTRY_SQL),
+        anyCollection(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+    // Por eso el servicio tampoco bloquea la cuenta para abonar
+    assertFalse(adapter.creditsNeedAccountLock());
+  }
+
+  @Test
+  void adjustBalances_shouldRejectDebitBeyondDerivedBalance() {
+    // Given
+    Money amount = new Money(new BigDecimal("40.00"), "USD");
+    Transaction transaction = Transaction.createTransfer("tx-1", "acc-source", "acc-target", amount);
+    when(balanceReader.statesOf(anyCollection())).thenReturn(Map.of(
+        "acc-source", state("acc-source", "39.99"),
+        "acc-target", state("acc-target", "0.00")));
+
+    // When/Then
+    assertThrows(InsufficientBalanceException.class, () -> adapter.adjustBalances(
+        List.of(BalanceAdjustment.debit("acc-source", amount), BalanceAdjustment.credit("acc-target", amount)),
+        transaction));
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(),
+        any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  void adjustBalances_shouldFailRetryablyWhenDebitedAccountChangedSinceRead() throws Exception {
+    // Given: se leyó la versión 7 y otro cargo la subió a 8 antes del bloqueo
+    Money amount = new Money(new BigDecimal("25.00"), "USD");
+    Transaction transaction = Transaction.createTransfer("tx-1", "acc-source", "acc-target", amount);
+    ResultSet row = mock(ResultSet.class);
+    when(row.getString("id")).thenReturn("acc-source");
+    when(row.getLong("version")).thenReturn(8L);
+    doAnswer(invocation -> {
+      invocation.getArgument(1, RowCallbackHandler.class).processRow(row);
+      return null;
+    }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      ReadAccountVersions.record("acc-source", 7L);
+
+      // When/Then
+      assertThrows(OptimisticLockingFailureException.class, () -> adapter.adjustBalances(
+          List.of(BalanceAdjustment.debit("acc-source", amount), BalanceAdjustment.credit("acc-target", amount)),
+          transaction));
+      verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(),
+          any(ParameterizedPreparedStatementSetter.class));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+      TransactionSynchronizationManager.unbindResourceIfPossible(ReadAccountVersions.class);
+    }
+  }
+
+  @Test
+  void adjustBalances_shouldRejectUnknownAccount() {
+    // Given
+    Money amount = new Money(new BigDecimal("1.00"), "USD");
+    Transaction transaction = Transaction.createDeposit("tx-1", "acc-missing", amount);
+    when(balanceReader.statesOf(anyCollection())).thenReturn(Map.of());
+
+    // When/Then
+    assertThrows(AccountNotFoundException.class, () -> adapter.adjustBalances(
+        List.of(BalanceAdjustment.credit("acc-missing", amount)), transaction));
+  }
+
+  private AccountState state(String accountId, String balance) {
+    return new AccountState(accountId, true, Currency.USD, new BigDecimal(balance));
+  }
+}
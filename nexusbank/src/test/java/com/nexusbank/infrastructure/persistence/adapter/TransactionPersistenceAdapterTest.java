@@ -1,5 +1,6 @@
 package com.nexusbank.infrastructure.persistence.adapter;
 
+import com.nexusbank.domain.model.Currency;
 import com.nexusbank.domain.model.Money;
 import com.nexusbank.domain.model.Transaction;
 import com.nexusbank.domain.model.TransactionStatus;
@@ -40,7 +41,7 @@ class TransactionPersistenceAdapterTest {
     // Given
     String id = "tx-123";
     String accountId = "acc-456";
-    Money amount = new Money(100.0, "USD");
+    Money amount = new Money(new BigDecimal("100.0"), "USD");
 
     Transaction transaction = Transaction.createDeposit(id, accountId, amount);
 
@@ -48,7 +49,7 @@ class TransactionPersistenceAdapterTest {
     transactionEntity.setId(id);
     transactionEntity.setAccountId(accountId);
     transactionEntity.setAmount(new BigDecimal("100.00"));
-    transactionEntity.setCurrency("USD");
+    transactionEntity.setCurrency(Currency.USD);
     transactionEntity.setType(TransactionType.DEPOSIT);
     transactionEntity.setStatus(TransactionStatus.COMPLETED);
 
@@ -85,8 +86,8 @@ class TransactionPersistenceAdapterTest {
 
     List<TransactionEntity> entities = Arrays.asList(entity1, entity2);
 
-    Transaction tx1 = Transaction.createDeposit("tx-1", accountId, new Money(100.0, "USD"));
-    Transaction tx2 = Transaction.createWithdrawal("tx-2", accountId, new Money(50.0, "USD"));
+    Transaction tx1 = Transaction.createDeposit("tx-1", accountId, new Money(new BigDecimal("100.0"), "USD"));
+    Transaction tx2 = Transaction.createWithdrawal("tx-2", accountId, new Money(new BigDecimal("50.0"), "USD"));
 
     when(transactionRepository.findByAccountId(accountId)).thenReturn(entities);
     when(transactionMapper.toDomainEntity(entity1)).thenReturn(tx1);
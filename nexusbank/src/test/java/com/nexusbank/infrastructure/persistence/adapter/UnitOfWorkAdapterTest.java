@@ -0,0 +1,94 @@
+package com.nexusbank.infrastructure.persistence.adapter;
+
+import com.nexusbank.domain.exception.ConcurrentUpdateException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UnitOfWorkAdapterTest {
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private TransactionStatus transactionStatus;
+
+  private UnitOfWorkAdapter unitOfWorkAdapter;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+    unitOfWorkAdapter = new UnitOfWorkAdapter(transactionManager, 3, 0);
+  }
+
+  @Test
+  void execute_shouldCommitSuccessfulWork() {
+    // When
+    String result = unitOfWorkAdapter.execute(() -> "done");
+
+    // Then
+    assertEquals("done", result);
+    verify(transactionManager).commit(transactionStatus);
+    assertEquals(1, unitOfWorkAdapter.getAttempts());
+    assertEquals(0, unitOfWorkAdapter.getConflicts());
+  }
+
+  @Test
+  void execute_shouldRetryOnConcurrencyFailure() {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+
+    // When
+    String result = unitOfWorkAdapter.execute(() -> {
+      if (calls.incrementAndGet() < 3) {
+        throw new ObjectOptimisticLockingFailureException("AccountEntity", "acc-123");
+      }
+      return "done";
+    });
+
+    // Then
+    assertEquals("done", result);
+    assertEquals(3, calls.get());
+    assertEquals(3, unitOfWorkAdapter.getAttempts());
+    assertEquals(2, unitOfWorkAdapter.getConflicts());
+    verify(transactionManager, times(2)).rollback(transactionStatus);
+    verify(transactionManager).commit(transactionStatus);
+  }
+
+  @Test
+  void execute_shouldGiveUpAfterMaxAttempts() {
+    // When
+    ConcurrentUpdateException exception = assertThrows(ConcurrentUpdateException.class,
+        () -> unitOfWorkAdapter.execute(() -> {
+          throw new CannotAcquireLockException("lock timeout");
+        }));
+
+    // Then
+    assertInstanceOf(CannotAcquireLockException.class, exception.getCause());
+    assertEquals(3, unitOfWorkAdapter.getAttempts());
+    assertEquals(1, unitOfWorkAdapter.getFailures());
+  }
+
+  @Test
+  void execute_shouldNotRetryBusinessErrors() {
+    // When
+    assertThrows(IllegalArgumentException.class, () -> unitOfWorkAdapter.execute(() -> {
+      throw new IllegalArgumentException("invalid");
+    }));
+
+    // Then
+    assertEquals(1, unitOfWorkAdapter.getAttempts());
+    verify(transactionManager).rollback(transactionStatus);
+  }
+}
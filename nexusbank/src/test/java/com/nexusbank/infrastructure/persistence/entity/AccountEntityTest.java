@@ -1,5 +1,6 @@
 package com.nexusbank.infrastructure.persistence.entity;
 
+import com.nexusbank.domain.model.Currency;
 import com.nexusbank.domain.model.TransactionStatus;
 import com.nexusbank.domain.model.TransactionType;
 import org.junit.jupiter.api.Test;
@@ -17,7 +18,7 @@ class TransactionEntityTest {
     String accountId = "acc-456";
     String targetAccountId = "acc-789";
     BigDecimal amount = new BigDecimal("50.00");
-    String currency = "USD";
+    Currency currency = Currency.USD;
     TransactionType type = TransactionType.TRANSFER;
     TransactionStatus status = TransactionStatus.COMPLETED;
     String description = "Test transfer";
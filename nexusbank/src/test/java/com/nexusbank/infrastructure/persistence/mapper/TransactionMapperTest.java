@@ -0,0 +1,36 @@
+package com.nexusbank.infrastructure.persistence.mapper;
+
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.domain.model.Money;
+import com.nexusbank.domain.model.Transaction;
+import com.nexusbank.domain.model.TransactionStatus;
+import com.nexusbank.domain.model.TransactionType;
+import com.nexusbank.infrastructure.persistence.entity.TransactionEntity;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TransactionMapperTest {
+
+  private final TransactionMapper transactionMapper = new TransactionMapper();
+
+  @Test
+  void toJpaEntity_shouldKeepTheTimestampsOfTheTransaction() {
+    // Given
+    LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 10, 0);
+    LocalDateTime updatedAt = createdAt.plusSeconds(5);
+    Transaction transaction = Transaction.reconstitute("tx-1", "acc-1", null,
+        new Money(new BigDecimal("10.00"), Currency.USD), TransactionType.DEPOSIT, TransactionStatus.COMPLETED,
+        "Deposit", createdAt, updatedAt);
+
+    // When
+    TransactionEntity entity = transactionMapper.toJpaEntity(transaction);
+
+    // Then
+    assertEquals(createdAt, entity.getCreatedAt());
+    assertEquals(updatedAt, entity.getUpdatedAt());
+  }
+}
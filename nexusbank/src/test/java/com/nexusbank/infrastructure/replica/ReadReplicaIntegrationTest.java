@@ -0,0 +1,157 @@
+package com.nexusbank.infrastructure.replica;
+
+import com.nexusbank.application.infrastructure.persistence.container.DatabaseTestContainer;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routing against two real PostgreSQL servers. The second one is not a
+ * streaming replica of the first, so the replay positions the monitor would
+ * poll are recorded by hand; a table with different rows on each server shows
+ * where every read went.
+ */
+public class ReadReplicaIntegrationTest {
+
+  private static PostgreSQLContainer<?> replicaContainer;
+  private static DataSource primary;
+  private static DataSource replica;
+
+  private ReplicaLagMonitor monitor;
+  private JdbcTemplate routed;
+
+  @BeforeAll
+  public static void startServers() {
+    DatabaseTestContainer primaryContainer = DatabaseTestContainer.getInstance();
+    replicaContainer = new PostgreSQLContainer<>("postgres:14-alpine");
+    replicaContainer.start();
+    primary = new DriverManagerDataSource(primaryContainer.getJdbcUrl(), primaryContainer.getUsername(),
+        primaryContainer.getPassword());
+    replica = new DriverManagerDataSource(replicaContainer.getJdbcUrl(), replicaContainer.getUsername(),
+        replicaContainer.getPassword());
+    createProbe(primary, "primary");
+    createProbe(replica, "replica");
+  }
+
+  @AfterAll
+  public static void stopServers() {
+    new JdbcTemplate(primary).execute("DROP TABLE IF EXISTS replica_probe");
+    replicaContainer.stop();
+  }
+
+  @BeforeEach
+  public void setUp() {
+    monitor = new ReplicaLagMonitor(primary, List.of(replica), Duration.ZERO);
+    routed = new JdbcTemplate(new ReadReplicaRoutingDataSource(primary, () -> monitor));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    ReplicaRouting.exitReplicaRead(null);
+    ReplicaRouting.clearPosition();
+  }
+
+  @Test
+  public void testServerThatIsNotInRecoveryNeverServesReplicaReads() {
+    monitor.poll();
+
+    assertTrue(monitor.currentPrimaryPosition() > 0);
+    assertEquals(ReplicaLagMonitor.UNAVAILABLE, monitor.getLagBytes(0));
+    assertEquals("primary", readProbe());
+    assertEquals(1, monitor.getPrimaryFallbacks());
+  }
+
+  @Test
+  public void testReplicaReadsGoToEligibleReplicaAndWritesStayOnPrimary() {
+    long position = monitor.currentPrimaryPosition();
+    monitor.recordReplayPositions(position, position);
+
+    assertEquals("replica", readProbe());
+    // Fuera de una lectura de réplica todo va al primario
+    assertEquals("primary", routed.queryForObject("SELECT source FROM replica_probe", String.class));
+    assertEquals(1, monitor.getReplicaReads());
+  }
+
+  @Test
+  public void testWriteTokenKeepsReadsOnPrimaryUntilReplicaCatchesUp() throws Exception {
+    ReadYourWritesFilter filter = new ReadYourWritesFilter(monitor);
+    long before = monitor.currentPrimaryPosition();
+    monitor.recordReplayPositions(0, before);
+
+    // Una escritura en el primario devuelve la posición tras confirmarse
+    MockHttpServletResponse written = new MockHttpServletResponse();
+    filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/accounts"), written, new MockFilterChain(
+        new ProbeServlet(() -> routed.update("UPDATE replica_probe SET touched = touched + 1"))));
+    String token = written.getHeader(ReadYourWritesFilter.CONSISTENCY_TOKEN);
+    assertNotNull(token);
+    assertTrue(ReplicaRouting.parsePosition(token) > before);
+
+    // Con el token, la réplica que no ha llegado a esa posición no sirve la lectura
+    assertEquals(List.of("primary"), readWithToken(filter, token));
+    assertEquals(List.of("replica"), readWithToken(filter, null));
+
+    monitor.recordReplayPositions(0, ReplicaRouting.parsePosition(token));
+    assertEquals(List.of("replica"), readWithToken(filter, token));
+  }
+
+  private List<String> readWithToken(ReadYourWritesFilter filter, String token) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/accounts/acc-1");
+    if (token != null) {
+      request.addHeader(ReadYourWritesFilter.CONSISTENCY_TOKEN, token);
+    }
+    List<String> sources = new ArrayList<>();
+    filter.doFilter(request, new MockHttpServletResponse(),
+        new MockFilterChain(new ProbeServlet(() -> sources.add(readProbe()))));
+    assertEquals(0, ReplicaRouting.minPosition());
+    return sources;
+  }
+
+  private String readProbe() {
+    Boolean previous = ReplicaRouting.enterReplicaRead();
+    try {
+      return routed.queryForObject("SELECT source FROM replica_probe", String.class);
+    } finally {
+      ReplicaRouting.exitReplicaRead(previous);
+    }
+  }
+
+  private static void createProbe(DataSource dataSource, String source) {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("DROP TABLE IF EXISTS replica_probe");
+    jdbcTemplate.execute("CREATE TABLE replica_probe (source VARCHAR(16) NOT NULL, touched INT NOT NULL)");
+    jdbcTemplate.update("INSERT INTO replica_probe (source, touched) VALUES (?, 0)", source);
+  }
+
+  private static class ProbeServlet extends HttpServlet {
+
+    private final Runnable action;
+
+    ProbeServlet(Runnable action) {
+      this.action = action;
+    }
+
+    @Override
+    protected void service(HttpServletRequest request, HttpServletResponse response) {
+      action.run();
+      response.setStatus(HttpServletResponse.SC_OK);
+    }
+  }
+}
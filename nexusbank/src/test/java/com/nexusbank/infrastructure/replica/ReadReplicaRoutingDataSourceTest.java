@@ -0,0 +1,130 @@
+package com.nexusbank.infrastructure.replica;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTest {
+
+  @Mock
+  private DataSource primary;
+
+  @Mock
+  private DataSource firstReplica;
+
+  @Mock
+  private DataSource secondReplica;
+
+  @Mock
+  private Connection primaryConnection;
+
+  @Mock
+  private Connection firstConnection;
+
+  @Mock
+  private Connection secondConnection;
+
+  private ReplicaLagMonitor monitor;
+  private ReadReplicaRoutingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    MockitoAnnotations.openMocks(this);
+    when(primary.getConnection()).thenReturn(primaryConnection);
+    when(firstReplica.getConnection()).thenReturn(firstConnection);
+    when(secondReplica.getConnection()).thenReturn(secondConnection);
+    monitor = new ReplicaLagMonitor(primary, List.of(firstReplica, secondReplica), Duration.ofSeconds(1));
+    dataSource = new ReadReplicaRoutingDataSource(primary, () -> monitor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ReplicaRouting.exitReplicaRead(null);
+    ReplicaRouting.clearPosition();
+  }
+
+  @Test
+  void getConnection_shouldUsePrimaryOutsideReplicaReads() throws SQLException {
+    // Given
+    monitor.recordReplayPositions(100, 200, 200);
+
+    // When/Then
+    assertSame(primaryConnection, dataSource.getConnection());
+    assertEquals(0, monitor.getReplicaReads() + monitor.getPrimaryFallbacks());
+  }
+
+  @Test
+  void getConnection_shouldAlternateBetweenEligibleReplicas() throws SQLException {
+    // Given
+    monitor.recordReplayPositions(100, 200, 150);
+    ReplicaRouting.enterReplicaRead();
+
+    // When
+    Connection first = dataSource.getConnection();
+    Connection second = dataSource.getConnection();
+
+    // Then
+    assertNotSame(first, second);
+    assertTrue(List.of(firstConnection, secondConnection).containsAll(List.of(first, second)));
+    assertEquals(2, monitor.getReplicaReads());
+  }
+
+  @Test
+  void getConnection_shouldSkipReplicasBehindTheAllowedLag() throws SQLException {
+    // Given: la primera réplica no llega a la posición exigida y la segunda no responde
+    monitor.recordReplayPositions(100, 99, ReplicaLagMonitor.UNAVAILABLE);
+    ReplicaRouting.enterReplicaRead();
+
+    // When/Then
+    assertSame(primaryConnection, dataSource.getConnection());
+    assertEquals(1, monitor.getPrimaryFallbacks());
+    assertFalse(monitor.isEligible(0));
+    assertFalse(monitor.isEligible(1));
+  }
+
+  @Test
+  void getConnection_shouldHonourTheConsistencyTokenOfTheRequest() throws SQLException {
+    // Given: solo la segunda réplica ha reproducido la escritura del cliente
+    monitor.recordReplayPositions(100, 150, 300);
+    ReplicaRouting.enterReplicaRead();
+    ReplicaRouting.requirePosition(250);
+
+    // When/Then
+    assertSame(secondConnection, dataSource.getConnection());
+    assertSame(secondConnection, dataSource.getConnection());
+
+    ReplicaRouting.requirePosition(400);
+    assertSame(primaryConnection, dataSource.getConnection());
+  }
+
+  @Test
+  void getConnection_shouldUsePrimaryUntilReplicasHaveBeenPolled() throws SQLException {
+    // Given
+    ReplicaRouting.enterReplicaRead();
+
+    // When/Then
+    assertSame(primaryConnection, dataSource.getConnection());
+    assertEquals(ReplicaLagMonitor.UNAVAILABLE, monitor.getLagBytes(0));
+  }
+
+  @Test
+  void positions_shouldRoundTripPostgresLogSequenceNumbers() {
+    assertEquals(0x16B374D848L, ReplicaRouting.parsePosition("16/B374D848"));
+    assertEquals("16/B374D848", ReplicaRouting.formatPosition(0x16B374D848L));
+    assertEquals("0/0", ReplicaRouting.formatPosition(0));
+    assertThrows(IllegalArgumentException.class, () -> ReplicaRouting.parsePosition("16B374D848"));
+    assertThrows(IllegalArgumentException.class, () -> ReplicaRouting.parsePosition("16/XYZ"));
+    assertThrows(IllegalArgumentException.class, () -> ReplicaRouting.parsePosition(null));
+  }
+}
@@ -0,0 +1,87 @@
+package com.nexusbank.infrastructure.replica;
+
+import com.nexusbank.application.port.in.CreateAccountUseCase;
+import com.nexusbank.application.port.in.GetAccountUseCase;
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import com.nexusbank.application.port.out.LoadAccountPort;
+import com.nexusbank.application.port.out.LoadUserPort;
+import com.nexusbank.application.port.out.SaveAccountPort;
+import com.nexusbank.application.service.AccountService;
+import com.nexusbank.domain.model.Account;
+import com.nexusbank.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class ReplicaReadPostProcessorTest {
+
+  @Mock
+  private SaveAccountPort saveAccountPort;
+
+  @Mock
+  private LoadAccountPort loadAccountPort;
+
+  @Mock
+  private LoadUserPort loadUserPort;
+
+  private Object accountService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    ReplicaReadPostProcessor postProcessor = new ReplicaReadPostProcessor();
+    postProcessor.setBeanFactory(new DefaultListableBeanFactory());
+    accountService = postProcessor.postProcessAfterInitialization(
+        new AccountService(saveAccountPort, loadAccountPort, loadUserPort, IdGeneratorPort.randomUuids()),
+        "accountService");
+  }
+
+  @Test
+  void queryUseCases_shouldRunInsideReplicaRead() {
+    // Given
+    List<Boolean> scopes = new ArrayList<>();
+    when(loadAccountPort.loadAccount("acc-1")).thenAnswer(invocation -> {
+      scopes.add(ReplicaRouting.isReplicaRead());
+      return Optional.of(Account.createNew("acc-1", "user-1", "USD"));
+    });
+
+    // When
+    ((GetAccountUseCase) accountService).getAccountById("acc-1");
+
+    // Then
+    assertTrue(AopUtils.isCglibProxy(accountService));
+    assertInstanceOf(AccountService.class, accountService);
+    assertEquals(List.of(true), scopes);
+    assertFalse(ReplicaRouting.isReplicaRead());
+  }
+
+  @Test
+  void writeUseCases_shouldStayOnPrimary() {
+    // Given
+    List<Boolean> scopes = new ArrayList<>();
+    User user = User.createNew("user-1", "Test User", "test@example.com", "hashed_pwd");
+    when(loadUserPort.loadUser("user-1")).thenReturn(Optional.of(user));
+    when(saveAccountPort.saveAccount(any())).thenAnswer(invocation -> {
+      scopes.add(ReplicaRouting.isReplicaRead());
+      return invocation.getArgument(0);
+    });
+
+    // When
+    ((CreateAccountUseCase) accountService).createAccount("user-1", new BigDecimal("100.00"));
+
+    // Then
+    assertEquals(List.of(false), scopes);
+  }
+}
@@ -0,0 +1,192 @@
+package com.nexusbank.loadtest;
+
+import com.nexusbank.application.port.out.AccountLockPort;
+import com.nexusbank.application.port.out.AdjustBalancePort;
+import com.nexusbank.application.port.out.BalanceShardPort;
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import com.nexusbank.application.port.out.IdempotencyPort;
+import com.nexusbank.application.service.TransactionService;
+import com.nexusbank.domain.exception.ConcurrentUpdateException;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.infrastructure.persistence.adapter.AccountBalanceSource;
+import com.nexusbank.infrastructure.persistence.adapter.AccountPersistenceAdapter;
+import com.nexusbank.infrastructure.persistence.adapter.ConcurrencyStrategy;
+import com.nexusbank.infrastructure.persistence.adapter.UnitOfWorkAdapter;
+import com.nexusbank.infrastructure.persistence.entity.AccountEntity;
+import com.nexusbank.infrastructure.persistence.mapper.AccountMapper;
+import com.nexusbank.infrastructure.persistence.repository.AccountRepository;
+import com.nexusbank.infrastructure.persistence.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Throughput and abort rate of the optimistic and pessimistic concurrency
+ * strategies, under low contention (transfers spread over many accounts) and
+ * high contention (every transfer hits the same two accounts).
+ *
+ * The in-JVM account locks are replaced by a no-op so that every conflict
+ * reaches the database. After each scenario the total balance must be
+ * unchanged: a lost update would create or destroy money.
+ *
+ * Subclasses pick the database. Not picked up by surefire (it only runs *Test
+ * classes); run with e.g.
+ * 
+ * <pre>
+ * mvn test -Dtest=H2ConcurrencyStrategyBenchmark
+ * mvn test -Dtest=PostgresConcurrencyStrategyBenchmark
+ * </pre>
+ */
+abstract class ConcurrencyStrategyBenchmarkSupport {
+
+  private static final int THREADS = 8;
+  private static final int LOW_CONTENTION_ACCOUNTS = 1024;
+  private static final int HIGH_CONTENTION_ACCOUNTS = 2;
+  private static final long WARMUP_MILLIS = 2_000;
+  private static final long MEASURE_MILLIS = 10_000;
+  private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000.00");
+  private static final BigDecimal TRANSFER_AMOUNT = new BigDecimal("1.00");
+
+  private static final AccountLockPort NO_LOCKS = new AccountLockPort() {
+    @Override
+    public AccountLock lock(String accountId) {
+      return () -> {
+      };
+    }
+
+    @Override
+    public AccountLock lock(String firstAccountId, String secondAccountId) {
+      return () -> {
+      };
+    }
+
+    @Override
+    public AccountLock lockAll(Collection<String> accountIds) {
+      return () -> {
+      };
+    }
+  };
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  @Autowired
+  private AccountMapper accountMapper;
+
+  @Autowired
+  private AdjustBalancePort adjustBalancePort;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  protected abstract String databaseName();
+
+  @Test
+  void compareStrategies() throws Exception {
+    System.out.printf("%n%-10s %-12s %-6s %12s %10s %10s%n",
+        "database", "strategy", "accts", "transfers/s", "abort %", "failed");
+    for (ConcurrencyStrategy strategy : ConcurrencyStrategy.values()) {
+      run(strategy, LOW_CONTENTION_ACCOUNTS);
+      run(strategy, HIGH_CONTENTION_ACCOUNTS);
+    }
+  }
+
+  private void run(ConcurrencyStrategy strategy, int accounts) throws Exception {
+    List<String> accountIds = seed(accounts);
+    AccountPersistenceAdapter adapter = new AccountPersistenceAdapter(accountRepository, accountMapper, strategy,
+        AccountBalanceSource.row());
+    UnitOfWorkAdapter unitOfWork = new UnitOfWorkAdapter(transactionManager, 5, 5);
+    TransactionService service = new TransactionService(adapter, adjustBalancePort, NO_LOCKS, unitOfWork,
+        IdempotencyPort.unsupported(), IdGeneratorPort.randomUuids(), BalanceShardPort.none());
+
+    transferFor(service, accountIds, WARMUP_MILLIS, new LongAdder(), new LongAdder());
+    long attemptsBefore = unitOfWork.getAttempts();
+    long conflictsBefore = unitOfWork.getConflicts();
+
+    LongAdder completed = new LongAdder();
+    LongAdder failed = new LongAdder();
+    transferFor(service, accountIds, MEASURE_MILLIS, completed, failed);
+
+    long attempts = unitOfWork.getAttempts() - attemptsBefore;
+    long conflicts = unitOfWork.getConflicts() - conflictsBefore;
+    System.out.printf("%-10s %-12s %-6d %12.1f %9.2f%% %10d%n",
+        databaseName(), strategy.name().toLowerCase(), accounts,
+        completed.sum() * 1000.0 / MEASURE_MILLIS,
+        attempts == 0 ? 0.0 : conflicts * 100.0 / attempts,
+        failed.sum());
+
+    BigDecimal total = accountRepository.findAll().stream()
+        .map(AccountEntity::getBalance)
+        .reduce(BigDecimal.ZERO, BigDecimal::add);
+    assertEquals(0, INITIAL_BALANCE.multiply(BigDecimal.valueOf(accounts)).compareTo(total),
+        "Total balance changed: updates were lost under " + strategy);
+  }
+
+  private void transferFor(TransactionService service, List<String> accountIds, long millis,
+      LongAdder completed, LongAdder failed) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<?>> workers = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        workers.add(executor.submit(() -> {
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+          while (System.nanoTime() < deadline) {
+            int source = random.nextInt(accountIds.size());
+            int target = (source + 1 + random.nextInt(accountIds.size() - 1)) % accountIds.size();
+            try {
+              service.transferMoney(accountIds.get(source), accountIds.get(target), TRANSFER_AMOUNT);
+              completed.increment();
+            } catch (ConcurrentUpdateException e) {
+              failed.increment();
+            }
+          }
+        }));
+      }
+      for (Future<?> worker : workers) {
+        worker.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private List<String> seed(int accounts) {
+    transactionRepository.deleteAllInBatch();
+    accountRepository.deleteAllInBatch();
+
+    LocalDateTime now = LocalDateTime.now();
+    List<AccountEntity> entities = new ArrayList<>();
+    for (int i = 0; i < accounts; i++) {
+      AccountEntity entity = new AccountEntity();
+      entity.setId("bench-" + i);
+      entity.setUserId("bench-user");
+      entity.setBalance(INITIAL_BALANCE);
+      entity.setCurrency(Currency.USD);
+      entity.setActive(true);
+      entity.setCreatedAt(now);
+      entity.setUpdatedAt(now);
+      entities.add(entity);
+    }
+    return accountRepository.saveAll(entities).stream()
+        .map(AccountEntity::getId)
+        .toList();
+  }
+}
@@ -0,0 +1,31 @@
+package com.nexusbank.loadtest;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * {@link ConcurrencyStrategyBenchmarkSupport} against an in-memory H2
+ * database.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=2000",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.datasource.hikari.maximum-pool-size=16",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.show-sql=false",
+    "nexusbank.ledger.mode=balance",
+    "nexusbank.cache.accounts.enabled=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+    "logging.level.com.nexusbank=INFO"
+})
+@ActiveProfiles("test")
+class H2ConcurrencyStrategyBenchmark extends ConcurrencyStrategyBenchmarkSupport {
+
+  @Override
+  protected String databaseName() {
+    return "h2";
+  }
+}
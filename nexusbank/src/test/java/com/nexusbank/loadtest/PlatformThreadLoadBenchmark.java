@@ -0,0 +1,33 @@
+package com.nexusbank.loadtest;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * {@link ThreadModeLoadBenchmarkSupport} with requests handled on Tomcat's
+ * platform thread pool (200 threads by default).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:load-platform;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.datasource.hikari.maximum-pool-size=16",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.show-sql=false",
+    "server.servlet.context-path=",
+    "nexusbank.threads.mode=platform",
+    "nexusbank.ledger.mode=balance",
+    "nexusbank.cache.accounts.enabled=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+    "logging.level.com.nexusbank=INFO"
+})
+@ActiveProfiles("test")
+class PlatformThreadLoadBenchmark extends ThreadModeLoadBenchmarkSupport {
+
+  @Override
+  protected String threadMode() {
+    return "platform";
+  }
+}
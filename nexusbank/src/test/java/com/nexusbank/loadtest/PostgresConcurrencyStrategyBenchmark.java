@@ -0,0 +1,29 @@
+package com.nexusbank.loadtest;
+
+import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * {@link ConcurrencyStrategyBenchmarkSupport} against PostgreSQL started with
+ * Testcontainers.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "spring.datasource.hikari.maximum-pool-size=16",
+    "spring.jpa.show-sql=false",
+    "nexusbank.ledger.mode=balance",
+    "nexusbank.cache.accounts.enabled=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+    "logging.level.com.nexusbank=INFO"
+})
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestDatabaseConfig.class)
+class PostgresConcurrencyStrategyBenchmark extends ConcurrencyStrategyBenchmarkSupport {
+
+  @Override
+  protected String databaseName() {
+    return "postgres";
+  }
+}
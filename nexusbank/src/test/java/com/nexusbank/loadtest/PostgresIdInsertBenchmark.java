@@ -0,0 +1,99 @@
+package com.nexusbank.loadtest;
+
+import com.nexusbank.application.infrastructure.persistence.container.TestDatabaseConfig;
+import com.nexusbank.application.port.out.IdGeneratorPort;
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.infrastructure.id.RandomUuidIdGenerator;
+import com.nexusbank.infrastructure.id.SnowflakeIdGenerator;
+import com.nexusbank.infrastructure.id.UuidV7IdGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Insert throughput into {@code transactions} and size of its primary key
+ * index with random UUIDs against the time-ordered generators. Random keys
+ * land on random leaf pages, which are split half-empty and must be read back
+ * into the buffer cache once the index outgrows it; time-ordered keys are
+ * appended at the right edge, leaving full pages behind.
+ *
+ * Not picked up by surefire (it only runs *Test classes); run with
+ * 
+ * <pre>
+ * mvn test -Dtest=PostgresIdInsertBenchmark
+ * </pre>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "spring.jpa.show-sql=false",
+    "nexusbank.settlement.enabled=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+    "logging.level.com.nexusbank=INFO"
+})
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestDatabaseConfig.class)
+class PostgresIdInsertBenchmark {
+
+  private static final int ROWS = 200_000;
+  private static final int BATCH_SIZE = 1_000;
+  private static final String INSERT_SQL = "INSERT INTO transactions"
+      + " (id, account_id, target_account_id, amount, currency, type, status, description, created_at, updated_at)"
+      + " VALUES (?, ?, NULL, ?, ?, 'DEPOSIT', 'COMPLETED', 'Deposit', ?, ?)";
+  private static final String PRIMARY_KEY_SIZE_SQL = "SELECT pg_relation_size(i.indexrelid) FROM pg_index i"
+      + " WHERE i.indrelid = 'transactions'::regclass AND i.indisprimary";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void compareGenerators() {
+    Map<String, IdGeneratorPort> generators = new LinkedHashMap<>();
+    generators.put("random", new RandomUuidIdGenerator());
+    generators.put("uuidv7", new UuidV7IdGenerator());
+    generators.put("snowflake", new SnowflakeIdGenerator(1, "", ""));
+
+    // Calentamiento: JIT, plan de la sentencia y conexiones del pool
+    insert(new UuidV7IdGenerator(), ROWS / 10);
+
+    System.out.printf("%n%-10s %10s %12s %14s%n", "ids", "rows", "rows/s", "pk index (KB)");
+    for (Map.Entry<String, IdGeneratorPort> generator : generators.entrySet()) {
+      long elapsed = insert(generator.getValue(), ROWS);
+      Long indexBytes = jdbcTemplate.queryForObject(PRIMARY_KEY_SIZE_SQL, Long.class);
+      System.out.printf("%-10s %10d %12.1f %14d%n", generator.getKey(), ROWS,
+          ROWS * 1_000_000_000.0 / elapsed, indexBytes / 1024);
+    }
+  }
+
+  private long insert(IdGeneratorPort generator, int rows) {
+    jdbcTemplate.execute("TRUNCATE TABLE transactions");
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    BigDecimal amount = new BigDecimal("10.00");
+    long start = System.nanoTime();
+    for (int inserted = 0; inserted < rows; inserted += BATCH_SIZE) {
+      List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        batch.add(new Object[] { generator.nextId(), "bench-" + (i % 1024), amount,
+            Currency.USD.getNumericCode(), now, now });
+      }
+      jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+    long elapsed = System.nanoTime() - start;
+
+    assertEquals(rows, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions", Integer.class));
+    return elapsed;
+  }
+}
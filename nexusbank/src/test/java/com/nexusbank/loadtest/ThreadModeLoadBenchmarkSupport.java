@@ -0,0 +1,192 @@
+package com.nexusbank.loadtest;
+
+import com.nexusbank.domain.model.Currency;
+import com.nexusbank.infrastructure.persistence.entity.AccountEntity;
+import com.nexusbank.infrastructure.persistence.repository.AccountRepository;
+import com.nexusbank.infrastructure.persistence.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load test of the deposit endpoint with 1k and 5k concurrent HTTP clients,
+ * to compare request handling on Tomcat's platform thread pool with one
+ * virtual thread per request. Deposits block on JDBC through the ports, and
+ * the connection pool is much smaller than the number of clients, so the run
+ * shows how each mode copes with many requests blocked at once: throughput,
+ * latency percentiles, errors, and the peak number of platform threads and
+ * heap, which is what limits the 512Mi pods.
+ *
+ * Each client sends its next deposit as soon as the previous one answers; the
+ * HTTP client itself is asynchronous and runs on a few threads, so it adds
+ * little to the thread count. 5k clients need an open-files limit above 10k.
+ *
+ * Subclasses pick the thread mode. Not picked up by surefire (it only runs
+ * *Test classes); run with e.g.
+ *
+ * <pre>
+ * mvn test -Dtest=PlatformThreadLoadBenchmark
+ * mvn test -Dtest=VirtualThreadLoadBenchmark   # needs Java 21
+ * </pre>
+ */
+abstract class ThreadModeLoadBenchmarkSupport {
+
+  private static final int[] CLIENTS = { 1_000, 5_000 };
+  private static final int ACCOUNTS = 1_000;
+  private static final long WARMUP_MILLIS = 5_000;
+  private static final long MEASURE_MILLIS = 15_000;
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+  private static final int LATENCY_BUCKETS_MS = 60_000;
+  private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  protected abstract String threadMode();
+
+  @Test
+  void loadTest() throws Exception {
+    List<String> accountIds = seed();
+    ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+    HttpClient http = HttpClient.newBuilder()
+        .executor(clientExecutor)
+        .connectTimeout(REQUEST_TIMEOUT)
+        .build();
+
+    try {
+      System.out.printf("%n%-9s %-7s %10s %8s %8s %8s %8s %12s %10s%n",
+          "mode", "clients", "requests/s", "p50 ms", "p99 ms", "max ms", "errors", "peak threads", "heap MB");
+      for (int clients : CLIENTS) {
+        run(http, accountIds, clients, WARMUP_MILLIS);
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        threads.resetPeakThreadCount();
+        System.gc();
+
+        Stats stats = run(http, accountIds, clients, MEASURE_MILLIS);
+        System.out.printf("%-9s %-7d %10.1f %8d %8d %8d %8d %12d %10d%n",
+            threadMode(), clients,
+            stats.completed.sum() * 1000.0 / MEASURE_MILLIS,
+            stats.percentile(0.50), stats.percentile(0.99), stats.percentile(1.0),
+            stats.errors.sum(),
+            threads.getPeakThreadCount(),
+            memory.getHeapMemoryUsage().getUsed() / (1024 * 1024));
+      }
+    } finally {
+      clientExecutor.shutdownNow();
+    }
+  }
+
+  private Stats run(HttpClient http, List<String> accountIds, int clients, long millis) {
+    Stats stats = new Stats();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    List<CompletableFuture<Void>> running = new ArrayList<>(clients);
+    for (int i = 0; i < clients; i++) {
+      running.add(client(http, accountIds.get(i % accountIds.size()), deadline, stats));
+    }
+    CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).join();
+    return stats;
+  }
+
+  private CompletableFuture<Void> client(HttpClient http, String accountId, long deadline, Stats stats) {
+    if (System.nanoTime() >= deadline) {
+      return CompletableFuture.completedFuture(null);
+    }
+    HttpRequest request = HttpRequest.newBuilder(
+        URI.create("http://localhost:" + port + "/api/transactions/accounts/" + accountId + "/deposit"))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString("{\"amount\": 1.00}"))
+        .build();
+    long start = System.nanoTime();
+    return http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+        .handle((response, error) -> {
+          if (error == null && response.statusCode() == 200) {
+            stats.record(System.nanoTime() - start);
+          } else {
+            stats.errors.increment();
+          }
+          return null;
+        })
+        .thenCompose(ignored -> client(http, accountId, deadline, stats));
+  }
+
+  private List<String> seed() {
+    transactionRepository.deleteAllInBatch();
+    accountRepository.deleteAllInBatch();
+
+    LocalDateTime now = LocalDateTime.now();
+    List<AccountEntity> entities = new ArrayList<>();
+    for (int i = 0; i < ACCOUNTS; i++) {
+      AccountEntity entity = new AccountEntity();
+      entity.setId("load-" + i);
+      entity.setUserId("load-user");
+      entity.setBalance(INITIAL_BALANCE);
+      entity.setCurrency(Currency.USD);
+      entity.setActive(true);
+      entity.setCreatedAt(now);
+      entity.setUpdatedAt(now);
+      entities.add(entity);
+    }
+    return accountRepository.saveAll(entities).stream()
+        .map(AccountEntity::getId)
+        .toList();
+  }
+
+  /**
+   * Completed requests and a 1 ms latency histogram, lock-free so that the
+   * measurement does not serialize the clients.
+   */
+  private static final class Stats {
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicLongArray latencyMillis = new AtomicLongArray(LATENCY_BUCKETS_MS);
+
+    void record(long nanos) {
+      completed.increment();
+      int bucket = (int) Math.min(TimeUnit.NANOSECONDS.toMillis(nanos), LATENCY_BUCKETS_MS - 1);
+      latencyMillis.incrementAndGet(bucket);
+    }
+
+    long percentile(double fraction) {
+      long total = completed.sum();
+      if (total == 0) {
+        return 0;
+      }
+      long target = Math.max(1, (long) Math.ceil(total * fraction));
+      long seen = 0;
+      for (int bucket = 0; bucket < LATENCY_BUCKETS_MS; bucket++) {
+        seen += latencyMillis.get(bucket);
+        if (seen >= target) {
+          return bucket;
+        }
+      }
+      return LATENCY_BUCKETS_MS - 1;
+    }
+  }
+}
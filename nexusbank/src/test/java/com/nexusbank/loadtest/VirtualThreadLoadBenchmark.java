@@ -0,0 +1,37 @@
+package com.nexusbank.loadtest;
+
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * {@link ThreadModeLoadBenchmarkSupport} with one virtual thread per request
+ * and database access limited to the pool size. Skipped on runtimes older
+ * than Java 21.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:load-virtual;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.datasource.hikari.maximum-pool-size=16",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.show-sql=false",
+    "server.servlet.context-path=",
+    "nexusbank.threads.mode=virtual",
+    "nexusbank.threads.virtual.connection-wait-ms=60000",
+    "nexusbank.ledger.mode=balance",
+    "nexusbank.cache.accounts.enabled=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+    "logging.level.com.nexusbank=INFO"
+})
+@ActiveProfiles("test")
+@EnabledIf("com.nexusbank.infrastructure.concurrency.VirtualThreads#isSupported")
+class VirtualThreadLoadBenchmark extends ThreadModeLoadBenchmarkSupport {
+
+  @Override
+  protected String threadMode() {
+    return "virtual";
+  }
+}